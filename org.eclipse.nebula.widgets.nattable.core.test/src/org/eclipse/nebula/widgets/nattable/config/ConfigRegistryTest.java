@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,16 @@
 package org.eclipse.nebula.widgets.nattable.config;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.eclipse.nebula.widgets.nattable.style.ConfigAttribute;
 import org.eclipse.nebula.widgets.nattable.style.DisplayMode;
+import org.eclipse.nebula.widgets.nattable.style.IDisplayModeOrdering;
 import org.junit.jupiter.api.Test;
 
 public class ConfigRegistryTest {
@@ -433,4 +440,78 @@ public void regressionRegisterWithDisplayModeAndMultipleConfigLabels() {
                 "testLabel");
         assertEquals("testValueNormalLabel_1", actual);
     }
+
+    @Test
+    public void shouldReturnAllMatchingValuesInOrder() {
+        this.configRegistry.registerConfigAttribute(this.testAttribute, "default");
+        this.configRegistry.registerConfigAttribute(this.testAttribute, "normalLabel", DisplayMode.NORMAL, "testLabel");
+        this.configRegistry.registerConfigAttribute(this.testAttribute, "selectLabel_1", DisplayMode.SELECT, "testLabel_1");
+        this.configRegistry.registerConfigAttribute(this.testAttribute, "selectDefault", DisplayMode.SELECT);
+
+        List<String> values = this.configRegistry.getConfigAttributes(
+                this.testAttribute,
+                DisplayMode.SELECT,
+                Arrays.asList("testLabel", "testLabel_1"));
+        assertEquals(Arrays.asList("selectLabel_1", "selectDefault", "normalLabel", "default"), values);
+
+        assertTrue(this.configRegistry.getConfigAttributes(
+                this.testAttribute1,
+                DisplayMode.NORMAL,
+                Arrays.asList("testLabel")).isEmpty());
+    }
+
+    @Test
+    public void shouldUpdateResolvedValuesOnRegister() {
+        this.configRegistry.registerConfigAttribute(this.testAttribute, "default");
+
+        assertEquals("default", this.configRegistry.getConfigAttribute(this.testAttribute, DisplayMode.NORMAL, "testLabel"));
+
+        this.configRegistry.registerConfigAttribute(this.testAttribute, "normalLabel", DisplayMode.NORMAL, "testLabel");
+        assertEquals("normalLabel", this.configRegistry.getConfigAttribute(this.testAttribute, DisplayMode.NORMAL, "testLabel"));
+
+        this.configRegistry.registerConfigAttribute(this.testAttribute, "normalLabel2", DisplayMode.NORMAL, "testLabel");
+        assertEquals("normalLabel2", this.configRegistry.getConfigAttribute(this.testAttribute, DisplayMode.NORMAL, "testLabel"));
+    }
+
+    @Test
+    public void shouldUpdateResolvedValuesOnUnregister() {
+        this.configRegistry.registerConfigAttribute(this.testAttribute, "default");
+        this.configRegistry.registerConfigAttribute(this.testAttribute, "normalLabel", DisplayMode.NORMAL, "testLabel");
+
+        assertEquals("normalLabel", this.configRegistry.getConfigAttribute(this.testAttribute, DisplayMode.NORMAL, "testLabel"));
+
+        this.configRegistry.unregisterConfigAttribute(this.testAttribute, DisplayMode.NORMAL, "testLabel");
+        assertEquals("default", this.configRegistry.getConfigAttribute(this.testAttribute, DisplayMode.NORMAL, "testLabel"));
+
+        this.configRegistry.unregisterConfigAttribute(this.testAttribute);
+        assertNull(this.configRegistry.getConfigAttribute(this.testAttribute, DisplayMode.NORMAL, "testLabel"));
+    }
+
+    @Test
+    public void shouldNotBeAffectedByModifiedLabelList() {
+        this.configRegistry.registerConfigAttribute(this.testAttribute, "normalLabel", DisplayMode.NORMAL, "testLabel");
+        this.configRegistry.registerConfigAttribute(this.testAttribute, "normalLabel_1", DisplayMode.NORMAL, "testLabel_1");
+
+        List<String> labels = new ArrayList<>();
+        labels.add("testLabel");
+        assertEquals("normalLabel", this.configRegistry.getConfigAttribute(this.testAttribute, DisplayMode.NORMAL, labels));
+
+        labels.set(0, "testLabel_1");
+        assertEquals("normalLabel_1", this.configRegistry.getConfigAttribute(this.testAttribute, DisplayMode.NORMAL, labels));
+
+        labels.set(0, "testLabel");
+        assertEquals("normalLabel", this.configRegistry.getConfigAttribute(this.testAttribute, DisplayMode.NORMAL, labels));
+    }
+
+    @Test
+    public void shouldUpdateResolvedValuesOnDisplayModeOrderingChange() {
+        this.configRegistry.registerConfigAttribute(this.testAttribute, "normal", DisplayMode.NORMAL);
+        this.configRegistry.registerConfigAttribute(this.testAttribute, "select", DisplayMode.SELECT);
+
+        assertEquals("select", this.configRegistry.getConfigAttribute(this.testAttribute, DisplayMode.SELECT));
+
+        IDisplayModeOrdering normalFirst = targetDisplayMode -> Arrays.asList(DisplayMode.NORMAL, targetDisplayMode);
+        this.configRegistry.setDisplayModeOrdering(normalFirst);
+        assertEquals("normal", this.configRegistry.getConfigAttribute(this.testAttribute, DisplayMode.SELECT));
+    }
 }
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.conflation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.swt.graphics.Rectangle;
+import org.junit.jupiter.api.Test;
+
+public class DirtyRegionAccumulatorTest {
+
+    @Test
+    public void shouldMergeAdjacentCells() {
+        DirtyRegionAccumulator accumulator = new DirtyRegionAccumulator(8);
+        // cells of the same row
+        for (int column = 0; column < 10; column++) {
+            accumulator.add(new Rectangle(column * 100, 20, 100, 20));
+        }
+        // cell contained in the row
+        accumulator.add(new Rectangle(300, 20, 100, 20));
+        // empty region
+        accumulator.add(new Rectangle(0, 0, 0, 20));
+
+        Rectangle[] regions = accumulator.drain();
+        assertEquals(1, regions.length);
+        assertEquals(new Rectangle(0, 20, 1000, 20), regions[0]);
+        assertTrue(accumulator.isEmpty());
+    }
+
+    @Test
+    public void shouldKeepDistantRegions() {
+        DirtyRegionAccumulator accumulator = new DirtyRegionAccumulator(8);
+        accumulator.add(new Rectangle(0, 0, 100, 20));
+        accumulator.add(new Rectangle(500, 400, 100, 20));
+        // contains the first region
+        accumulator.add(new Rectangle(0, 0, 200, 40));
+
+        Rectangle[] regions = accumulator.drain();
+        assertEquals(2, regions.length);
+        assertEquals(new Rectangle(500, 400, 100, 20), regions[0]);
+        assertEquals(new Rectangle(0, 0, 200, 40), regions[1]);
+    }
+
+    @Test
+    public void shouldLimitNumberOfRegions() {
+        DirtyRegionAccumulator accumulator = new DirtyRegionAccumulator(3);
+        accumulator.add(new Rectangle(0, 0, 10, 10));
+        accumulator.add(new Rectangle(20, 0, 10, 10));
+        accumulator.add(new Rectangle(500, 500, 10, 10));
+        accumulator.add(new Rectangle(1000, 0, 10, 10));
+
+        // the two nearby regions are merged
+        Rectangle[] regions = accumulator.drain();
+        assertEquals(3, regions.length);
+        assertEquals(new Rectangle(500, 500, 10, 10), regions[0]);
+        assertEquals(new Rectangle(1000, 0, 10, 10), regions[1]);
+        assertEquals(new Rectangle(0, 0, 30, 10), regions[2]);
+
+        for (int i = 0; i < 100; i++) {
+            accumulator.add(new Rectangle((i * 37) % 1000, (i * 53) % 800, 10, 10));
+        }
+        regions = accumulator.drain();
+        assertEquals(3, regions.length);
+        for (int i = 0; i < 100; i++) {
+            Rectangle cell = new Rectangle((i * 37) % 1000, (i * 53) % 800, 10, 10);
+            boolean covered = false;
+            for (Rectangle region : regions) {
+                covered |= region.union(cell).equals(region);
+            }
+            assertTrue(covered, "region not covered " + cell);
+        }
+    }
+}
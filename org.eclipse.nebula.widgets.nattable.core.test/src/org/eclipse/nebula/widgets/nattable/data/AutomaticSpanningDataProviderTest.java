@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2020 Dirk Fauth and others.
+ * Copyright (c) 2016, 2026 Dirk Fauth and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,10 +12,20 @@
  *******************************************************************************/
 package org.eclipse.nebula.widgets.nattable.data;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.nebula.widgets.nattable.coordinate.Range;
+import org.eclipse.nebula.widgets.nattable.edit.event.DataUpdateEvent;
 import org.eclipse.nebula.widgets.nattable.grid.data.DummyBodyDataProvider;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowDeleteEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowInsertEvent;
 import org.junit.jupiter.api.Test;
 
 public class AutomaticSpanningDataProviderTest {
@@ -44,4 +54,131 @@ public void testNullValuesNotEqual() {
     public void testBothValueNull() {
         assertFalse(this.spanning.valuesNotEqual(null, null));
     }
+
+    private static IDataProvider createDataProvider(List<Object[]> rows) {
+        return new IDataProvider() {
+
+            @Override
+            public Object getDataValue(int columnIndex, int rowIndex) {
+                return rows.get(rowIndex)[columnIndex];
+            }
+
+            @Override
+            public void setDataValue(int columnIndex, int rowIndex, Object newValue) {
+                rows.get(rowIndex)[columnIndex] = newValue;
+            }
+
+            @Override
+            public int getColumnCount() {
+                return 4;
+            }
+
+            @Override
+            public int getRowCount() {
+                return rows.size();
+            }
+        };
+    }
+
+    private static Object[] createRow(Random random) {
+        // few distinct values to get long spans
+        Object[] row = new Object[4];
+        for (int i = 0; i < row.length; i++) {
+            int value = random.nextInt(3);
+            row[i] = value == 0 ? null : "v" + value;
+        }
+        return row;
+    }
+
+    private static void assertSameSpanning(AutomaticSpanningDataProvider expected, AutomaticSpanningDataProvider actual) {
+        assertEquals(expected.getRowCount(), actual.getRowCount());
+        for (int row = 0; row < expected.getRowCount(); row++) {
+            for (int column = 0; column < expected.getColumnCount(); column++) {
+                assertEquals(
+                        expected.getCellByPosition(column, row),
+                        actual.getCellByPosition(column, row),
+                        column + "/" + row);
+            }
+        }
+    }
+
+    @Test
+    public void shouldCalculateSameSpanningWithSpanIndex() {
+        Random random = new Random(23);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            rows.add(createRow(random));
+        }
+
+        AutomaticSpanningDataProvider expected = new AutomaticSpanningDataProvider(createDataProvider(rows), false, true);
+        AutomaticSpanningDataProvider indexed = new AutomaticSpanningDataProvider(createDataProvider(rows), false, true);
+        indexed.setSpanIndexExecutor(Runnable::run);
+        indexed.setSpanIndexEnabled(true);
+        assertTrue(indexed.isSpanIndexEnabled());
+        assertSameSpanning(expected, indexed);
+
+        // only the configured positions are used for spanning
+        expected.addAutoSpanningColumnPositions(1, 2);
+        expected.addAutoSpanningRowPositions(3, 4, 5, 6, 10, 11, 12);
+        indexed.addAutoSpanningColumnPositions(1, 2);
+        indexed.addAutoSpanningRowPositions(3, 4, 5, 6, 10, 11, 12);
+        assertSameSpanning(expected, indexed);
+
+        expected.setAutoColumnSpan(true);
+        expected.setAutoRowSpan(false);
+        indexed.setAutoColumnSpan(true);
+        indexed.setAutoRowSpan(false);
+        assertSameSpanning(expected, indexed);
+
+        expected.clearAutoSpanningColumnPositions();
+        expected.clearAutoSpanningRowPositions();
+        indexed.clearAutoSpanningColumnPositions();
+        indexed.clearAutoSpanningRowPositions();
+        assertSameSpanning(expected, indexed);
+    }
+
+    @Test
+    public void shouldUpdateSpanIndexOnEvents() {
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            rows.add(createRow(random));
+        }
+
+        AutomaticSpanningDataProvider expected = new AutomaticSpanningDataProvider(createDataProvider(rows), false, true);
+        AutomaticSpanningDataProvider indexed = new AutomaticSpanningDataProvider(createDataProvider(rows), false, true);
+        indexed.setSpanIndexExecutor(Runnable::run);
+        indexed.setSpanIndexEnabled(true);
+        DataLayer dataLayer = new DataLayer(indexed);
+        dataLayer.addLayerListener(indexed);
+        assertSameSpanning(expected, indexed);
+
+        for (int i = 0; i < 50; i++) {
+            int column = random.nextInt(4);
+            int row = random.nextInt(rows.size());
+            Object newValue = createRow(random)[0];
+            Object oldValue = indexed.getDataValue(column, row);
+            indexed.setDataValue(column, row, newValue);
+            dataLayer.fireLayerEvent(new DataUpdateEvent(dataLayer, column, row, oldValue, newValue));
+        }
+        assertSameSpanning(expected, indexed);
+
+        rows.add(0, createRow(random));
+        rows.add(40, createRow(random));
+        rows.add(41, createRow(random));
+        rows.add(createRow(random));
+        dataLayer.fireLayerEvent(new RowInsertEvent(dataLayer, new Range(0, 1), new Range(40, 42), new Range(103, 104)));
+        assertSameSpanning(expected, indexed);
+
+        rows.remove(70);
+        rows.remove(30);
+        rows.remove(29);
+        rows.remove(0);
+        dataLayer.fireLayerEvent(new RowDeleteEvent(dataLayer, new Range(0, 1), new Range(29, 31), new Range(70, 71)));
+        assertSameSpanning(expected, indexed);
+
+        // changes without events are detected by the changed row count
+        rows.remove(10);
+        assertSameSpanning(expected, indexed);
+    }
 }
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.nebula.widgets.nattable.summaryrow.ISummaryProvider;
+import org.eclipse.nebula.widgets.nattable.summaryrow.SummationSummaryProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ColumnarDataProviderTest {
+
+    private ColumnarDataProvider dataProvider;
+
+    @BeforeEach
+    public void setup() {
+        this.dataProvider = new ColumnarDataProvider(4);
+        this.dataProvider.addDoubleColumn(new double[] { 1.5, 2.5, 3.5, 4.5 });
+        this.dataProvider.addLongColumn(new long[] { 10L, 20L, 30L, 40L });
+        this.dataProvider.addIntColumn(new int[] { 1, 2, 3, 4 });
+        this.dataProvider.addStringColumn(new String[] { "EUR", "USD", "EUR", null });
+    }
+
+    @Test
+    public void shouldProvideTypedAndBoxedValues() {
+        assertEquals(4, this.dataProvider.getColumnCount());
+        assertEquals(4, this.dataProvider.getRowCount());
+
+        assertEquals(double.class, this.dataProvider.getColumnType(0));
+        assertEquals(long.class, this.dataProvider.getColumnType(1));
+        assertEquals(int.class, this.dataProvider.getColumnType(2));
+        assertEquals(String.class, this.dataProvider.getColumnType(3));
+        assertTrue(this.dataProvider.isNumericColumn(2));
+        assertFalse(this.dataProvider.isNumericColumn(3));
+
+        assertEquals(2.5, this.dataProvider.getDouble(0, 1));
+        assertEquals(2, this.dataProvider.getLong(0, 1));
+        assertEquals(30.0, this.dataProvider.getDouble(1, 2));
+        assertEquals(4, this.dataProvider.getInt(2, 3));
+
+        assertEquals(Double.valueOf(1.5), this.dataProvider.getDataValue(0, 0));
+        assertEquals(Long.valueOf(20L), this.dataProvider.getDataValue(1, 1));
+        assertEquals(Integer.valueOf(3), this.dataProvider.getDataValue(2, 2));
+        assertEquals("USD", this.dataProvider.getDataValue(3, 1));
+        assertNull(this.dataProvider.getDataValue(3, 3));
+        assertTrue(this.dataProvider.isNull(3, 3));
+
+        // duplicate strings are only stored once
+        assertEquals(2, this.dataProvider.getDictionarySize(3));
+
+        assertThrows(IllegalArgumentException.class, () -> this.dataProvider.getDouble(3, 0));
+        assertThrows(IllegalArgumentException.class, () -> this.dataProvider.addIntColumn(new int[2]));
+    }
+
+    @Test
+    public void shouldSetValues() {
+        this.dataProvider.setDataValue(0, 0, 7.25);
+        this.dataProvider.setDataValue(2, 0, Long.valueOf(9));
+        this.dataProvider.setDataValue(3, 3, "CHF");
+        this.dataProvider.setDataValue(1, 2, null);
+
+        assertEquals(7.25, this.dataProvider.getDouble(0, 0));
+        assertEquals(9, this.dataProvider.getInt(2, 0));
+        assertEquals("CHF", this.dataProvider.getString(3, 3));
+        assertEquals(3, this.dataProvider.getDictionarySize(3));
+        assertTrue(this.dataProvider.isNull(1, 2));
+        assertNull(this.dataProvider.getDataValue(1, 2));
+
+        this.dataProvider.setDataValue(1, 2, 35L);
+        assertFalse(this.dataProvider.isNull(1, 2));
+        assertEquals(Long.valueOf(35L), this.dataProvider.getDataValue(1, 2));
+
+        assertThrows(IllegalArgumentException.class, () -> this.dataProvider.setDataValue(0, 0, "abc"));
+    }
+
+    @Test
+    public void shouldProvideRowObjects() {
+        ColumnarDataProvider.Row row = this.dataProvider.getRowObject(2);
+        assertEquals(2, row.getRowIndex());
+        assertEquals("EUR", row.getValue(3));
+        assertEquals(row, this.dataProvider.getRowObject(2));
+        assertEquals(2, this.dataProvider.indexOfRowObject(row));
+        assertEquals(-1, this.dataProvider.indexOfRowObject(new ColumnarDataProvider(4).getRowObject(2)));
+    }
+
+    @Test
+    public void shouldSummarizeNumericColumns() {
+        SummationSummaryProvider summaryProvider = new SummationSummaryProvider(this.dataProvider);
+        assertEquals(12.0, summaryProvider.summarize(0));
+        assertEquals(100.0, summaryProvider.summarize(1));
+        assertEquals(ISummaryProvider.DEFAULT_SUMMARY_VALUE, summaryProvider.summarize(3));
+
+        this.dataProvider.setDataValue(1, 0, null);
+        assertEquals(ISummaryProvider.DEFAULT_SUMMARY_VALUE, summaryProvider.summarize(1));
+        assertEquals(90.0, new SummationSummaryProvider(this.dataProvider, false).summarize(1));
+    }
+
+    @Test
+    public void shouldReadRangesInBulk() {
+        double[] doubles = new double[3];
+        this.dataProvider.getDoubles(0, 1, 4, doubles);
+        assertArrayEquals(new double[] { 2.5, 3.5, 4.5 }, doubles);
+        this.dataProvider.getDoubles(1, 0, 3, doubles);
+        assertArrayEquals(new double[] { 10.0, 20.0, 30.0 }, doubles);
+        this.dataProvider.getDoubles(2, 1, 3, doubles);
+        assertEquals(2.0, doubles[0]);
+        assertEquals(3.0, doubles[1]);
+        assertThrows(IllegalArgumentException.class, () -> this.dataProvider.getDoubles(3, 0, 3, doubles));
+
+        Object[] values = new Object[2];
+        this.dataProvider.getDataValues(3, 2, 4, values);
+        assertArrayEquals(new Object[] { "EUR", null }, values);
+    }
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.nebula.widgets.nattable.coordinate.Range;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowInsertEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedFileDataProviderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path write(String content) throws IOException {
+        Path file = this.tempDir.resolve("data.csv");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    @Test
+    public void shouldReadDelimitedFileWithHeader() throws Exception {
+        Path file = write("isin;bid;ask\r\nDE0001;99.5;100.25\r\nDE0002;;101\r\nDE0003;98;äöü");
+
+        try (MappedFileDataProvider dataProvider = new MappedFileDataProvider(file, ';', true)) {
+            assertEquals(3, dataProvider.awaitIndex());
+            assertTrue(dataProvider.isIndexComplete());
+
+            assertArrayEquals(new String[] { "isin", "bid", "ask" }, dataProvider.getColumnNames());
+            assertEquals(3, dataProvider.getColumnCount());
+            assertEquals(3, dataProvider.getRowCount());
+
+            assertEquals("DE0001", dataProvider.getDataValue(0, 0));
+            assertEquals("100.25", dataProvider.getDataValue(2, 0));
+            // empty value
+            assertNull(dataProvider.getDataValue(1, 1));
+            // last line without line break and multi byte characters
+            assertEquals("äöü", dataProvider.getDataValue(2, 2));
+
+            assertThrows(IndexOutOfBoundsException.class, () -> dataProvider.getDataValue(0, 3));
+            assertThrows(UnsupportedOperationException.class, () -> dataProvider.setDataValue(0, 0, "x"));
+        }
+    }
+
+    @Test
+    public void shouldIndexBigFile() throws Exception {
+        StringBuilder content = new StringBuilder();
+        int rows = 100000;
+        for (int i = 0; i < rows; i++) {
+            content.append(i).append('\t').append("row").append(i).append('\n');
+        }
+        Path file = write(content.toString());
+
+        try (MappedFileDataProvider dataProvider = new MappedFileDataProvider(file, '\t', false, StandardCharsets.UTF_8, 16)) {
+            assertEquals(rows, dataProvider.awaitIndex());
+            assertNull(dataProvider.getColumnNames());
+            assertEquals(2, dataProvider.getColumnCount());
+
+            assertEquals("0", dataProvider.getDataValue(0, 0));
+            assertEquals("row54321", dataProvider.getDataValue(1, 54321));
+            assertEquals("99999", dataProvider.getDataValue(0, rows - 1));
+
+            // decoded rows are cached
+            String[] row = dataProvider.getRow(54321);
+            assertSame(row, dataProvider.getRow(54321));
+        }
+    }
+
+    @Test
+    public void shouldFireEventsForIndexedRows() throws Exception {
+        StringBuilder content = new StringBuilder();
+        int rows = 200000;
+        for (int i = 0; i < rows; i++) {
+            content.append(i).append(';').append("row").append(i).append('\n');
+        }
+        Path file = write(content.toString());
+
+        try (MappedFileDataProvider dataProvider = new MappedFileDataProvider(file, ';', false)) {
+            DataLayer dataLayer = new DataLayer(dataProvider);
+            List<Range> inserted = new ArrayList<>();
+            dataLayer.addLayerListener(event -> {
+                if (event instanceof RowInsertEvent) {
+                    synchronized (inserted) {
+                        inserted.addAll(((RowInsertEvent) event).getRowPositionRanges());
+                    }
+                }
+            });
+
+            dataProvider.setEventExecutor(Runnable::run);
+            dataProvider.setEventLayer(dataLayer);
+            int initialRowCount = dataProvider.getRowCount();
+
+            assertEquals(rows, dataProvider.awaitIndex());
+            assertEquals(rows, dataProvider.getRowCount());
+            assertEquals(rows, dataLayer.getRowCount());
+
+            synchronized (inserted) {
+                // the events report the appended rows without gaps
+                int expectedStart = initialRowCount;
+                for (Range range : inserted) {
+                    assertEquals(expectedStart, range.start);
+                    expectedStart = range.end;
+                }
+                assertEquals(rows, expectedStart);
+            }
+        }
+    }
+}
@@ -0,0 +1,293 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Date;
+
+import org.eclipse.nebula.widgets.nattable.dataset.person.Address;
+import org.eclipse.nebula.widgets.nattable.dataset.person.Person;
+import org.eclipse.nebula.widgets.nattable.dataset.person.Person.Gender;
+import org.eclipse.nebula.widgets.nattable.dataset.person.PersonWithAddress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MethodHandleColumnPropertyAccessorTest {
+
+    private MethodHandleColumnPropertyAccessor<PersonWithAddress> accessor;
+    private PersonWithAddress person;
+
+    private MethodHandleColumnPropertyAccessor<Bean> beanAccessor;
+    private Bean testBean;
+
+    @BeforeEach
+    public void setup() {
+        String[] propertyNames = {
+                "firstName",
+                "lastName",
+                "gender",
+                "married",
+                "birthday",
+                "address.street",
+                "address.housenumber",
+                "address.postalCode",
+                "address.city", };
+
+        this.accessor = new MethodHandleColumnPropertyAccessor<>(propertyNames);
+
+        Address address = new Address();
+        address.setStreet("Some Street");
+        address.setHousenumber(42);
+        address.setPostalCode(12345);
+        address.setCity("In the clouds");
+        this.person = new PersonWithAddress(42, "Ralph", "Wiggum", Gender.MALE, false, new Date(), address);
+
+        this.beanAccessor = new MethodHandleColumnPropertyAccessor<>(
+                "name",
+                "bean.active",
+                "bean.sub.value",
+                "bean.sub.intAmount",
+                "bean.sub.doubleAmount",
+                "bean.sub.charAmount",
+                "bean.enabled");
+
+        SubSubBean subSub = new SubSubBean();
+        subSub.value = "SubSubBean";
+        subSub.intAmount = 500;
+        subSub.doubleAmount = 42d;
+        subSub.charAmount = 'S';
+
+        SubBean sub = new SubBean();
+        sub.active = true;
+        sub.enabled = Boolean.TRUE;
+        sub.sub = subSub;
+
+        this.testBean = new Bean();
+        this.testBean.name = "Multi-Hierarchical-Test";
+        this.testBean.bean = sub;
+    }
+
+    @Test
+    public void shouldGetProperties() {
+        assertEquals(9, this.accessor.getColumnCount());
+        assertEquals("Ralph", this.accessor.getDataValue(this.person, 0));
+        assertEquals("Wiggum", this.accessor.getDataValue(this.person, 1));
+        assertEquals(Gender.MALE, this.accessor.getDataValue(this.person, 2));
+        assertEquals(Boolean.FALSE, this.accessor.getDataValue(this.person, 3));
+
+        assertEquals("Some Street", this.accessor.getDataValue(this.person, 5));
+        assertEquals(42, this.accessor.getDataValue(this.person, 6));
+        assertEquals(12345, this.accessor.getDataValue(this.person, 7));
+        assertEquals("In the clouds", this.accessor.getDataValue(this.person, 8));
+    }
+
+    @Test
+    public void shouldSetProperties() {
+        this.accessor.setDataValue(this.person, 0, "Sarah");
+        this.accessor.setDataValue(this.person, 2, Gender.FEMALE);
+        this.accessor.setDataValue(this.person, 3, Boolean.TRUE);
+        this.accessor.setDataValue(this.person, 5, "Evergreen Terrace");
+        this.accessor.setDataValue(this.person, 6, 742);
+
+        assertEquals("Sarah", this.accessor.getDataValue(this.person, 0));
+        assertEquals(Gender.FEMALE, this.accessor.getDataValue(this.person, 2));
+        assertEquals(Boolean.TRUE, this.accessor.getDataValue(this.person, 3));
+        assertEquals("Evergreen Terrace", this.accessor.getDataValue(this.person, 5));
+        assertEquals(742, this.accessor.getDataValue(this.person, 6));
+    }
+
+    @Test
+    public void shouldSetPropertiesToNull() {
+        this.accessor.setDataValue(this.person, 0, null);
+        this.accessor.setDataValue(this.person, 5, null);
+
+        assertNull(this.accessor.getDataValue(this.person, 0));
+        assertNull(this.accessor.getDataValue(this.person, 5));
+        assertEquals("Wiggum", this.accessor.getDataValue(this.person, 1));
+    }
+
+    @Test
+    public void shouldNotSetInvalidValues() {
+        // wrong type and null for a primitive are ignored
+        this.accessor.setDataValue(this.person, 6, "Evergreen Terrace");
+        this.accessor.setDataValue(this.person, 6, null);
+
+        assertEquals(42, this.accessor.getDataValue(this.person, 6));
+    }
+
+    @Test
+    public void shouldGetAndSetValuesInMultiHierarchical() {
+        assertEquals("Multi-Hierarchical-Test", this.beanAccessor.getDataValue(this.testBean, 0));
+        assertEquals(Boolean.TRUE, this.beanAccessor.getDataValue(this.testBean, 1));
+        assertEquals("SubSubBean", this.beanAccessor.getDataValue(this.testBean, 2));
+        assertEquals(500, this.beanAccessor.getDataValue(this.testBean, 3));
+        assertEquals(42d, this.beanAccessor.getDataValue(this.testBean, 4));
+        assertEquals('S', this.beanAccessor.getDataValue(this.testBean, 5));
+        assertEquals(Boolean.TRUE, this.beanAccessor.getDataValue(this.testBean, 6));
+
+        this.beanAccessor.setDataValue(this.testBean, 1, Boolean.FALSE);
+        this.beanAccessor.setDataValue(this.testBean, 2, "Dingens");
+        this.beanAccessor.setDataValue(this.testBean, 3, 1000);
+        this.beanAccessor.setDataValue(this.testBean, 4, 3.14d);
+        this.beanAccessor.setDataValue(this.testBean, 5, 'X');
+        this.beanAccessor.setDataValue(this.testBean, 6, null);
+
+        assertEquals(Boolean.FALSE, this.beanAccessor.getDataValue(this.testBean, 1));
+        assertEquals("Dingens", this.beanAccessor.getDataValue(this.testBean, 2));
+        assertEquals(1000, this.beanAccessor.getDataValue(this.testBean, 3));
+        assertEquals(3.14d, this.beanAccessor.getDataValue(this.testBean, 4));
+        assertEquals('X', this.beanAccessor.getDataValue(this.testBean, 5));
+        assertNull(this.beanAccessor.getDataValue(this.testBean, 6));
+    }
+
+    @Test
+    public void shouldHandleNullValuesInHierarchical() {
+        this.testBean.bean.sub = null;
+
+        assertNull(this.beanAccessor.getDataValue(this.testBean, 2));
+        assertNull(this.beanAccessor.getDataValue(this.testBean, 3));
+
+        // setting a value on a null object is ignored
+        this.beanAccessor.setDataValue(this.testBean, 2, "Test");
+        assertNull(this.testBean.bean.sub);
+    }
+
+    @Test
+    public void shouldHandleDifferentRowTypes() {
+        MethodHandleColumnPropertyAccessor<Person> personAccessor =
+                new MethodHandleColumnPropertyAccessor<>("firstName", "lastName");
+
+        Person plain = new Person(1, "Homer", "Simpson", Gender.MALE, true, new Date());
+
+        assertEquals("Homer", personAccessor.getDataValue(plain, 0));
+        assertEquals("Ralph", personAccessor.getDataValue(this.person, 0));
+        assertEquals("Simpson", personAccessor.getDataValue(plain, 1));
+        assertEquals("Wiggum", personAccessor.getDataValue(this.person, 1));
+    }
+
+    @Test
+    public void shouldThrowExceptionOnNotAvailableGetter() {
+        this.beanAccessor = new MethodHandleColumnPropertyAccessor<>("names", "bean.sub.intAmounts");
+
+        assertThrows(IllegalStateException.class, () -> this.beanAccessor.getDataValue(this.testBean, 0));
+        assertThrows(IllegalStateException.class, () -> this.beanAccessor.getDataValue(this.testBean, 1));
+    }
+
+    @Test
+    public void shouldThrowExceptionOnNotAvailableSetter() {
+        this.beanAccessor = new MethodHandleColumnPropertyAccessor<>("names", "bean.sub.values", "bean.readOnly");
+
+        assertThrows(IllegalStateException.class, () -> this.beanAccessor.setDataValue(this.testBean, 0, "Test"));
+        assertThrows(IllegalStateException.class, () -> this.beanAccessor.setDataValue(this.testBean, 1, "Test"));
+        assertThrows(IllegalStateException.class, () -> this.beanAccessor.setDataValue(this.testBean, 2, "Test"));
+    }
+
+    // sample structure to test multi-level object hierarchies
+
+    public static class SubSubBean {
+        String value;
+        int intAmount;
+        double doubleAmount;
+        char charAmount;
+
+        public String getValue() {
+            return this.value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+
+        public int getIntAmount() {
+            return this.intAmount;
+        }
+
+        public void setIntAmount(int intAmount) {
+            this.intAmount = intAmount;
+        }
+
+        public double getDoubleAmount() {
+            return this.doubleAmount;
+        }
+
+        public void setDoubleAmount(double doubleAmount) {
+            this.doubleAmount = doubleAmount;
+        }
+
+        public char getCharAmount() {
+            return this.charAmount;
+        }
+
+        public void setCharAmount(char charAmount) {
+            this.charAmount = charAmount;
+        }
+    }
+
+    public static class SubBean {
+        boolean active;
+        Boolean enabled;
+        SubSubBean sub;
+
+        public boolean isActive() {
+            return this.active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public Boolean isEnabled() {
+            return this.enabled;
+        }
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getReadOnly() {
+            return "readOnly";
+        }
+
+        public SubSubBean getSub() {
+            return this.sub;
+        }
+
+        public void setSub(SubSubBean sub) {
+            this.sub = sub;
+        }
+    }
+
+    public static class Bean {
+        String name;
+        SubBean bean;
+
+        public String getName() {
+            return this.name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public SubBean getBean() {
+            return this.bean;
+        }
+
+        public void setBean(SubBean bean) {
+            this.bean = bean;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.eclipse.nebula.widgets.nattable.coordinate.Range;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowUpdateEvent;
+import org.eclipse.nebula.widgets.nattable.test.fixture.layer.LayerListenerFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class PagedDataProviderTest {
+
+    private static final IColumnAccessor<String> COLUMN_ACCESSOR = new IColumnAccessor<String>() {
+
+        @Override
+        public Object getDataValue(String rowObject, int columnIndex) {
+            return rowObject;
+        }
+
+        @Override
+        public void setDataValue(String rowObject, int columnIndex, Object newValue) {
+            // not supported
+        }
+
+        @Override
+        public int getColumnCount() {
+            return 1;
+        }
+    };
+
+    private final CountDownLatch loadLatch = new CountDownLatch(1);
+    private final List<Integer> loadedPages = new ArrayList<>();
+    private PagedDataProvider<String> dataProvider;
+
+    private final IPageLoader<String> pageLoader = (startRow, rowCount) -> {
+        this.loadLatch.await();
+        synchronized (this.loadedPages) {
+            this.loadedPages.add(startRow / 10);
+        }
+        List<String> rows = new ArrayList<>();
+        for (int i = startRow; i < startRow + rowCount; i++) {
+            rows.add("row" + i);
+        }
+        return rows;
+    };
+
+    @AfterEach
+    public void tearDown() {
+        this.dataProvider.dispose();
+    }
+
+    private void waitForPage(int pageIndex) throws InterruptedException {
+        for (int i = 0; i < 500 && !this.dataProvider.isPageLoaded(pageIndex); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(this.dataProvider.isPageLoaded(pageIndex), "page not loaded " + pageIndex);
+    }
+
+    @Test
+    public void shouldLoadPagesOnDemand() throws Exception {
+        this.dataProvider = new PagedDataProvider<>(COLUMN_ACCESSOR, this.pageLoader, 95, 10);
+        DataLayer dataLayer = new DataLayer(this.dataProvider);
+        LayerListenerFixture listener = new LayerListenerFixture();
+        dataLayer.addLayerListener(listener);
+        this.dataProvider.setEventLayer(dataLayer);
+        this.dataProvider.setEventExecutor(Runnable::run);
+
+        assertEquals(95, this.dataProvider.getRowCount());
+        assertSame(PagedDataProvider.LOADING, this.dataProvider.getDataValue(0, 92));
+        assertNull(this.dataProvider.getRowObject(92));
+        assertTrue(this.dataProvider.isPageLoading(9));
+
+        this.loadLatch.countDown();
+        waitForPage(9);
+
+        assertEquals("row92", this.dataProvider.getDataValue(0, 92));
+        assertEquals(92, this.dataProvider.indexOfRowObject("row92"));
+        assertFalse(this.dataProvider.isPageLoading(9));
+
+        // the last page only contains 5 rows
+        RowUpdateEvent event = (RowUpdateEvent) listener.getReceivedEvent(RowUpdateEvent.class);
+        assertEquals(new Range(90, 95), event.getRowPositionRanges().iterator().next());
+    }
+
+    @Test
+    public void shouldPrefetchAndCancelOutOfViewPages() throws Exception {
+        this.dataProvider = new PagedDataProvider<>(COLUMN_ACCESSOR, this.pageLoader, 1000, 10, 8, 1);
+        this.dataProvider.setPrefetchPages(2);
+
+        // visible pages 0 and 1, prefetch 2 and 3
+        this.dataProvider.updateVisibleRows(5, 15, 1);
+        for (int pageIndex = 0; pageIndex <= 3; pageIndex++) {
+            assertTrue(this.dataProvider.isPageLoading(pageIndex));
+        }
+        assertFalse(this.dataProvider.isPageLoading(4));
+
+        // scrolled up to pages 50, prefetch 48 and 49, the others are
+        // cancelled
+        this.dataProvider.updateVisibleRows(500, 505, -1);
+        for (int pageIndex = 0; pageIndex <= 3; pageIndex++) {
+            assertFalse(this.dataProvider.isPageLoading(pageIndex));
+        }
+        assertTrue(this.dataProvider.isPageLoading(48));
+        assertTrue(this.dataProvider.isPageLoading(49));
+        assertTrue(this.dataProvider.isPageLoading(50));
+
+        this.loadLatch.countDown();
+        waitForPage(48);
+        waitForPage(49);
+        waitForPage(50);
+
+        assertFalse(this.dataProvider.isPageLoaded(0));
+        synchronized (this.loadedPages) {
+            assertFalse(this.loadedPages.contains(1));
+            assertFalse(this.loadedPages.contains(3));
+        }
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedPages() throws Exception {
+        this.loadLatch.countDown();
+        this.dataProvider = new PagedDataProvider<>(COLUMN_ACCESSOR, this.pageLoader, 100, 10, 2, 1);
+
+        this.dataProvider.getDataValue(0, 0);
+        waitForPage(0);
+        this.dataProvider.getDataValue(0, 10);
+        waitForPage(1);
+        // access page 0 so page 1 is the least recently used
+        this.dataProvider.getDataValue(0, 0);
+        this.dataProvider.getDataValue(0, 20);
+        waitForPage(2);
+
+        assertTrue(this.dataProvider.isPageLoaded(0));
+        assertFalse(this.dataProvider.isPageLoaded(1));
+        assertTrue(this.dataProvider.isPageLoaded(2));
+    }
+}
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.nebula.widgets.nattable.coordinate.Range;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowDeleteEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowInsertEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowStructuralRefreshEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RowIdIndexTest {
+
+    private List<String> rows;
+    private DataLayer dataLayer;
+    private RowIdIndex<String> rowIdIndex;
+
+    @BeforeEach
+    public void setup() {
+        this.rows = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            this.rows.add("row" + i);
+        }
+        ListDataProvider<String> dataProvider = new ListDataProvider<>(this.rows, new IColumnAccessor<String>() {
+
+            @Override
+            public Object getDataValue(String rowObject, int columnIndex) {
+                return rowObject;
+            }
+
+            @Override
+            public void setDataValue(String rowObject, int columnIndex, Object newValue) {
+                // not supported
+            }
+
+            @Override
+            public int getColumnCount() {
+                return 1;
+            }
+        });
+        this.dataLayer = new DataLayer(dataProvider);
+        this.rowIdIndex = new RowIdIndex<>(dataProvider, rowObject -> rowObject);
+        this.dataLayer.addLayerListener(this.rowIdIndex);
+    }
+
+    private void assertIndexed() {
+        for (int i = 0; i < this.rows.size(); i++) {
+            assertEquals(i, this.rowIdIndex.getRowIndex(this.rows.get(i)), this.rows.get(i));
+        }
+    }
+
+    @Test
+    public void shouldFindRowIndexById() {
+        assertIndexed();
+        assertEquals(42, this.rowIdIndex.getRowIndexByRowObject("row42"));
+        assertEquals(-1, this.rowIdIndex.getRowIndex("unknown"));
+        assertEquals(-1, this.rowIdIndex.getRowIndex(null));
+    }
+
+    @Test
+    public void shouldUpdateOnRowInsertAndDelete() {
+        assertIndexed();
+
+        this.rows.add(0, "new0");
+        this.rows.add(50, "new50");
+        this.rows.add(51, "new51");
+        this.rows.add("newLast");
+        this.dataLayer.fireLayerEvent(new RowInsertEvent(this.dataLayer, new Range(0, 1), new Range(50, 52), new Range(103, 104)));
+        assertIndexed();
+
+        this.rows.remove(80);
+        this.rows.remove(11);
+        this.rows.remove(10);
+        this.rows.remove(0);
+        this.dataLayer.fireLayerEvent(new RowDeleteEvent(this.dataLayer, new Range(0, 1), new Range(10, 12), new Range(80, 81)));
+        assertIndexed();
+        assertEquals(-1, this.rowIdIndex.getRowIndex("new0"));
+
+        this.rowIdIndex.rowsDeleted(5, 2);
+        this.rows.remove(6);
+        this.rows.remove(5);
+        this.rows.add(20, "manual");
+        this.rowIdIndex.rowsInserted(20, 1);
+        assertIndexed();
+    }
+
+    @Test
+    public void shouldRebuildOnUnreportedChanges() {
+        assertIndexed();
+
+        // reordering without diffs
+        Collections.reverse(this.rows);
+        this.dataLayer.fireLayerEvent(new RowStructuralRefreshEvent(this.dataLayer));
+        assertIndexed();
+
+        // changes without events are detected on lookup
+        Collections.swap(this.rows, 3, 70);
+        this.rows.add(10, "silent");
+        assertIndexed();
+        this.rows.remove(10);
+        assertEquals(-1, this.rowIdIndex.getRowIndex("silent"));
+        assertIndexed();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Test
+    public void shouldSkipRowObjectsOfOtherTypes() {
+        List<Object> mixed = new ArrayList<>();
+        mixed.add("a");
+        mixed.add(Integer.valueOf(1));
+        mixed.add("b");
+        ListDataProvider<Object> dataProvider = new ListDataProvider<>(mixed, null);
+
+        RowIdIndex<String> typed = new RowIdIndex<>(
+                (IRowDataProvider) dataProvider,
+                rowObject -> rowObject.toUpperCase(),
+                String.class);
+        assertEquals(0, typed.getRowIndex("A"));
+        assertEquals(2, typed.getRowIndex("B"));
+        assertEquals(-1, typed.getRowIndex("1"));
+    }
+}
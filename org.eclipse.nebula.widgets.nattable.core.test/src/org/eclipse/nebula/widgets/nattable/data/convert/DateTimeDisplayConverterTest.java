@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.data.convert;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class DateTimeDisplayConverterTest {
+
+    private static final ZoneId utc = ZoneOffset.UTC;
+    private static final Date FROZEN_DATE = new Date(0);
+
+    @Test
+    public void happyPath() {
+        DateTimeDisplayConverter converter = new DateTimeDisplayConverter("yyyy.MM.dd HH:mm:ss", utc);
+        assertEquals("1970.01.01 00:00:00", converter.canonicalToDisplayValue(FROZEN_DATE));
+        assertEquals(FROZEN_DATE, converter.displayToCanonicalValue("1970.01.01 00:00:00"));
+        assertEquals("1970.01.01 00:00:00", converter.canonicalToDisplayValue(new java.sql.Timestamp(0)));
+        assertEquals("2026.03.01 12:30:00", converter.canonicalToDisplayValue(LocalDateTime.of(2026, 3, 1, 12, 30)));
+    }
+
+    @Test
+    public void dateOnly() {
+        DateTimeDisplayConverter converter = new DateTimeDisplayConverter(
+                DateTimeFormatter.ofPattern("dd.MM.yyyy").withZone(utc),
+                LocalDate.class);
+        assertEquals("01.03.2026", converter.canonicalToDisplayValue(LocalDate.of(2026, 3, 1)));
+        assertEquals(LocalDate.of(2026, 3, 1), converter.displayToCanonicalValue("01.03.2026"));
+
+        assertEquals(FROZEN_DATE, new DateTimeDisplayConverter("dd.MM.yyyy", utc).displayToCanonicalValue("01.01.1970"));
+    }
+
+    @Test
+    public void invalidDataType() {
+        DateTimeDisplayConverter converter = new DateTimeDisplayConverter();
+
+        System.err.println("** THE FOLLOWING STACK TRACE IS EXPECTED **");
+        assertEquals("XXX", converter.canonicalToDisplayValue("XXX"));
+        assertThrows(ConversionFailedException.class, () -> converter.displayToCanonicalValue("AAA"));
+        assertThrows(IllegalArgumentException.class, () -> new DateTimeDisplayConverter(DateTimeFormatter.ISO_DATE, String.class));
+    }
+
+    @Test
+    public void parallelConversion() {
+        DateTimeDisplayConverter converter = new DateTimeDisplayConverter("yyyy-MM-dd HH:mm:ss", utc);
+        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        sdf.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+        String[] expected = IntStream.range(0, 10000)
+                .mapToObj(i -> sdf.format(new Date(i * 3_600_007L)))
+                .toArray(String[]::new);
+
+        IntStream.range(0, expected.length).parallel().forEach(i -> {
+            assertEquals(expected[i], converter.canonicalToDisplayValue(new Date(i * 3_600_007L)));
+            // the format does not contain milliseconds
+            assertEquals(new Date(i * 3_600_007L / 1000 * 1000), converter.displayToCanonicalValue(expected[i]));
+        });
+    }
+}
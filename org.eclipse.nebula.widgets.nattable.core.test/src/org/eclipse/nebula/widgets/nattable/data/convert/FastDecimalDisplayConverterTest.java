@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.data.convert;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class FastDecimalDisplayConverterTest {
+
+    private FastDecimalDisplayConverter converter = new FastDecimalDisplayConverter(1, 2, true, Locale.ENGLISH, Double.class);
+
+    private static NumberFormat numberFormat(Locale locale, int minimumFractionDigits, int maximumFractionDigits) {
+        NumberFormat nf = NumberFormat.getInstance(locale);
+        nf.setMinimumFractionDigits(minimumFractionDigits);
+        nf.setMaximumFractionDigits(maximumFractionDigits);
+        return nf;
+    }
+
+    @Test
+    public void testNonNullDataToDisplay() {
+        assertEquals("123.0", this.converter.canonicalToDisplayValue(Double.valueOf("123")));
+        assertEquals("23.5", this.converter.canonicalToDisplayValue(Double.valueOf("23.5")));
+        assertEquals("1,234,567.89", this.converter.canonicalToDisplayValue(1234567.891));
+        assertEquals("-0.0", this.converter.canonicalToDisplayValue(-0.001));
+        assertEquals("0.12", this.converter.canonicalToDisplayValue(0.125));
+        assertEquals("0.01", this.converter.canonicalToDisplayValue(0.005));
+        assertEquals("-42.0", this.converter.canonicalToDisplayValue(-42));
+        assertEquals("12,345,678,901,234,567,890.0", this.converter.canonicalToDisplayValue(new BigInteger("12345678901234567890")));
+        assertEquals("1.22", this.converter.canonicalToDisplayValue(new BigDecimal("1.225")));
+        assertEquals("abc", this.converter.canonicalToDisplayValue("abc"));
+        assertNull(this.converter.canonicalToDisplayValue(null));
+    }
+
+    @Test
+    public void testSameAsNumberFormat() {
+        Random random = new Random(42);
+        for (Locale locale : new Locale[] { Locale.ENGLISH, Locale.GERMANY, Locale.FRANCE }) {
+            for (int max = 0; max <= 4; max++) {
+                FastDecimalDisplayConverter fast = new FastDecimalDisplayConverter(0, max, true, locale, Double.class);
+                NumberFormat nf = numberFormat(locale, 0, max);
+                for (int i = 0; i < 10000; i++) {
+                    double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(20) - 4);
+                    if (i % 3 == 0) {
+                        // values on the rounding boundary
+                        value = Math.round(value * 1000) / 1000d;
+                    }
+                    assertEquals(nf.format(value), fast.canonicalToDisplayValue(value), "value " + value);
+                }
+                assertEquals(nf.format(Long.MIN_VALUE), fast.canonicalToDisplayValue(Long.MIN_VALUE));
+                assertEquals(nf.format(Double.NaN), fast.canonicalToDisplayValue(Double.NaN));
+                assertEquals(nf.format(Double.NEGATIVE_INFINITY), fast.canonicalToDisplayValue(Double.NEGATIVE_INFINITY));
+            }
+        }
+    }
+
+    @Test
+    public void testDisplayToData() {
+        assertEquals(Double.valueOf("1234.5"), this.converter.displayToCanonicalValue("1,234.5"));
+        assertEquals(Double.valueOf("-23.5"), this.converter.displayToCanonicalValue(" -23.5 "));
+        assertNull(this.converter.displayToCanonicalValue(""));
+        assertThrows(ConversionFailedException.class, () -> this.converter.displayToCanonicalValue("abc"));
+
+        FastDecimalDisplayConverter german = new FastDecimalDisplayConverter(0, 2, true, Locale.GERMANY, BigDecimal.class);
+        assertEquals(new BigDecimal("1234.56"), german.displayToCanonicalValue("1.234,56"));
+
+        FastDecimalDisplayConverter integer = new FastDecimalDisplayConverter(0, 0, false, Locale.ENGLISH, Integer.class);
+        assertEquals(Integer.valueOf(1234), integer.displayToCanonicalValue("1234"));
+        assertThrows(ConversionFailedException.class, () -> integer.displayToCanonicalValue("12.5"));
+    }
+
+    @Test
+    public void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new FastDecimalDisplayConverter(3, 2));
+        assertThrows(IllegalArgumentException.class, () -> new FastDecimalDisplayConverter(0, 16));
+        assertThrows(IllegalArgumentException.class, () -> new FastDecimalDisplayConverter(0, 2, true, Locale.ENGLISH, Short.class));
+    }
+
+    @Test
+    public void testParallelConversion() {
+        NumberFormat nf = numberFormat(Locale.ENGLISH, 1, 2);
+        String[] expected = IntStream.range(0, 100000)
+                .mapToObj(i -> nf.format(i / 7d))
+                .toArray(String[]::new);
+
+        IntStream.range(0, expected.length).parallel().forEach(
+                i -> assertEquals(expected[i], this.converter.canonicalToDisplayValue(i / 7d)));
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,6 +12,9 @@
  ******************************************************************************/
 package org.eclipse.nebula.widgets.nattable.freeze;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
 import java.util.Arrays;
 
 import org.eclipse.nebula.widgets.nattable.freeze.command.FreezeColumnCommand;
@@ -22,8 +25,10 @@
 import org.eclipse.nebula.widgets.nattable.test.LayerAssert;
 import org.eclipse.nebula.widgets.nattable.test.fixture.InitializeClientAreaCommandFixture;
 import org.eclipse.nebula.widgets.nattable.test.fixture.TestLayer;
+import org.eclipse.nebula.widgets.nattable.test.fixture.layer.LayerListenerFixture;
 import org.eclipse.nebula.widgets.nattable.util.IClientAreaProvider;
 import org.eclipse.nebula.widgets.nattable.viewport.ViewportLayer;
+import org.eclipse.nebula.widgets.nattable.viewport.event.ScrollEvent;
 import org.eclipse.swt.graphics.Rectangle;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -166,6 +171,31 @@ public Rectangle getClientArea() {
         LayerAssert.assertLayerEquals(expectedLayer, this.compositeFreezeLayer);
     }
 
+    @Test
+    public void shouldExcludeFreezeSeparatorFromScrolledArea() {
+        this.compositeFreezeLayer.setClientAreaProvider(new IClientAreaProvider() {
+
+            @Override
+            public Rectangle getClientArea() {
+                return new Rectangle(0, 0, 300, 120);
+            }
+
+        });
+        this.compositeFreezeLayer.doCommand(new FreezeColumnCommand(this.compositeFreezeLayer, 0));
+
+        LayerListenerFixture listener = new LayerListenerFixture();
+        this.compositeFreezeLayer.addLayerListener(listener);
+
+        this.viewportLayer.setOriginX(this.viewportLayer.getOrigin().getX() + 100);
+
+        ScrollEvent event = (ScrollEvent) listener.getReceivedEvent(ScrollEvent.class);
+        assertNotNull(event);
+        assertEquals(100, event.getDeltaX());
+        // the frozen column is 100 pixels wide, the separator reaches one
+        // pixel into the scrolled area
+        assertEquals(new Rectangle(101, 0, 199, 120), event.getScrolledArea());
+    }
+
     // Reorder
 
     @Test
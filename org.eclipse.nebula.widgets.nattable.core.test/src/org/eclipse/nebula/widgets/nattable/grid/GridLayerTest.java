@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@
 
 import org.eclipse.nebula.widgets.nattable.command.AbstractLayerCommandHandler;
 import org.eclipse.nebula.widgets.nattable.command.ILayerCommand;
+import org.eclipse.nebula.widgets.nattable.grid.data.DummyBodyDataProvider;
 import org.eclipse.nebula.widgets.nattable.grid.layer.DefaultGridLayer;
 import org.eclipse.nebula.widgets.nattable.grid.layer.GridLayer;
 import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
@@ -27,8 +28,10 @@
 import org.eclipse.nebula.widgets.nattable.test.fixture.command.LayerCommandFixture;
 import org.eclipse.nebula.widgets.nattable.test.fixture.layer.BaseDataLayerFixture;
 import org.eclipse.nebula.widgets.nattable.test.fixture.layer.GridLayerFixture;
+import org.eclipse.nebula.widgets.nattable.test.fixture.layer.LayerListenerFixture;
 import org.eclipse.nebula.widgets.nattable.util.IClientAreaProvider;
 import org.eclipse.nebula.widgets.nattable.viewport.ViewportLayer;
+import org.eclipse.nebula.widgets.nattable.viewport.event.ScrollEvent;
 import org.eclipse.swt.graphics.Rectangle;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -149,6 +152,45 @@ public void initCorner() {
         assertEquals(40, colHeader.getWidth());
     }
 
+    @Test
+    public void shouldConvertScrolledAreaToGridCoordinates() {
+        DataLayer bodyLayer = new DataLayer(new DummyBodyDataProvider(20, 100));
+        DefaultGridLayer gridLayer = new DefaultGridLayer(
+                bodyLayer,
+                new DataLayer(new DummyBodyDataProvider(20, 1)),
+                new DataLayer(new DummyBodyDataProvider(1, 100), 40, 20),
+                new DataLayer(new DummyBodyDataProvider(1, 1), 40, 20));
+        gridLayer.setClientAreaProvider(new IClientAreaProvider() {
+
+            @Override
+            public Rectangle getClientArea() {
+                return new Rectangle(0, 0, 540, 320);
+            }
+
+        });
+        gridLayer.doCommand(new InitializeClientAreaCommandFixture());
+
+        LayerListenerFixture listener = new LayerListenerFixture();
+        gridLayer.addLayerListener(listener);
+
+        ViewportLayer viewportLayer = gridLayer.getBodyLayer().getViewportLayer();
+        viewportLayer.setOriginY(30);
+
+        ScrollEvent event = (ScrollEvent) listener.getReceivedEvent(ScrollEvent.class);
+        assertNotNull(event);
+        assertEquals(0, event.getDeltaX());
+        assertEquals(30, event.getDeltaY());
+        assertEquals(new Rectangle(40, 20, 500, 300), event.getScrolledArea());
+
+        listener.clearReceivedEvents();
+        viewportLayer.setOriginX(250);
+
+        event = (ScrollEvent) listener.getReceivedEvent(ScrollEvent.class);
+        assertEquals(250, event.getDeltaX());
+        assertEquals(0, event.getDeltaY());
+        assertEquals(new Rectangle(40, 20, 500, 300), event.getScrolledArea());
+    }
+
     class DummyCommandHandler extends AbstractLayerCommandHandler<LayerCommandFixture> {
 
         private final boolean catchCommand;
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.hideshow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class RankSelectBitSetTest {
+
+    private static void assertSameState(BitSet expected, RankSelectBitSet actual, int size) {
+        assertEquals(expected.cardinality(), actual.cardinality());
+        int rank = 0;
+        for (int i = 0; i < size; i++) {
+            assertEquals(rank, actual.rank(i), "rank " + i);
+            assertEquals(expected.get(i), actual.get(i), "get " + i);
+            if (expected.get(i)) {
+                assertEquals(i, actual.select(rank), "select " + rank);
+                rank++;
+            }
+        }
+        assertEquals(rank, actual.rank(size));
+        assertEquals(-1, actual.select(rank));
+    }
+
+    @Test
+    public void shouldCalculateRankAndSelect() {
+        int size = 5000;
+        Random random = new Random(42);
+        BitSet expected = new BitSet(size);
+        long[] words = RankSelectBitSet.createWords(size);
+        for (int i = 0; i < size; i++) {
+            if (random.nextInt(10) > 0) {
+                expected.set(i);
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+
+        RankSelectBitSet bitSet = new RankSelectBitSet(words, size);
+        assertEquals(size, bitSet.size());
+        assertSameState(expected, bitSet, size);
+    }
+
+    @Test
+    public void shouldUpdateIncrementally() {
+        int size = 3000;
+        Random random = new Random(7);
+        BitSet expected = new BitSet(size);
+        expected.set(0, size);
+        long[] words = RankSelectBitSet.createWords(size);
+        for (int i = 0; i < size; i++) {
+            words[i >>> 6] |= 1L << i;
+        }
+        RankSelectBitSet bitSet = new RankSelectBitSet(words, size);
+
+        for (int i = 0; i < 2000; i++) {
+            int position = random.nextInt(size);
+            boolean value = random.nextBoolean();
+            expected.set(position, value);
+            bitSet.set(position, value);
+        }
+        assertSameState(expected, bitSet, size);
+    }
+
+    @Test
+    public void shouldHandleEmptyAndOutOfRange() {
+        RankSelectBitSet empty = new RankSelectBitSet(RankSelectBitSet.createWords(0), 0);
+        assertEquals(0, empty.cardinality());
+        assertEquals(0, empty.rank(10));
+        assertEquals(-1, empty.select(0));
+
+        RankSelectBitSet bitSet = new RankSelectBitSet(RankSelectBitSet.createWords(70), 70);
+        bitSet.set(-1, true);
+        bitSet.set(70, true);
+        assertEquals(0, bitSet.cardinality());
+
+        bitSet.set(69, true);
+        assertTrue(bitSet.get(69));
+        assertFalse(bitSet.get(70));
+        assertEquals(69, bitSet.select(0));
+        assertEquals(-1, bitSet.select(-1));
+        assertEquals(0, bitSet.rank(69));
+        assertEquals(1, bitSet.rank(70));
+    }
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.layer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.eclipse.nebula.widgets.nattable.grid.data.DummyBodyDataProvider;
+import org.eclipse.nebula.widgets.nattable.hideshow.ColumnHideShowLayer;
+import org.eclipse.nebula.widgets.nattable.hideshow.RowHideShowLayer;
+import org.eclipse.nebula.widgets.nattable.reorder.ColumnReorderLayer;
+import org.eclipse.nebula.widgets.nattable.reorder.RowReorderLayer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class IndexTransformChainTest {
+
+    private DataLayer dataLayer;
+    private ColumnReorderLayer columnReorderLayer;
+    private ColumnHideShowLayer columnHideShowLayer;
+    private RowReorderLayer rowReorderLayer;
+    private RowHideShowLayer rowHideShowLayer;
+    private AbstractIndexLayerTransform topLayer;
+
+    @BeforeEach
+    public void setup() {
+        this.dataLayer = new DataLayer(new DummyBodyDataProvider(20, 50));
+        this.columnReorderLayer = new ColumnReorderLayer(this.dataLayer);
+        this.columnHideShowLayer = new ColumnHideShowLayer(this.columnReorderLayer);
+        this.rowReorderLayer = new RowReorderLayer(this.columnHideShowLayer);
+        this.rowHideShowLayer = new RowHideShowLayer(this.rowReorderLayer);
+        this.topLayer = new AbstractIndexLayerTransform(this.rowHideShowLayer);
+    }
+
+    private void assertSameAsLayerTransformation() {
+        int columnCount = this.topLayer.getColumnCount();
+        int rowCount = this.topLayer.getRowCount();
+
+        Object[][] values = new Object[columnCount][rowCount];
+        int[] columnIndexes = new int[columnCount];
+        int[] rowIndexes = new int[rowCount];
+        for (int column = 0; column < columnCount; column++) {
+            columnIndexes[column] = this.topLayer.getColumnIndexByPosition(column);
+            for (int row = 0; row < rowCount; row++) {
+                values[column][row] = this.topLayer.getDataValueByPosition(column, row);
+            }
+        }
+        for (int row = 0; row < rowCount; row++) {
+            rowIndexes[row] = this.topLayer.getRowIndexByPosition(row);
+        }
+
+        IndexTransformChain chain = this.topLayer.getIndexTransformChain();
+        this.topLayer.setIndexTransformChainEnabled(false);
+        try {
+            for (int column = 0; column < columnCount; column++) {
+                assertEquals(this.topLayer.getColumnIndexByPosition(column), columnIndexes[column]);
+                for (int row = 0; row < rowCount; row++) {
+                    assertEquals(this.topLayer.getDataValueByPosition(column, row), values[column][row]);
+                }
+            }
+            for (int row = 0; row < rowCount; row++) {
+                assertEquals(this.topLayer.getRowIndexByPosition(row), rowIndexes[row]);
+            }
+        } finally {
+            this.topLayer.setIndexTransformChainEnabled(chain != null);
+        }
+    }
+
+    @Test
+    public void shouldComposeLayerStack() {
+        this.topLayer.setIndexTransformChainEnabled(true);
+        IndexTransformChain chain = this.topLayer.getIndexTransformChain();
+        assertNotNull(chain);
+        assertSame(this.topLayer, chain.getTopLayer());
+        assertSame(this.dataLayer, chain.getBaseLayer());
+
+        this.columnReorderLayer.reorderColumnPosition(0, 10);
+        this.rowReorderLayer.reorderRowPosition(3, 30);
+        this.columnHideShowLayer.hideColumnPositions(2, 5);
+        this.rowHideShowLayer.hideRowPositions(0, 7, 8);
+
+        assertEquals(2, chain.getBaseColumnPosition(1));
+        assertEquals(this.dataLayer.getDataValueByPosition(2, 1), this.topLayer.getDataValueByPosition(1, 0));
+        assertSameAsLayerTransformation();
+    }
+
+    @Test
+    public void shouldUpdateOnStructuralChanges() {
+        this.topLayer.setIndexTransformChainEnabled(true);
+        assertSameAsLayerTransformation();
+
+        this.columnHideShowLayer.hideColumnPositions(0, 1);
+        this.rowHideShowLayer.hideRowPositions(4);
+        assertSameAsLayerTransformation();
+
+        this.columnReorderLayer.reorderColumnPosition(5, 0);
+        this.rowReorderLayer.reorderRowPosition(40, 2);
+        assertSameAsLayerTransformation();
+
+        this.columnHideShowLayer.showAllColumns();
+        this.rowHideShowLayer.showAllRows();
+        assertSameAsLayerTransformation();
+
+        this.topLayer.setIndexTransformChainEnabled(false);
+        assertNull(this.topLayer.getIndexTransformChain());
+    }
+}
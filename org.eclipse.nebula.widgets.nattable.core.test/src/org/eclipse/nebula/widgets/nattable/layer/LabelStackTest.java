@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2023 Dirk Fauth.
+ * Copyright (c) 2020, 2026 Dirk Fauth.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -14,10 +14,23 @@
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -231,4 +244,146 @@ public void shouldHandleNull() {
         ArrayList<String> toCheck = null;
         assertFalse(labels.hasAllLabels(toCheck));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldNotFindLabelWithSameMaskBit() {
+        // create more labels than bits in the mask to ensure collisions
+        LabelStack labels = new LabelStack();
+        for (int i = 0; i < 100; i++) {
+            labels.add("Collision_" + i);
+        }
+        LabelStack other = new LabelStack("Collision_5");
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i == 5, other.hasLabel("Collision_" + i));
+        }
+        assertTrue(labels.hasLabel("Collision_99"));
+        assertFalse(labels.hasLabel("Collision_100"));
+    }
+
+    @Test
+    public void shouldUpdateLabelsOnRemoveAndSet() {
+        LabelStack labels = new LabelStack("One", "Two", "Three", "Two");
+
+        assertEquals(1, labels.indexOf("Two"));
+        assertEquals(3, labels.lastIndexOf("Two"));
+
+        assertTrue(labels.removeLabel("Two"));
+        assertTrue(labels.hasLabel("Two"));
+        assertTrue(labels.removeLabel("Two"));
+        assertFalse(labels.hasLabel("Two"));
+
+        assertEquals("One", labels.set(0, "Four"));
+        assertFalse(labels.hasLabel("One"));
+        assertTrue(labels.hasLabel("Four"));
+        assertEquals(Arrays.asList("Four", "Three"), labels);
+    }
+
+    @Test
+    public void shouldSupportDequeOperations() {
+        LabelStack labels = new LabelStack("One", "Two");
+
+        labels.push("Zero");
+        labels.offerLast("Three");
+        assertEquals(Arrays.asList("Zero", "One", "Two", "Three"), labels);
+
+        assertEquals("Zero", labels.peek());
+        assertEquals("Three", labels.peekLast());
+        assertEquals("Zero", labels.pop());
+        assertEquals("Three", labels.pollLast());
+
+        Iterator<String> iterator = labels.descendingIterator();
+        assertEquals("Two", iterator.next());
+        assertEquals("One", iterator.next());
+        assertFalse(iterator.hasNext());
+
+        labels.clear();
+        assertNull(labels.poll());
+        assertThrows(NoSuchElementException.class, labels::getFirst);
+        assertFalse(labels.hasLabel("One"));
+    }
+
+    @Test
+    public void shouldBeEqualToListWithSameLabels() {
+        LabelStack labels = new LabelStack("One", "Two");
+
+        assertEquals(new LabelStack("One", "Two"), labels);
+        assertEquals(Arrays.asList("One", "Two"), labels);
+        assertEquals(labels, new ArrayList<>(Arrays.asList("One", "Two")));
+        assertEquals(Arrays.asList("One", "Two").hashCode(), labels.hashCode());
+        assertFalse(labels.equals(new LabelStack("Two", "One")));
+    }
+
+    @Test
+    public void shouldCloneAndSerialize() throws Exception {
+        LabelStack labels = new LabelStack("One", "Two");
+
+        LabelStack clone = labels.clone();
+        clone.add("Three");
+        assertNotSame(labels, clone);
+        assertEquals(2, labels.size());
+        assertEquals(3, clone.size());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(clone);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            LabelStack read = (LabelStack) in.readObject();
+            assertEquals(clone, read);
+            assertTrue(read.hasLabel("Three"));
+        }
+    }
+
+    @Test
+    public void shouldBeUsableAsLinkedList() {
+        LinkedList<String> labels = new LabelStack("One", "Two");
+        labels.add("Three");
+        labels.addAll(1, Arrays.asList("A", "B"));
+        assertEquals(Arrays.asList("One", "A", "B", "Two", "Three"), labels);
+        assertEquals(Arrays.asList("One", "A", "B", "Two", "Three"), Arrays.asList(labels.toArray(new String[0])));
+
+        ListIterator<String> iterator = labels.listIterator(1);
+        iterator.next();
+        iterator.remove();
+        iterator.add("C");
+        iterator.next();
+        iterator.set("D");
+        assertEquals(Arrays.asList("One", "C", "D", "Two", "Three"), labels);
+
+        labels.removeIf(label -> label.length() == 1);
+        assertEquals(Arrays.asList("One", "Two", "Three"), labels);
+        assertEquals("One,Two,Three", labels.stream().collect(Collectors.joining(",")));
+
+        Collections.sort(labels);
+        assertEquals(Arrays.asList("One", "Three", "Two"), labels);
+        assertTrue(((LabelStack) labels).hasLabel("Three"));
+    }
+
+    @Test
+    public void shouldStoreLabelsIfInternerIsFull() {
+        // fill the interner, further labels are not interned anymore
+        LabelStack labels = new LabelStack();
+        for (int i = 0; i < LabelStack.LabelInterner.MAX_LABELS; i++) {
+            labels.add("Dynamic_" + i);
+        }
+        String dynamic = "Dynamic_" + LabelStack.LabelInterner.MAX_LABELS;
+        labels.add(dynamic);
+        assertEquals(-1, LabelStack.LabelInterner.lookup(dynamic));
+
+        assertTrue(labels.hasLabel(dynamic));
+        assertTrue(labels.hasLabel("Dynamic_0"));
+        assertFalse(labels.hasLabel(dynamic + "_other"));
+        assertEquals(LabelStack.LabelInterner.MAX_LABELS, labels.lastIndexOf(dynamic));
+
+        LabelStack stack = new LabelStack("One", dynamic);
+        assertEquals(new LabelStack("One", new String(dynamic)), stack);
+        assertFalse(stack.equals(new LabelStack("One", dynamic + "_other")));
+        assertEquals(stack, stack.clone());
+
+        stack.addLabelOnTop(dynamic);
+        assertEquals(Arrays.asList(dynamic, "One"), stack);
+        assertTrue(stack.removeLabel(dynamic));
+        assertFalse(stack.hasLabel(dynamic));
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2022 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,8 @@
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -166,4 +168,74 @@ public void testAggregateSizeWithScaling() {
 
         assertTrue(aggregateSize != cachedAggregateSize, "aggregate size of last column is same as cached aggregate size");
     }
+
+    @Test
+    public void getPositionByPixel() {
+        assertEquals(-1, this.sizeConfig.getPositionByPixel(-1));
+        assertEquals(0, this.sizeConfig.getPositionByPixel(0));
+        assertEquals(0, this.sizeConfig.getPositionByPixel(99));
+        assertEquals(1, this.sizeConfig.getPositionByPixel(100));
+
+        this.sizeConfig.setSize(0, 10);
+        this.sizeConfig.setSize(1, 0);
+        this.sizeConfig.setSize(5, 120);
+
+        assertEquals(0, this.sizeConfig.getPositionByPixel(9));
+        // position 1 has no size and therefore can not contain a pixel
+        assertEquals(2, this.sizeConfig.getPositionByPixel(10));
+        assertEquals(4, this.sizeConfig.getPositionByPixel(309));
+        assertEquals(5, this.sizeConfig.getPositionByPixel(310));
+        assertEquals(5, this.sizeConfig.getPositionByPixel(429));
+        assertEquals(6, this.sizeConfig.getPositionByPixel(430));
+        // positions after the last configured position
+        assertEquals(1000, this.sizeConfig.getPositionByPixel(this.sizeConfig.getAggregateSize(1000) + 99));
+    }
+
+    @Test
+    public void getAggregateSizeAfterResizes() {
+        Random random = new Random(42);
+        int positionCount = 5000;
+        int[] sizes = new int[positionCount];
+        for (int i = 0; i < positionCount; i++) {
+            sizes[i] = DEFAULT_SIZE;
+        }
+
+        for (int i = 0; i < 2000; i++) {
+            int position = random.nextInt(positionCount);
+            if (random.nextInt(10) == 0) {
+                this.sizeConfig.resetConfiguredSize(position);
+                sizes[position] = DEFAULT_SIZE;
+            } else {
+                sizes[position] = random.nextInt(200);
+                this.sizeConfig.setSize(position, sizes[position]);
+            }
+
+            // check some random positions against the sum of the sizes
+            for (int j = 0; j < 5; j++) {
+                int check = random.nextInt(positionCount + 1);
+                int expected = 0;
+                for (int k = 0; k < check; k++) {
+                    expected += sizes[k];
+                }
+                assertEquals(expected, this.sizeConfig.getAggregateSize(check));
+
+                if (check < positionCount && sizes[check] > 0) {
+                    assertEquals(check, this.sizeConfig.getPositionByPixel(expected));
+                    assertEquals(check, this.sizeConfig.getPositionByPixel(expected + sizes[check] - 1));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void getAggregateSizeAfterDefaultSizeChange() {
+        this.sizeConfig.setSize(2, 50);
+        this.sizeConfig.setDefaultSize(3, 20);
+        assertEquals(370, this.sizeConfig.getAggregateSize(5));
+
+        this.sizeConfig.setDefaultSize(10);
+        assertEquals(100, this.sizeConfig.getAggregateSize(5));
+        assertEquals(2, this.sizeConfig.getPositionByPixel(30));
+        assertEquals(3, this.sizeConfig.getPositionByPixel(70));
+    }
 }
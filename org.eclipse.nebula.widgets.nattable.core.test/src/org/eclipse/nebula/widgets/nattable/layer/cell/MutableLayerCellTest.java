@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.layer.cell;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.nebula.widgets.nattable.grid.GridRegion;
+import org.eclipse.nebula.widgets.nattable.grid.data.DummyBodyDataProvider;
+import org.eclipse.nebula.widgets.nattable.grid.data.DummySpanningBodyDataProvider;
+import org.eclipse.nebula.widgets.nattable.hideshow.RowHideShowLayer;
+import org.eclipse.nebula.widgets.nattable.layer.CompositeLayer;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.eclipse.nebula.widgets.nattable.layer.ILayer;
+import org.eclipse.nebula.widgets.nattable.layer.SpanningDataLayer;
+import org.eclipse.nebula.widgets.nattable.reorder.ColumnReorderLayer;
+import org.eclipse.swt.graphics.Rectangle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MutableLayerCellTest {
+
+    private CompositeLayer compositeLayer;
+
+    @BeforeEach
+    public void setup() {
+        SpanningDataLayer bodyDataLayer = new SpanningDataLayer(new DummySpanningBodyDataProvider(12, 12));
+        ColumnReorderLayer reorderLayer = new ColumnReorderLayer(bodyDataLayer);
+        reorderLayer.reorderColumnPosition(9, 2);
+        RowHideShowLayer hideShowLayer = new RowHideShowLayer(reorderLayer);
+        // hide a row of a spanned cell and a row without spanning
+        hideShowLayer.hideRowPositions(1, 6);
+
+        DataLayer headerDataLayer = new DataLayer(new DummyBodyDataProvider(12, 2));
+
+        this.compositeLayer = new CompositeLayer(1, 2);
+        this.compositeLayer.setChildLayer(GridRegion.COLUMN_HEADER, headerDataLayer, 0, 0);
+        this.compositeLayer.setChildLayer(GridRegion.BODY, hideShowLayer, 0, 1);
+    }
+
+    private void assertSameCell(ILayerCell expected, ILayerCell actual) {
+        assertSame(expected.getLayer(), actual.getLayer());
+        assertEquals(expected.getColumnPosition(), actual.getColumnPosition());
+        assertEquals(expected.getRowPosition(), actual.getRowPosition());
+        assertEquals(expected.getOriginColumnPosition(), actual.getOriginColumnPosition());
+        assertEquals(expected.getOriginRowPosition(), actual.getOriginRowPosition());
+        assertEquals(expected.getColumnSpan(), actual.getColumnSpan());
+        assertEquals(expected.getRowSpan(), actual.getRowSpan());
+        assertEquals(expected.getColumnIndex(), actual.getColumnIndex());
+        assertEquals(expected.getRowIndex(), actual.getRowIndex());
+        assertEquals(expected.getDataValue(), actual.getDataValue());
+        assertEquals(expected.getBounds(), actual.getBounds());
+        assertEquals(expected.getDisplayMode(), actual.getDisplayMode());
+        assertEquals(expected.getConfigLabels(), actual.getConfigLabels());
+    }
+
+    @Test
+    public void shouldVisitSameCellsAsGetCellByPosition() {
+        Rectangle positionRectangle = new Rectangle(0, 0,
+                this.compositeLayer.getColumnCount(), this.compositeLayer.getRowCount());
+        List<ILayerCell> visited = new ArrayList<>();
+        List<ILayerCell> detached = new ArrayList<>();
+        this.compositeLayer.forEachCell(positionRectangle, cell -> {
+            ILayerCell expected = this.compositeLayer.getCellByPosition(cell.getColumnPosition(), cell.getRowPosition());
+            assertSameCell(expected, cell);
+            visited.add(cell);
+            detached.add(MutableLayerCell.detach(cell));
+            return true;
+        });
+
+        assertEquals(12 * 12, visited.size());
+        for (ILayerCell cell : detached) {
+            ILayerCell expected = this.compositeLayer.getCellByPosition(cell.getColumnPosition(), cell.getRowPosition());
+            assertSameCell(expected, cell);
+        }
+    }
+
+    @Test
+    public void shouldReuseCell() {
+        MutableLayerCell reusableCell = new MutableLayerCell();
+
+        ILayerCell cell = this.compositeLayer.getCellByPosition(5, 8, reusableCell);
+        assertSame(reusableCell, cell);
+        assertSameCell(this.compositeLayer.getCellByPosition(5, 8), cell);
+
+        cell = this.compositeLayer.getCellByPosition(0, 0, reusableCell);
+        assertSame(reusableCell, cell);
+        assertSameCell(this.compositeLayer.getCellByPosition(0, 0), cell);
+
+        // spanned cell with a hidden row is created by the hide layer
+        cell = this.compositeLayer.getCellByPosition(0, 2, reusableCell);
+        assertNotSame(reusableCell, cell);
+        assertEquals(1, cell.getRowSpan());
+        assertSameCell(this.compositeLayer.getCellByPosition(0, 2), cell);
+
+        assertEquals(null, this.compositeLayer.getCellByPosition(12, 0, reusableCell));
+    }
+
+    @Test
+    public void shouldNotReuseCellForSpecialCells() {
+        DataLayer dataLayer = new DataLayer(new DummyBodyDataProvider(3, 3)) {
+            @Override
+            public ILayerCell getCellByPosition(int columnPosition, int rowPosition) {
+                return new LayerCell(this, 0, 0, columnPosition, rowPosition, 3, 3);
+            }
+        };
+        ColumnReorderLayer reorderLayer = new ColumnReorderLayer(dataLayer);
+
+        MutableLayerCell reusableCell = new MutableLayerCell();
+        ILayerCell cell = reorderLayer.getCellByPosition(1, 1, reusableCell);
+        assertNotSame(reusableCell, cell);
+        assertEquals(3, cell.getColumnSpan());
+        assertSameCell(reorderLayer.getCellByPosition(1, 1), cell);
+    }
+
+    @Test
+    public void shouldStopVisiting() {
+        ILayer layer = new DataLayer(new DummyBodyDataProvider(10, 10));
+        List<ILayerCell> visited = new ArrayList<>();
+        layer.forEachCell(new Rectangle(-1, 2, 5, 5), cell -> {
+            visited.add(MutableLayerCell.detach(cell));
+            return visited.size() < 6;
+        });
+
+        assertEquals(6, visited.size());
+        assertEquals(0, visited.get(0).getColumnPosition());
+        assertEquals(2, visited.get(0).getRowPosition());
+        assertEquals(0, visited.get(4).getColumnPosition());
+        assertEquals(3, visited.get(4).getRowPosition());
+    }
+}
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.painter.cell;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+
+import org.junit.jupiter.api.Test;
+
+public class TextExtentCacheTest {
+
+    private final AtomicInteger measureCount = new AtomicInteger();
+
+    private final ToIntFunction<String> measure = text -> {
+        this.measureCount.incrementAndGet();
+        return text.length() * 7;
+    };
+
+    @Test
+    public void shouldCacheWidthPerFont() {
+        TextExtentCache cache = new TextExtentCache(10, 10);
+
+        assertEquals(35, cache.getTextWidth("font1", "Hello", this.measure));
+        assertEquals(35, cache.getTextWidth("font1", "Hello", this.measure));
+        assertEquals(1, this.measureCount.get());
+
+        // same text with a different font is measured again
+        assertEquals(35, cache.getTextWidth("font2", "Hello", this.measure));
+        assertEquals(2, this.measureCount.get());
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedText() {
+        TextExtentCache cache = new TextExtentCache(10, 3);
+
+        cache.getTextWidth("font", "A", this.measure);
+        cache.getTextWidth("font", "B", this.measure);
+        cache.getTextWidth("font", "C", this.measure);
+        // access A so B is the least recently used
+        cache.getTextWidth("font", "A", this.measure);
+        cache.getTextWidth("font", "D", this.measure);
+
+        assertEquals(3, cache.size());
+        assertEquals(4, this.measureCount.get());
+
+        cache.getTextWidth("font", "A", this.measure);
+        cache.getTextWidth("font", "C", this.measure);
+        cache.getTextWidth("font", "D", this.measure);
+        assertEquals(4, this.measureCount.get());
+
+        cache.getTextWidth("font", "B", this.measure);
+        assertEquals(5, this.measureCount.get());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedFont() {
+        TextExtentCache cache = new TextExtentCache(2, 10);
+
+        cache.getTextWidth("font1", "A", this.measure);
+        cache.getTextWidth("font2", "A", this.measure);
+        cache.getTextWidth("font3", "A", this.measure);
+
+        assertEquals(2, cache.size());
+
+        // font1 was evicted
+        cache.getTextWidth("font1", "A", this.measure);
+        assertEquals(4, this.measureCount.get());
+    }
+
+    @Test
+    public void shouldClear() {
+        TextExtentCache cache = new TextExtentCache(2, 10);
+
+        cache.getTextWidth("font", "A", this.measure);
+        cache.getTextWidth("font", "A", this.measure);
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    public void shouldNotAllowInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new TextExtentCache(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new TextExtentCache(10, 0));
+    }
+}
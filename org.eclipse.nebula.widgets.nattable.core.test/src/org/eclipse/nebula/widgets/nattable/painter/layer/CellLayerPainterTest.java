@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.painter.layer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.eclipse.nebula.widgets.nattable.config.IConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.hideshow.RowHideShowLayer;
+import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
+import org.eclipse.nebula.widgets.nattable.layer.cell.MutableLayerCell;
+import org.eclipse.nebula.widgets.nattable.reorder.ColumnReorderLayer;
+import org.eclipse.nebula.widgets.nattable.test.fixture.layer.DataLayerFixture;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Rectangle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CellLayerPainterTest {
+
+    private static final int COLUMN_COUNT = 10;
+    private static final int ROW_COUNT = 40;
+
+    private CountingDataLayer layer;
+    private RecordingCellLayerPainter painter;
+
+    @BeforeEach
+    public void setup() {
+        this.layer = new CountingDataLayer();
+        this.painter = new RecordingCellLayerPainter();
+    }
+
+    @Test
+    public void shouldPaintAllCellsInPixelRectangle() {
+        this.painter.paintLayer(this.layer, null, 0, 0, new Rectangle(150, 30, 300, 100), null);
+
+        // columns 1-4, rows 1-6
+        assertEquals(4 * 6, this.painter.paintedCells);
+    }
+
+    @Test
+    public void shouldReturnStartPixelsOfPaintedPositions() {
+        this.painter.paintLayer(this.layer, null, 0, 0, new Rectangle(150, 30, 300, 100), null);
+
+        for (int column = 1; column <= 5; column++) {
+            assertEquals(column * 100, this.painter.getStartXOfColumnPosition(column));
+        }
+        for (int row = 1; row <= 7; row++) {
+            assertEquals(row * 20, this.painter.getStartYOfRowPosition(row));
+        }
+    }
+
+    @Test
+    public void shouldReturnStartPixelsOutsidePaintedArea() {
+        this.painter.paintLayer(this.layer, null, 0, 0, new Rectangle(150, 30, 300, 100), null);
+
+        assertEquals(0, this.painter.getStartXOfColumnPosition(0));
+        assertEquals(800, this.painter.getStartXOfColumnPosition(8));
+        assertEquals(1000, this.painter.getStartXOfColumnPosition(COLUMN_COUNT));
+        assertEquals(0, this.painter.getStartYOfRowPosition(0));
+        assertEquals(600, this.painter.getStartYOfRowPosition(30));
+        assertEquals(800, this.painter.getStartYOfRowPosition(ROW_COUNT));
+    }
+
+    @Test
+    public void shouldNotCreateCellsPerFrame() {
+        Rectangle pixelRectangle = new Rectangle(0, 0, 1000, 800);
+
+        for (int i = 0; i < 3; i++) {
+            this.painter.paintLayer(this.layer, null, 0, 0, pixelRectangle, null);
+        }
+
+        assertEquals(3 * COLUMN_COUNT * ROW_COUNT, this.painter.paintedCells);
+        assertEquals(3 * COLUMN_COUNT * ROW_COUNT, this.layer.reusedCells);
+        assertEquals(0, this.layer.createdCells);
+        // the same cell instance is used for all positions and frames
+        assertEquals(1, this.painter.cellInstances.size());
+    }
+
+    @Test
+    public void shouldReuseCellsOfLayerStack() {
+        // the cells are translated through the stack
+        ColumnReorderLayer reorderLayer = new ColumnReorderLayer(this.layer);
+        reorderLayer.reorderColumnPosition(0, 5);
+        RowHideShowLayer hideShowLayer = new RowHideShowLayer(reorderLayer);
+        hideShowLayer.hideRowPositions(3);
+
+        Rectangle pixelRectangle = new Rectangle(0, 0, 1000, 780);
+        this.painter.paintLayer(hideShowLayer, null, 0, 0, pixelRectangle, null);
+        this.painter.paintLayer(hideShowLayer, null, 0, 0, pixelRectangle, null);
+
+        assertEquals(2 * COLUMN_COUNT * (ROW_COUNT - 1), this.painter.paintedCells);
+        assertEquals(0, this.layer.createdCells);
+        assertEquals(1, this.painter.cellInstances.size());
+
+        // the reused cell is translated to the positions of the top layer
+        for (int column = 0; column < COLUMN_COUNT; column++) {
+            assertEquals(hideShowLayer.getColumnIndexByPosition(column), this.painter.columnIndexes[column]);
+        }
+        for (int row = 0; row < ROW_COUNT - 1; row++) {
+            assertEquals(hideShowLayer.getRowIndexByPosition(row), this.painter.rowIndexes[row]);
+        }
+    }
+
+    /**
+     * Counts the calls to both cell retrieval methods. As both methods are
+     * overridden, the reuse of cells is still supported by this layer.
+     */
+    private static class CountingDataLayer extends DataLayerFixture {
+
+        int createdCells;
+        int reusedCells;
+
+        CountingDataLayer() {
+            super(COLUMN_COUNT, ROW_COUNT, 100, 20);
+        }
+
+        @Override
+        public ILayerCell getCellByPosition(int columnPosition, int rowPosition) {
+            this.createdCells++;
+            return super.getCellByPosition(columnPosition, rowPosition);
+        }
+
+        @Override
+        public ILayerCell getCellByPosition(int columnPosition, int rowPosition, MutableLayerCell cell) {
+            this.reusedCells++;
+            return super.getCellByPosition(columnPosition, rowPosition, cell);
+        }
+    }
+
+    private static class RecordingCellLayerPainter extends CellLayerPainter {
+
+        int paintedCells;
+        final Set<ILayerCell> cellInstances = Collections.newSetFromMap(new IdentityHashMap<>());
+        final int[] columnIndexes = new int[COLUMN_COUNT];
+        final int[] rowIndexes = new int[ROW_COUNT];
+
+        @Override
+        protected void paintCell(ILayerCell cell, GC gc, IConfigRegistry configRegistry) {
+            // perform the same lookups as the default implementation without
+            // the need for a GC
+            getStartXOfColumnPosition(cell.getColumnPosition());
+            getStartYOfRowPosition(cell.getRowPosition());
+            getStartXOfColumnPosition(cell.getOriginColumnPosition() + cell.getColumnSpan());
+            getStartYOfRowPosition(cell.getOriginRowPosition() + cell.getRowSpan());
+            this.paintedCells++;
+            this.cellInstances.add(cell);
+            this.columnIndexes[cell.getColumnPosition()] = cell.getColumnIndex();
+            this.rowIndexes[cell.getRowPosition()] = cell.getRowIndex();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.resize;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.eclipse.nebula.widgets.nattable.config.CellConfigAttributes;
+import org.eclipse.nebula.widgets.nattable.config.ConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.config.IConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.data.IDataProvider;
+import org.eclipse.nebula.widgets.nattable.data.convert.DisplayConverter;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.eclipse.nebula.widgets.nattable.style.DisplayMode;
+import org.junit.jupiter.api.Test;
+
+public class AutoResizeSamplingTest {
+
+    private IConfigRegistry configRegistry = new ConfigRegistry();
+
+    private static DataLayer createDataLayer(int rowCount) {
+        return new DataLayer(new IDataProvider() {
+
+            @Override
+            public Object getDataValue(int columnIndex, int rowIndex) {
+                // every 1000th row contains a long value
+                if (rowIndex % 1000 == 999) {
+                    return "long value in row " + rowIndex;
+                }
+                return (rowIndex % 3 == 0) ? null : "r" + rowIndex;
+            }
+
+            @Override
+            public void setDataValue(int columnIndex, int rowIndex, Object newValue) {
+                // not needed
+            }
+
+            @Override
+            public int getColumnCount() {
+                return 1;
+            }
+
+            @Override
+            public int getRowCount() {
+                return rowCount;
+            }
+        });
+    }
+
+    @Test
+    public void shouldMeasureAllRowsIfNotGreaterThanSampleSize() {
+        DataLayer dataLayer = createDataLayer(100);
+
+        assertNull(AutoResizeSampling.longestValues(100).getRowPositions(dataLayer, 0, this.configRegistry));
+        assertNull(AutoResizeSampling.randomSample(200).getRowPositions(dataLayer, 0, this.configRegistry));
+    }
+
+    @Test
+    public void shouldSelectLongestValues() {
+        DataLayer dataLayer = createDataLayer(50000);
+
+        int[] rows = AutoResizeSampling.longestValues(50).getRowPositions(dataLayer, 0, this.configRegistry);
+
+        assertEquals(50, rows.length);
+        for (int i = 0; i < rows.length; i++) {
+            assertEquals(i * 1000 + 999, rows[i]);
+        }
+    }
+
+    @Test
+    public void shouldSelectLongestValuesSequential() {
+        DataLayer dataLayer = createDataLayer(50000);
+
+        assertArrayEquals(
+                AutoResizeSampling.longestValues(20, true).getRowPositions(dataLayer, 0, this.configRegistry),
+                AutoResizeSampling.longestValues(20, false).getRowPositions(dataLayer, 0, this.configRegistry));
+    }
+
+    @Test
+    public void shouldSelectLongestDisplayValues() {
+        DataLayer dataLayer = createDataLayer(50000);
+
+        // the display value of the short values is longer than the one of
+        // the long values
+        this.configRegistry.registerConfigAttribute(
+                CellConfigAttributes.DISPLAY_CONVERTER,
+                new DisplayConverter() {
+
+                    @Override
+                    public Object canonicalToDisplayValue(Object canonicalValue) {
+                        if (canonicalValue == null) {
+                            return null;
+                        }
+                        return canonicalValue.toString().startsWith("long")
+                                ? "L"
+                                : "display value of " + canonicalValue;
+                    }
+
+                    @Override
+                    public Object displayToCanonicalValue(Object displayValue) {
+                        return displayValue;
+                    }
+                },
+                DisplayMode.NORMAL);
+
+        int[] rows = AutoResizeSampling.longestValues(50).getRowPositions(dataLayer, 0, this.configRegistry);
+
+        assertEquals(50, rows.length);
+        for (int row : rows) {
+            assertTrue(row % 3 != 0 && row % 1000 != 999);
+        }
+    }
+
+    @Test
+    public void shouldSelectDistinctRandomRows() {
+        DataLayer dataLayer = createDataLayer(1000);
+
+        int[] rows = AutoResizeSampling.randomSample(100).getRowPositions(dataLayer, 0, this.configRegistry);
+
+        assertEquals(100, rows.length);
+        assertEquals(100, Arrays.stream(rows).distinct().count());
+        for (int i = 0; i < rows.length; i++) {
+            assertTrue(rows[i] >= 0 && rows[i] < 1000);
+            if (i > 0) {
+                assertTrue(rows[i - 1] < rows[i]);
+            }
+        }
+    }
+
+    @Test
+    public void shouldSelectLongestIgnoringNegatives() {
+        int[] selected = AutoResizeSampling.selectLongest(new int[] { 3, -1, 7, 0, 7, 1, -1, 9 }, 3);
+        Arrays.sort(selected);
+
+        assertArrayEquals(new int[] { 2, 4, 7 }, selected);
+
+        selected = AutoResizeSampling.selectLongest(new int[] { -1, 2, -1 }, 3);
+        assertArrayEquals(new int[] { 1 }, selected);
+    }
+
+    @Test
+    public void shouldNotAllowInvalidSampleSize() {
+        assertThrows(IllegalArgumentException.class, () -> AutoResizeSampling.longestValues(0));
+        assertThrows(IllegalArgumentException.class, () -> AutoResizeSampling.randomSample(-1));
+    }
+}
@@ -0,0 +1,249 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.search.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.nebula.widgets.nattable.config.ConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.config.DefaultNatTableStyleConfiguration;
+import org.eclipse.nebula.widgets.nattable.coordinate.PositionCoordinate;
+import org.eclipse.nebula.widgets.nattable.data.IDataProvider;
+import org.eclipse.nebula.widgets.nattable.edit.command.UpdateDataCommand;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.eclipse.nebula.widgets.nattable.search.CellValueAsStringComparator;
+import org.eclipse.nebula.widgets.nattable.search.SearchDirection;
+import org.eclipse.nebula.widgets.nattable.selection.SelectionLayer;
+import org.eclipse.nebula.widgets.nattable.selection.command.SelectCellCommand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the parallel, asynchronous and indexed search of the
+ * {@link GridSearchStrategy}, which do not need a display.
+ */
+public class GridSearchStrategyAsyncTest {
+
+    private static final int COLUMNS = 20;
+    private static final int ROWS = 500;
+
+    private String[][] data;
+    private DataLayer dataLayer;
+    private SelectionLayer selectionLayer;
+    private ConfigRegistry configRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        this.data = new String[COLUMNS][ROWS];
+        for (int column = 0; column < COLUMNS; column++) {
+            for (int row = 0; row < ROWS; row++) {
+                // some cells contain the value to search for
+                this.data[column][row] = ((column * 31 + row * 17) % 97 == 0) ? "needle " + column : "hay " + row;
+            }
+        }
+
+        this.dataLayer = new DataLayer(new IDataProvider() {
+
+            @Override
+            public Object getDataValue(int columnIndex, int rowIndex) {
+                return GridSearchStrategyAsyncTest.this.data[columnIndex][rowIndex];
+            }
+
+            @Override
+            public void setDataValue(int columnIndex, int rowIndex, Object newValue) {
+                GridSearchStrategyAsyncTest.this.data[columnIndex][rowIndex] = (String) newValue;
+            }
+
+            @Override
+            public int getColumnCount() {
+                return COLUMNS;
+            }
+
+            @Override
+            public int getRowCount() {
+                return ROWS;
+            }
+        });
+        this.selectionLayer = new SelectionLayer(this.dataLayer);
+
+        this.configRegistry = new ConfigRegistry();
+        new DefaultNatTableStyleConfiguration().configureRegistry(this.configRegistry);
+    }
+
+    private GridSearchStrategy createStrategy(SearchDirection direction, boolean columnFirst) {
+        GridSearchStrategy strategy = new GridSearchStrategy(this.configRegistry, true, direction, columnFirst);
+        strategy.setContextLayer(this.selectionLayer);
+        strategy.setComparator(new CellValueAsStringComparator<>());
+        return strategy;
+    }
+
+    private void select(PositionCoordinate coordinate) {
+        this.selectionLayer.doCommand(new SelectCellCommand(
+                this.selectionLayer, coordinate.columnPosition, coordinate.rowPosition, false, false));
+    }
+
+    /**
+     * Performs find next until the search wraps to the first result and
+     * returns all found coordinates.
+     */
+    private List<PositionCoordinate> findAllByFindNext(GridSearchStrategy strategy, String value) {
+        List<PositionCoordinate> result = new ArrayList<>();
+        PositionCoordinate coordinate = strategy.executeSearch(value);
+        while (coordinate != null && !result.contains(coordinate)) {
+            result.add(coordinate);
+            select(coordinate);
+            coordinate = strategy.executeSearch(value);
+        }
+        return result;
+    }
+
+    @Test
+    public void shouldFindSameCellsInParallel() {
+        for (SearchDirection direction : SearchDirection.values()) {
+            for (boolean columnFirst : new boolean[] { true, false }) {
+                this.selectionLayer.clear();
+                List<PositionCoordinate> sequential = findAllByFindNext(createStrategy(direction, columnFirst), "needle");
+
+                this.selectionLayer.clear();
+                GridSearchStrategy parallel = createStrategy(direction, columnFirst);
+                parallel.setParallel(true);
+                assertTrue(parallel.isParallel());
+
+                assertTrue(sequential.size() > 10);
+                assertEquals(sequential, findAllByFindNext(parallel, "needle"));
+            }
+        }
+    }
+
+    @Test
+    public void shouldStreamAllMatchesInSearchOrder() {
+        this.selectionLayer.clear();
+        List<PositionCoordinate> expected = findAllByFindNext(createStrategy(SearchDirection.SEARCH_FORWARD, true), "needle");
+
+        this.selectionLayer.clear();
+        List<PositionCoordinate> streamed = new ArrayList<>();
+        createStrategy(SearchDirection.SEARCH_FORWARD, true).findAll("needle", streamed::add);
+
+        assertTrue(expected.size() > 10);
+        assertEquals(expected, streamed);
+    }
+
+    @Test
+    public void shouldFindSameCellsWithIndex() {
+        GridSearchIndex index = new GridSearchIndex(this.selectionLayer, this.configRegistry);
+        try {
+            for (SearchDirection direction : SearchDirection.values()) {
+                this.selectionLayer.clear();
+                List<PositionCoordinate> expected = findAllByFindNext(createStrategy(direction, false), "needle 3");
+
+                this.selectionLayer.clear();
+                GridSearchStrategy indexed = createStrategy(direction, false);
+                indexed.setSearchIndex(index);
+
+                assertEquals(expected, findAllByFindNext(indexed, "needle 3"));
+            }
+        } finally {
+            index.dispose();
+        }
+    }
+
+    @Test
+    public void shouldClearIndexOnDataUpdate() {
+        GridSearchIndex index = new GridSearchIndex(this.selectionLayer, this.configRegistry);
+        try {
+            GridSearchStrategy strategy = createStrategy(SearchDirection.SEARCH_FORWARD, true);
+            strategy.setSearchIndex(index);
+            assertNull(strategy.executeSearch("unique"));
+
+            this.dataLayer.doCommand(new UpdateDataCommand(this.dataLayer, 5, 7, "unique"));
+
+            PositionCoordinate result = strategy.executeSearch("unique");
+            assertNotNull(result);
+            assertEquals(5, result.columnPosition);
+            assertEquals(7, result.rowPosition);
+        } finally {
+            index.dispose();
+        }
+    }
+
+    @Test
+    public void shouldSearchAsync() throws Exception {
+        GridSearchStrategy strategy = createStrategy(SearchDirection.SEARCH_FORWARD, true);
+        PositionCoordinate expected = strategy.executeSearch("needle 7");
+
+        CompletableFuture<PositionCoordinate> future =
+                strategy.executeSearchAsync("needle 7", ForkJoinPool.commonPool());
+        assertEquals(expected, future.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldCancelAsyncSearch() throws InterruptedException, ExecutionException, TimeoutException {
+        GridSearchStrategy strategy = createStrategy(SearchDirection.SEARCH_FORWARD, true);
+
+        // executor that runs the search only after it was cancelled
+        AtomicReference<Runnable> task = new AtomicReference<>();
+        CompletableFuture<PositionCoordinate> future = strategy.executeSearchAsync("needle", task::set);
+        strategy.cancel();
+        task.get().run();
+
+        assertTrue(future.isCancelled());
+        assertThrows(CancellationException.class, () -> future.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldCancelViaFuture() {
+        GridSearchStrategy strategy = createStrategy(SearchDirection.SEARCH_FORWARD, true);
+
+        AtomicReference<Runnable> task = new AtomicReference<>();
+        CompletableFuture<PositionCoordinate> future = strategy.executeSearchAsync("needle", task::set);
+        future.cancel(true);
+        task.get().run();
+
+        assertTrue(future.isCancelled());
+    }
+
+    @Test
+    public void shouldCancelOverlappingSearches() {
+        GridSearchStrategy strategy = createStrategy(SearchDirection.SEARCH_FORWARD, true);
+
+        AtomicReference<Runnable> firstTask = new AtomicReference<>();
+        CompletableFuture<PositionCoordinate> first = strategy.executeSearchAsync("needle", firstTask::set);
+
+        // a search that is started while the first one is still running
+        AtomicReference<Runnable> secondTask = new AtomicReference<>();
+        CompletableFuture<PositionCoordinate> second = strategy.executeSearchAsync("needle 3", secondTask::set);
+
+        strategy.cancel();
+        firstTask.get().run();
+        secondTask.get().run();
+
+        assertTrue(first.isCancelled());
+        assertTrue(second.isCancelled());
+
+        // searches started after the cancel are not affected
+        assertNotNull(strategy.executeSearch("needle"));
+    }
+}
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.selection;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.eclipse.nebula.widgets.nattable.coordinate.Range;
+import org.eclipse.nebula.widgets.nattable.test.fixture.layer.DataLayerFixture;
+import org.eclipse.swt.graphics.Rectangle;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Executes the {@link SelectionModelTest} with the
+ * {@link IntervalTreeSelectionModel} and adds tests for the merging of
+ * rectangles and the consistency with the {@link SelectionModel}.
+ */
+public class IntervalTreeSelectionModelTest extends SelectionModelTest {
+
+    @Override
+    protected SelectionModel createSelectionModel(SelectionLayer selectionLayer) {
+        return new IntervalTreeSelectionModel(selectionLayer);
+    }
+
+    @Test
+    public void shouldMergeAdjacentCellsInRow() {
+        IntervalTreeSelectionModel model = new IntervalTreeSelectionModel(
+                new SelectionLayer(new DataLayerFixture(100, 100, 100, 40)));
+
+        model.addSelection(2, 5);
+        model.addSelection(3, 5);
+        model.addSelection(4, 5);
+
+        assertEquals(1, model.getSelections().size());
+        assertEquals(new Rectangle(2, 5, 3, 1), model.getSelections().get(0));
+    }
+
+    @Test
+    public void shouldMergeAdjacentRows() {
+        IntervalTreeSelectionModel model = new IntervalTreeSelectionModel(
+                new SelectionLayer(new DataLayerFixture(100, 100, 100, 40)));
+
+        model.addSelection(new Rectangle(0, 1, 100, 1));
+        model.addSelection(new Rectangle(0, 3, 100, 1));
+        assertEquals(2, model.getSelections().size());
+
+        // closing the gap merges all three rows
+        model.addSelection(new Rectangle(0, 2, 100, 1));
+        assertEquals(1, model.getSelections().size());
+        assertEquals(new Rectangle(0, 1, 100, 3), model.getSelections().get(0));
+    }
+
+    @Test
+    public void shouldMergeContainedRectangle() {
+        IntervalTreeSelectionModel model = new IntervalTreeSelectionModel(
+                new SelectionLayer(new DataLayerFixture(100, 100, 100, 40)));
+
+        model.addSelection(new Rectangle(0, 0, 10, 10));
+        model.addSelection(new Rectangle(2, 2, 2, 2));
+
+        assertEquals(1, model.getSelections().size());
+        assertEquals(new Rectangle(0, 0, 10, 10), model.getSelections().get(0));
+    }
+
+    @Test
+    public void shouldNotMergeDiagonalCells() {
+        IntervalTreeSelectionModel model = new IntervalTreeSelectionModel(
+                new SelectionLayer(new DataLayerFixture(100, 100, 100, 40)));
+
+        model.addSelection(1, 1);
+        model.addSelection(2, 2);
+
+        assertEquals(2, model.getSelections().size());
+        assertTrue(model.isCellPositionSelected(1, 1));
+        assertTrue(model.isCellPositionSelected(2, 2));
+        assertFalse(model.isCellPositionSelected(1, 2));
+        assertFalse(model.isCellPositionSelected(2, 1));
+    }
+
+    @Test
+    public void shouldUpdateIndexOnClear() {
+        IntervalTreeSelectionModel model = new IntervalTreeSelectionModel(
+                new SelectionLayer(new DataLayerFixture(100, 100, 100, 40)));
+
+        model.addSelection(new Rectangle(0, 0, 10, 10));
+        assertTrue(model.isCellPositionSelected(5, 5));
+
+        model.clearSelection(5, 5);
+        assertFalse(model.isCellPositionSelected(5, 5));
+        assertTrue(model.isCellPositionSelected(5, 4));
+        assertTrue(model.isRowPositionSelected(5));
+
+        model.clearSelection();
+        assertFalse(model.isCellPositionSelected(5, 4));
+        assertFalse(model.isRowPositionSelected(5));
+        assertFalse(model.isColumnPositionSelected(5));
+    }
+
+    @Test
+    public void shouldBehaveLikeSelectionModel() {
+        SelectionLayer selectionLayer = new SelectionLayer(new DataLayerFixture(50, 200, 100, 40));
+        SelectionModel reference = new SelectionModel(selectionLayer);
+        IntervalTreeSelectionModel model = new IntervalTreeSelectionModel(selectionLayer);
+
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            Rectangle rectangle = new Rectangle(
+                    random.nextInt(55),
+                    random.nextInt(210),
+                    1 + random.nextInt(6),
+                    1 + random.nextInt(6));
+            if (random.nextInt(4) == 0) {
+                reference.clearSelection(new Rectangle(rectangle.x, rectangle.y, rectangle.width, rectangle.height));
+                model.clearSelection(new Rectangle(rectangle.x, rectangle.y, rectangle.width, rectangle.height));
+            } else {
+                reference.addSelection(new Rectangle(rectangle.x, rectangle.y, rectangle.width, rectangle.height));
+                model.addSelection(new Rectangle(rectangle.x, rectangle.y, rectangle.width, rectangle.height));
+            }
+
+            assertEquals(reference.getSelectedRowPositions(), model.getSelectedRowPositions());
+            assertArrayEquals(reference.getSelectedColumnPositions(), model.getSelectedColumnPositions());
+            assertEquals(reference.getSelectedRowCount(), model.getSelectedRowCount());
+        }
+
+        for (int column = 0; column < 60; column++) {
+            assertEquals(reference.isColumnPositionSelected(column), model.isColumnPositionSelected(column), "column " + column);
+        }
+        for (int row = 0; row < 210; row++) {
+            assertEquals(reference.isRowPositionSelected(row), model.isRowPositionSelected(row), "row " + row);
+            for (int column = 0; column < 50; column++) {
+                assertEquals(
+                        reference.isCellPositionSelected(column, row),
+                        model.isCellPositionSelected(column, row),
+                        "cell " + column + "/" + row);
+            }
+        }
+    }
+
+    @Test
+    public void shouldReturnRangesClippedToRowCount() {
+        IntervalTreeSelectionModel model = new IntervalTreeSelectionModel(
+                new SelectionLayer(new DataLayerFixture(10, 10, 100, 40)));
+
+        model.addSelection(new Rectangle(0, 8, 1, 5));
+
+        assertEquals(1, model.getSelectedRowPositions().size());
+        assertEquals(new Range(8, 10), model.getSelectedRowPositions().iterator().next());
+        assertFalse(model.isRowPositionSelected(11));
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2022 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -35,7 +35,11 @@ public class SelectionModelTest {
     public void before() {
         SelectionLayer selectionLayer = new SelectionLayer(
                 new DataLayerFixture(100, 100, 100, 40));
-        this.model = new SelectionModel(selectionLayer);
+        this.model = createSelectionModel(selectionLayer);
+    }
+
+    protected SelectionModel createSelectionModel(SelectionLayer selectionLayer) {
+        return new SelectionModel(selectionLayer);
     }
 
     @Test
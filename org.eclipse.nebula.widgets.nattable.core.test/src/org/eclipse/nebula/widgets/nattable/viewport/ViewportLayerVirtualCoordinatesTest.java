@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.viewport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.nebula.widgets.nattable.data.IDataProvider;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.eclipse.swt.graphics.Rectangle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ViewportLayerVirtualCoordinatesTest {
+
+    // 200 million rows with a height of 20 pixels exceed the int range
+    private static final int ROW_COUNT = 200_000_000;
+
+    private DataLayer dataLayer;
+    private ViewportLayer viewportLayer;
+
+    @BeforeEach
+    public void setup() {
+        createViewport(ROW_COUNT);
+    }
+
+    private void createViewport(int rowCount) {
+        this.dataLayer = new DataLayer(new IDataProvider() {
+
+            @Override
+            public Object getDataValue(int columnIndex, int rowIndex) {
+                return columnIndex + "/" + rowIndex;
+            }
+
+            @Override
+            public void setDataValue(int columnIndex, int rowIndex, Object newValue) {
+                // not supported
+            }
+
+            @Override
+            public int getColumnCount() {
+                return 5;
+            }
+
+            @Override
+            public int getRowCount() {
+                return rowCount;
+            }
+        }, 100, 20);
+
+        this.viewportLayer = new ViewportLayer(this.dataLayer);
+        this.viewportLayer.setClientAreaProvider(() -> new Rectangle(0, 0, 500, 210));
+        this.viewportLayer.setVirtualVerticalCoordinates(true);
+    }
+
+    @Test
+    public void shouldMoveRowIntoViewportBeyondIntRange() {
+        assertTrue(this.viewportLayer.isVirtualVerticalCoordinates());
+        this.dataLayer.setRowHeightByPosition(3, 50);
+
+        int rowPosition = 150_000_000;
+        this.viewportLayer.moveRowPositionIntoViewport(rowPosition);
+
+        // 10 rows are completely visible, the moved row is the last one
+        assertEquals(rowPosition - 9, this.viewportLayer.getOriginRowPosition());
+        assertEquals(11, this.viewportLayer.getRowCount());
+        assertEquals(rowPosition - 9, this.viewportLayer.getRowIndexByPosition(0));
+        assertEquals(0, this.viewportLayer.getStartYOfRowPosition(0));
+        assertEquals(180, this.viewportLayer.getStartYOfRowPosition(9));
+        assertEquals(rowPosition, this.viewportLayer.localToUnderlyingRowPosition(9));
+        assertEquals(9, this.viewportLayer.getRowPositionByY(180));
+        assertEquals(9, this.viewportLayer.getRowPositionByY(199));
+        assertEquals(new Rectangle(200, 180, 100, 20), this.viewportLayer.getBoundsByPosition(2, 9));
+
+        this.viewportLayer.moveRowPositionIntoViewport(rowPosition - 100);
+        assertEquals(rowPosition - 100, this.viewportLayer.getOriginRowPosition());
+    }
+
+    @Test
+    public void shouldBoundsCheckOriginRowPosition() {
+        this.viewportLayer.setOriginRowPosition(Integer.MAX_VALUE);
+        assertEquals(ROW_COUNT - 10, this.viewportLayer.getOriginRowPosition());
+        assertEquals(ROW_COUNT - 1, this.viewportLayer.getRowIndexByPosition(9));
+        assertEquals(10, this.viewportLayer.getRowCount());
+        assertEquals(-1, this.viewportLayer.getRowPositionByY(205));
+
+        this.viewportLayer.setOriginRowPosition(-5);
+        assertEquals(0, this.viewportLayer.getOriginRowPosition());
+    }
+
+    @Test
+    public void shouldSetOriginYRelativeToOrigin() {
+        this.viewportLayer.setOriginRowPosition(120_000_000);
+
+        this.viewportLayer.setOriginY(this.viewportLayer.getOrigin().getY() + 45);
+        assertEquals(120_000_002, this.viewportLayer.getOriginRowPosition());
+
+        this.viewportLayer.setOriginY(this.viewportLayer.getOrigin().getY() - 41);
+        assertEquals(119_999_999, this.viewportLayer.getOriginRowPosition());
+    }
+
+    @Test
+    public void shouldHandleDifferentRowHeights() {
+        // the sizes of the rows in front of the changed rows are calculated
+        // relative, so the behavior is the same as for rows behind the int
+        // range
+        this.dataLayer.setRowHeightByPosition(1001, 50);
+        this.dataLayer.setRowHeightByPosition(1003, 5);
+
+        this.viewportLayer.setOriginRowPosition(1000);
+        assertEquals(0, this.viewportLayer.getRowPositionByY(19));
+        assertEquals(1, this.viewportLayer.getRowPositionByY(20));
+        assertEquals(1, this.viewportLayer.getRowPositionByY(69));
+        assertEquals(2, this.viewportLayer.getRowPositionByY(70));
+        assertEquals(3, this.viewportLayer.getRowPositionByY(90));
+        assertEquals(4, this.viewportLayer.getRowPositionByY(95));
+        assertEquals(95, this.viewportLayer.getStartYOfRowPosition(4));
+
+        this.viewportLayer.setOriginY(this.viewportLayer.getOrigin().getY() + 92);
+        assertEquals(1003, this.viewportLayer.getOriginRowPosition());
+
+        this.viewportLayer.moveRowPositionIntoViewport(1020);
+        assertEquals(1011, this.viewportLayer.getOriginRowPosition());
+    }
+
+    @Test
+    public void shouldKeepOriginRowOnModeChange() {
+        // the absolute pixel coordinates need to fit into the int range
+        createViewport(10_000);
+        this.dataLayer.setRowHeightByPosition(3, 50);
+        this.viewportLayer.setVirtualVerticalCoordinates(false);
+        this.viewportLayer.setOriginY(this.dataLayer.getStartYOfRowPosition(1000));
+        assertEquals(1000, this.viewportLayer.getOriginRowPosition());
+
+        this.viewportLayer.setVirtualVerticalCoordinates(true);
+        assertEquals(1000, this.viewportLayer.getOriginRowPosition());
+        assertEquals(this.dataLayer.getStartYOfRowPosition(1000), this.viewportLayer.getOrigin().getY());
+
+        this.viewportLayer.setOriginRowPosition(2000);
+        this.viewportLayer.setVirtualVerticalCoordinates(false);
+        assertFalse(this.viewportLayer.isVirtualVerticalCoordinates());
+        assertEquals(2000, this.viewportLayer.getOriginRowPosition());
+    }
+}
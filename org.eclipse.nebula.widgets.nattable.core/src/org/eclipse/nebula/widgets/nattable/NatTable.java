@@ -14,6 +14,7 @@
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -33,6 +34,7 @@
 import org.eclipse.nebula.widgets.nattable.config.NatTableConfigAttributes;
 import org.eclipse.nebula.widgets.nattable.conflation.EventConflaterChain;
 import org.eclipse.nebula.widgets.nattable.conflation.IEventConflater;
+import org.eclipse.nebula.widgets.nattable.conflation.RepaintScheduler;
 import org.eclipse.nebula.widgets.nattable.conflation.VisualChangeEventConflater;
 import org.eclipse.nebula.widgets.nattable.coordinate.Range;
 import org.eclipse.nebula.widgets.nattable.copy.InternalCellClipboard;
@@ -46,6 +48,7 @@
 import org.eclipse.nebula.widgets.nattable.layer.ILayerListener;
 import org.eclipse.nebula.widgets.nattable.layer.LabelStack;
 import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
+import org.eclipse.nebula.widgets.nattable.layer.cell.MutableLayerCell;
 import org.eclipse.nebula.widgets.nattable.layer.command.ConfigureScalingCommand;
 import org.eclipse.nebula.widgets.nattable.layer.event.CellVisualUpdateEvent;
 import org.eclipse.nebula.widgets.nattable.layer.event.ColumnVisualUpdateEvent;
@@ -73,6 +76,7 @@
 import org.eclipse.nebula.widgets.nattable.util.IClientAreaProvider;
 import org.eclipse.nebula.widgets.nattable.util.PlatformHelper;
 import org.eclipse.nebula.widgets.nattable.viewport.command.RecalculateScrollBarsCommand;
+import org.eclipse.nebula.widgets.nattable.viewport.event.ScrollEvent;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.BusyIndicator;
 import org.eclipse.swt.dnd.DragSource;
@@ -117,6 +121,24 @@ public class NatTable extends Canvas implements ILayer, PaintListener, IClientAr
 
     private final EventConflaterChain conflaterChain;
 
+    private RepaintScheduler repaintScheduler;
+
+    private boolean scrollBlittingEnabled = false;
+
+    /**
+     * The maximum number of tracked pending redraw regions, further regions
+     * are merged.
+     */
+    private static final int MAX_PENDING_REDRAW_REGIONS = 8;
+
+    /**
+     * The regions that are redrawn via partial repaints without a
+     * {@link RepaintScheduler} and are not painted yet. Only tracked if scroll
+     * blitting is enabled, so they can be redrawn at the moved location after
+     * scrolling.
+     */
+    private final List<Rectangle> pendingRedrawRegions = new ArrayList<>();
+
     private final List<IOverlayPainter> overlayPainters = new ArrayList<>();
 
     private final List<IPersistable> persistables = new LinkedList<>();
@@ -287,6 +309,9 @@ public NatTable(
         addDisposeListener(e -> {
             doCommand(new DisposeResourcesCommand());
             NatTable.this.conflaterChain.stop();
+            if (NatTable.this.repaintScheduler != null) {
+                NatTable.this.repaintScheduler.clear();
+            }
             layer.dispose();
 
             if (!PlatformHelper.isRAP()) {
@@ -546,7 +571,19 @@ public void removeOverlayPainter(IOverlayPainter overlayPainter) {
 
     @Override
     public void paintControl(final PaintEvent event) {
-        paintNatTable(event);
+        if (!this.pendingRedrawRegions.isEmpty()) {
+            Rectangle painted = new Rectangle(event.x, event.y, event.width, event.height);
+            this.pendingRedrawRegions.removeIf(region -> painted.union(region).equals(painted));
+        }
+
+        RepaintScheduler scheduler = this.repaintScheduler;
+        if (scheduler != null) {
+            long start = System.nanoTime();
+            paintNatTable(event);
+            scheduler.paintFinished(System.nanoTime() - start);
+        } else {
+            paintNatTable(event);
+        }
         this.initialPaintComplete = true;
     }
 
@@ -565,6 +602,179 @@ public void setLayerPainter(ILayerPainter layerPainter) {
         this.layerPainter = layerPainter;
     }
 
+    /**
+     *
+     * @return The {@link RepaintScheduler} that is used to accumulate partial
+     *         repaints, or <code>null</code> if partial repaints are executed
+     *         immediately.
+     * @since 2.7
+     */
+    public RepaintScheduler getRepaintScheduler() {
+        return this.repaintScheduler;
+    }
+
+    /**
+     * Set a {@link RepaintScheduler} that accumulates the regions of partial
+     * repaints, e.g. triggered via {@link #repaintCell(int, int)}, and redraws
+     * them once per frame. Also the full redraw triggered via
+     * {@link #updateResize()} is then paced by the scheduler. By default no
+     * scheduler is set and every repaint is triggered immediately.
+     *
+     * @param repaintScheduler
+     *            The {@link RepaintScheduler} to use, can be <code>null</code>
+     *            to redraw immediately.
+     * @since 2.7
+     */
+    public void setRepaintScheduler(RepaintScheduler repaintScheduler) {
+        RepaintScheduler old = this.repaintScheduler;
+        this.repaintScheduler = repaintScheduler;
+        if (old != null && old != repaintScheduler) {
+            old.flush();
+        }
+    }
+
+    /**
+     *
+     * @return <code>true</code> if the already painted pixels are moved on
+     *         scrolling, <code>false</code> if the table is repainted
+     *         completely.
+     * @since 2.7
+     */
+    public boolean isScrollBlittingEnabled() {
+        return this.scrollBlittingEnabled;
+    }
+
+    /**
+     * Configure whether the already painted pixels should be moved on
+     * scrolling. If enabled, the content of the scrolled viewport is moved
+     * via {@link #scroll(int, int, int, int, int, int, boolean)} and only the
+     * newly exposed area and the regions around the viewport, e.g. headers
+     * and frozen regions, are repainted. By default the whole table is
+     * repainted on scrolling.
+     * <p>
+     * <b>Note:</b> This only works if the content of the viewport is painted
+     * independently of the scroll position. Custom painters that paint
+     * decorations at fixed positions inside the viewport, like watermarks,
+     * should not be combined with this option.
+     * </p>
+     *
+     * @param scrollBlittingEnabled
+     *            <code>true</code> if the already painted pixels should be
+     *            moved on scrolling, <code>false</code> if the table should
+     *            be repainted completely.
+     * @since 2.7
+     */
+    public void setScrollBlittingEnabled(boolean scrollBlittingEnabled) {
+        this.scrollBlittingEnabled = scrollBlittingEnabled;
+        if (!scrollBlittingEnabled) {
+            this.pendingRedrawRegions.clear();
+        }
+    }
+
+    /**
+     * Moves the already painted pixels of the scrolled area and repaints the
+     * exposed area and the regions around the scrolled area.
+     *
+     * @param event
+     *            The {@link ScrollEvent} converted to the coordinates of this
+     *            table.
+     * @return <code>true</code> if the pixels were moved, <code>false</code>
+     *         if the table needs to be repainted completely.
+     */
+    private boolean blitScroll(ScrollEvent event) {
+        Rectangle area = event.getScrolledArea();
+        if (area == null
+                || isDisposed()
+                || !isVisible()
+                || !this.overlayPainters.isEmpty()
+                || (this.activeCellEditor != null && !this.activeCellEditor.isClosed())) {
+            return false;
+        }
+
+        Rectangle clientArea = getClientArea();
+        area = area.intersection(clientArea);
+        int dx = -event.getDeltaX();
+        int dy = -event.getDeltaY();
+        if ((dx == 0 && dy == 0)
+                || Math.abs(dx) >= area.width
+                || Math.abs(dy) >= area.height) {
+            return false;
+        }
+
+        // the viewport origin is already changed, so pending repaints can not
+        // be performed before the pixels are moved, as they would paint the
+        // new content at the old location
+        List<Rectangle> pending = new ArrayList<>(this.pendingRedrawRegions);
+        this.pendingRedrawRegions.clear();
+        if (this.repaintScheduler != null) {
+            Collections.addAll(pending, this.repaintScheduler.drainDirtyRegions());
+        }
+
+        // the area that is still visible after scrolling is moved, the
+        // exposed area is repainted by the scroll operation
+        int sourceX = area.x + Math.max(0, -dx);
+        int sourceY = area.y + Math.max(0, -dy);
+        scroll(sourceX + dx, sourceY + dy,
+                sourceX, sourceY,
+                area.width - Math.abs(dx), area.height - Math.abs(dy),
+                false);
+
+        // repaint the regions around the scrolled area, e.g. headers and
+        // frozen regions, as they might be affected by the scrolling
+        int right = area.x + area.width;
+        int bottom = area.y + area.height;
+        redraw(clientArea.x, clientArea.y, clientArea.width, area.y - clientArea.y, true);
+        redraw(clientArea.x, bottom, clientArea.width, clientArea.y + clientArea.height - bottom, true);
+        redraw(clientArea.x, area.y, area.x - clientArea.x, area.height, true);
+        redraw(right, area.y, clientArea.x + clientArea.width - right, area.height, true);
+
+        // the pixels of pending regions are outdated, redraw them at the old
+        // location and at the location they were moved to
+        for (Rectangle region : pending) {
+            redrawRegion(region.x, region.y, region.width, region.height);
+            Rectangle moved = new Rectangle(region.x + dx, region.y + dy, region.width, region.height).intersection(area);
+            if (!moved.isEmpty()) {
+                redrawRegion(moved.x, moved.y, moved.width, moved.height);
+            }
+        }
+
+        doCommand(new RecalculateScrollBarsCommand());
+        return true;
+    }
+
+    /**
+     * Redraws the given region either immediately or via the
+     * {@link RepaintScheduler} if one is set.
+     */
+    private void redrawRegion(int x, int y, int width, int height) {
+        RepaintScheduler scheduler = this.repaintScheduler;
+        if (scheduler != null) {
+            scheduler.addDirtyRegion(x, y, width, height);
+        } else {
+            if (this.scrollBlittingEnabled && width > 0 && height > 0) {
+                trackPendingRedrawRegion(new Rectangle(x, y, width, height));
+            }
+            redraw(x, y, width, height, true);
+        }
+    }
+
+    /**
+     * Remembers the given region as redrawn but not painted yet. If the
+     * maximum number of tracked regions is exceeded, all regions are merged.
+     */
+    private void trackPendingRedrawRegion(Rectangle region) {
+        if (this.pendingRedrawRegions.size() >= MAX_PENDING_REDRAW_REGIONS) {
+            Rectangle union = region;
+            for (Rectangle pending : this.pendingRedrawRegions) {
+                union = union.union(pending);
+            }
+            this.pendingRedrawRegions.clear();
+            this.pendingRedrawRegions.add(union);
+        } else {
+            this.pendingRedrawRegions.add(region);
+        }
+    }
+
     /**
      * Repaint only a specific column in the grid. This method is optimized so
      * that only the specific column is repainted and nothing else.
@@ -577,7 +787,7 @@ public void repaintColumn(int columnPosition) {
         if (xOffset < 0) {
             return;
         }
-        redraw(xOffset, 0, getColumnWidthByPosition(columnPosition), getHeight(), true);
+        redrawRegion(xOffset, 0, getColumnWidthByPosition(columnPosition), getHeight());
     }
 
     /**
@@ -592,7 +802,7 @@ public void repaintRow(int rowPosition) {
         if (yOffset < 0) {
             return;
         }
-        redraw(0, yOffset, getWidth(), getRowHeightByPosition(rowPosition), true);
+        redrawRegion(0, yOffset, getWidth(), getRowHeightByPosition(rowPosition));
     }
 
     /**
@@ -608,17 +818,15 @@ public void repaintCell(int columnPosition, int rowPosition) {
         ILayerCell cell = getCellByPosition(columnPosition, rowPosition);
         if (cell != null) {
             Rectangle bounds = cell.getBounds();
-            redraw(bounds.x,
+            redrawRegion(bounds.x,
                     bounds.y,
                     bounds.width,
-                    bounds.height,
-                    true);
+                    bounds.height);
         } else {
-            redraw(getStartXOfColumnPosition(columnPosition),
+            redrawRegion(getStartXOfColumnPosition(columnPosition),
                     getStartYOfRowPosition(rowPosition),
                     getColumnWidthByPosition(columnPosition),
-                    getRowHeightByPosition(rowPosition),
-                    true);
+                    getRowHeightByPosition(rowPosition));
         }
     }
 
@@ -629,7 +837,7 @@ public void repaintCell(int columnPosition, int rowPosition) {
     public void repaintHorizontalLeftOver() {
         int leftOverSpace = getClientArea().width - getWidth();
         if (leftOverSpace > 0)
-            redraw(getWidth(), 0, leftOverSpace, getHeight(), true);
+            redrawRegion(getWidth(), 0, leftOverSpace, getHeight());
     }
 
     /**
@@ -639,7 +847,7 @@ public void repaintHorizontalLeftOver() {
     public void repaintVerticalLeftOver() {
         int leftOverSpace = getClientArea().height - getHeight();
         if (leftOverSpace > 0)
-            redraw(0, getHeight(), getClientArea().width, leftOverSpace, true);
+            redrawRegion(0, getHeight(), getClientArea().width, leftOverSpace);
     }
 
     public void updateResize() {
@@ -659,7 +867,13 @@ private void updateResize(final boolean redraw) {
         }
         doCommand(new RecalculateScrollBarsCommand());
         if (redraw) {
-            redraw();
+            RepaintScheduler scheduler = this.repaintScheduler;
+            Rectangle clientArea = getClientArea();
+            if (scheduler != null && !clientArea.isEmpty()) {
+                scheduler.addDirtyRegion(clientArea.x, clientArea.y, clientArea.width, clientArea.height);
+            } else {
+                redraw();
+            }
         }
     }
 
@@ -766,6 +980,12 @@ public void handleLayerEvent(ILayerEvent event) {
             }
         }
 
+        if (event instanceof ScrollEvent
+                && this.scrollBlittingEnabled
+                && blitScroll((ScrollEvent) event)) {
+            return;
+        }
+
         if (event instanceof ISelectionEvent) {
             if (event instanceof CellSelectionEvent || event instanceof RowSelectionEvent) {
                 Event e = new Event();
@@ -1114,6 +1334,11 @@ public ILayerCell getCellByPosition(int columnPosition, int rowPosition) {
         return this.underlyingLayer.getCellByPosition(columnPosition, rowPosition);
     }
 
+    @Override
+    public ILayerCell getCellByPosition(int columnPosition, int rowPosition, MutableLayerCell cell) {
+        return this.underlyingLayer.getCellByPosition(columnPosition, rowPosition, cell);
+    }
+
     @Override
     public Rectangle getBoundsByPosition(int columnPosition, int rowPosition) {
         return this.underlyingLayer.getBoundsByPosition(columnPosition, rowPosition);
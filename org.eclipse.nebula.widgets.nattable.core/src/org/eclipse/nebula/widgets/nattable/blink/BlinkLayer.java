@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,7 @@
 import org.eclipse.nebula.widgets.nattable.layer.LabelStack;
 import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
 import org.eclipse.nebula.widgets.nattable.layer.event.ILayerEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.PropertyUpdateBatchEvent;
 import org.eclipse.nebula.widgets.nattable.layer.event.PropertyUpdateEvent;
 import org.eclipse.nebula.widgets.nattable.style.DisplayMode;
 import org.eclipse.swt.widgets.Display;
@@ -245,6 +246,10 @@ private Runnable getStopBlinkTask(final String key, final ILayer layer) {
     public void handleLayerEvent(ILayerEvent event) {
         if (this.blinkingEnabled && event instanceof PropertyUpdateEvent) {
             this.updateEventsCache.put((PropertyUpdateEvent<T>) event);
+        } else if (this.blinkingEnabled && event instanceof PropertyUpdateBatchEvent) {
+            for (PropertyUpdateEvent<T> update : ((PropertyUpdateBatchEvent<T>) event).getUpdates()) {
+                this.updateEventsCache.put(update);
+            }
         }
         super.handleLayerEvent(event);
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,11 +12,14 @@
  ******************************************************************************/
 package org.eclipse.nebula.widgets.nattable.config;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.nebula.widgets.nattable.style.ConfigAttribute;
 import org.eclipse.nebula.widgets.nattable.style.DefaultDisplayModeOrdering;
@@ -28,6 +31,20 @@ public class ConfigRegistry implements IConfigRegistry {
     // Map<configAttributeType, Map<displayMode, Map<configLabel, value>>>
     Map<ConfigAttribute<?>, EnumMap<DisplayMode, Map<String, ?>>> registry = new HashMap<>();
 
+    /**
+     * The maximum number of label combinations per config attribute and
+     * display mode that are kept in the {@link #resolvedCache}. If the limit
+     * is reached, the cached entries are discarded to avoid unbounded growth,
+     * e.g. with labels that contain row specific information.
+     */
+    private static final int MAX_CACHED_LABEL_COMBINATIONS = 1024;
+
+    // Map<configAttributeType, Map<displayMode, Map<configLabels, values>>>
+    // The values are stored in the order of precedence. The entries for a
+    // config attribute are removed whenever a value for that attribute is
+    // registered or unregistered.
+    private final Map<ConfigAttribute<?>, Map<DisplayMode, Map<List<String>, List<?>>>> resolvedCache = new ConcurrentHashMap<>();
+
     @Override
     public <T> T getConfigAttribute(
             ConfigAttribute<T> configAttribute,
@@ -65,13 +82,71 @@ public <T> T getConfigAttribute(
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> T getConfigAttribute(
             ConfigAttribute<T> configAttribute,
             DisplayMode targetDisplayMode,
             List<String> configLabels) {
 
-        T attributeValue = null;
+        List<T> values = getConfigAttributes(configAttribute, targetDisplayMode, configLabels);
+        return !values.isEmpty() ? values.get(0) : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The result is cached per config attribute, display mode and label
+     * combination. The cache is invalidated for a config attribute if a value
+     * for that attribute is registered or unregistered.
+     * </p>
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getConfigAttributes(
+            ConfigAttribute<T> configAttribute,
+            DisplayMode targetDisplayMode,
+            List<String> configLabels) {
+
+        if (!this.registry.containsKey(configAttribute)) {
+            return Collections.emptyList();
+        }
+
+        Map<List<String>, List<?>> labelCache = this.resolvedCache
+                .computeIfAbsent(configAttribute, ca -> new ConcurrentHashMap<>())
+                .computeIfAbsent(targetDisplayMode, dm -> new ConcurrentHashMap<>());
+
+        List<T> values = (List<T>) labelCache.get(configLabels);
+        if (values == null) {
+            values = resolveConfigAttributes(configAttribute, targetDisplayMode, configLabels);
+            if (labelCache.size() >= MAX_CACHED_LABEL_COMBINATIONS) {
+                labelCache.clear();
+            }
+            // copy the labels as the passed list could be modified afterwards
+            labelCache.put(new ArrayList<>(configLabels), values);
+        }
+        return values;
+    }
+
+    /**
+     * Search the registry for all values of the given config attribute that
+     * match the given display mode and config labels.
+     *
+     * @param configAttribute
+     *            The configuration attribute for which the values are
+     *            requested.
+     * @param targetDisplayMode
+     *            The display mode the cell needs to be in.
+     * @param configLabels
+     *            The config labels of the cell.
+     * @return The unmodifiable list of matching values in the order of
+     *         precedence.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> List<T> resolveConfigAttributes(
+            ConfigAttribute<T> configAttribute,
+            DisplayMode targetDisplayMode,
+            List<String> configLabels) {
+
+        List<T> values = new ArrayList<>();
 
         EnumMap<DisplayMode, Map<String, ?>> displayModeConfigAttributeMap = this.registry.get(configAttribute);
         if (displayModeConfigAttributeMap != null) {
@@ -79,22 +154,22 @@ public <T> T getConfigAttribute(
                 Map<String, T> configAttributeMap = (Map<String, T>) displayModeConfigAttributeMap.get(displayMode);
                 if (configAttributeMap != null) {
                     for (String configLabel : configLabels) {
-                        attributeValue = configAttributeMap.get(configLabel);
+                        T attributeValue = configAttributeMap.get(configLabel);
                         if (attributeValue != null) {
-                            return attributeValue;
+                            values.add(attributeValue);
                         }
                     }
 
                     // default config type
-                    attributeValue = configAttributeMap.get(null);
+                    T attributeValue = configAttributeMap.get(null);
                     if (attributeValue != null) {
-                        return attributeValue;
+                        values.add(attributeValue);
                     }
                 }
             }
         }
 
-        return attributeValue;
+        return values.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(values);
     }
 
     @Override
@@ -199,6 +274,8 @@ public <T> void registerConfigAttribute(
                 (Map<String, T>) displayModeConfigAttributeMap.computeIfAbsent(targetDisplayMode, dm -> new HashMap<>());
 
         configAttributeMap.put(configLabel, attributeValue);
+
+        this.resolvedCache.remove(configAttribute);
     }
 
     @Override
@@ -259,6 +336,8 @@ public <T> void unregisterConfigAttribute(
                 configAttributeMap.remove(configLabel);
             }
         }
+
+        this.resolvedCache.remove(configAttributeType);
     }
 
     // Display mode ordering //////////////////////////////////////////////////
@@ -272,6 +351,7 @@ public IDisplayModeOrdering getDisplayModeOrdering() {
 
     public void setDisplayModeOrdering(IDisplayModeOrdering displayModeOrdering) {
         this.displayModeOrdering = displayModeOrdering;
+        this.resolvedCache.clear();
     }
 
 }
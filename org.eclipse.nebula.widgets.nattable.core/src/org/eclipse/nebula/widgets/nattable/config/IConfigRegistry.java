@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,6 +12,7 @@
  ******************************************************************************/
 package org.eclipse.nebula.widgets.nattable.config;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.nebula.widgets.nattable.style.ConfigAttribute;
@@ -285,6 +286,59 @@ public <T> T getSpecificConfigAttribute(
             DisplayMode displayMode,
             String configLabel);
 
+    /**
+     * Retrieve all configuration values that match the specified DisplayMode
+     * and config labels, in the order of their precedence. The order is the
+     * same that is used by
+     * {@link #getConfigAttribute(ConfigAttribute, DisplayMode, List)} to
+     * search for a value, so the first element of the returned list is the
+     * value that would be returned by that method. This is for example used
+     * to resolve the styles that need to be inspected for a cell, which
+     * avoids searching the registry again for every single style attribute.
+     * <p>
+     * Implementations may cache the result, therefore the returned list must
+     * not be modified.
+     * </p>
+     *
+     * @param <T>
+     *            The type of the configuration attribute.
+     * @param configAttribute
+     *            The configuration attribute for which the values are
+     *            requested.
+     * @param targetDisplayMode
+     *            The display mode the cell needs to be in for an attribute to
+     *            be returned.
+     * @param configLabels
+     *            The config labels of the cell.
+     * @return The matching configuration values in the order of precedence,
+     *         or an empty list if no value for the specified parameters was
+     *         found.
+     *
+     * @since 2.7
+     */
+    default <T> List<T> getConfigAttributes(
+            ConfigAttribute<T> configAttribute,
+            DisplayMode targetDisplayMode,
+            List<String> configLabels) {
+
+        List<T> result = new ArrayList<>();
+        for (DisplayMode displayMode : getDisplayModeOrdering().getDisplayModeOrdering(targetDisplayMode)) {
+            for (String configLabel : configLabels) {
+                T value = getSpecificConfigAttribute(configAttribute, displayMode, configLabel);
+                if (value != null) {
+                    result.add(value);
+                }
+            }
+
+            // default config type
+            T value = getSpecificConfigAttribute(configAttribute, displayMode, null);
+            if (value != null) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
     /**
      * Register a configuration attribute.
      *
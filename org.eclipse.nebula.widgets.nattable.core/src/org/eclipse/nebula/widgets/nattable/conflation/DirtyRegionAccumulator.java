@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.conflation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.swt.graphics.Rectangle;
+
+/**
+ * Collects dirty rectangles and merges them into a small number of regions.
+ * Rectangles that are contained in a region are dropped, rectangles that can
+ * be merged with a region without covering additional pixels, e.g. adjacent
+ * cells of the same row, are merged directly. If the maximum number of
+ * regions is exceeded, the two regions whose union covers the least
+ * additional pixels are merged.
+ * <p>
+ * Not thread safe, the {@link RepaintScheduler} synchronizes the access.
+ * </p>
+ *
+ * @since 2.7
+ */
+final class DirtyRegionAccumulator {
+
+    private final int maxRegions;
+    private final List<Rectangle> regions = new ArrayList<>();
+
+    /**
+     *
+     * @param maxRegions
+     *            The maximum number of regions that are kept.
+     */
+    DirtyRegionAccumulator(int maxRegions) {
+        this.maxRegions = Math.max(1, maxRegions);
+    }
+
+    /**
+     * Adds the given rectangle to the dirty regions.
+     *
+     * @param rectangle
+     *            The dirty rectangle. Empty rectangles are ignored.
+     */
+    void add(Rectangle rectangle) {
+        if (rectangle.width <= 0 || rectangle.height <= 0) {
+            return;
+        }
+
+        Rectangle region = rectangle;
+        boolean merged = true;
+        while (merged) {
+            merged = false;
+            for (int i = 0; i < this.regions.size(); i++) {
+                Rectangle existing = this.regions.get(i);
+                if (contains(existing, region)) {
+                    return;
+                }
+                if (contains(region, existing) || getWaste(existing, region) <= 0) {
+                    // merge and check the result again against the other
+                    // regions
+                    this.regions.remove(i);
+                    region = existing.union(region);
+                    merged = true;
+                    break;
+                }
+            }
+        }
+        this.regions.add(region);
+
+        while (this.regions.size() > this.maxRegions) {
+            mergeCheapestPair();
+        }
+    }
+
+    /**
+     * Merges the two regions whose union covers the least additional pixels.
+     */
+    private void mergeCheapestPair() {
+        int first = 0;
+        int second = 1;
+        long minWaste = Long.MAX_VALUE;
+        for (int i = 0; i < this.regions.size(); i++) {
+            for (int j = i + 1; j < this.regions.size(); j++) {
+                long waste = getWaste(this.regions.get(i), this.regions.get(j));
+                if (waste < minWaste) {
+                    minWaste = waste;
+                    first = i;
+                    second = j;
+                }
+            }
+        }
+        Rectangle union = this.regions.get(first).union(this.regions.get(second));
+        this.regions.remove(second);
+        this.regions.remove(first);
+        add(union);
+    }
+
+    /**
+     * @return The number of pixels that are covered by the union of the given
+     *         rectangles but not by the rectangles themselves.
+     */
+    private static long getWaste(Rectangle r1, Rectangle r2) {
+        Rectangle union = r1.union(r2);
+        Rectangle intersection = r1.intersection(r2);
+        return area(union) - area(r1) - area(r2) + area(intersection);
+    }
+
+    private static long area(Rectangle rectangle) {
+        if (rectangle.width <= 0 || rectangle.height <= 0) {
+            return 0;
+        }
+        return (long) rectangle.width * rectangle.height;
+    }
+
+    private static boolean contains(Rectangle outer, Rectangle inner) {
+        return inner.x >= outer.x
+                && inner.y >= outer.y
+                && inner.x + inner.width <= outer.x + outer.width
+                && inner.y + inner.height <= outer.y + outer.height;
+    }
+
+    /**
+     *
+     * @return <code>true</code> if there are no dirty regions.
+     */
+    boolean isEmpty() {
+        return this.regions.isEmpty();
+    }
+
+    /**
+     * Returns the current dirty regions and removes them from this
+     * accumulator.
+     *
+     * @return The merged dirty regions.
+     */
+    Rectangle[] drain() {
+        Rectangle[] result = this.regions.toArray(new Rectangle[this.regions.size()]);
+        this.regions.clear();
+        return result;
+    }
+}
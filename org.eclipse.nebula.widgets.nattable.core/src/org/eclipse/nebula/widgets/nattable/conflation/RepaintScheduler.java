@@ -0,0 +1,220 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.conflation;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.nebula.widgets.nattable.NatTable;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * Accumulates the dirty regions of a {@link NatTable} between two frames and
+ * triggers one redraw per merged region once per frame. Adjacent and
+ * overlapping regions are merged, and the number of regions per frame is
+ * limited, so a burst of cell updates results in only a few redraw calls.
+ * <p>
+ * The frame interval adapts to the measured paint time: it is twice the
+ * average paint duration reported via {@link #paintFinished(long)}, limited
+ * by the configured minimum and maximum interval. This way a table that
+ * paints fast is updated with a high frame rate, while a table that paints
+ * slowly does not get flooded with repaint requests.
+ * </p>
+ * <p>
+ * Dirty regions can be added from any thread, the redraw is always executed
+ * in the UI thread.
+ * </p>
+ *
+ * @see NatTable#setRepaintScheduler(RepaintScheduler)
+ * @since 2.7
+ */
+public class RepaintScheduler {
+
+    /**
+     * The default maximum number of regions that are redrawn per frame.
+     */
+    public static final int DEFAULT_MAX_REGIONS = 8;
+    /**
+     * The default minimum frame interval in milliseconds, which is about 60
+     * frames per second.
+     */
+    public static final long DEFAULT_MIN_INTERVAL = 16;
+    /**
+     * The default maximum frame interval in milliseconds.
+     */
+    public static final long DEFAULT_MAX_INTERVAL = 200;
+
+    /**
+     * The weight of a new paint duration measurement in the moving average.
+     */
+    private static final double SMOOTHING_FACTOR = 0.2;
+
+    private final NatTable natTable;
+    private final DirtyRegionAccumulator regions;
+    private final long minInterval;
+    private final long maxInterval;
+
+    private final Runnable flushTask = this::flush;
+
+    /**
+     * The exponential moving average of the paint duration in nanoseconds.
+     */
+    private volatile double averagePaintNanos;
+    /**
+     * The time of the last flush as returned by {@link System#nanoTime()}.
+     */
+    private long lastFlush;
+    private boolean scheduled;
+
+    /**
+     * Creates a {@link RepaintScheduler} with the default settings.
+     *
+     * @param natTable
+     *            The {@link NatTable} that should be redrawn.
+     */
+    public RepaintScheduler(NatTable natTable) {
+        this(natTable, DEFAULT_MAX_REGIONS, DEFAULT_MIN_INTERVAL, DEFAULT_MAX_INTERVAL);
+    }
+
+    /**
+     *
+     * @param natTable
+     *            The {@link NatTable} that should be redrawn.
+     * @param maxRegions
+     *            The maximum number of regions that are redrawn per frame.
+     * @param minInterval
+     *            The minimum frame interval in milliseconds.
+     * @param maxInterval
+     *            The maximum frame interval in milliseconds.
+     */
+    public RepaintScheduler(NatTable natTable, int maxRegions, long minInterval, long maxInterval) {
+        if (minInterval < 0 || maxInterval < minInterval) {
+            throw new IllegalArgumentException("Invalid frame interval bounds"); //$NON-NLS-1$
+        }
+        this.natTable = natTable;
+        this.regions = new DirtyRegionAccumulator(maxRegions);
+        this.minInterval = minInterval;
+        this.maxInterval = maxInterval;
+    }
+
+    /**
+     * Marks the given region of the {@link NatTable} as dirty. The region is
+     * redrawn with the next frame.
+     *
+     * @param x
+     *            The x coordinate of the region.
+     * @param y
+     *            The y coordinate of the region.
+     * @param width
+     *            The width of the region.
+     * @param height
+     *            The height of the region.
+     */
+    public void addDirtyRegion(int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        synchronized (this.regions) {
+            this.regions.add(new Rectangle(x, y, width, height));
+            if (this.scheduled) {
+                return;
+            }
+            this.scheduled = true;
+        }
+        schedule();
+    }
+
+    private void schedule() {
+        if (this.natTable.isDisposed()) {
+            return;
+        }
+        Display display = this.natTable.getDisplay();
+        long delay;
+        synchronized (this.regions) {
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.lastFlush);
+            delay = getInterval() - elapsed;
+        }
+        if (delay > 0 && display.getThread() == Thread.currentThread()) {
+            display.timerExec((int) delay, this.flushTask);
+        } else {
+            // Display#timerExec() is only allowed in the UI thread, and there
+            // is no need to wait if the last frame is long enough ago
+            display.asyncExec(this.flushTask);
+        }
+    }
+
+    /**
+     * Redraws all dirty regions. Needs to be called in the UI thread.
+     */
+    public void flush() {
+        Rectangle[] dirty;
+        synchronized (this.regions) {
+            this.scheduled = false;
+            this.lastFlush = System.nanoTime();
+            dirty = this.regions.drain();
+        }
+        if (this.natTable.isDisposed()) {
+            return;
+        }
+        for (Rectangle region : dirty) {
+            this.natTable.redraw(region.x, region.y, region.width, region.height, true);
+        }
+    }
+
+    /**
+     * Informs the scheduler about the duration of a paint operation. Used to
+     * adapt the frame interval.
+     *
+     * @param paintNanos
+     *            The duration of the paint operation in nanoseconds.
+     */
+    public void paintFinished(long paintNanos) {
+        double average = this.averagePaintNanos;
+        if (average <= 0) {
+            this.averagePaintNanos = paintNanos;
+        } else {
+            this.averagePaintNanos = average + SMOOTHING_FACTOR * (paintNanos - average);
+        }
+    }
+
+    /**
+     *
+     * @return The current frame interval in milliseconds, which is twice the
+     *         average paint duration limited to the configured interval
+     *         bounds.
+     */
+    public long getInterval() {
+        long interval = (long) (2 * this.averagePaintNanos / TimeUnit.MILLISECONDS.toNanos(1));
+        return Math.max(this.minInterval, Math.min(this.maxInterval, interval));
+    }
+
+    /**
+     * Removes all pending dirty regions without redrawing them.
+     */
+    public void clear() {
+        drainDirtyRegions();
+    }
+
+    /**
+     * Removes all pending dirty regions without redrawing them and returns
+     * them, e.g. to redraw them at a different location after the content was
+     * moved.
+     *
+     * @return The pending dirty regions.
+     */
+    public Rectangle[] drainDirtyRegions() {
+        synchronized (this.regions) {
+            return this.regions.drain();
+        }
+    }
+}
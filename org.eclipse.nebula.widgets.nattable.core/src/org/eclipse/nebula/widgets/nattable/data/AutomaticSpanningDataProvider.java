@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2020 Dirk Fauth and others.
+ * Copyright (c) 2013, 2026 Dirk Fauth and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -15,11 +15,29 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.StringTokenizer;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+
+import org.eclipse.collections.api.factory.primitive.IntLists;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.nebula.widgets.nattable.coordinate.Range;
+import org.eclipse.nebula.widgets.nattable.edit.event.DataUpdateEvent;
+import org.eclipse.nebula.widgets.nattable.layer.ILayerListener;
 import org.eclipse.nebula.widgets.nattable.layer.cell.DataCell;
+import org.eclipse.nebula.widgets.nattable.layer.event.ILayerEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.IStructuralChangeEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.StructuralDiff;
+import org.eclipse.nebula.widgets.nattable.layer.event.StructuralDiff.DiffTypeEnum;
 import org.eclipse.nebula.widgets.nattable.persistence.IPersistable;
 
 /**
@@ -43,8 +61,20 @@
  * implemented that checks every columns and row by building the spanning cell
  * for the matching rectangle. As this would be quite time consuming
  * calculations, this is not supported out of the box by NatTable.
+ * <p>
+ * By default the spanning is calculated on every access by comparing the
+ * neighbour values, which costs O(span) per cell. For long spans the
+ * run-length span index can be enabled via
+ * {@link #setSpanIndexEnabled(boolean)}. The index stores the span starts per
+ * column and row, is built lazily in the background on first access and makes
+ * span lookups O(log n). Until the index for a column or row is built, the
+ * spanning is calculated by comparing the values. To keep the index up to date
+ * on data and structural changes, this AutomaticSpanningDataProvider needs to
+ * be registered as {@link ILayerListener} on the SpanningDataLayer it is used
+ * with. If the data is changed without firing an event, the index needs to be
+ * cleared via {@link #clearSpanIndex()}.
  */
-public class AutomaticSpanningDataProvider implements ISpanningDataProvider, IPersistable {
+public class AutomaticSpanningDataProvider implements ISpanningDataProvider, IPersistable, ILayerListener {
 
     public static final String PERSISTENCE_KEY_AUTO_COLUMN_SPAN = ".autoColumnSpan"; //$NON-NLS-1$
     public static final String PERSISTENCE_KEY_AUTO_ROW_SPAN = ".autoRowSpan"; //$NON-NLS-1$
@@ -80,6 +110,41 @@ public class AutomaticSpanningDataProvider implements ISpanningDataProvider, IPe
      */
     private List<Integer> autoSpanRows = new ArrayList<>();
 
+    /**
+     * Flag to configure whether the run-length span index should be used.
+     */
+    private boolean spanIndexEnabled = false;
+    /**
+     * The {@link Executor} that is used to build the span indexes.
+     */
+    private Executor spanIndexExecutor;
+    /**
+     * The row span indexes per column position.
+     */
+    private final Map<Integer, SpanRunIndex> rowSpanIndexes = new ConcurrentHashMap<>();
+    /**
+     * The column span indexes per row position.
+     */
+    private final Map<Integer, SpanRunIndex> columnSpanIndexes = new ConcurrentHashMap<>();
+    /**
+     * The column positions for which a row span index is currently built.
+     */
+    private final Set<Integer> pendingRowSpanIndexes = ConcurrentHashMap.newKeySet();
+    /**
+     * The row positions for which a column span index is currently built.
+     */
+    private final Set<Integer> pendingColumnSpanIndexes = ConcurrentHashMap.newKeySet();
+    /**
+     * Lock to ensure that span indexes that are built in the background are
+     * not published if the data was changed in the meanwhile.
+     */
+    private final Object spanIndexLock = new Object();
+    /**
+     * Counter that is increased on every change of the data or the
+     * configuration. Guarded by {@link #spanIndexLock}.
+     */
+    private int spanIndexModCount = 0;
+
     /**
      *
      * @param underlyingDataProvider
@@ -204,6 +269,7 @@ private boolean isAutoSpanRow(int rowPosition) {
      */
     public void addAutoSpanningColumnPositions(Integer... columnPositions) {
         this.autoSpanColumns.addAll(Arrays.asList(columnPositions));
+        clearSpanIndex();
     }
 
     /**
@@ -217,6 +283,7 @@ public void addAutoSpanningColumnPositions(Integer... columnPositions) {
      */
     public void addAutoSpanningRowPositions(Integer... rowPositions) {
         this.autoSpanRows.addAll(Arrays.asList(rowPositions));
+        clearSpanIndex();
     }
 
     /**
@@ -227,6 +294,7 @@ public void addAutoSpanningRowPositions(Integer... rowPositions) {
      */
     public void removeAutoSpanningColumnPositions(Integer... columnPositions) {
         this.autoSpanColumns.removeAll(Arrays.asList(columnPositions));
+        clearSpanIndex();
     }
 
     /**
@@ -237,6 +305,7 @@ public void removeAutoSpanningColumnPositions(Integer... columnPositions) {
      */
     public void removeAutoSpanningRowPositions(Integer... rowPositions) {
         this.autoSpanRows.removeAll(Arrays.asList(rowPositions));
+        clearSpanIndex();
     }
 
     /**
@@ -247,6 +316,7 @@ public void removeAutoSpanningRowPositions(Integer... rowPositions) {
      */
     public void clearAutoSpanningColumnPositions() {
         this.autoSpanColumns.clear();
+        clearSpanIndex();
     }
 
     /**
@@ -257,6 +327,7 @@ public void clearAutoSpanningColumnPositions() {
      */
     public void clearAutoSpanningRowPositions() {
         this.autoSpanRows.clear();
+        clearSpanIndex();
     }
 
     /**
@@ -273,6 +344,11 @@ public void clearAutoSpanningRowPositions() {
      *         position if it is not spanned with the columns to the left.
      */
     protected int getStartColumnPosition(int columnPosition, int rowPosition) {
+        SpanRunIndex index = getColumnSpanIndex(rowPosition);
+        if (index != null && columnPosition >= 0 && columnPosition < index.length()) {
+            return index.getStart(columnPosition);
+        }
+
         int columnPos;
         for (columnPos = columnPosition; columnPos >= 0; columnPos--) {
             if (columnPos <= 0 || !isAutoSpanColumn(columnPos)
@@ -308,6 +384,11 @@ protected int getStartColumnPosition(int columnPosition, int rowPosition) {
      *         position if it is not spanned with rows above.
      */
     protected int getStartRowPosition(int columnPosition, int rowPosition) {
+        SpanRunIndex index = getRowSpanIndex(columnPosition);
+        if (index != null && rowPosition >= 0 && rowPosition < index.length()) {
+            return index.getStart(rowPosition);
+        }
+
         int rowPos;
         for (rowPos = rowPosition; rowPos >= 0; rowPos--) {
             if (rowPos <= 0 || !isAutoSpanRow(rowPos)
@@ -339,6 +420,11 @@ protected int getStartRowPosition(int columnPosition, int rowPosition) {
      * @return The number of columns to span
      */
     protected int getColumnSpan(int columnPosition, int rowPosition) {
+        SpanRunIndex index = getColumnSpanIndex(rowPosition);
+        if (index != null && columnPosition >= 0 && columnPosition < index.length()) {
+            return index.getEnd(columnPosition) - columnPosition;
+        }
+
         int span = 1;
 
         while (columnPosition < getColumnCount() - 1
@@ -364,6 +450,11 @@ && isAutoSpanColumn(columnPosition + 1)
      * @return The number of rows to span
      */
     protected int getRowSpan(int columnPosition, int rowPosition) {
+        SpanRunIndex index = getRowSpanIndex(columnPosition);
+        if (index != null && rowPosition >= 0 && rowPosition < index.length()) {
+            return index.getEnd(rowPosition) - rowPosition;
+        }
+
         int span = 1;
 
         while (rowPosition < getRowCount() - 1
@@ -498,5 +589,335 @@ public void loadState(String prefix, Properties properties) {
 
             this.autoSpanRows.addAll(newAutoSpanRows);
         }
+
+        clearSpanIndex();
+    }
+
+    /**
+     *
+     * @return <code>true</code> if the run-length span index is used to
+     *         calculate the spanning.
+     * @since 2.7
+     */
+    public boolean isSpanIndexEnabled() {
+        return this.spanIndexEnabled;
+    }
+
+    /**
+     * Configure whether the run-length span index should be used to calculate
+     * the spanning. The index is built lazily in the background for every
+     * column and row that is accessed. Disabling the index removes all
+     * indexes.
+     * <p>
+     * <b>Note: </b>To keep the index up to date on data and structural
+     * changes, this AutomaticSpanningDataProvider needs to be registered as
+     * {@link ILayerListener} on the SpanningDataLayer it is used with.
+     * </p>
+     *
+     * @param spanIndexEnabled
+     *            <code>true</code> to use the run-length span index,
+     *            <code>false</code> to calculate the spanning by comparing the
+     *            values on every access.
+     * @since 2.7
+     */
+    public void setSpanIndexEnabled(boolean spanIndexEnabled) {
+        this.spanIndexEnabled = spanIndexEnabled;
+        clearSpanIndex();
+    }
+
+    /**
+     * Set the {@link Executor} that is used to build the span indexes. If no
+     * {@link Executor} is set, a single background thread is used. Setting an
+     * {@link Executor} that runs the task in the calling thread, e.g.
+     * <code>Runnable::run</code>, builds the index synchronously on first
+     * access.
+     *
+     * @param executor
+     *            The {@link Executor} that should be used to build the span
+     *            indexes.
+     * @since 2.7
+     */
+    public void setSpanIndexExecutor(Executor executor) {
+        this.spanIndexExecutor = executor;
+    }
+
+    /**
+     * Removes all span indexes. The indexes are built again on the next
+     * access. Needs to be called if the data was changed without firing an
+     * event.
+     *
+     * @since 2.7
+     */
+    public void clearSpanIndex() {
+        synchronized (this.spanIndexLock) {
+            this.spanIndexModCount++;
+            this.rowSpanIndexes.clear();
+            this.columnSpanIndexes.clear();
+        }
+    }
+
+    /**
+     * Returns the {@link Executor} that is used to build the span indexes and
+     * creates the default one if none was set.
+     *
+     * @return The {@link Executor} that is used to build the span indexes.
+     */
+    private synchronized Executor getSpanIndexExecutor() {
+        if (this.spanIndexExecutor == null) {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    1,
+                    1,
+                    5000,
+                    TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>());
+            executor.allowCoreThreadTimeOut(true);
+            this.spanIndexExecutor = executor;
+        }
+        return this.spanIndexExecutor;
+    }
+
+    /**
+     * Returns the row span index for the given column position. If the index
+     * is not built yet, it is scheduled to be built.
+     *
+     * @param columnPosition
+     *            The column position whose row span index is requested.
+     * @return The row span index for the given column position or
+     *         <code>null</code> if the index is disabled or not built yet.
+     */
+    private SpanRunIndex getRowSpanIndex(int columnPosition) {
+        if (!this.spanIndexEnabled) {
+            return null;
+        }
+        SpanRunIndex index = this.rowSpanIndexes.get(columnPosition);
+        if (index == null || index.length() != getRowCount()) {
+            // not built yet or the data was changed without an event
+            this.rowSpanIndexes.remove(columnPosition);
+            scheduleSpanIndex(columnPosition, true);
+            // the index is available immediately for synchronous executors
+            index = this.rowSpanIndexes.get(columnPosition);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the column span index for the given row position. If the index
+     * is not built yet, it is scheduled to be built.
+     *
+     * @param rowPosition
+     *            The row position whose column span index is requested.
+     * @return The column span index for the given row position or
+     *         <code>null</code> if the index is disabled or not built yet.
+     */
+    private SpanRunIndex getColumnSpanIndex(int rowPosition) {
+        if (!this.spanIndexEnabled) {
+            return null;
+        }
+        SpanRunIndex index = this.columnSpanIndexes.get(rowPosition);
+        if (index == null || index.length() != getColumnCount()) {
+            // not built yet or the data was changed without an event
+            this.columnSpanIndexes.remove(rowPosition);
+            scheduleSpanIndex(rowPosition, false);
+            // the index is available immediately for synchronous executors
+            index = this.columnSpanIndexes.get(rowPosition);
+        }
+        return index;
+    }
+
+    /**
+     * Schedules the creation of a span index if it is not already scheduled.
+     * The created index is only published if the data and the configuration
+     * were not changed while it was built.
+     *
+     * @param position
+     *            The column position for a row span index, the row position for
+     *            a column span index.
+     * @param rowSpan
+     *            <code>true</code> to build a row span index,
+     *            <code>false</code> to build a column span index.
+     */
+    private void scheduleSpanIndex(int position, boolean rowSpan) {
+        Set<Integer> pending = rowSpan ? this.pendingRowSpanIndexes : this.pendingColumnSpanIndexes;
+        if (!pending.add(position)) {
+            return;
+        }
+
+        int modCount;
+        synchronized (this.spanIndexLock) {
+            modCount = this.spanIndexModCount;
+        }
+
+        getSpanIndexExecutor().execute(() -> {
+            try {
+                SpanRunIndex index = rowSpan
+                        ? new SpanRunIndex(getRowCount(), row -> isRowSpanStart(position, row))
+                        : new SpanRunIndex(getColumnCount(), column -> isColumnSpanStart(column, position));
+
+                synchronized (this.spanIndexLock) {
+                    if (this.spanIndexEnabled && modCount == this.spanIndexModCount) {
+                        (rowSpan ? this.rowSpanIndexes : this.columnSpanIndexes).put(position, index);
+                    }
+                }
+            } catch (RuntimeException e) {
+                // the data was changed while the index was built, it is
+                // built again on the next access
+            } finally {
+                pending.remove(position);
+            }
+        });
+    }
+
+    /**
+     * Checks if a row span starts at the given row position in the given
+     * column. Uses the same checks as {@link #getStartRowPosition(int, int)}.
+     *
+     * @param columnPosition
+     *            The column position to check.
+     * @param rowPosition
+     *            The row position to check.
+     * @return <code>true</code> if the cell is not spanned with the cell
+     *         above.
+     */
+    private boolean isRowSpanStart(int columnPosition, int rowPosition) {
+        return rowPosition <= 0
+                || !isAutoSpanRow(rowPosition)
+                || !isAutoSpanRow(rowPosition - 1)
+                || valuesNotEqual(
+                        getDataValue(columnPosition, rowPosition),
+                        getDataValue(columnPosition, rowPosition - 1));
+    }
+
+    /**
+     * Checks if a column span starts at the given column position in the given
+     * row. Uses the same checks as {@link #getStartColumnPosition(int, int)}.
+     *
+     * @param columnPosition
+     *            The column position to check.
+     * @param rowPosition
+     *            The row position to check.
+     * @return <code>true</code> if the cell is not spanned with the cell to
+     *         the left.
+     */
+    private boolean isColumnSpanStart(int columnPosition, int rowPosition) {
+        return columnPosition <= 0
+                || !isAutoSpanColumn(columnPosition)
+                || !isAutoSpanColumn(columnPosition - 1)
+                || valuesNotEqual(
+                        getDataValue(columnPosition, rowPosition),
+                        getDataValue(columnPosition - 1, rowPosition));
+    }
+
+    @Override
+    public void handleLayerEvent(ILayerEvent event) {
+        if (!this.spanIndexEnabled) {
+            return;
+        }
+
+        if (event instanceof DataUpdateEvent) {
+            DataUpdateEvent updateEvent = (DataUpdateEvent) event;
+            int columnPosition = updateEvent.getColumnPosition();
+            int rowPosition = updateEvent.getRowPosition();
+
+            synchronized (this.spanIndexLock) {
+                this.spanIndexModCount++;
+
+                // the updated cell can start or end a span
+                SpanRunIndex rowSpanIndex = this.rowSpanIndexes.get(columnPosition);
+                if (rowSpanIndex != null) {
+                    IntPredicate isStart = row -> isRowSpanStart(columnPosition, row);
+                    rowSpanIndex.update(rowPosition, isStart);
+                    rowSpanIndex.update(rowPosition + 1, isStart);
+                }
+                SpanRunIndex columnSpanIndex = this.columnSpanIndexes.get(rowPosition);
+                if (columnSpanIndex != null) {
+                    IntPredicate isStart = column -> isColumnSpanStart(column, rowPosition);
+                    columnSpanIndex.update(columnPosition, isStart);
+                    columnSpanIndex.update(columnPosition + 1, isStart);
+                }
+            }
+        } else if (event instanceof IStructuralChangeEvent) {
+            IStructuralChangeEvent structuralEvent = (IStructuralChangeEvent) event;
+            synchronized (this.spanIndexLock) {
+                if (structuralEvent.isVerticalStructureChanged()) {
+                    handleStructuralDiffs(structuralEvent.getRowDiffs(), true);
+                }
+                if (structuralEvent.isHorizontalStructureChanged()) {
+                    handleStructuralDiffs(structuralEvent.getColumnDiffs(), false);
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the span indexes for the given structural diffs. Inserted and
+     * deleted positions are applied incrementally to the span indexes along
+     * the changed dimension, while the indexes that are stored by the changed
+     * positions are removed. Needs to be called while holding the
+     * {@link #spanIndexLock}.
+     *
+     * @param diffs
+     *            The structural diffs to apply, can be <code>null</code> which
+     *            means the whole structure has changed.
+     * @param vertical
+     *            <code>true</code> if the diffs are row diffs,
+     *            <code>false</code> if the diffs are column diffs.
+     */
+    private void handleStructuralDiffs(Collection<StructuralDiff> diffs, boolean vertical) {
+        // the indexes along the changed dimension
+        Map<Integer, SpanRunIndex> spanIndexes = vertical ? this.rowSpanIndexes : this.columnSpanIndexes;
+        // the indexes that are stored by the changed positions
+        Map<Integer, SpanRunIndex> keyedIndexes = vertical ? this.columnSpanIndexes : this.rowSpanIndexes;
+
+        if (diffs == null) {
+            this.spanIndexModCount++;
+            spanIndexes.clear();
+            keyedIndexes.clear();
+            return;
+        }
+
+        MutableIntList added = IntLists.mutable.empty();
+        MutableIntList deleted = IntLists.mutable.empty();
+        for (StructuralDiff diff : diffs) {
+            if (diff.getDiffType() == DiffTypeEnum.ADD) {
+                Range range = diff.getAfterPositionRange();
+                for (int i = range.start; i < range.end; i++) {
+                    added.add(i);
+                }
+            } else if (diff.getDiffType() == DiffTypeEnum.DELETE) {
+                Range range = diff.getBeforePositionRange();
+                for (int i = range.start; i < range.end; i++) {
+                    deleted.add(i);
+                }
+            }
+        }
+
+        if (added.isEmpty() && deleted.isEmpty()) {
+            // e.g. resize events do not change the data
+            return;
+        }
+
+        this.spanIndexModCount++;
+        keyedIndexes.clear();
+
+        boolean autoSpanPositionsConfigured = vertical ? !this.autoSpanRows.isEmpty() : !this.autoSpanColumns.isEmpty();
+        if (autoSpanPositionsConfigured || (!added.isEmpty() && !deleted.isEmpty())) {
+            // the configured auto span positions do not move with the data and
+            // mixed diffs are based on different states, so rebuild
+            spanIndexes.clear();
+            return;
+        }
+
+        MutableIntList changed = added.isEmpty() ? deleted.distinct().sortThis() : added.distinct().sortThis();
+        for (Map.Entry<Integer, SpanRunIndex> entry : spanIndexes.entrySet()) {
+            int key = entry.getKey();
+            IntPredicate isStart = vertical
+                    ? row -> isRowSpanStart(key, row)
+                    : column -> isColumnSpanStart(column, key);
+            if (added.isEmpty()) {
+                entry.getValue().delete(changed, isStart);
+            } else {
+                entry.getValue().insert(changed, isStart);
+            }
+        }
     }
 }
\ No newline at end of file
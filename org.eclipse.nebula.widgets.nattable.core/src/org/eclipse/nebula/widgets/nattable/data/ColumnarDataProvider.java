@@ -0,0 +1,426 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.data;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link IRowDataProvider} that stores the data column by column in primitive
+ * arrays instead of a list of row objects. Numeric columns are stored as
+ * <code>double[]</code>, <code>long[]</code> or <code>int[]</code>, string
+ * columns are dictionary encoded, so every distinct string is only stored
+ * once. This reduces the memory footprint of big numeric tables
+ * significantly, as no boxed values and no row objects are kept in memory.
+ * <p>
+ * The values can be accessed without boxing via the typed accessors of
+ * {@link IPrimitiveDataProvider}. {@link #getDataValue(int, int)} boxes the
+ * value on access, so the provider can be used with the default layer stack.
+ * </p>
+ * <p>
+ * As there are no row objects, {@link #getRowObject(int)} returns a
+ * lightweight {@link Row} view on the row, which is created on access.
+ * </p>
+ * <p>
+ * The number of rows is fixed on creation, the columns are added via the
+ * <code>add*Column()</code> methods before the provider is used in a
+ * NatTable.
+ * </p>
+ *
+ * @since 2.7
+ */
+public class ColumnarDataProvider implements IRowDataProvider<ColumnarDataProvider.Row>, IPrimitiveDataProvider {
+
+    private final int rowCount;
+
+    private final List<Class<?>> columnTypes = new ArrayList<>();
+    /**
+     * The storage per column, either a primitive array or a
+     * {@link DictionaryColumn}.
+     */
+    private final List<Object> columns = new ArrayList<>();
+    /**
+     * The rows that do not contain a value per column. The entry is
+     * <code>null</code> if the column does not contain null values.
+     */
+    private final List<BitSet> nulls = new ArrayList<>();
+
+    /**
+     *
+     * @param rowCount
+     *            The number of rows of this provider.
+     */
+    public ColumnarDataProvider(int rowCount) {
+        if (rowCount < 0) {
+            throw new IllegalArgumentException("Invalid row count: " + rowCount); //$NON-NLS-1$
+        }
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * Adds a column that stores <code>double</code> values. The given array is
+     * used as storage directly and not copied.
+     *
+     * @param values
+     *            The values of the column, one per row.
+     * @return The index of the added column.
+     */
+    public int addDoubleColumn(double[] values) {
+        return addColumn(double.class, values, values.length);
+    }
+
+    /**
+     * Adds a column that stores <code>long</code> values. The given array is
+     * used as storage directly and not copied.
+     *
+     * @param values
+     *            The values of the column, one per row.
+     * @return The index of the added column.
+     */
+    public int addLongColumn(long[] values) {
+        return addColumn(long.class, values, values.length);
+    }
+
+    /**
+     * Adds a column that stores <code>int</code> values. The given array is
+     * used as storage directly and not copied.
+     *
+     * @param values
+     *            The values of the column, one per row.
+     * @return The index of the added column.
+     */
+    public int addIntColumn(int[] values) {
+        return addColumn(int.class, values, values.length);
+    }
+
+    /**
+     * Adds a column that stores {@link String} values. The values are
+     * dictionary encoded, so every distinct value is only stored once.
+     *
+     * @param values
+     *            The values of the column, one per row. Can contain
+     *            <code>null</code>.
+     * @return The index of the added column.
+     */
+    public int addStringColumn(String[] values) {
+        DictionaryColumn column = new DictionaryColumn(values.length);
+        for (int i = 0; i < values.length; i++) {
+            column.set(i, values[i]);
+        }
+        return addColumn(String.class, column, values.length);
+    }
+
+    private int addColumn(Class<?> type, Object storage, int length) {
+        if (length != this.rowCount) {
+            throw new IllegalArgumentException("Column length " + length + " does not match row count " + this.rowCount); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        this.columnTypes.add(type);
+        this.columns.add(storage);
+        this.nulls.add(null);
+        return this.columns.size() - 1;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return this.columns.size();
+    }
+
+    @Override
+    public int getRowCount() {
+        return this.rowCount;
+    }
+
+    @Override
+    public Class<?> getColumnType(int columnIndex) {
+        return this.columnTypes.get(columnIndex);
+    }
+
+    @Override
+    public boolean isNull(int columnIndex, int rowIndex) {
+        Object column = this.columns.get(columnIndex);
+        if (column instanceof DictionaryColumn) {
+            return ((DictionaryColumn) column).codes[rowIndex] < 0;
+        }
+        BitSet columnNulls = this.nulls.get(columnIndex);
+        return columnNulls != null && columnNulls.get(rowIndex);
+    }
+
+    @Override
+    public Object getDataValue(int columnIndex, int rowIndex) {
+        if (isNull(columnIndex, rowIndex)) {
+            return null;
+        }
+        Object column = this.columns.get(columnIndex);
+        if (column instanceof double[]) {
+            return ((double[]) column)[rowIndex];
+        } else if (column instanceof long[]) {
+            return ((long[]) column)[rowIndex];
+        } else if (column instanceof int[]) {
+            return ((int[]) column)[rowIndex];
+        }
+        return ((DictionaryColumn) column).get(rowIndex);
+    }
+
+    /**
+     * Sets the value of a cell. Numeric columns accept {@link Number} values,
+     * string columns accept any value and store its string representation.
+     * <code>null</code> clears the cell.
+     */
+    @Override
+    public void setDataValue(int columnIndex, int rowIndex, Object newValue) {
+        Object column = this.columns.get(columnIndex);
+        if (column instanceof DictionaryColumn) {
+            ((DictionaryColumn) column).set(rowIndex, newValue != null ? newValue.toString() : null);
+            return;
+        }
+
+        if (newValue == null) {
+            BitSet columnNulls = this.nulls.get(columnIndex);
+            if (columnNulls == null) {
+                columnNulls = new BitSet(this.rowCount);
+                this.nulls.set(columnIndex, columnNulls);
+            }
+            columnNulls.set(rowIndex);
+            setNumber(column, rowIndex, 0);
+        } else if (newValue instanceof Number) {
+            Number number = (Number) newValue;
+            if (column instanceof double[]) {
+                ((double[]) column)[rowIndex] = number.doubleValue();
+            } else {
+                setNumber(column, rowIndex, number.longValue());
+            }
+            BitSet columnNulls = this.nulls.get(columnIndex);
+            if (columnNulls != null) {
+                columnNulls.clear(rowIndex);
+            }
+        } else {
+            throw new IllegalArgumentException("Column " + columnIndex + " only accepts numeric values"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+    }
+
+    private static void setNumber(Object column, int rowIndex, long value) {
+        if (column instanceof double[]) {
+            ((double[]) column)[rowIndex] = value;
+        } else if (column instanceof long[]) {
+            ((long[]) column)[rowIndex] = value;
+        } else {
+            ((int[]) column)[rowIndex] = (int) value;
+        }
+    }
+
+    @Override
+    public double getDouble(int columnIndex, int rowIndex) {
+        Object column = this.columns.get(columnIndex);
+        if (column instanceof double[]) {
+            return ((double[]) column)[rowIndex];
+        } else if (column instanceof long[]) {
+            return ((long[]) column)[rowIndex];
+        } else if (column instanceof int[]) {
+            return ((int[]) column)[rowIndex];
+        }
+        throw notNumeric(columnIndex);
+    }
+
+    @Override
+    public long getLong(int columnIndex, int rowIndex) {
+        Object column = this.columns.get(columnIndex);
+        if (column instanceof long[]) {
+            return ((long[]) column)[rowIndex];
+        } else if (column instanceof int[]) {
+            return ((int[]) column)[rowIndex];
+        } else if (column instanceof double[]) {
+            return (long) ((double[]) column)[rowIndex];
+        }
+        throw notNumeric(columnIndex);
+    }
+
+    @Override
+    public int getInt(int columnIndex, int rowIndex) {
+        Object column = this.columns.get(columnIndex);
+        if (column instanceof int[]) {
+            return ((int[]) column)[rowIndex];
+        } else if (column instanceof long[]) {
+            return (int) ((long[]) column)[rowIndex];
+        } else if (column instanceof double[]) {
+            return (int) ((double[]) column)[rowIndex];
+        }
+        throw notNumeric(columnIndex);
+    }
+
+    @Override
+    public void getDoubles(int columnIndex, int rowStart, int rowEnd, double[] values) {
+        Object column = this.columns.get(columnIndex);
+        if (column instanceof double[]) {
+            System.arraycopy(column, rowStart, values, 0, rowEnd - rowStart);
+        } else if (column instanceof long[]) {
+            long[] longs = (long[]) column;
+            for (int rowIndex = rowStart; rowIndex < rowEnd; rowIndex++) {
+                values[rowIndex - rowStart] = longs[rowIndex];
+            }
+        } else if (column instanceof int[]) {
+            int[] ints = (int[]) column;
+            for (int rowIndex = rowStart; rowIndex < rowEnd; rowIndex++) {
+                values[rowIndex - rowStart] = ints[rowIndex];
+            }
+        } else {
+            throw notNumeric(columnIndex);
+        }
+    }
+
+    private static IllegalArgumentException notNumeric(int columnIndex) {
+        return new IllegalArgumentException("Column " + columnIndex + " is not numeric"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    /**
+     *
+     * @param columnIndex
+     *            The column index of the cell.
+     * @param rowIndex
+     *            The row index of the cell.
+     * @return The value of the cell in a string column.
+     * @throws IllegalArgumentException
+     *             if the column is not a string column.
+     */
+    public String getString(int columnIndex, int rowIndex) {
+        Object column = this.columns.get(columnIndex);
+        if (column instanceof DictionaryColumn) {
+            return ((DictionaryColumn) column).get(rowIndex);
+        }
+        throw new IllegalArgumentException("Column " + columnIndex + " is not a string column"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    /**
+     *
+     * @param columnIndex
+     *            The column index of a string column.
+     * @return The number of distinct values in the dictionary of the given
+     *         string column.
+     * @throws IllegalArgumentException
+     *             if the column is not a string column.
+     */
+    public int getDictionarySize(int columnIndex) {
+        Object column = this.columns.get(columnIndex);
+        if (column instanceof DictionaryColumn) {
+            return ((DictionaryColumn) column).dictionary.size();
+        }
+        throw new IllegalArgumentException("Column " + columnIndex + " is not a string column"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    @Override
+    public Row getRowObject(int rowIndex) {
+        if (rowIndex < 0 || rowIndex >= this.rowCount) {
+            throw new IndexOutOfBoundsException("Invalid row index: " + rowIndex); //$NON-NLS-1$
+        }
+        return new Row(this, rowIndex);
+    }
+
+    @Override
+    public int indexOfRowObject(Row rowObject) {
+        if (rowObject != null && rowObject.provider == this) {
+            return rowObject.rowIndex;
+        }
+        return -1;
+    }
+
+    /**
+     * Lightweight view on a row of a {@link ColumnarDataProvider}. Two row
+     * views are equal if they refer to the same row of the same provider.
+     */
+    public static final class Row {
+
+        private final ColumnarDataProvider provider;
+        private final int rowIndex;
+
+        Row(ColumnarDataProvider provider, int rowIndex) {
+            this.provider = provider;
+            this.rowIndex = rowIndex;
+        }
+
+        /**
+         *
+         * @return The index of the row in the {@link ColumnarDataProvider}.
+         */
+        public int getRowIndex() {
+            return this.rowIndex;
+        }
+
+        /**
+         *
+         * @param columnIndex
+         *            The column index.
+         * @return The value of the given column in this row.
+         */
+        public Object getValue(int columnIndex) {
+            return this.provider.getDataValue(columnIndex, this.rowIndex);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(this.provider) + this.rowIndex;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Row)) {
+                return false;
+            }
+            Row other = (Row) obj;
+            return this.provider == other.provider && this.rowIndex == other.rowIndex;
+        }
+
+        @Override
+        public String toString() {
+            return "Row " + this.rowIndex; //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Dictionary encoded string column. Stores an int code per row that refers
+     * to an entry in the dictionary, -1 for <code>null</code>.
+     */
+    private static final class DictionaryColumn {
+
+        private final int[] codes;
+        private final List<String> dictionary = new ArrayList<>();
+        private final Map<String, Integer> lookup = new HashMap<>();
+
+        DictionaryColumn(int length) {
+            this.codes = new int[length];
+        }
+
+        String get(int rowIndex) {
+            int code = this.codes[rowIndex];
+            return code < 0 ? null : this.dictionary.get(code);
+        }
+
+        void set(int rowIndex, String value) {
+            if (value == null) {
+                this.codes[rowIndex] = -1;
+                return;
+            }
+            Integer code = this.lookup.get(value);
+            if (code == null) {
+                code = this.dictionary.size();
+                this.dictionary.add(value);
+                this.lookup.put(value, code);
+            }
+            this.codes[rowIndex] = code;
+        }
+    }
+}
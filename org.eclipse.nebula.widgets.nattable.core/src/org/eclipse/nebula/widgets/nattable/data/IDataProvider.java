@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -47,6 +47,32 @@ public interface IDataProvider {
      */
     public void setDataValue(int columnIndex, int rowIndex, Object newValue);
 
+    /**
+     * Gets the values of a range of rows in the given column. Consumers that
+     * read a column sequentially, e.g. to calculate a summary, can use this
+     * method to read the values block by block. Implementations that can
+     * access the values of a column faster than cell by cell should override
+     * the default implementation, which calls
+     * {@link #getDataValue(int, int)} for every row.
+     *
+     * @param columnIndex
+     *            The column index of the cells whose values are requested.
+     * @param rowStart
+     *            The index of the first row, inclusive.
+     * @param rowEnd
+     *            The index of the last row, exclusive.
+     * @param values
+     *            The array to which the values are written, starting at index
+     *            0. Needs to have at least <code>rowEnd - rowStart</code>
+     *            elements.
+     * @since 2.7
+     */
+    public default void getDataValues(int columnIndex, int rowStart, int rowEnd, Object[] values) {
+        for (int rowIndex = rowStart; rowIndex < rowEnd; rowIndex++) {
+            values[rowIndex - rowStart] = getDataValue(columnIndex, rowIndex);
+        }
+    }
+
     /**
      *
      * @return The number of columns this {@link IDataProvider} handles.
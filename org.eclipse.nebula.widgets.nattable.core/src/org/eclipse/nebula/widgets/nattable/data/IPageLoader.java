@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.data;
+
+import java.util.List;
+
+/**
+ * Loads a page of row objects from a slow data source, e.g. a database. Used
+ * by the {@link PagedDataProvider} to load the rows on demand.
+ *
+ * @param <T>
+ *            Type of the row objects.
+ *
+ * @since 2.7
+ */
+@FunctionalInterface
+public interface IPageLoader<T> {
+
+    /**
+     * Loads the row objects of a page. Called in a background thread.
+     * Implementations should react on thread interruption, which is used to
+     * cancel the loading of pages that are not visible anymore.
+     *
+     * @param startRow
+     *            The index of the first row of the page.
+     * @param rowCount
+     *            The number of rows to load.
+     * @return The loaded row objects. The list can be shorter than the
+     *         requested number of rows at the end of the data source.
+     * @throws Exception
+     *             if the page could not be loaded.
+     */
+    List<T> loadPage(int startRow, int rowCount) throws Exception;
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.data;
+
+/**
+ * Extension of {@link IDataProvider} that gives typed access to numeric
+ * columns without boxing the values. Consumers that process a high number of
+ * numeric values, e.g. summary providers, can check for this interface and use
+ * the typed accessors instead of {@link #getDataValue(int, int)}.
+ *
+ * @see ColumnarDataProvider
+ * @since 2.7
+ */
+public interface IPrimitiveDataProvider extends IDataProvider {
+
+    /**
+     * Returns the type of the values in the given column. Numeric columns
+     * return the primitive type, e.g. <code>double.class</code>, other columns
+     * return the type of the objects returned by
+     * {@link #getDataValue(int, int)}.
+     *
+     * @param columnIndex
+     *            The column index.
+     * @return The type of the values in the given column.
+     */
+    Class<?> getColumnType(int columnIndex);
+
+    /**
+     *
+     * @param columnIndex
+     *            The column index.
+     * @return <code>true</code> if the given column stores primitive numeric
+     *         values that can be accessed via {@link #getDouble(int, int)}.
+     */
+    default boolean isNumericColumn(int columnIndex) {
+        Class<?> type = getColumnType(columnIndex);
+        return type == double.class || type == long.class || type == int.class;
+    }
+
+    /**
+     *
+     * @param columnIndex
+     *            The column index of the cell.
+     * @param rowIndex
+     *            The row index of the cell.
+     * @return <code>true</code> if the cell does not contain a value, in which
+     *         case {@link #getDataValue(int, int)} returns <code>null</code>
+     *         and the typed accessors return 0.
+     */
+    boolean isNull(int columnIndex, int rowIndex);
+
+    /**
+     *
+     * @param columnIndex
+     *            The column index of the cell.
+     * @param rowIndex
+     *            The row index of the cell.
+     * @return The value of the cell as double.
+     * @throws IllegalArgumentException
+     *             if the column is not numeric.
+     */
+    double getDouble(int columnIndex, int rowIndex);
+
+    /**
+     *
+     * @param columnIndex
+     *            The column index of the cell.
+     * @param rowIndex
+     *            The row index of the cell.
+     * @return The value of the cell as long. Decimal values are truncated.
+     * @throws IllegalArgumentException
+     *             if the column is not numeric.
+     */
+    long getLong(int columnIndex, int rowIndex);
+
+    /**
+     *
+     * @param columnIndex
+     *            The column index of the cell.
+     * @param rowIndex
+     *            The row index of the cell.
+     * @return The value of the cell as int. Decimal values are truncated,
+     *         long values are narrowed.
+     * @throws IllegalArgumentException
+     *             if the column is not numeric.
+     */
+    int getInt(int columnIndex, int rowIndex);
+
+    /**
+     * Gets the values of a range of rows in the given numeric column as
+     * double values. Cells without a value are returned as 0, use
+     * {@link #isNull(int, int)} to distinguish them.
+     *
+     * @param columnIndex
+     *            The column index of the cells whose values are requested.
+     * @param rowStart
+     *            The index of the first row, inclusive.
+     * @param rowEnd
+     *            The index of the last row, exclusive.
+     * @param values
+     *            The array to which the values are written, starting at index
+     *            0. Needs to have at least <code>rowEnd - rowStart</code>
+     *            elements.
+     * @throws IllegalArgumentException
+     *             if the column is not numeric.
+     */
+    default void getDoubles(int columnIndex, int rowStart, int rowEnd, double[] values) {
+        for (int rowIndex = rowStart; rowIndex < rowEnd; rowIndex++) {
+            values[rowIndex - rowStart] = getDouble(columnIndex, rowIndex);
+        }
+    }
+}
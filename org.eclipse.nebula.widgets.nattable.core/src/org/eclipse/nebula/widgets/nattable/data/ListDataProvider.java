@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -53,6 +53,18 @@ public Object getDataValue(int columnIndex, int rowIndex) {
         return this.columnAccessor.getDataValue(rowObj, columnIndex);
     }
 
+    /**
+     * Iterates the sub list of the requested rows, which avoids the index
+     * based access for every row in case of linked lists.
+     */
+    @Override
+    public void getDataValues(int columnIndex, int rowStart, int rowEnd, Object[] values) {
+        int i = 0;
+        for (T rowObj : this.list.subList(rowStart, rowEnd)) {
+            values[i++] = this.columnAccessor.getDataValue(rowObj, columnIndex);
+        }
+    }
+
     @Override
     public void setDataValue(int columnIndex, int rowIndex, Object newValue) {
         T rowObj = this.list.get(rowIndex);
@@ -0,0 +1,488 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.data;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.nebula.widgets.nattable.coordinate.Range;
+import org.eclipse.nebula.widgets.nattable.layer.ILayer;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowInsertEvent;
+import org.eclipse.swt.widgets.Display;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Read-only {@link IDataProvider} for big delimited text files, e.g. CSV or tab
+ * separated extracts that do not fit into the heap as a list of row objects.
+ * <p>
+ * The file is memory mapped via {@link FileChannel#map(MapMode, long, long)}.
+ * On creation a background thread starts to build an index of the row start
+ * offsets. {@link #isIndexComplete()} and {@link #awaitIndex()} can be used to
+ * check whether the whole file was indexed.
+ * </p>
+ * <p>
+ * The layer stack only updates its row count on structural change events. To
+ * show the rows that are indexed after the layer stack was created, an event
+ * layer needs to be set via {@link #setEventLayer(ILayer)}, typically the
+ * DataLayer that uses this provider. While the index is built, a
+ * {@link RowInsertEvent} for the newly indexed rows is fired on that layer in
+ * regular intervals and on completion. The events are fired asynchronously in
+ * the UI thread by default, see {@link #setEventExecutor(Executor)}. Once an
+ * event layer is set, {@link #getRowCount()} only returns the rows that were
+ * reported via an event, so the row count does not change between events.
+ * Without an event layer it returns the number of rows that are indexed so
+ * far.
+ * </p>
+ * <p>
+ * A row is only decoded when one of its values is requested, e.g. by the
+ * rendering of the visible rows, an export or a search. The last decoded rows
+ * are kept in a small LRU cache, so repeated access to the visible rows does
+ * not decode them again.
+ * </p>
+ * <p>
+ * The values are split by the configured delimiter. Quoted values that
+ * contain the delimiter or line breaks are not supported. The values are
+ * returned as {@link String}, empty values are returned as <code>null</code>.
+ * Use display converters to show the values with a different type.
+ * </p>
+ *
+ * @see #setEventLayer(ILayer)
+ * @since 2.7
+ */
+public class MappedFileDataProvider implements IDataProvider, Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MappedFileDataProvider.class);
+
+    /**
+     * The default number of decoded rows that are cached.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 1024;
+
+    /**
+     * The maximum size of a mapped segment, as a {@link MappedByteBuffer} can
+     * not be bigger than {@link Integer#MAX_VALUE}.
+     */
+    private static final int SEGMENT_SIZE = 1 << 30;
+
+    /**
+     * The minimum interval between two events for newly indexed rows.
+     */
+    private static final long EVENT_INTERVAL = TimeUnit.MILLISECONDS.toNanos(250);
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final long size;
+
+    private final char delimiter;
+    private final Charset charset;
+    private final int columnCount;
+    private final String[] columnNames;
+    /**
+     * The offset of the first data row, which is behind the header line if
+     * the file contains a header.
+     */
+    private final long dataStart;
+
+    /**
+     * The start offsets of the indexed rows, plus the start offset of the row
+     * after the last indexed row. Replaced with a bigger copy by the index
+     * thread if the capacity is exceeded.
+     */
+    private volatile long[] rowOffsets = new long[1024];
+    private volatile int rowCount;
+    private volatile boolean closed;
+    private final CountDownLatch indexLatch = new CountDownLatch(1);
+
+    private volatile ILayer eventLayer;
+    private volatile Executor eventExecutor = runnable -> Display.getDefault().asyncExec(runnable);
+    /**
+     * The number of rows that were reported via an event, or -1 if no event
+     * layer is set. Only changed in the event executor.
+     */
+    private volatile int reportedRowCount = -1;
+
+    private final Map<Integer, String[]> rowCache;
+
+    /**
+     * Creates a {@link MappedFileDataProvider} for an UTF-8 encoded file with
+     * the default cache size.
+     *
+     * @param file
+     *            The file to read.
+     * @param delimiter
+     *            The character that separates the values in a row.
+     * @param header
+     *            <code>true</code> if the first line of the file contains the
+     *            column names.
+     * @throws IOException
+     *             if the file can not be opened or mapped.
+     */
+    public MappedFileDataProvider(Path file, char delimiter, boolean header) throws IOException {
+        this(file, delimiter, header, StandardCharsets.UTF_8, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     *
+     * @param file
+     *            The file to read.
+     * @param delimiter
+     *            The character that separates the values in a row. Needs to
+     *            be an ASCII character.
+     * @param header
+     *            <code>true</code> if the first line of the file contains the
+     *            column names.
+     * @param charset
+     *            The charset of the file. Needs to be ASCII compatible, e.g.
+     *            UTF-8 or ISO-8859-1.
+     * @param cacheSize
+     *            The number of decoded rows that are cached.
+     * @throws IOException
+     *             if the file can not be opened or mapped.
+     */
+    public MappedFileDataProvider(Path file, char delimiter, boolean header, Charset charset, int cacheSize) throws IOException {
+        if (delimiter > 0x7F) {
+            throw new IllegalArgumentException("Only ASCII delimiters are supported"); //$NON-NLS-1$
+        }
+        this.delimiter = delimiter;
+        this.charset = charset;
+
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            this.size = this.channel.size();
+            int segmentCount = (int) ((this.size + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+            this.segments = new MappedByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                long position = (long) i * SEGMENT_SIZE;
+                this.segments[i] = this.channel.map(MapMode.READ_ONLY, position, Math.min(SEGMENT_SIZE, this.size - position));
+            }
+        } catch (IOException e) {
+            this.channel.close();
+            throw e;
+        }
+
+        // the first line determines the number of columns
+        long firstLineEnd = findLineEnd(0);
+        String[] firstLine = split(decode(0, firstLineEnd));
+        this.columnCount = firstLine.length;
+        if (header) {
+            this.columnNames = firstLine;
+            this.dataStart = Math.min(firstLineEnd + 1, this.size);
+        } else {
+            this.columnNames = null;
+            this.dataStart = 0;
+        }
+        this.rowOffsets[0] = this.dataStart;
+
+        int cacheCapacity = Math.max(1, cacheSize);
+        this.rowCache = new LinkedHashMap<Integer, String[]>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, String[]> eldest) {
+                return size() > cacheCapacity;
+            }
+        };
+
+        Thread indexThread = new Thread(this::buildIndex, "MappedFileDataProvider index " + file.getFileName()); //$NON-NLS-1$
+        indexThread.setDaemon(true);
+        indexThread.start();
+    }
+
+    /**
+     * Scans the mapped file for line breaks and publishes the row offsets.
+     */
+    private void buildIndex() {
+        try {
+            long position = this.dataStart;
+            long lastEvent = System.nanoTime();
+            while (position < this.size && !this.closed) {
+                long lineEnd = findLineEnd(position);
+                addRow(lineEnd + 1);
+                position = lineEnd + 1;
+
+                if ((this.rowCount & 0xFFF) == 0 && System.nanoTime() - lastEvent >= EVENT_INTERVAL) {
+                    fireRowsIndexed();
+                    lastEvent = System.nanoTime();
+                }
+            }
+            if (!this.closed) {
+                fireRowsIndexed();
+            }
+        } catch (RuntimeException e) {
+            if (!this.closed) {
+                LOG.error("Error on indexing the mapped file", e); //$NON-NLS-1$
+            }
+        } finally {
+            this.indexLatch.countDown();
+        }
+    }
+
+    /**
+     * Reports the rows that were indexed since the last event via a
+     * {@link RowInsertEvent} on the event layer.
+     */
+    private void fireRowsIndexed() {
+        ILayer layer = this.eventLayer;
+        if (layer != null) {
+            int count = this.rowCount;
+            this.eventExecutor.execute(() -> {
+                // synchronized to keep the events in order in case the
+                // executor is not single threaded
+                synchronized (this.indexLatch) {
+                    int reported = this.reportedRowCount;
+                    if (layer == this.eventLayer && reported >= 0 && count > reported) {
+                        this.reportedRowCount = count;
+                        layer.fireLayerEvent(new RowInsertEvent(layer, new Range(reported, count)));
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Publishes the next row by adding the start offset of the following row.
+     */
+    private void addRow(long nextRowStart) {
+        long[] offsets = this.rowOffsets;
+        int count = this.rowCount;
+        if (count + 1 >= offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            this.rowOffsets = offsets;
+        }
+        offsets[count + 1] = nextRowStart;
+        // the volatile write publishes the offset to the reading threads
+        this.rowCount = count + 1;
+    }
+
+    /**
+     * @return The position of the line break that ends the line at the given
+     *         position, or the size of the file if the last line has no line
+     *         break.
+     */
+    private long findLineEnd(long position) {
+        long current = position;
+        while (current < this.size) {
+            MappedByteBuffer segment = this.segments[(int) (current / SEGMENT_SIZE)];
+            int index = (int) (current % SEGMENT_SIZE);
+            int limit = segment.limit();
+            for (; index < limit; index++) {
+                if (segment.get(index) == '\n') {
+                    return current + (index - current % SEGMENT_SIZE);
+                }
+            }
+            current += limit - current % SEGMENT_SIZE;
+        }
+        return this.size;
+    }
+
+    /**
+     * Decodes the bytes between the given positions. A trailing carriage
+     * return is removed.
+     */
+    private String decode(long start, long end) {
+        long length = end - start;
+        if (length > 0 && byteAt(end - 1) == '\r') {
+            length--;
+        }
+        byte[] bytes = new byte[(int) length];
+        int copied = 0;
+        while (copied < length) {
+            long position = start + copied;
+            MappedByteBuffer segment = this.segments[(int) (position / SEGMENT_SIZE)];
+            int index = (int) (position % SEGMENT_SIZE);
+            int count = (int) Math.min(length - copied, segment.limit() - index);
+            segment.get(index, bytes, copied, count);
+            copied += count;
+        }
+        return new String(bytes, this.charset);
+    }
+
+    private byte byteAt(long position) {
+        return this.segments[(int) (position / SEGMENT_SIZE)].get((int) (position % SEGMENT_SIZE));
+    }
+
+    private String[] split(String line) {
+        List<String> values = new ArrayList<>();
+        int start = 0;
+        int end;
+        while ((end = line.indexOf(this.delimiter, start)) >= 0) {
+            values.add(line.substring(start, end));
+            start = end + 1;
+        }
+        values.add(line.substring(start));
+        return values.toArray(new String[values.size()]);
+    }
+
+    /**
+     * Returns the decoded values of the given row, either from the cache or by
+     * decoding the row from the mapped file.
+     *
+     * @param rowIndex
+     *            The index of the row.
+     * @return The values of the row.
+     */
+    protected String[] getRow(int rowIndex) {
+        if (rowIndex < 0 || rowIndex >= this.rowCount) {
+            throw new IndexOutOfBoundsException("Invalid row index: " + rowIndex); //$NON-NLS-1$
+        }
+        if (this.closed) {
+            throw new IllegalStateException("The data provider is closed"); //$NON-NLS-1$
+        }
+
+        Integer key = rowIndex;
+        synchronized (this.rowCache) {
+            String[] row = this.rowCache.get(key);
+            if (row != null) {
+                return row;
+            }
+        }
+
+        // the row count was read above before the offsets array, so the
+        // offsets published together with the count are visible
+        long[] offsets = this.rowOffsets;
+        String[] row = split(decode(offsets[rowIndex], offsets[rowIndex + 1] - 1));
+        synchronized (this.rowCache) {
+            this.rowCache.put(key, row);
+        }
+        return row;
+    }
+
+    @Override
+    public Object getDataValue(int columnIndex, int rowIndex) {
+        String[] row = getRow(rowIndex);
+        if (columnIndex < row.length && !row[columnIndex].isEmpty()) {
+            return row[columnIndex];
+        }
+        return null;
+    }
+
+    /**
+     * Not supported as the file is mapped read-only.
+     *
+     * @throws UnsupportedOperationException
+     *             always
+     */
+    @Override
+    public void setDataValue(int columnIndex, int rowIndex, Object newValue) {
+        throw new UnsupportedOperationException("The mapped file is read-only"); //$NON-NLS-1$
+    }
+
+    @Override
+    public int getColumnCount() {
+        return this.columnCount;
+    }
+
+    /**
+     * Returns the number of rows that were reported via an event if an event
+     * layer is set, otherwise the number of rows that are indexed so far.
+     * Increases while the index is built in the background.
+     *
+     * @see #setEventLayer(ILayer)
+     */
+    @Override
+    public int getRowCount() {
+        int reported = this.reportedRowCount;
+        return (reported >= 0) ? reported : this.rowCount;
+    }
+
+    /**
+     * Sets the layer on which a {@link RowInsertEvent} is fired for the rows
+     * that are indexed after this call. Needs to be called in the thread of
+     * the event executor, typically the UI thread, as the current number of
+     * indexed rows is reported by {@link #getRowCount()} from now on.
+     *
+     * @param eventLayer
+     *            The layer on which the events are fired, typically the
+     *            DataLayer that uses this provider. Can be <code>null</code>
+     *            to stop firing events.
+     */
+    public void setEventLayer(ILayer eventLayer) {
+        this.reportedRowCount = (eventLayer != null) ? this.rowCount : -1;
+        this.eventLayer = eventLayer;
+        // report the rows that were indexed between reading the count and
+        // setting the layer, in case the indexing is already finished
+        fireRowsIndexed();
+    }
+
+    /**
+     * Sets the {@link Executor} that is used to fire the events for newly
+     * indexed rows. By default they are fired asynchronously in the UI
+     * thread.
+     *
+     * @param eventExecutor
+     *            The {@link Executor} for the event processing.
+     */
+    public void setEventExecutor(Executor eventExecutor) {
+        this.eventExecutor = eventExecutor;
+    }
+
+    /**
+     *
+     * @return The column names read from the header line, or
+     *         <code>null</code> if the file has no header.
+     */
+    public String[] getColumnNames() {
+        return this.columnNames != null ? this.columnNames.clone() : null;
+    }
+
+    /**
+     *
+     * @return <code>true</code> if the whole file is indexed and
+     *         {@link #getRowCount()} returns the final number of rows.
+     */
+    public boolean isIndexComplete() {
+        return this.indexLatch.getCount() == 0;
+    }
+
+    /**
+     * Blocks until the whole file is indexed.
+     *
+     * @return The number of rows in the file, which might be greater than
+     *         {@link #getRowCount()} until the last event was fired.
+     * @throws InterruptedException
+     *             if the current thread was interrupted while waiting.
+     */
+    public int awaitIndex() throws InterruptedException {
+        this.indexLatch.await();
+        return this.rowCount;
+    }
+
+    /**
+     * Stops the indexing and closes the underlying file channel. The mapped
+     * memory is released once the buffers are garbage collected.
+     */
+    @Override
+    public void close() throws IOException {
+        this.closed = true;
+        synchronized (this.rowCache) {
+            this.rowCache.clear();
+        }
+        this.channel.close();
+    }
+}
@@ -0,0 +1,367 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.data;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link IColumnPropertyAccessor} that accesses the properties of the row
+ * objects via generated accessors instead of using reflection for every
+ * access. On first access of a property for a row object type, the getter and
+ * setter are compiled into functions via {@link LambdaMetafactory}. If that is
+ * not possible, e.g. because of module restrictions, a {@link MethodHandle} is
+ * used. The accessors are cached per row object type and are looked up without
+ * locking.
+ * <p>
+ * Like the {@link ExtendedReflectiveColumnPropertyAccessor} it supports dot
+ * separated property names to access properties anywhere within the object
+ * graph, e.g. <i>address.street</i>. If an object in the chain is
+ * <code>null</code>, <code>null</code> is returned on reading and nothing is
+ * set on writing.
+ * </p>
+ *
+ * @param <R>
+ *            type of the row object/bean
+ *
+ * @since 2.7
+ */
+public class MethodHandleColumnPropertyAccessor<R> implements IColumnPropertyAccessor<R> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandleColumnPropertyAccessor.class);
+
+    private final List<String> propertyNames;
+
+    /**
+     * The property names split by dot per column index.
+     */
+    private final String[][] propertyPaths;
+
+    /**
+     * The last used {@link PropertyAccess} per column index and path segment.
+     * Used to avoid map lookups for the common case that all row objects are
+     * of the same type. As {@link PropertyAccess} objects are immutable,
+     * concurrent access is safe without synchronization.
+     */
+    private final PropertyAccess[][] lastAccess;
+
+    private final Map<Class<?>, Map<String, PropertyAccess>> accessCache = new ConcurrentHashMap<>();
+
+    /**
+     * @param propertyNames
+     *            of the members of the row bean
+     */
+    public MethodHandleColumnPropertyAccessor(String... propertyNames) {
+        this(Arrays.asList(propertyNames));
+    }
+
+    /**
+     * @param propertyNames
+     *            of the members of the row bean
+     */
+    public MethodHandleColumnPropertyAccessor(List<String> propertyNames) {
+        this.propertyNames = propertyNames;
+        this.propertyPaths = new String[propertyNames.size()][];
+        this.lastAccess = new PropertyAccess[propertyNames.size()][];
+        for (int i = 0; i < propertyNames.size(); i++) {
+            this.propertyPaths[i] = propertyNames.get(i).split("\\."); //$NON-NLS-1$
+            this.lastAccess[i] = new PropertyAccess[this.propertyPaths[i].length];
+        }
+    }
+
+    @Override
+    public int getColumnCount() {
+        return this.propertyNames.size();
+    }
+
+    @Override
+    public Object getDataValue(R rowObj, int columnIndex) {
+        try {
+            String[] path = this.propertyPaths[columnIndex];
+            Object value = rowObj;
+            for (int i = 0; i < path.length; i++) {
+                if (value == null && i > 0) {
+                    // an object in the chain is null, therefore null is the
+                    // correct return value
+                    return null;
+                }
+                value = getPropertyAccess(value.getClass(), columnIndex, i).getValue(value);
+            }
+            return value;
+        } catch (Exception e) {
+            LOG.warn("Error on getting data value", e); //$NON-NLS-1$
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void setDataValue(R rowObj, int columnIndex, Object newValue) {
+        try {
+            String[] path = this.propertyPaths[columnIndex];
+            Object target = rowObj;
+            for (int i = 0; i < path.length - 1; i++) {
+                target = getPropertyAccess(target.getClass(), columnIndex, i).getValue(target);
+                if (target == null) {
+                    // no object found, stop further processing
+                    return;
+                }
+            }
+
+            PropertyAccess access = getPropertyAccess(target.getClass(), columnIndex, path.length - 1);
+            if (!access.isWritable()) {
+                throw new IllegalStateException(
+                        "Setter method not found in backing bean for value at column index: " + columnIndex); //$NON-NLS-1$
+            }
+            if (!access.isAssignable(newValue)) {
+                LOG.error("Data type being set does not match the data type of the setter method in the backing bean"); //$NON-NLS-1$
+                return;
+            }
+            access.setValue(target, newValue);
+        } catch (Exception e) {
+            LOG.error("Error while setting data value", e); //$NON-NLS-1$
+            throw new IllegalStateException("Error while setting data value"); //$NON-NLS-1$
+        }
+    }
+
+    @Override
+    public String getColumnProperty(int columnIndex) {
+        return this.propertyNames.get(columnIndex);
+    }
+
+    @Override
+    public int getColumnIndex(String propertyName) {
+        return this.propertyNames.indexOf(propertyName);
+    }
+
+    /**
+     * Returns the {@link PropertyAccess} for the path segment of the given
+     * column, creating it if necessary.
+     *
+     * @param beanClass
+     *            The type of the object on which the property should be
+     *            accessed.
+     * @param columnIndex
+     *            The column index.
+     * @param segment
+     *            The index of the segment in the property path.
+     * @return The {@link PropertyAccess} for the property.
+     * @throws IntrospectionException
+     *             if an exception occurs during introspection
+     */
+    private PropertyAccess getPropertyAccess(Class<?> beanClass, int columnIndex, int segment) throws IntrospectionException {
+        PropertyAccess access = this.lastAccess[columnIndex][segment];
+        if (access == null || access.beanClass != beanClass) {
+            String propertyName = this.propertyPaths[columnIndex][segment];
+            Map<String, PropertyAccess> classAccess =
+                    this.accessCache.computeIfAbsent(beanClass, bc -> new ConcurrentHashMap<>());
+            access = classAccess.get(propertyName);
+            if (access == null) {
+                access = createPropertyAccess(beanClass, propertyName);
+                classAccess.putIfAbsent(propertyName, access);
+            }
+            this.lastAccess[columnIndex][segment] = access;
+        }
+        return access;
+    }
+
+    private static PropertyAccess createPropertyAccess(Class<?> beanClass, String propertyName) throws IntrospectionException {
+        Method readMethod = null;
+        Method writeMethod = null;
+        for (PropertyDescriptor descriptor : Introspector.getBeanInfo(beanClass).getPropertyDescriptors()) {
+            if (descriptor.getName().equals(propertyName)) {
+                readMethod = descriptor.getReadMethod();
+                writeMethod = descriptor.getWriteMethod();
+                break;
+            }
+        }
+
+        String capitalized = propertyName.substring(0, 1).toUpperCase() + propertyName.substring(1);
+        if (readMethod == null) {
+            // support is-getter for Boolean objects like the
+            // ExtendedReflectiveColumnPropertyAccessor
+            readMethod = findMethod(beanClass, "is" + capitalized, 0); //$NON-NLS-1$
+        }
+        if (writeMethod == null) {
+            writeMethod = findMethod(beanClass, "set" + capitalized, 1); //$NON-NLS-1$
+        }
+
+        if (readMethod == null) {
+            throw new IllegalStateException(
+                    "No getter found for property '" + propertyName + "' in " + beanClass.getName()); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        return new PropertyAccess(
+                beanClass,
+                createGetter(readMethod),
+                writeMethod != null ? createSetter(writeMethod) : null,
+                writeMethod != null ? writeMethod.getParameterTypes()[0] : null);
+    }
+
+    private static Method findMethod(Class<?> beanClass, String name, int parameterCount) {
+        for (Method method : beanClass.getMethods()) {
+            if (method.getName().equals(name)
+                    && method.getParameterCount() == parameterCount
+                    && !Modifier.isStatic(method.getModifiers())) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Creates a {@link Function} that calls the given getter. The lambda is
+     * defined via a lookup in the declaring class of the getter, so the
+     * generated class is able to resolve the bean type even if it is not
+     * visible to the class loader of NatTable.
+     *
+     * @param getter
+     *            The getter method.
+     * @return A {@link Function} that calls the given getter.
+     */
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> createGetter(Method getter) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(getter.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle handle = lookup.unreflect(getter);
+            return (Function<Object, Object>) LambdaMetafactory.metafactory(
+                    lookup,
+                    "apply", //$NON-NLS-1$
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle,
+                    handle.type().wrap())
+                    .getTarget()
+                    .invoke();
+        } catch (Throwable t) {
+            LOG.debug("Falling back to method handle for {}", getter, t); //$NON-NLS-1$
+        }
+
+        MethodHandle handle = unreflect(getter).asType(MethodType.methodType(Object.class, Object.class));
+        return bean -> {
+            try {
+                return handle.invokeExact(bean);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        };
+    }
+
+    /**
+     * Creates a {@link BiConsumer} that calls the given setter.
+     *
+     * @param setter
+     *            The setter method.
+     * @return A {@link BiConsumer} that calls the given setter.
+     * @see #createGetter(Method)
+     */
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> createSetter(Method setter) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(setter.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle handle = lookup.unreflect(setter);
+            return (BiConsumer<Object, Object>) LambdaMetafactory.metafactory(
+                    lookup,
+                    "accept", //$NON-NLS-1$
+                    MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class, Object.class),
+                    handle,
+                    handle.type().wrap().changeReturnType(void.class))
+                    .getTarget()
+                    .invoke();
+        } catch (Throwable t) {
+            LOG.debug("Falling back to method handle for {}", setter, t); //$NON-NLS-1$
+        }
+
+        MethodHandle handle = unreflect(setter).asType(MethodType.methodType(void.class, Object.class, Object.class));
+        return (bean, value) -> {
+            try {
+                handle.invokeExact(bean, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        };
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The compiled accessors for a property of a type.
+     */
+    private static final class PropertyAccess {
+
+        final Class<?> beanClass;
+        private final Function<Object, Object> getter;
+        private final BiConsumer<Object, Object> setter;
+        private final Class<?> valueType;
+        private final boolean primitive;
+
+        PropertyAccess(Class<?> beanClass, Function<Object, Object> getter, BiConsumer<Object, Object> setter, Class<?> valueType) {
+            this.beanClass = beanClass;
+            this.getter = getter;
+            this.setter = setter;
+            // use the wrapper type for the instance check of primitive values
+            this.valueType = valueType != null ? MethodType.methodType(valueType).wrap().returnType() : null;
+            this.primitive = valueType != null && valueType.isPrimitive();
+        }
+
+        Object getValue(Object bean) {
+            return this.getter.apply(bean);
+        }
+
+        boolean isWritable() {
+            return this.setter != null;
+        }
+
+        /**
+         * @return <code>true</code> if the given value can be passed to the
+         *         setter, <code>false</code> if the type does not match or
+         *         <code>null</code> is passed for a primitive type.
+         */
+        boolean isAssignable(Object value) {
+            if (value == null) {
+                return !this.primitive;
+            }
+            return this.valueType.isInstance(value);
+        }
+
+        void setValue(Object bean, Object value) {
+            this.setter.accept(bean, value);
+        }
+    }
+}
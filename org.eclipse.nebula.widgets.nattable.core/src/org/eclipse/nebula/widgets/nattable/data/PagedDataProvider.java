@@ -0,0 +1,498 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.nebula.widgets.nattable.coordinate.Range;
+import org.eclipse.nebula.widgets.nattable.layer.ILayer;
+import org.eclipse.nebula.widgets.nattable.layer.ILayerListener;
+import org.eclipse.nebula.widgets.nattable.layer.event.ILayerEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowUpdateEvent;
+import org.eclipse.nebula.widgets.nattable.viewport.ViewportLayer;
+import org.eclipse.nebula.widgets.nattable.viewport.event.ScrollEvent;
+import org.eclipse.swt.widgets.Display;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link IRowDataProvider} for data sources that are too slow to load all rows
+ * up front, e.g. a database. The rows are loaded in pages of a fixed size via
+ * an {@link IPageLoader} in background threads. For rows that are not loaded
+ * yet, {@link #LOADING} is returned as data value and <code>null</code> as
+ * row object, and the loading of the page is triggered. Once a page is loaded,
+ * a {@link RowUpdateEvent} for the rows of the page is fired on the
+ * configured event layer, so the rows are repainted.
+ * <p>
+ * The number of loaded pages that are kept in memory is limited, the least
+ * recently used pages are evicted. The number of pages that are loaded in
+ * parallel is limited too.
+ * </p>
+ * <p>
+ * If a {@link ViewportLayer} is configured, pages ahead of the visible rows in
+ * scroll direction are prefetched, and the loading of pages that are scrolled
+ * out of the prefetch range is cancelled.
+ * </p>
+ *
+ * @param <T>
+ *            Type of the row objects.
+ *
+ * @see #setEventLayer(ILayer)
+ * @see #setViewportLayer(ViewportLayer)
+ * @since 2.7
+ */
+public class PagedDataProvider<T> implements IRowDataProvider<T>, ILayerListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PagedDataProvider.class);
+
+    /**
+     * The data value that is returned for cells whose row is not loaded yet.
+     */
+    public static final Object LOADING = new Object() {
+        @Override
+        public String toString() {
+            return "..."; //$NON-NLS-1$
+        }
+    };
+
+    /**
+     * The default number of pages that are kept in memory.
+     */
+    public static final int DEFAULT_MAX_PAGES = 16;
+    /**
+     * The default number of pages that are loaded in parallel.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_LOADS = 2;
+
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+
+    private final IColumnAccessor<T> columnAccessor;
+    private final IPageLoader<T> pageLoader;
+    private final int rowCount;
+    private final int pageSize;
+
+    /**
+     * The loaded pages in access order. Also used as lock for the
+     * {@link #loading} map.
+     */
+    private final Map<Integer, List<T>> pages;
+    /**
+     * The pages that are currently queued or being loaded.
+     */
+    private final Map<Integer, Future<?>> loading = new HashMap<>();
+    private final ThreadPoolExecutor executor;
+
+    private int prefetchPages = 1;
+    private ILayer eventLayer;
+    private Executor eventExecutor = runnable -> Display.getDefault().asyncExec(runnable);
+    private ViewportLayer viewportLayer;
+
+    /**
+     * Creates a {@link PagedDataProvider} that keeps
+     * {@link #DEFAULT_MAX_PAGES} pages in memory and loads
+     * {@link #DEFAULT_MAX_CONCURRENT_LOADS} pages in parallel.
+     *
+     * @param columnAccessor
+     *            The {@link IColumnAccessor} to access the values of the row
+     *            objects.
+     * @param pageLoader
+     *            The {@link IPageLoader} that loads the row objects.
+     * @param rowCount
+     *            The total number of rows of the data source.
+     * @param pageSize
+     *            The number of rows per page.
+     */
+    public PagedDataProvider(IColumnAccessor<T> columnAccessor, IPageLoader<T> pageLoader, int rowCount, int pageSize) {
+        this(columnAccessor, pageLoader, rowCount, pageSize, DEFAULT_MAX_PAGES, DEFAULT_MAX_CONCURRENT_LOADS);
+    }
+
+    /**
+     *
+     * @param columnAccessor
+     *            The {@link IColumnAccessor} to access the values of the row
+     *            objects.
+     * @param pageLoader
+     *            The {@link IPageLoader} that loads the row objects.
+     * @param rowCount
+     *            The total number of rows of the data source.
+     * @param pageSize
+     *            The number of rows per page.
+     * @param maxPages
+     *            The maximum number of pages that are kept in memory. Should be
+     *            big enough to hold the visible rows and the prefetched pages.
+     * @param maxConcurrentLoads
+     *            The maximum number of pages that are loaded in parallel.
+     */
+    public PagedDataProvider(
+            IColumnAccessor<T> columnAccessor,
+            IPageLoader<T> pageLoader,
+            int rowCount,
+            int pageSize,
+            int maxPages,
+            int maxConcurrentLoads) {
+
+        if (rowCount < 0 || pageSize < 1 || maxPages < 1 || maxConcurrentLoads < 1) {
+            throw new IllegalArgumentException("Invalid paging configuration"); //$NON-NLS-1$
+        }
+        this.columnAccessor = columnAccessor;
+        this.pageLoader = pageLoader;
+        this.rowCount = rowCount;
+        this.pageSize = pageSize;
+
+        this.pages = new LinkedHashMap<Integer, List<T>>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<T>> eldest) {
+                return size() > maxPages;
+            }
+        };
+
+        this.executor = new ThreadPoolExecutor(
+                maxConcurrentLoads,
+                maxConcurrentLoads,
+                30L,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "PagedDataProvider-" + threadCounter.incrementAndGet()); //$NON-NLS-1$
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public int getColumnCount() {
+        return this.columnAccessor.getColumnCount();
+    }
+
+    @Override
+    public int getRowCount() {
+        return this.rowCount;
+    }
+
+    @Override
+    public Object getDataValue(int columnIndex, int rowIndex) {
+        List<T> page = getPage(rowIndex / this.pageSize);
+        if (page == null) {
+            return LOADING;
+        }
+        int offset = rowIndex % this.pageSize;
+        return offset < page.size() ? this.columnAccessor.getDataValue(page.get(offset), columnIndex) : null;
+    }
+
+    /**
+     * Sets the value in the row object if the row is loaded. Changes to rows
+     * that are not loaded are ignored.
+     */
+    @Override
+    public void setDataValue(int columnIndex, int rowIndex, Object newValue) {
+        T rowObject = getRowObject(rowIndex);
+        if (rowObject != null) {
+            this.columnAccessor.setDataValue(rowObject, columnIndex, newValue);
+        }
+    }
+
+    /**
+     * Returns the row object at the given index, or <code>null</code> if the
+     * page of the row is not loaded yet. In that case the loading of the page
+     * is triggered.
+     */
+    @Override
+    public T getRowObject(int rowIndex) {
+        List<T> page = getPage(rowIndex / this.pageSize);
+        int offset = rowIndex % this.pageSize;
+        return page != null && offset < page.size() ? page.get(offset) : null;
+    }
+
+    /**
+     * Searches the given row object in the loaded pages.
+     *
+     * @return The index of the row object or -1 if it is not contained in a
+     *         loaded page.
+     */
+    @Override
+    public int indexOfRowObject(T rowObject) {
+        synchronized (this.pages) {
+            for (Map.Entry<Integer, List<T>> entry : this.pages.entrySet()) {
+                int offset = entry.getValue().indexOf(rowObject);
+                if (offset >= 0) {
+                    return entry.getKey() * this.pageSize + offset;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the loaded page or triggers the loading if the page is not
+     * loaded yet.
+     *
+     * @param pageIndex
+     *            The index of the page.
+     * @return The row objects of the page or <code>null</code> if the page is
+     *         not loaded yet.
+     */
+    private List<T> getPage(int pageIndex) {
+        synchronized (this.pages) {
+            List<T> page = this.pages.get(pageIndex);
+            if (page == null) {
+                requestPage(pageIndex);
+            }
+            return page;
+        }
+    }
+
+    /**
+     *
+     * @param pageIndex
+     *            The index of the page.
+     * @return <code>true</code> if the page is loaded.
+     */
+    public boolean isPageLoaded(int pageIndex) {
+        synchronized (this.pages) {
+            return this.pages.containsKey(pageIndex);
+        }
+    }
+
+    /**
+     * Triggers the loading of the given page if it is not loaded or loading
+     * already. Needs to be called with the lock on {@link #pages}, which also
+     * ensures that the loading task does not finish before it is registered.
+     */
+    private void requestPage(int pageIndex) {
+        if (pageIndex < 0
+                || (long) pageIndex * this.pageSize >= this.rowCount
+                || this.executor.isShutdown()
+                || this.pages.containsKey(pageIndex)
+                || this.loading.containsKey(pageIndex)) {
+            return;
+        }
+        this.loading.put(pageIndex, this.executor.submit(() -> loadPage(pageIndex)));
+    }
+
+    private void loadPage(int pageIndex) {
+        int startRow = pageIndex * this.pageSize;
+        int count = Math.min(this.pageSize, this.rowCount - startRow);
+        List<T> rows;
+        try {
+            rows = this.pageLoader.loadPage(startRow, count);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rows = null;
+        } catch (Exception e) {
+            LOG.error("Error on loading page {}", pageIndex, e); //$NON-NLS-1$
+            // store an empty page to avoid reloading the failing page on
+            // every paint operation
+            rows = Collections.emptyList();
+        }
+
+        synchronized (this.pages) {
+            if (this.loading.remove(pageIndex) == null || rows == null) {
+                // cancelled or disposed
+                return;
+            }
+            this.pages.put(pageIndex, new ArrayList<>(rows));
+        }
+
+        ILayer layer = this.eventLayer;
+        if (layer != null) {
+            this.eventExecutor.execute(() -> layer.fireLayerEvent(
+                    new RowUpdateEvent(layer, new Range(startRow, startRow + count))));
+        }
+    }
+
+    /**
+     * Informs this provider about the currently visible rows. Loads the
+     * visible pages and the configured number of pages ahead in scroll
+     * direction, and cancels the loading of pages outside that range.
+     *
+     * @param firstRow
+     *            The index of the first visible row.
+     * @param lastRow
+     *            The index of the last visible row.
+     * @param direction
+     *            The scroll direction, a negative value if the rows were
+     *            scrolled up, a positive value or 0 otherwise.
+     */
+    public void updateVisibleRows(int firstRow, int lastRow, int direction) {
+        int firstPage = firstRow / this.pageSize;
+        int lastPage = lastRow / this.pageSize;
+        int from = direction < 0 ? firstPage - this.prefetchPages : firstPage;
+        int to = direction < 0 ? lastPage : lastPage + this.prefetchPages;
+
+        synchronized (this.pages) {
+            Iterator<Map.Entry<Integer, Future<?>>> iterator = this.loading.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Integer, Future<?>> entry = iterator.next();
+                int pageIndex = entry.getKey();
+                if (pageIndex < from || pageIndex > to) {
+                    entry.getValue().cancel(true);
+                    iterator.remove();
+                }
+            }
+            // the cancelled tasks stay in the queue otherwise
+            this.executor.purge();
+
+            for (int pageIndex = firstPage; pageIndex <= lastPage; pageIndex++) {
+                // mark the visible pages as recently used to avoid that they
+                // are evicted by the prefetched pages
+                this.pages.get(pageIndex);
+                requestPage(pageIndex);
+            }
+            if (direction < 0) {
+                for (int pageIndex = firstPage - 1; pageIndex >= from; pageIndex--) {
+                    requestPage(pageIndex);
+                }
+            } else {
+                for (int pageIndex = lastPage + 1; pageIndex <= to; pageIndex++) {
+                    requestPage(pageIndex);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void handleLayerEvent(ILayerEvent event) {
+        if (event instanceof ScrollEvent && this.viewportLayer != null) {
+            int direction = Integer.signum(((ScrollEvent) event).getDeltaY());
+            // process after the viewport finished the scroll operation
+            this.eventExecutor.execute(() -> updateFromViewport(direction));
+        }
+    }
+
+    private void updateFromViewport(int direction) {
+        ViewportLayer viewport = this.viewportLayer;
+        if (viewport == null || viewport.getRowCount() <= 0) {
+            return;
+        }
+        int firstRow = viewport.getRowIndexByPosition(0);
+        int lastRow = viewport.getRowIndexByPosition(viewport.getRowCount() - 1);
+        if (firstRow >= 0 && lastRow >= firstRow) {
+            updateVisibleRows(firstRow, lastRow, direction);
+        }
+    }
+
+    /**
+     *
+     * @param pageIndex
+     *            The index of the page.
+     * @return <code>true</code> if the page is currently queued or being
+     *         loaded.
+     */
+    public boolean isPageLoading(int pageIndex) {
+        synchronized (this.pages) {
+            return this.loading.containsKey(pageIndex);
+        }
+    }
+
+    /**
+     *
+     * @return The number of pages that are loaded ahead of the visible rows in
+     *         scroll direction.
+     */
+    public int getPrefetchPages() {
+        return this.prefetchPages;
+    }
+
+    /**
+     *
+     * @param prefetchPages
+     *            The number of pages that should be loaded ahead of the
+     *            visible rows in scroll direction.
+     */
+    public void setPrefetchPages(int prefetchPages) {
+        this.prefetchPages = Math.max(0, prefetchPages);
+    }
+
+    /**
+     *
+     * @param eventLayer
+     *            The layer on which a {@link RowUpdateEvent} is fired when a
+     *            page is loaded, typically the DataLayer that uses this
+     *            provider.
+     */
+    public void setEventLayer(ILayer eventLayer) {
+        this.eventLayer = eventLayer;
+    }
+
+    /**
+     * Sets the {@link Executor} that is used to fire the events and to
+     * process viewport changes. By default they are executed asynchronously in
+     * the UI thread.
+     *
+     * @param eventExecutor
+     *            The {@link Executor} for the event processing.
+     */
+    public void setEventExecutor(Executor eventExecutor) {
+        this.eventExecutor = eventExecutor;
+    }
+
+    /**
+     * Sets the {@link ViewportLayer} whose scroll operations should trigger
+     * the prefetching of pages.
+     *
+     * @param viewportLayer
+     *            The {@link ViewportLayer} that shows the rows of this
+     *            provider, or <code>null</code> to disable the prefetching.
+     */
+    public void setViewportLayer(ViewportLayer viewportLayer) {
+        if (this.viewportLayer != null) {
+            this.viewportLayer.removeLayerListener(this);
+        }
+        this.viewportLayer = viewportLayer;
+        if (viewportLayer != null) {
+            viewportLayer.addLayerListener(this);
+        }
+    }
+
+    /**
+     * Removes all loaded pages and cancels the pending loads, so the rows are
+     * loaded again on the next access.
+     */
+    public void clear() {
+        synchronized (this.pages) {
+            for (Future<?> future : this.loading.values()) {
+                future.cancel(true);
+            }
+            this.loading.clear();
+            this.executor.purge();
+            this.pages.clear();
+        }
+    }
+
+    /**
+     * Cancels all pending loads and stops the loading threads.
+     */
+    public void dispose() {
+        setViewportLayer(null);
+        synchronized (this.pages) {
+            this.executor.shutdownNow();
+            this.loading.clear();
+            this.pages.clear();
+        }
+    }
+}
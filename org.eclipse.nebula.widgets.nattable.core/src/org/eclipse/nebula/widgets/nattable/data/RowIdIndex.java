@@ -0,0 +1,420 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.data;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.eclipse.collections.api.factory.primitive.IntLists;
+import org.eclipse.collections.api.factory.primitive.ObjectIntMaps;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
+import org.eclipse.nebula.widgets.nattable.coordinate.Range;
+import org.eclipse.nebula.widgets.nattable.layer.ILayerListener;
+import org.eclipse.nebula.widgets.nattable.layer.event.ILayerEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.IStructuralChangeEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.StructuralDiff;
+import org.eclipse.nebula.widgets.nattable.layer.event.StructuralDiff.DiffTypeEnum;
+
+/**
+ * Reverse index that maps the row ids provided by an {@link IRowIdAccessor}
+ * to the row indexes of an {@link IRowDataProvider}. It is used by id based
+ * components like the RowSelectionModel, the PreserveSelectionModel or the
+ * RowIdHideShowLayer to avoid scanning the data via
+ * {@link IRowDataProvider#indexOfRowObject(Object)} for every row id.
+ * <p>
+ * The index is built lazily on the first access. To keep it up to date
+ * incrementally it needs to be registered as {@link ILayerListener} on the
+ * layer whose row positions are the row indexes of the
+ * {@link IRowDataProvider}, typically the body DataLayer. Inserted and
+ * deleted rows reported via {@link StructuralDiff}s are applied by shifting
+ * the indexes, other structural changes clear the index so it is built again
+ * on the next access. The methods {@link #rowsInserted(int, int)},
+ * {@link #rowsDeleted(int, int)}, {@link #rowsChanged(int[], int[])} and
+ * {@link #rowsUpdated(int, int)} can be used to connect the index to other
+ * change notifications, e.g. list events.
+ * </p>
+ * <p>
+ * Every lookup verifies that the row at the found index still has the
+ * requested id, so a found index is never wrong. For ids that are not found,
+ * unreported changes are only detected if they changed the number of rows.
+ * Rows that were replaced by rows with other ids without a notification are
+ * therefore not found until the index is cleared or the replacement is
+ * reported via {@link #rowsUpdated(int, int)}. Row ids need to be unique.
+ * </p>
+ *
+ * @param <T>
+ *            The type of the row objects.
+ *
+ * @since 2.7
+ */
+public class RowIdIndex<T> implements ILayerListener {
+
+    protected final IRowDataProvider<T> rowDataProvider;
+    protected final IRowIdAccessor<T> rowIdAccessor;
+
+    /**
+     * The type of the row objects that should be indexed, <code>null</code>
+     * if all row objects should be indexed.
+     */
+    private final Class<T> type;
+
+    /**
+     * The row index per row id, <code>null</code> if the index is not built.
+     */
+    private MutableObjectIntMap<Serializable> indexById;
+
+    /**
+     * The number of rows that are contained in the index.
+     */
+    private int indexedRowCount;
+
+    /**
+     *
+     * @param rowDataProvider
+     *            The {@link IRowDataProvider} whose row indexes should be
+     *            indexed.
+     * @param rowIdAccessor
+     *            The {@link IRowIdAccessor} to retrieve the row ids.
+     */
+    public RowIdIndex(IRowDataProvider<T> rowDataProvider, IRowIdAccessor<T> rowIdAccessor) {
+        this(rowDataProvider, rowIdAccessor, null);
+    }
+
+    /**
+     *
+     * @param rowDataProvider
+     *            The {@link IRowDataProvider} whose row indexes should be
+     *            indexed.
+     * @param rowIdAccessor
+     *            The {@link IRowIdAccessor} to retrieve the row ids.
+     * @param type
+     *            The type of the row objects that should be indexed. Row
+     *            objects of other types are skipped, which is needed if the
+     *            {@link IRowDataProvider} contains additional objects, e.g.
+     *            GroupByObjects. Can be <code>null</code> to index all row
+     *            objects.
+     */
+    public RowIdIndex(IRowDataProvider<T> rowDataProvider, IRowIdAccessor<T> rowIdAccessor, Class<T> type) {
+        this.rowDataProvider = rowDataProvider;
+        this.rowIdAccessor = rowIdAccessor;
+        this.type = type;
+    }
+
+    /**
+     *
+     * @return The {@link IRowDataProvider} whose row indexes are indexed.
+     */
+    public IRowDataProvider<T> getRowDataProvider() {
+        return this.rowDataProvider;
+    }
+
+    /**
+     *
+     * @return The {@link IRowIdAccessor} to retrieve the row ids.
+     */
+    public IRowIdAccessor<T> getRowIdAccessor() {
+        return this.rowIdAccessor;
+    }
+
+    /**
+     * Returns the row index of the row with the given id.
+     *
+     * @param rowId
+     *            The id of the row whose index is requested.
+     * @return The row index of the row with the given id or -1 if there is no
+     *         row with the given id.
+     */
+    public synchronized int getRowIndex(Serializable rowId) {
+        if (rowId == null) {
+            return -1;
+        }
+
+        if (this.indexById == null) {
+            buildIndex();
+        }
+
+        int rowIndex = this.indexById.getIfAbsent(rowId, -1);
+        if ((rowIndex >= 0 && !hasRowId(rowIndex, rowId))
+                || (rowIndex < 0 && this.indexedRowCount != this.rowDataProvider.getRowCount())) {
+            // the data was changed without a notification
+            buildIndex();
+            rowIndex = this.indexById.getIfAbsent(rowId, -1);
+        }
+        return rowIndex;
+    }
+
+    /**
+     * Returns the row index of the row with the same id as the given row
+     * object.
+     *
+     * @param rowObject
+     *            The row object whose index is requested.
+     * @return The row index of the row with the same id as the given row
+     *         object or -1 if there is no such row.
+     */
+    public int getRowIndexByRowObject(T rowObject) {
+        if (!isIndexed(rowObject)) {
+            return -1;
+        }
+        return getRowIndex(this.rowIdAccessor.getRowId(rowObject));
+    }
+
+    /**
+     * Removes all entries. The index is built again on the next access.
+     */
+    public synchronized void clear() {
+        this.indexById = null;
+        this.indexedRowCount = 0;
+    }
+
+    /**
+     * Updates the index for rows that were inserted into the data.
+     *
+     * @param rowIndex
+     *            The index of the first inserted row.
+     * @param count
+     *            The number of inserted rows.
+     */
+    public synchronized void rowsInserted(int rowIndex, int count) {
+        if (this.indexById != null && count > 0) {
+            applyChanges(new int[0], createRange(rowIndex, count));
+        }
+    }
+
+    /**
+     * Updates the index for rows that were deleted from and inserted into the
+     * data by a single change. Compared to calling
+     * {@link #rowsDeleted(int, int)} and {@link #rowsInserted(int, int)} per
+     * block, the index is only processed once for the whole change.
+     *
+     * @param deleted
+     *            The sorted unique indexes of the deleted rows, based on the
+     *            state before the change.
+     * @param inserted
+     *            The sorted unique indexes of the inserted rows, based on the
+     *            state after the change.
+     */
+    public synchronized void rowsChanged(int[] deleted, int[] inserted) {
+        if (this.indexById != null && (deleted.length > 0 || inserted.length > 0)) {
+            applyChanges(deleted, inserted);
+        }
+    }
+
+    /**
+     * Updates the index for rows that were deleted from the data.
+     *
+     * @param rowIndex
+     *            The index of the first deleted row, based on the state
+     *            before the deletion.
+     * @param count
+     *            The number of deleted rows.
+     */
+    public synchronized void rowsDeleted(int rowIndex, int count) {
+        if (this.indexById != null && count > 0) {
+            applyChanges(createRange(rowIndex, count), new int[0]);
+        }
+    }
+
+    /**
+     * Updates the index for rows that were replaced in the data.
+     *
+     * @param rowIndex
+     *            The index of the first updated row.
+     * @param count
+     *            The number of updated rows.
+     */
+    public synchronized void rowsUpdated(int rowIndex, int count) {
+        if (this.indexById != null) {
+            // the old ids of the rows are detected on lookup
+            int end = Math.min(rowIndex + count, this.rowDataProvider.getRowCount());
+            for (int i = Math.max(rowIndex, 0); i < end; i++) {
+                putRow(i);
+            }
+        }
+    }
+
+    @Override
+    public void handleLayerEvent(ILayerEvent event) {
+        if (event instanceof IStructuralChangeEvent
+                && ((IStructuralChangeEvent) event).isVerticalStructureChanged()) {
+            Collection<StructuralDiff> rowDiffs = ((IStructuralChangeEvent) event).getRowDiffs();
+            if (rowDiffs == null) {
+                clear();
+                return;
+            }
+
+            MutableIntList deleted = IntLists.mutable.empty();
+            MutableIntList inserted = IntLists.mutable.empty();
+            for (StructuralDiff rowDiff : rowDiffs) {
+                if (rowDiff.getDiffType() == DiffTypeEnum.DELETE) {
+                    Range range = rowDiff.getBeforePositionRange();
+                    for (int i = range.start; i < range.end; i++) {
+                        deleted.add(i);
+                    }
+                } else if (rowDiff.getDiffType() == DiffTypeEnum.ADD) {
+                    Range range = rowDiff.getAfterPositionRange();
+                    for (int i = range.start; i < range.end; i++) {
+                        inserted.add(i);
+                    }
+                }
+            }
+
+            rowsChanged(
+                    deleted.distinct().sortThis().toArray(),
+                    inserted.distinct().sortThis().toArray());
+        }
+    }
+
+    /**
+     * Builds the index by retrieving the ids of all rows.
+     */
+    private void buildIndex() {
+        int rowCount = this.rowDataProvider.getRowCount();
+        this.indexById = ObjectIntMaps.mutable.ofInitialCapacity(rowCount);
+        this.indexedRowCount = 0;
+        for (int i = 0; i < rowCount; i++) {
+            putRow(i);
+        }
+        this.indexedRowCount = rowCount;
+    }
+
+    /**
+     * Adds the id of the row at the given index to the index.
+     *
+     * @param rowIndex
+     *            The index of the row to add.
+     */
+    private void putRow(int rowIndex) {
+        T rowObject = this.rowDataProvider.getRowObject(rowIndex);
+        if (isIndexed(rowObject)) {
+            Serializable rowId = this.rowIdAccessor.getRowId(rowObject);
+            if (rowId != null) {
+                this.indexById.put(rowId, rowIndex);
+            }
+        }
+    }
+
+    /**
+     * Checks if the row at the given index has the given id.
+     *
+     * @param rowIndex
+     *            The index of the row to check.
+     * @param rowId
+     *            The expected row id.
+     * @return <code>true</code> if the row at the given index has the given
+     *         id.
+     */
+    private boolean hasRowId(int rowIndex, Serializable rowId) {
+        if (rowIndex >= this.rowDataProvider.getRowCount()) {
+            return false;
+        }
+        T rowObject = this.rowDataProvider.getRowObject(rowIndex);
+        return isIndexed(rowObject) && rowId.equals(this.rowIdAccessor.getRowId(rowObject));
+    }
+
+    /**
+     *
+     * @param rowObject
+     *            The row object to check.
+     * @return <code>true</code> if the given row object is not
+     *         <code>null</code> and of the type that should be indexed.
+     */
+    private boolean isIndexed(Object rowObject) {
+        return rowObject != null && (this.type == null || this.type.isInstance(rowObject));
+    }
+
+    /**
+     * Shifts the indexes for deleted and inserted rows in a single pass over
+     * the index and adds the inserted rows. Deletions are applied before
+     * insertions.
+     *
+     * @param deleted
+     *            The sorted unique indexes of the deleted rows, based on the
+     *            state before the change.
+     * @param inserted
+     *            The sorted unique indexes of the inserted rows, based on the
+     *            state after the change.
+     */
+    private void applyChanges(int[] deleted, int[] inserted) {
+        MutableObjectIntMap<Serializable> updated = ObjectIntMaps.mutable.ofInitialCapacity(this.indexById.size() + inserted.length);
+
+        // inserted[k] - k is not decreasing, so the number of inserted rows
+        // before an index can be found via binary search
+        int[] insertedShift = new int[inserted.length];
+        for (int k = 0; k < inserted.length; k++) {
+            insertedShift[k] = inserted[k] - k;
+        }
+
+        this.indexById.forEachKeyValue((rowId, rowIndex) -> {
+            int deletedBefore = Arrays.binarySearch(deleted, rowIndex);
+            if (deletedBefore >= 0) {
+                // the row was deleted
+                return;
+            }
+            int index = rowIndex - (-deletedBefore - 1);
+            index += countLessOrEqual(insertedShift, index);
+            updated.put(rowId, index);
+        });
+        this.indexById = updated;
+        this.indexedRowCount += inserted.length - deleted.length;
+
+        int rowCount = this.rowDataProvider.getRowCount();
+        for (int rowIndex : inserted) {
+            if (rowIndex < rowCount) {
+                putRow(rowIndex);
+            }
+        }
+    }
+
+    /**
+     *
+     * @param values
+     *            Values sorted in ascending order.
+     * @param value
+     *            The value to compare.
+     * @return The number of values that are less than or equal to the given
+     *         value.
+     */
+    private static int countLessOrEqual(int[] values, int value) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     *
+     * @param start
+     *            The first value.
+     * @param count
+     *            The number of values.
+     * @return An array that contains the values from start to start + count -
+     *         1.
+     */
+    private static int[] createRange(int start, int count) {
+        int[] result = new int[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = start + i;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.data;
+
+import java.util.function.IntPredicate;
+
+import org.eclipse.collections.api.factory.primitive.IntLists;
+import org.eclipse.collections.api.list.primitive.IntList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+
+/**
+ * Run-length index of the spanned cells in a single column or row. It stores
+ * the sorted positions at which a new span starts, so the start and the end
+ * of the span that contains a position are found via binary search in
+ * O(log n).
+ * <p>
+ * The index is used by the {@link AutomaticSpanningDataProvider}. For row
+ * spanning one index is created per column, for column spanning one index is
+ * created per row.
+ * </p>
+ *
+ * @since 2.7
+ */
+final class SpanRunIndex {
+
+    /**
+     * The sorted positions at which a span starts.
+     */
+    private MutableIntList starts;
+
+    /**
+     * The number of positions covered by this index.
+     */
+    private int length;
+
+    /**
+     * Creates the index by checking every position.
+     *
+     * @param length
+     *            The number of positions covered by the index.
+     * @param isStart
+     *            Predicate that checks if a span starts at a position.
+     */
+    SpanRunIndex(int length, IntPredicate isStart) {
+        this.length = length;
+        this.starts = IntLists.mutable.empty();
+        for (int position = 0; position < length; position++) {
+            if (isStart.test(position)) {
+                this.starts.add(position);
+            }
+        }
+    }
+
+    /**
+     *
+     * @return The number of positions covered by this index.
+     */
+    int length() {
+        return this.length;
+    }
+
+    /**
+     *
+     * @param position
+     *            The position whose span is requested.
+     * @return The position at which the span that contains the given position
+     *         starts.
+     */
+    int getStart(int position) {
+        int idx = this.starts.binarySearch(position);
+        if (idx >= 0) {
+            return position;
+        }
+        int insertionPoint = -idx - 1;
+        return insertionPoint > 0 ? this.starts.get(insertionPoint - 1) : position;
+    }
+
+    /**
+     *
+     * @param position
+     *            The position whose span is requested.
+     * @return The position after the last position of the span that contains
+     *         the given position.
+     */
+    int getEnd(int position) {
+        int idx = this.starts.binarySearch(position);
+        int next = idx >= 0 ? idx + 1 : -idx - 1;
+        return next < this.starts.size() ? this.starts.get(next) : this.length;
+    }
+
+    /**
+     * Updates whether a span starts at the given position.
+     *
+     * @param position
+     *            The position to update.
+     * @param isStart
+     *            Predicate that checks if a span starts at a position.
+     */
+    void update(int position, IntPredicate isStart) {
+        if (position < 0 || position >= this.length) {
+            return;
+        }
+        int idx = this.starts.binarySearch(position);
+        boolean start = isStart.test(position);
+        if (start && idx < 0) {
+            this.starts.addAtIndex(-idx - 1, position);
+        } else if (!start && idx >= 0) {
+            this.starts.removeAtIndex(idx);
+        }
+    }
+
+    /**
+     * Removes the given positions from the index and shifts the following
+     * span starts. The positions at which positions were removed are checked
+     * again afterwards.
+     *
+     * @param deleted
+     *            The sorted positions that were deleted, based on the
+     *            positions before the deletion.
+     * @param isStart
+     *            Predicate that checks if a span starts at a position, based
+     *            on the positions after the deletion.
+     */
+    void delete(IntList deleted, IntPredicate isStart) {
+        MutableIntList newStarts = IntLists.mutable.withInitialCapacity(this.starts.size());
+        int removed = 0;
+        for (int i = 0; i < this.starts.size(); i++) {
+            int start = this.starts.get(i);
+            while (removed < deleted.size() && deleted.get(removed) < start) {
+                removed++;
+            }
+            if (removed >= deleted.size() || deleted.get(removed) != start) {
+                newStarts.add(start - removed);
+            }
+        }
+        this.starts = newStarts;
+        this.length = Math.max(0, this.length - deleted.size());
+
+        for (int i = 0; i < deleted.size(); i++) {
+            // the position that moved into the gap
+            update(deleted.get(i) - i, isStart);
+        }
+    }
+
+    /**
+     * Inserts the given positions into the index and shifts the following
+     * span starts. The inserted positions and the positions after them are
+     * checked afterwards.
+     *
+     * @param inserted
+     *            The sorted positions that were inserted, based on the
+     *            positions after the insertion.
+     * @param isStart
+     *            Predicate that checks if a span starts at a position, based
+     *            on the positions after the insertion.
+     */
+    void insert(IntList inserted, IntPredicate isStart) {
+        MutableIntList newStarts = IntLists.mutable.withInitialCapacity(this.starts.size() + inserted.size());
+        int added = 0;
+        for (int i = 0; i < this.starts.size(); i++) {
+            int start = this.starts.get(i);
+            while (added < inserted.size() && inserted.get(added) <= start + added) {
+                added++;
+            }
+            newStarts.add(start + added);
+        }
+        this.starts = newStarts;
+        this.length += inserted.size();
+
+        for (int i = 0; i < inserted.size(); i++) {
+            int position = inserted.get(i);
+            update(position, isStart);
+            update(position + 1, isStart);
+        }
+    }
+}
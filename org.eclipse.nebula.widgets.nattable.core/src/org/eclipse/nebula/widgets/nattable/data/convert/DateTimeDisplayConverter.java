@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.data.convert;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.time.temporal.TemporalAccessor;
+import java.util.Calendar;
+import java.util.Date;
+
+import org.eclipse.nebula.widgets.nattable.Messages;
+import org.eclipse.nebula.widgets.nattable.util.ObjectUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Converts date and time values to a given format and vice versa by using a
+ * {@link DateTimeFormatter}.
+ * <p>
+ * In contrast to the {@link DefaultDateDisplayConverter} that uses a
+ * {@link java.text.SimpleDateFormat}, this converter is immutable and
+ * thread-safe. A single instance can therefore be shared by operations that
+ * convert values in parallel, e.g. export, search, filter or auto resize.
+ * </p>
+ * <p>
+ * Supported canonical values are {@link Date}, {@link Calendar} and all
+ * {@link TemporalAccessor} implementations that contain the fields of the
+ * format, e.g. {@link LocalDate}, {@link LocalDateTime}, {@link ZonedDateTime}
+ * or {@link Instant}. On converting back, a value of the configured canonical
+ * type is created, which is {@link Date} by default.
+ * </p>
+ * <p>
+ * <b>Note:</b> The pattern letters of {@link DateTimeFormatter} are mostly the
+ * same as the ones of {@link java.text.SimpleDateFormat}, but not all, e.g.
+ * <code>u</code> is the year instead of the day number of week.
+ * </p>
+ *
+ * @since 2.7
+ */
+public class DateTimeDisplayConverter extends DisplayConverter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DateTimeDisplayConverter.class);
+
+    private final DateTimeFormatter formatter;
+    private final String pattern;
+    private final Class<?> canonicalType;
+
+    /**
+     * Convert {@link Date} to {@link String} using the localized short date
+     * and time format in the system default time zone.
+     */
+    public DateTimeDisplayConverter() {
+        this((String) null, null);
+    }
+
+    /**
+     * Convert {@link Date} to {@link String} using the localized short date
+     * and time format.
+     *
+     * @param zone
+     *            The time zone used to convert instant based values like
+     *            {@link Date}. Can be <code>null</code> to use the system
+     *            default time zone.
+     */
+    public DateTimeDisplayConverter(ZoneId zone) {
+        this(null, zone);
+    }
+
+    /**
+     * Convert {@link Date} to {@link String} using the given pattern in the
+     * system default time zone.
+     *
+     * @param pattern
+     *            The pattern as specified in {@link DateTimeFormatter}.
+     */
+    public DateTimeDisplayConverter(String pattern) {
+        this(pattern, null);
+    }
+
+    /**
+     * Convert {@link Date} to {@link String} using the given pattern.
+     *
+     * @param pattern
+     *            The pattern as specified in {@link DateTimeFormatter}. Can be
+     *            <code>null</code> to use the localized short date and time
+     *            format.
+     * @param zone
+     *            The time zone used to convert instant based values like
+     *            {@link Date}. Can be <code>null</code> to use the system
+     *            default time zone.
+     */
+    public DateTimeDisplayConverter(String pattern, ZoneId zone) {
+        this(pattern != null
+                ? DateTimeFormatter.ofPattern(pattern)
+                : DateTimeFormatter.ofLocalizedDateTime(FormatStyle.SHORT),
+                zone,
+                Date.class,
+                pattern);
+    }
+
+    /**
+     * Creates a converter that uses the given {@link DateTimeFormatter}.
+     *
+     * @param formatter
+     *            The {@link DateTimeFormatter} used for the conversion. If it
+     *            does not specify a zone, the system default time zone is
+     *            used.
+     * @param canonicalType
+     *            The type of the canonical values created on converting the
+     *            display value. Supported are {@link Date}, {@link Instant},
+     *            {@link LocalDate}, {@link LocalDateTime} and
+     *            {@link ZonedDateTime}.
+     */
+    public DateTimeDisplayConverter(DateTimeFormatter formatter, Class<?> canonicalType) {
+        this(formatter, formatter.getZone(), canonicalType, formatter.toString());
+    }
+
+    private DateTimeDisplayConverter(DateTimeFormatter formatter, ZoneId zone, Class<?> canonicalType, String pattern) {
+        if (canonicalType != Date.class
+                && canonicalType != Instant.class
+                && canonicalType != LocalDate.class
+                && canonicalType != LocalDateTime.class
+                && canonicalType != ZonedDateTime.class) {
+            throw new IllegalArgumentException("Unsupported canonical type " + canonicalType); //$NON-NLS-1$
+        }
+        this.formatter = formatter.withZone(zone != null ? zone : ZoneId.systemDefault());
+        this.canonicalType = canonicalType;
+        this.pattern = pattern != null ? pattern : this.formatter.toString();
+    }
+
+    @Override
+    public Object canonicalToDisplayValue(Object canonicalValue) {
+        try {
+            if (ObjectUtils.isNotNull(canonicalValue)) {
+                return this.formatter.format(toTemporal(canonicalValue));
+            }
+        } catch (Exception e) {
+            LOG.warn("Error on conversion", e); //$NON-NLS-1$
+        }
+        return canonicalValue;
+    }
+
+    @Override
+    public Object displayToCanonicalValue(Object displayValue) {
+        try {
+            return toCanonicalValue(this.formatter.parseBest(
+                    displayValue.toString(),
+                    ZonedDateTime::from,
+                    LocalDateTime::from,
+                    LocalDate::from));
+        } catch (Exception e) {
+            throw new ConversionFailedException(Messages.getString("DefaultDateDisplayConverter.failure", //$NON-NLS-1$
+                    displayValue, this.pattern), e);
+        }
+    }
+
+    /**
+     *
+     * @return The {@link DateTimeFormatter} used by this converter, including
+     *         the time zone.
+     */
+    public DateTimeFormatter getFormatter() {
+        return this.formatter;
+    }
+
+    private TemporalAccessor toTemporal(Object canonicalValue) {
+        if (canonicalValue instanceof TemporalAccessor) {
+            return (TemporalAccessor) canonicalValue;
+        } else if (canonicalValue instanceof Date) {
+            // Date#toInstant() is not supported by java.sql.Date
+            return Instant.ofEpochMilli(((Date) canonicalValue).getTime());
+        } else if (canonicalValue instanceof Calendar) {
+            return Instant.ofEpochMilli(((Calendar) canonicalValue).getTimeInMillis());
+        }
+        throw new IllegalArgumentException("Unsupported value " + canonicalValue); //$NON-NLS-1$
+    }
+
+    private Object toCanonicalValue(TemporalAccessor parsed) {
+        ZonedDateTime dateTime;
+        if (parsed instanceof ZonedDateTime) {
+            dateTime = (ZonedDateTime) parsed;
+        } else if (parsed instanceof LocalDateTime) {
+            dateTime = ((LocalDateTime) parsed).atZone(this.formatter.getZone());
+        } else {
+            dateTime = ((LocalDate) parsed).atStartOfDay(this.formatter.getZone());
+        }
+
+        if (this.canonicalType == LocalDate.class) {
+            return dateTime.toLocalDate();
+        } else if (this.canonicalType == LocalDateTime.class) {
+            return dateTime.toLocalDateTime();
+        } else if (this.canonicalType == ZonedDateTime.class) {
+            return dateTime;
+        } else if (this.canonicalType == Instant.class) {
+            return dateTime.toInstant();
+        }
+        return new Date(dateTime.toInstant().toEpochMilli());
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -41,6 +41,24 @@ public DefaultDoubleDisplayConverter(boolean useNumberFormat) {
         super(useNumberFormat);
     }
 
+    /**
+     * Converts the given primitive double value to the display value without
+     * boxing it. Can be used together with an
+     * {@link org.eclipse.nebula.widgets.nattable.data.IPrimitiveDataProvider
+     * IPrimitiveDataProvider} to format numeric columns.
+     *
+     * @param canonicalValue
+     *            The value to convert.
+     * @return The display value.
+     * @since 2.7
+     */
+    public String canonicalToDisplayValue(double canonicalValue) {
+        if (this.nf != null) {
+            return this.nf.format(canonicalValue);
+        }
+        return Double.toString(canonicalValue);
+    }
+
     @Override
     protected Object convertToNumericValue(String value) {
         if (this.nf != null) {
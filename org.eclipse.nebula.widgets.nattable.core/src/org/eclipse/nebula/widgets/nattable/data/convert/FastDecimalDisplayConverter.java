@@ -0,0 +1,400 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.data.convert;
+
+import static org.eclipse.nebula.widgets.nattable.util.ObjectUtils.isNotEmpty;
+import static org.eclipse.nebula.widgets.nattable.util.ObjectUtils.isNotNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+import org.eclipse.nebula.widgets.nattable.Messages;
+
+/**
+ * Converts numeric values to a decimal representation and vice versa without
+ * using a {@link java.text.NumberFormat}.
+ * <p>
+ * The converter is immutable and thread-safe, so a single instance can be
+ * shared by operations that convert values in parallel, e.g. export, search,
+ * filter or auto resize. The digits are written directly into a
+ * {@link StringBuilder}, either a reusable buffer per thread on
+ * {@link #canonicalToDisplayValue(Object)}, or a buffer of the caller via
+ * {@link #format(double, StringBuilder)} and
+ * {@link #format(long, StringBuilder)}, which avoids the intermediate objects
+ * created by {@link java.text.NumberFormat}.
+ * </p>
+ * <p>
+ * The output is the same as of a {@link java.text.NumberFormat} with the same
+ * fraction digits, grouping and locale, rounding
+ * {@link RoundingMode#HALF_EVEN}. The default configuration corresponds to the
+ * {@link DefaultDoubleDisplayConverter}.
+ * </p>
+ *
+ * @since 2.7
+ */
+public class FastDecimalDisplayConverter extends DisplayConverter {
+
+    /**
+     * The maximum number of supported fraction digits.
+     */
+    public static final int MAX_FRACTION_DIGITS = 15;
+
+    private static final long[] POW10 = new long[19];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+    }
+
+    /**
+     * Values that are scaled by the fraction digits bigger than this limit are
+     * formatted via {@link BigDecimal}, as the precision of the double
+     * multiplication is not sufficient anymore to decide about the rounding.
+     */
+    private static final double FAST_PATH_LIMIT = 1e12;
+
+    /**
+     * Scaled values whose remainder is closer to 0.5 than this are formatted
+     * via {@link BigDecimal} to round based on the exact binary value.
+     */
+    private static final double TIE_TOLERANCE = 1e-3;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(32));
+
+    private final int minimumFractionDigits;
+    private final int maximumFractionDigits;
+    private final boolean groupingUsed;
+    private final Class<? extends Number> canonicalType;
+
+    private final char groupingSeparator;
+    private final char decimalSeparator;
+    private final char minusSign;
+    private final String nan;
+    private final String infinity;
+
+    /**
+     * Creates a converter for {@link Double} values that shows 1 to 2 fraction
+     * digits and uses grouping in the default locale.
+     */
+    public FastDecimalDisplayConverter() {
+        this(1, 2);
+    }
+
+    /**
+     * Creates a converter for {@link Double} values that uses grouping in the
+     * default locale.
+     *
+     * @param minimumFractionDigits
+     *            The minimum number of fraction digits to be shown.
+     * @param maximumFractionDigits
+     *            The maximum number of fraction digits to be shown.
+     */
+    public FastDecimalDisplayConverter(int minimumFractionDigits, int maximumFractionDigits) {
+        this(minimumFractionDigits, maximumFractionDigits, true, Locale.getDefault(Locale.Category.FORMAT), Double.class);
+    }
+
+    /**
+     * Creates a converter with the given configuration.
+     *
+     * @param minimumFractionDigits
+     *            The minimum number of fraction digits to be shown.
+     * @param maximumFractionDigits
+     *            The maximum number of fraction digits to be shown, at most
+     *            {@link #MAX_FRACTION_DIGITS}.
+     * @param groupingUsed
+     *            <code>true</code> if the integer digits should be grouped,
+     *            <code>false</code> if not.
+     * @param locale
+     *            The {@link Locale} that specifies the separators.
+     * @param canonicalType
+     *            The type of the canonical values created on converting the
+     *            display value. Supported are {@link Double}, {@link Float},
+     *            {@link Long}, {@link Integer} and {@link BigDecimal}.
+     */
+    public FastDecimalDisplayConverter(
+            int minimumFractionDigits,
+            int maximumFractionDigits,
+            boolean groupingUsed,
+            Locale locale,
+            Class<? extends Number> canonicalType) {
+
+        if (minimumFractionDigits < 0
+                || maximumFractionDigits < minimumFractionDigits
+                || maximumFractionDigits > MAX_FRACTION_DIGITS) {
+            throw new IllegalArgumentException("Invalid fraction digits " //$NON-NLS-1$
+                    + minimumFractionDigits + " - " + maximumFractionDigits); //$NON-NLS-1$
+        }
+        if (canonicalType != Double.class
+                && canonicalType != Float.class
+                && canonicalType != Long.class
+                && canonicalType != Integer.class
+                && canonicalType != BigDecimal.class) {
+            throw new IllegalArgumentException("Unsupported canonical type " + canonicalType); //$NON-NLS-1$
+        }
+
+        this.minimumFractionDigits = minimumFractionDigits;
+        this.maximumFractionDigits = maximumFractionDigits;
+        this.groupingUsed = groupingUsed;
+        this.canonicalType = canonicalType;
+
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+        this.groupingSeparator = symbols.getGroupingSeparator();
+        this.decimalSeparator = symbols.getDecimalSeparator();
+        this.minusSign = symbols.getMinusSign();
+        this.nan = symbols.getNaN();
+        this.infinity = symbols.getInfinity();
+    }
+
+    @Override
+    public Object canonicalToDisplayValue(Object canonicalValue) {
+        if (!isNotNull(canonicalValue)) {
+            return null;
+        }
+        if (!(canonicalValue instanceof Number)) {
+            return canonicalValue;
+        }
+
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        if (canonicalValue instanceof Long
+                || canonicalValue instanceof Integer
+                || canonicalValue instanceof Short
+                || canonicalValue instanceof Byte) {
+            format(((Number) canonicalValue).longValue(), buffer);
+        } else if (canonicalValue instanceof BigDecimal) {
+            format((BigDecimal) canonicalValue, buffer);
+        } else if (canonicalValue instanceof BigInteger) {
+            format(new BigDecimal((BigInteger) canonicalValue), buffer);
+        } else {
+            format(((Number) canonicalValue).doubleValue(), buffer);
+        }
+        return buffer.toString();
+    }
+
+    @Override
+    public Object displayToCanonicalValue(Object displayValue) {
+        try {
+            if (isNotNull(displayValue) && isNotEmpty(displayValue.toString())) {
+                return convertToNumericValue(normalize(displayValue.toString().trim()));
+            }
+            return null;
+        } catch (Exception e) {
+            throw new ConversionFailedException(Messages.getString("NumericDisplayConverter.failure", //$NON-NLS-1$
+                    displayValue), e);
+        }
+    }
+
+    /**
+     * Appends the display value of the given double value to the given
+     * {@link StringBuilder}.
+     *
+     * @param value
+     *            The value to format.
+     * @param target
+     *            The {@link StringBuilder} to which the formatted value is
+     *            appended.
+     */
+    public void format(double value, StringBuilder target) {
+        if (Double.isNaN(value)) {
+            target.append(this.nan);
+            return;
+        }
+
+        // also true for -0.0, which is formatted with sign by NumberFormat
+        boolean negative = Double.doubleToRawLongBits(value) < 0;
+        if (Double.isInfinite(value)) {
+            if (negative) {
+                target.append(this.minusSign);
+            }
+            target.append(this.infinity);
+            return;
+        }
+
+        double scaled = Math.abs(value) * POW10[this.maximumFractionDigits];
+        if (scaled < FAST_PATH_LIMIT) {
+            long unscaled = (long) scaled;
+            double remainder = scaled - unscaled;
+            if (Math.abs(remainder - 0.5) > TIE_TOLERANCE) {
+                if (remainder > 0.5) {
+                    unscaled++;
+                }
+                appendUnscaled(negative, unscaled, this.maximumFractionDigits, target);
+                return;
+            }
+        }
+
+        // like NumberFormat, use the shortest decimal representation of the
+        // value, but round based on the exact binary value
+        double abs = Math.abs(value);
+        BigDecimal decimal = new BigDecimal(Double.toString(abs));
+        if (decimal.scale() > this.maximumFractionDigits) {
+            decimal = new BigDecimal(abs).setScale(this.maximumFractionDigits, RoundingMode.HALF_EVEN);
+        } else {
+            decimal = decimal.setScale(this.maximumFractionDigits);
+        }
+        appendUnscaled(negative, decimal.unscaledValue(), target);
+    }
+
+    /**
+     * Appends the display value of the given long value to the given
+     * {@link StringBuilder}.
+     *
+     * @param value
+     *            The value to format.
+     * @param target
+     *            The {@link StringBuilder} to which the formatted value is
+     *            appended.
+     */
+    public void format(long value, StringBuilder target) {
+        if (value == Long.MIN_VALUE) {
+            appendUnscaled(true, BigInteger.valueOf(value).negate().multiply(BigInteger.valueOf(POW10[this.maximumFractionDigits])), target);
+        } else {
+            appendUnscaled(value < 0, Math.abs(value), 0, target);
+        }
+    }
+
+    /**
+     * Appends the display value of the given {@link BigDecimal} to the given
+     * {@link StringBuilder}.
+     *
+     * @param value
+     *            The value to format.
+     * @param target
+     *            The {@link StringBuilder} to which the formatted value is
+     *            appended.
+     */
+    public void format(BigDecimal value, StringBuilder target) {
+        appendUnscaled(value.signum() < 0, value.abs()
+                .setScale(this.maximumFractionDigits, RoundingMode.HALF_EVEN)
+                .unscaledValue(), target);
+    }
+
+    /**
+     * Appends the value <code>unscaled / 10^scale</code>.
+     */
+    private void appendUnscaled(boolean negative, long unscaled, int scale, StringBuilder target) {
+        long integerPart = unscaled / POW10[scale];
+        long fraction = unscaled % POW10[scale];
+
+        if (negative) {
+            target.append(this.minusSign);
+        }
+
+        int digits = 1;
+        while (digits < POW10.length && integerPart >= POW10[digits]) {
+            digits++;
+        }
+        for (int i = digits - 1; i >= 0; i--) {
+            target.append((char) ('0' + (integerPart / POW10[i]) % 10));
+            if (this.groupingUsed && i > 0 && i % 3 == 0) {
+                target.append(this.groupingSeparator);
+            }
+        }
+
+        // strip trailing zeros down to the minimum fraction digits
+        int fractionDigits = scale;
+        while (fractionDigits > this.minimumFractionDigits && fraction % 10 == 0) {
+            fraction /= 10;
+            fractionDigits--;
+        }
+        if (fractionDigits > 0) {
+            target.append(this.decimalSeparator);
+            for (int i = fractionDigits - 1; i >= 0; i--) {
+                target.append((char) ('0' + (fraction / POW10[i]) % 10));
+            }
+        } else if (this.minimumFractionDigits > 0) {
+            // scale 0 on formatting long values
+            target.append(this.decimalSeparator);
+            for (int i = 0; i < this.minimumFractionDigits; i++) {
+                target.append('0');
+            }
+        }
+    }
+
+    /**
+     * Appends the value <code>unscaled / 10^maximumFractionDigits</code> for
+     * values that do not fit into a long.
+     */
+    private void appendUnscaled(boolean negative, BigInteger unscaled, StringBuilder target) {
+        if (unscaled.bitLength() < 63) {
+            appendUnscaled(negative, unscaled.longValue(), this.maximumFractionDigits, target);
+            return;
+        }
+
+        String digits = unscaled.toString();
+        int integerDigits = digits.length() - this.maximumFractionDigits;
+
+        if (negative) {
+            target.append(this.minusSign);
+        }
+        for (int i = 0; i < integerDigits; i++) {
+            target.append(digits.charAt(i));
+            int remaining = integerDigits - i - 1;
+            if (this.groupingUsed && remaining > 0 && remaining % 3 == 0) {
+                target.append(this.groupingSeparator);
+            }
+        }
+
+        int fractionEnd = digits.length();
+        while (fractionEnd - integerDigits > this.minimumFractionDigits && digits.charAt(fractionEnd - 1) == '0') {
+            fractionEnd--;
+        }
+        if (fractionEnd > integerDigits) {
+            target.append(this.decimalSeparator);
+            target.append(digits, integerDigits, fractionEnd);
+        }
+    }
+
+    /**
+     * Removes the grouping separators and replaces the locale specific
+     * symbols so the value can be parsed.
+     */
+    private String normalize(String value) {
+        StringBuilder result = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == this.groupingSeparator
+                    || (Character.isSpaceChar(this.groupingSeparator) && Character.isSpaceChar(c))) {
+                continue;
+            } else if (c == this.decimalSeparator) {
+                result.append('.');
+            } else if (c == this.minusSign) {
+                result.append('-');
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    private Number convertToNumericValue(String value) {
+        if (this.canonicalType == Double.class) {
+            return Double.valueOf(value);
+        } else if (this.canonicalType == Float.class) {
+            return Float.valueOf(value);
+        }
+
+        BigDecimal decimal = new BigDecimal(value);
+        if (this.canonicalType == Long.class) {
+            return decimal.longValueExact();
+        } else if (this.canonicalType == Integer.class) {
+            return decimal.intValueExact();
+        }
+        return decimal;
+    }
+}
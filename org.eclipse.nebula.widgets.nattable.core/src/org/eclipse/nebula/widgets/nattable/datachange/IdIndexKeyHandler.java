@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2022 Dirk Fauth and others.
+ * Copyright (c) 2017, 2026 Dirk Fauth and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,10 +12,12 @@
  *******************************************************************************/
 package org.eclipse.nebula.widgets.nattable.datachange;
 
+import java.io.Serializable;
 import java.lang.reflect.Method;
 
 import org.eclipse.nebula.widgets.nattable.data.IRowDataProvider;
 import org.eclipse.nebula.widgets.nattable.data.IRowIdAccessor;
+import org.eclipse.nebula.widgets.nattable.data.RowIdIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,6 +41,11 @@
 
     private Class<?> clazz;
 
+    /**
+     * Optional reverse index to find the row index of a row id.
+     */
+    private RowIdIndex<T> rowIdIndex;
+
     /**
      * Creates an {@link IdIndexKeyHandler} that identifies the type to handle
      * via reflection. If the reflection fails or produces strange results, try
@@ -129,9 +136,38 @@ public int getColumnIndex(IdIndexIdentifier<T> key) {
 
     @Override
     public int getRowIndex(IdIndexIdentifier<T> key) {
+        if (this.rowIdIndex != null && key.rowId instanceof Serializable) {
+            return this.rowIdIndex.getRowIndex((Serializable) key.rowId);
+        }
         return this.rowDataProvider.indexOfRowObject(key.rowObject);
     }
 
+    /**
+     *
+     * @return The {@link RowIdIndex} that is used to find the row index of a
+     *         key, or <code>null</code> if the row index is searched via
+     *         {@link IRowDataProvider#indexOfRowObject(Object)}.
+     * @since 2.7
+     */
+    public RowIdIndex<T> getRowIdIndex() {
+        return this.rowIdIndex;
+    }
+
+    /**
+     * Set a {@link RowIdIndex} that should be used to find the row index of a
+     * key. Avoids scanning the data for every tracked change, e.g. on
+     * rendering the data changes or on save and discard.
+     *
+     * @param rowIdIndex
+     *            The {@link RowIdIndex} that should be used, or
+     *            <code>null</code> to search the row index via
+     *            {@link IRowDataProvider#indexOfRowObject(Object)}.
+     * @since 2.7
+     */
+    public void setRowIdIndex(RowIdIndex<T> rowIdIndex) {
+        this.rowIdIndex = rowIdIndex;
+    }
+
     @Override
     public boolean updateOnHorizontalStructuralChange() {
         // return true because the column is identified by index
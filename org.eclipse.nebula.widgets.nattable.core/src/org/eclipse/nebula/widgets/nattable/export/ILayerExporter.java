@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -143,7 +143,9 @@ void exportRowEnd(OutputStream outputStream, int rowPosition)
      *            is determined by using the data value of the ILayerCell and
      *            the registered IExportFormatter within the NatExporter.
      * @param cell
-     *            The ILayerCell that is currently exported.
+     *            The ILayerCell that is currently exported. The instance
+     *            might be reused for the next cell, so a reference to it
+     *            should not be kept after this method returns.
      * @param configRegistry
      *            The ConfigRegistry to retrieve the registered style
      *            information of the cell that is currently exported.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2025 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -29,6 +29,7 @@
 import org.eclipse.nebula.widgets.nattable.formula.command.EnableFormulaEvaluationCommand;
 import org.eclipse.nebula.widgets.nattable.layer.ILayer;
 import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
+import org.eclipse.nebula.widgets.nattable.layer.cell.MutableLayerCell;
 import org.eclipse.nebula.widgets.nattable.print.command.PrintEntireGridCommand;
 import org.eclipse.nebula.widgets.nattable.print.command.TurnViewportOffCommand;
 import org.eclipse.nebula.widgets.nattable.print.command.TurnViewportOnCommand;
@@ -702,6 +703,10 @@ public void exportTable(
 
                         int layerHeight = layer.getHeight();
 
+                        // the cell is only used during the export of a single
+                        // cell, so it can be reused for all positions
+                        MutableLayerCell reusableCell = new MutableLayerCell();
+
                         for (int rowPosition = 0; rowPosition < layer.getRowCount(); rowPosition++) {
 
                             if (layer.getRowHeightByPosition(rowPosition) > 0
@@ -715,7 +720,7 @@ public void exportTable(
 
                                 for (int columnPosition = 0; columnPosition < layer.getColumnCount(); columnPosition++) {
 
-                                    ILayerCell cell = layer.getCellByPosition(columnPosition, rowPosition);
+                                    ILayerCell cell = layer.getCellByPosition(columnPosition, rowPosition, reusableCell);
                                     if (cell != null) {
                                         IExportFormatter exportFormatter = configRegistry.getConfigAttribute(
                                                 ExportConfigAttributes.EXPORT_FORMATTER,
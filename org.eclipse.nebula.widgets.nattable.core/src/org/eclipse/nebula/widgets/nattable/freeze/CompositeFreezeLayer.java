@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2023 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -39,6 +39,7 @@
 import org.eclipse.nebula.widgets.nattable.viewport.ViewportLayer;
 import org.eclipse.nebula.widgets.nattable.viewport.command.ViewportSelectColumnCommandHandler;
 import org.eclipse.nebula.widgets.nattable.viewport.command.ViewportSelectRowCommandHandler;
+import org.eclipse.nebula.widgets.nattable.viewport.event.ScrollEvent;
 import org.eclipse.swt.graphics.Point;
 
 public class CompositeFreezeLayer extends CompositeLayer implements IUniqueIndexLayer {
@@ -112,9 +113,31 @@ else if (event instanceof ColumnResizeEvent
             this.viewportLayer.setMinimumOriginX(this.freezeLayer.getWidth());
         }
 
+        // the freeze separator is painted at the edges of the viewport and
+        // does not move together with the scrolled content
+        if (event instanceof ScrollEvent && isFrozen()) {
+            int inset = getSeparatorInset();
+            ((ScrollEvent) event).insetScrolledArea(
+                    this.freezeLayer.getColumnCount() > 0 ? inset : 0,
+                    this.freezeLayer.getRowCount() > 0 ? inset : 0);
+        }
+
         super.handleLayerEvent(event);
     }
 
+    /**
+     *
+     * @return The number of pixels the freeze separator reaches into the
+     *         non-frozen region.
+     */
+    private int getSeparatorInset() {
+        int lineWidth = 1;
+        if (this.layerPainter instanceof CompositeFreezeLayerPainter) {
+            lineWidth = ((CompositeFreezeLayerPainter) this.layerPainter).getSeparatorLineWidth();
+        }
+        return lineWidth / 2 + 1;
+    }
+
     public boolean isFrozen() {
         return this.freezeLayer.isFrozen();
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Dirk Fauth and others.
+ * Copyright (c) 2012, 2026 Dirk Fauth and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -88,7 +88,7 @@ public static void freeze(
                     : scrollableLayer.getStartYOfRowPosition(bottomRightPosition.rowPosition + 1);
             viewportLayer.setMinimumOrigin(originX, originY);
             viewportLayer.setOriginX(0);
-            viewportLayer.setOriginY(0);
+            viewportLayer.setOriginRowPosition(0);
             viewportLayer.fireLayerEvent(new FreezeEvent(viewportLayer));
         }
     }
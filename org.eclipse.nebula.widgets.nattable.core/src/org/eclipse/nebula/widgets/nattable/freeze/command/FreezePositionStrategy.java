@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -79,7 +79,7 @@ public PositionCoordinate getTopLeftPosition() {
             if (columnPosition > 0 && columnPosition >= this.columnPosition) {
                 columnPosition = this.columnPosition;
             }
-            rowPosition = this.viewportLayer.getScrollableLayer().getRowPositionByY(this.viewportLayer.getOrigin().getY());
+            rowPosition = this.viewportLayer.getOriginRowPosition();
             if (rowPosition > 0 && rowPosition >= this.rowPosition) {
                 rowPosition = this.rowPosition;
             }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2020 Dirk Fauth and others.
+ * Copyright (c) 2013, 2026 Dirk Fauth and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -47,7 +47,7 @@ public FreezeRowStrategy(FreezeLayer freezeLayer, ViewportLayer viewportLayer, i
     public PositionCoordinate getTopLeftPosition() {
         int rowPosition = 0;
         if (this.viewportLayer != null) {
-            rowPosition = this.viewportLayer.getScrollableLayer().getRowPositionByY(this.viewportLayer.getOrigin().getY());
+            rowPosition = this.viewportLayer.getOriginRowPosition();
             if (rowPosition > 0 && rowPosition >= this.rowPosition) {
                 rowPosition = this.rowPosition;
             }
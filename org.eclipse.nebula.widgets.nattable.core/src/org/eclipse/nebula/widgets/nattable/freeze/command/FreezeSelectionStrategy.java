@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -87,7 +87,7 @@ public PositionCoordinate getTopLeftPosition() {
             }
         }
 
-        int rowPosition = this.viewportLayer.getScrollableLayer().getRowPositionByY(this.viewportLayer.getOrigin().getY());
+        int rowPosition = this.viewportLayer.getOriginRowPosition();
         if (rowPosition > 0
                 && rowPosition >= selectedRowPosition) {
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2023 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -18,7 +18,6 @@
 import java.util.HashSet;
 
 import org.eclipse.collections.api.factory.primitive.IntIntMaps;
-import org.eclipse.collections.api.map.primitive.IntIntMap;
 import org.eclipse.collections.api.map.primitive.MutableIntIntMap;
 import org.eclipse.nebula.widgets.nattable.command.ILayerCommand;
 import org.eclipse.nebula.widgets.nattable.coordinate.PositionUtil;
@@ -28,6 +27,7 @@
 import org.eclipse.nebula.widgets.nattable.layer.IUniqueIndexLayer;
 import org.eclipse.nebula.widgets.nattable.layer.LayerUtil;
 import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
+import org.eclipse.nebula.widgets.nattable.layer.cell.MutableLayerCell;
 import org.eclipse.nebula.widgets.nattable.layer.cell.SpanningLayerCell;
 import org.eclipse.nebula.widgets.nattable.layer.command.ConfigureScalingCommand;
 import org.eclipse.nebula.widgets.nattable.layer.event.ILayerEvent;
@@ -40,9 +40,12 @@
  */
 public abstract class AbstractColumnHideShowLayer extends AbstractLayerTransform implements IUniqueIndexLayer {
 
-    private MutableIntIntMap cachedVisibleColumnIndexPositionMapping;
-    private MutableIntIntMap cachedVisibleColumnPositionIndexMapping;
-    private MutableIntIntMap cachedHiddenColumnIndexPositionMapping;
+    /**
+     * The visibility of the columns of the underlying layer per underlying
+     * column position. The rank of an underlying position is the local
+     * position, the select of a local position is the underlying position.
+     */
+    private RankSelectBitSet cachedVisibleColumnPositions;
     private MutableIntIntMap startXCache = IntIntMaps.mutable.empty();
 
     /**
@@ -132,7 +135,7 @@ public int getColumnCount() {
         if (!hasHiddenColumns()) {
             return super.getColumnCount();
         }
-        return getCachedVisibleColumnIndexPositionMapping().size();
+        return getCachedVisibleColumnPositions().cardinality();
     }
 
     @Override
@@ -145,7 +148,8 @@ public int getColumnIndexByPosition(int columnPosition) {
             return super.getColumnIndexByPosition(columnPosition);
         }
 
-        return getCachedVisibleColumnPositionIndexMapping().getIfAbsent(columnPosition, -1);
+        int underlyingPosition = getCachedVisibleColumnPositions().select(columnPosition);
+        return getUnderlyingLayer().getColumnIndexByPosition(underlyingPosition);
     }
 
     @Override
@@ -154,7 +158,9 @@ public int getColumnPositionByIndex(int columnIndex) {
             return getUnderlyingLayer().getColumnPositionByIndex(columnIndex);
         }
 
-        return getCachedVisibleColumnIndexPositionMapping().getIfAbsent(columnIndex, -1);
+        RankSelectBitSet visibleColumnPositions = getCachedVisibleColumnPositions();
+        int underlyingPosition = getUnderlyingLayer().getColumnPositionByIndex(columnIndex);
+        return visibleColumnPositions.get(underlyingPosition) ? visibleColumnPositions.rank(underlyingPosition) : -1;
     }
 
     /**
@@ -199,8 +205,7 @@ public int localToUnderlyingColumnPosition(int localColumnPosition) {
             return localColumnPosition;
         }
 
-        int columnIndex = getColumnIndexByPosition(localColumnPosition);
-        return getUnderlyingLayer().getColumnPositionByIndex(columnIndex);
+        return getCachedVisibleColumnPositions().select(localColumnPosition);
     }
 
     @Override
@@ -209,13 +214,13 @@ public int underlyingToLocalColumnPosition(ILayer sourceUnderlyingLayer, int und
             return underlyingColumnPosition;
         }
 
-        int columnIndex = getUnderlyingLayer().getColumnIndexByPosition(underlyingColumnPosition);
-        int columnPosition = getColumnPositionByIndex(columnIndex);
-        if (columnPosition >= 0) {
-            return columnPosition;
-        } else {
-            return getCachedHiddenColumnIndexPositionMapping().getIfAbsent(columnIndex, -1);
+        // the local position of a hidden column is the position of the next
+        // visible column, which is the number of visible columns before
+        RankSelectBitSet visibleColumnPositions = getCachedVisibleColumnPositions();
+        if (underlyingColumnPosition < 0 || underlyingColumnPosition >= visibleColumnPositions.size()) {
+            return -1;
         }
+        return visibleColumnPositions.rank(underlyingColumnPosition);
     }
 
     @Override
@@ -427,37 +432,65 @@ public ILayerCell getCellByPosition(int columnPosition, int rowPosition) {
         return cell;
     }
 
+    @Override
+    public ILayerCell getCellByPosition(int columnPosition, int rowPosition, MutableLayerCell cell) {
+        ILayerCell result = super.getCellByPosition(columnPosition, rowPosition, cell);
+        if (result != null && result.isSpannedCell()) {
+            // the spanning might need to be updated to reflect the hiding
+            return getCellByPosition(columnPosition, rowPosition);
+        }
+        return result;
+    }
+
     // Cache
 
     /**
      * Invalidate the cache to ensure that information is rebuild.
      */
     protected synchronized void invalidateCache() {
-        this.cachedVisibleColumnIndexPositionMapping = null;
-        this.cachedVisibleColumnPositionIndexMapping = null;
-        this.cachedHiddenColumnIndexPositionMapping = null;
+        this.cachedVisibleColumnPositions = null;
         this.startXCache = IntIntMaps.mutable.empty();
     }
 
-    private synchronized IntIntMap getCachedVisibleColumnIndexPositionMapping() {
-        if (this.cachedVisibleColumnIndexPositionMapping == null) {
-            cacheVisibleColumnIndexes();
-        }
-        return this.cachedVisibleColumnIndexPositionMapping;
-    }
+    /**
+     * Update the cache for the columns with the given indexes after their
+     * hidden state has changed. In contrast to {@link #invalidateCache()} the
+     * cache is not rebuild, only the visibility of the given columns is
+     * updated, which is much faster for a huge number of columns.
+     * <p>
+     * <b>Note:</b> Only the hidden state of the given columns is allowed to be
+     * changed. On structural changes of the underlying layer
+     * {@link #invalidateCache()} needs to be called.
+     * </p>
+     *
+     * @param columnIndexes
+     *            The indexes of the columns whose hidden state has changed.
+     * @since 2.7
+     */
+    protected synchronized void updateCache(int... columnIndexes) {
+        this.startXCache = IntIntMaps.mutable.empty();
 
-    private synchronized IntIntMap getCachedVisibleColumnPositionIndexMapping() {
-        if (this.cachedVisibleColumnPositionIndexMapping == null) {
-            cacheVisibleColumnIndexes();
+        // if there is no cache yet, it is build on the next access
+        if (this.cachedVisibleColumnPositions != null) {
+            IUniqueIndexLayer underlyingLayer = getUnderlyingLayer();
+            if (this.cachedVisibleColumnPositions.size() != underlyingLayer.getColumnCount()) {
+                // the underlying layer has changed without firing an event
+                this.cachedVisibleColumnPositions = null;
+                return;
+            }
+
+            for (int columnIndex : columnIndexes) {
+                int underlyingPosition = underlyingLayer.getColumnPositionByIndex(columnIndex);
+                this.cachedVisibleColumnPositions.set(underlyingPosition, !isColumnIndexHidden(columnIndex));
+            }
         }
-        return this.cachedVisibleColumnPositionIndexMapping;
     }
 
-    private synchronized IntIntMap getCachedHiddenColumnIndexPositionMapping() {
-        if (this.cachedHiddenColumnIndexPositionMapping == null) {
+    private synchronized RankSelectBitSet getCachedVisibleColumnPositions() {
+        if (this.cachedVisibleColumnPositions == null) {
             cacheVisibleColumnIndexes();
         }
-        return this.cachedHiddenColumnIndexPositionMapping;
+        return this.cachedVisibleColumnPositions;
     }
 
     /**
@@ -466,27 +499,18 @@ private synchronized IntIntMap getCachedHiddenColumnIndexPositionMapping() {
      * @since 2.0
      */
     protected synchronized void cacheVisibleColumnIndexes() {
-        this.cachedVisibleColumnIndexPositionMapping = IntIntMaps.mutable.empty();
-        this.cachedVisibleColumnPositionIndexMapping = IntIntMaps.mutable.empty();
-        this.cachedHiddenColumnIndexPositionMapping = IntIntMaps.mutable.empty();
         this.startXCache = IntIntMaps.mutable.empty();
 
-        // only build up a cache if it is necessary
-        if (hasHiddenColumns()) {
-            ILayer underlyingLayer = getUnderlyingLayer();
-            int columnPosition = 0;
-            for (int parentColumnPosition = 0; parentColumnPosition < underlyingLayer.getColumnCount(); parentColumnPosition++) {
-                int columnIndex = underlyingLayer.getColumnIndexByPosition(parentColumnPosition);
-
-                if (!isColumnIndexHidden(columnIndex)) {
-                    this.cachedVisibleColumnIndexPositionMapping.put(columnIndex, columnPosition);
-                    this.cachedVisibleColumnPositionIndexMapping.put(columnPosition, columnIndex);
-                    columnPosition++;
-                } else {
-                    this.cachedHiddenColumnIndexPositionMapping.put(columnIndex, columnPosition);
-                }
+        ILayer underlyingLayer = getUnderlyingLayer();
+        int columnCount = underlyingLayer.getColumnCount();
+        long[] visible = RankSelectBitSet.createWords(columnCount);
+        for (int parentColumnPosition = 0; parentColumnPosition < columnCount; parentColumnPosition++) {
+            int columnIndex = underlyingLayer.getColumnIndexByPosition(parentColumnPosition);
+            if (!isColumnIndexHidden(columnIndex)) {
+                visible[parentColumnPosition >>> 6] |= 1L << parentColumnPosition;
             }
         }
+        this.cachedVisibleColumnPositions = new RankSelectBitSet(visible, columnCount);
     }
 
 }
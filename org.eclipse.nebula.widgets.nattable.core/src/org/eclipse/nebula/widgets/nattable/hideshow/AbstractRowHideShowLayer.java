@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2023 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -18,7 +18,6 @@
 import java.util.HashSet;
 
 import org.eclipse.collections.api.factory.primitive.IntIntMaps;
-import org.eclipse.collections.api.map.primitive.IntIntMap;
 import org.eclipse.collections.api.map.primitive.MutableIntIntMap;
 import org.eclipse.nebula.widgets.nattable.command.ILayerCommand;
 import org.eclipse.nebula.widgets.nattable.coordinate.PositionUtil;
@@ -28,6 +27,7 @@
 import org.eclipse.nebula.widgets.nattable.layer.IUniqueIndexLayer;
 import org.eclipse.nebula.widgets.nattable.layer.LayerUtil;
 import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
+import org.eclipse.nebula.widgets.nattable.layer.cell.MutableLayerCell;
 import org.eclipse.nebula.widgets.nattable.layer.cell.SpanningLayerCell;
 import org.eclipse.nebula.widgets.nattable.layer.command.ConfigureScalingCommand;
 import org.eclipse.nebula.widgets.nattable.layer.event.ILayerEvent;
@@ -40,9 +40,12 @@
  */
 public abstract class AbstractRowHideShowLayer extends AbstractLayerTransform implements IUniqueIndexLayer {
 
-    private MutableIntIntMap cachedVisibleRowIndexPositionMapping;
-    private MutableIntIntMap cachedVisibleRowPositionIndexMapping;
-    private MutableIntIntMap cachedHiddenRowIndexPositionMapping;
+    /**
+     * The visibility of the rows of the underlying layer per underlying
+     * row position. The rank of an underlying position is the local
+     * position, the select of a local position is the underlying position.
+     */
+    private RankSelectBitSet cachedVisibleRowPositions;
     private MutableIntIntMap startYCache = IntIntMaps.mutable.empty();
 
     /**
@@ -142,7 +145,7 @@ public int getRowCount() {
         if (!hasHiddenRows()) {
             return super.getRowCount();
         }
-        return getCachedVisibleRowIndexPositionMapping().size();
+        return getCachedVisibleRowPositions().cardinality();
     }
 
     @Override
@@ -155,7 +158,8 @@ public int getRowIndexByPosition(int rowPosition) {
             return super.getRowIndexByPosition(rowPosition);
         }
 
-        return getCachedVisibleRowPositionIndexMapping().getIfAbsent(rowPosition, -1);
+        int underlyingPosition = getCachedVisibleRowPositions().select(rowPosition);
+        return getUnderlyingLayer().getRowIndexByPosition(underlyingPosition);
     }
 
     @Override
@@ -164,7 +168,9 @@ public int getRowPositionByIndex(int rowIndex) {
             return getUnderlyingLayer().getRowPositionByIndex(rowIndex);
         }
 
-        return getCachedVisibleRowIndexPositionMapping().getIfAbsent(rowIndex, -1);
+        RankSelectBitSet visibleRowPositions = getCachedVisibleRowPositions();
+        int underlyingPosition = getUnderlyingLayer().getRowPositionByIndex(rowIndex);
+        return visibleRowPositions.get(underlyingPosition) ? visibleRowPositions.rank(underlyingPosition) : -1;
     }
 
     /**
@@ -209,8 +215,7 @@ public int localToUnderlyingRowPosition(int localRowPosition) {
             return localRowPosition;
         }
 
-        int rowIndex = getRowIndexByPosition(localRowPosition);
-        return getUnderlyingLayer().getRowPositionByIndex(rowIndex);
+        return getCachedVisibleRowPositions().select(localRowPosition);
     }
 
     @Override
@@ -219,13 +224,13 @@ public int underlyingToLocalRowPosition(ILayer sourceUnderlyingLayer, int underl
             return underlyingRowPosition;
         }
 
-        int rowIndex = getUnderlyingLayer().getRowIndexByPosition(underlyingRowPosition);
-        int rowPosition = getRowPositionByIndex(rowIndex);
-        if (rowPosition >= 0) {
-            return rowPosition;
-        } else {
-            return getCachedHiddenRowIndexPositionMapping().getIfAbsent(rowIndex, -1);
+        // the local position of a hidden row is the position of the next
+        // visible row, which is the number of visible rows before
+        RankSelectBitSet visibleRowPositions = getCachedVisibleRowPositions();
+        if (underlyingRowPosition < 0 || underlyingRowPosition >= visibleRowPositions.size()) {
+            return -1;
         }
+        return visibleRowPositions.rank(underlyingRowPosition);
     }
 
     @Override
@@ -417,65 +422,83 @@ public ILayerCell getCellByPosition(int columnPosition, int rowPosition) {
         return cell;
     }
 
+    @Override
+    public ILayerCell getCellByPosition(int columnPosition, int rowPosition, MutableLayerCell cell) {
+        ILayerCell result = super.getCellByPosition(columnPosition, rowPosition, cell);
+        if (result != null && result.isSpannedCell()) {
+            // the spanning might need to be updated to reflect the hiding
+            return getCellByPosition(columnPosition, rowPosition);
+        }
+        return result;
+    }
+
     // Cache
 
     /**
      * Invalidate the cache to ensure that information is rebuild.
      */
     protected synchronized void invalidateCache() {
-        this.cachedVisibleRowIndexPositionMapping = null;
-        this.cachedVisibleRowPositionIndexMapping = null;
-        this.cachedHiddenRowIndexPositionMapping = null;
+        this.cachedVisibleRowPositions = null;
         this.startYCache = IntIntMaps.mutable.empty();
     }
 
-    private synchronized IntIntMap getCachedVisibleRowIndexPositionMapping() {
-        if (this.cachedVisibleRowIndexPositionMapping == null) {
-            cacheVisibleRowIndexes();
-        }
-        return this.cachedVisibleRowIndexPositionMapping;
-    }
+    /**
+     * Update the cache for the rows with the given indexes after their
+     * hidden state has changed. In contrast to {@link #invalidateCache()} the
+     * cache is not rebuild, only the visibility of the given rows is
+     * updated, which is much faster for a huge number of rows.
+     * <p>
+     * <b>Note:</b> Only the hidden state of the given rows is allowed to be
+     * changed. On structural changes of the underlying layer
+     * {@link #invalidateCache()} needs to be called.
+     * </p>
+     *
+     * @param rowIndexes
+     *            The indexes of the rows whose hidden state has changed.
+     * @since 2.7
+     */
+    protected synchronized void updateCache(int... rowIndexes) {
+        this.startYCache = IntIntMaps.mutable.empty();
 
-    private synchronized IntIntMap getCachedVisibleRowPositionIndexMapping() {
-        if (this.cachedVisibleRowPositionIndexMapping == null) {
-            cacheVisibleRowIndexes();
+        // if there is no cache yet, it is build on the next access
+        if (this.cachedVisibleRowPositions != null) {
+            IUniqueIndexLayer underlyingLayer = getUnderlyingLayer();
+            if (this.cachedVisibleRowPositions.size() != underlyingLayer.getRowCount()) {
+                // the underlying layer has changed without firing an event
+                this.cachedVisibleRowPositions = null;
+                return;
+            }
+
+            for (int rowIndex : rowIndexes) {
+                int underlyingPosition = underlyingLayer.getRowPositionByIndex(rowIndex);
+                this.cachedVisibleRowPositions.set(underlyingPosition, !isRowIndexHidden(rowIndex));
+            }
         }
-        return this.cachedVisibleRowPositionIndexMapping;
     }
 
-    private synchronized IntIntMap getCachedHiddenRowIndexPositionMapping() {
-        if (this.cachedHiddenRowIndexPositionMapping == null) {
+    private synchronized RankSelectBitSet getCachedVisibleRowPositions() {
+        if (this.cachedVisibleRowPositions == null) {
             cacheVisibleRowIndexes();
         }
-        return this.cachedHiddenRowIndexPositionMapping;
+        return this.cachedVisibleRowPositions;
     }
 
     /**
      * Build up the row caches.
      */
     protected synchronized void cacheVisibleRowIndexes() {
-
-        this.cachedVisibleRowIndexPositionMapping = IntIntMaps.mutable.empty();
-        this.cachedVisibleRowPositionIndexMapping = IntIntMaps.mutable.empty();
-        this.cachedHiddenRowIndexPositionMapping = IntIntMaps.mutable.empty();
         this.startYCache = IntIntMaps.mutable.empty();
 
-        // only build up a cache if it is necessary
-        if (hasHiddenRows()) {
-            ILayer underlyingLayer = getUnderlyingLayer();
-            int rowPosition = 0;
-            for (int parentRowPosition = 0; parentRowPosition < underlyingLayer.getRowCount(); parentRowPosition++) {
-                int rowIndex = underlyingLayer.getRowIndexByPosition(parentRowPosition);
-
-                if (!isRowIndexHidden(rowIndex)) {
-                    this.cachedVisibleRowIndexPositionMapping.put(rowIndex, rowPosition);
-                    this.cachedVisibleRowPositionIndexMapping.put(rowPosition, rowIndex);
-                    rowPosition++;
-                } else {
-                    this.cachedHiddenRowIndexPositionMapping.put(rowIndex, rowPosition);
-                }
+        ILayer underlyingLayer = getUnderlyingLayer();
+        int rowCount = underlyingLayer.getRowCount();
+        long[] visible = RankSelectBitSet.createWords(rowCount);
+        for (int parentRowPosition = 0; parentRowPosition < rowCount; parentRowPosition++) {
+            int rowIndex = underlyingLayer.getRowIndexByPosition(parentRowPosition);
+            if (!isRowIndexHidden(rowIndex)) {
+                visible[parentRowPosition >>> 6] |= 1L << parentRowPosition;
             }
         }
+        this.cachedVisibleRowPositions = new RankSelectBitSet(visible, rowCount);
     }
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2023 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -177,7 +177,7 @@ public void hideColumnPositions(int... columnPositions) {
                 .sorted()
                 .toArray();
         this.hiddenColumnIndexes.addAll(columnIndexes);
-        invalidateCache();
+        updateCache(columnIndexes);
         fireLayerEvent(new HideColumnPositionsEvent(this, columnPositions, columnIndexes));
     }
 
@@ -201,7 +201,7 @@ public void hideColumnIndexes(int... columnIndexes) {
                     .toArray();
 
             this.hiddenColumnIndexes.addAll(filteredIndexes);
-            invalidateCache();
+            updateCache(filteredIndexes);
             fireLayerEvent(new HideColumnPositionsEvent(this, columnPositions, filteredIndexes));
         }
     }
@@ -224,7 +224,7 @@ public void showColumnIndexes(int... columnIndexes) {
         toProcess.retainAll(this.hiddenColumnIndexes);
 
         this.hiddenColumnIndexes.removeAll(toProcess);
-        invalidateCache();
+        updateCache(toProcess.toArray());
         int[] positions = getColumnPositionsByIndexes(toProcess.toArray());
         fireLayerEvent(new ShowColumnPositionsEvent(this, positions));
     }
@@ -273,7 +273,7 @@ public void showColumnPosition(int columnPosition, boolean showToLeft, boolean s
     public void showAllColumns() {
         int[] hidden = this.hiddenColumnIndexes.toSortedArray();
         this.hiddenColumnIndexes = IntSets.mutable.empty();
-        invalidateCache();
+        updateCache(hidden);
         fireLayerEvent(new ShowColumnPositionsEvent(this, getColumnPositionsByIndexes(hidden)));
     }
 
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.hideshow;
+
+/**
+ * Bit set with a fixed size that supports rank and select operations. It is
+ * used by the hide/show layers to store which positions of the underlying
+ * layer are visible. The rank of a position is the local position, the select
+ * of a local position is the position in the underlying layer.
+ * <p>
+ * The bits are stored in blocks of 512 bits. The number of set bits per block
+ * is summarized in a binary indexed tree, so rank, select and updates of a
+ * single bit are performed in O(log n), while only about one bit per position
+ * is needed.
+ * </p>
+ *
+ * @since 2.7
+ */
+final class RankSelectBitSet {
+
+    /**
+     * Shift to calculate the block of a word, a block consists of 8 words.
+     */
+    private static final int WORDS_PER_BLOCK_SHIFT = 3;
+    /**
+     * Shift to calculate the block of a bit, a block consists of 512 bits.
+     */
+    private static final int BITS_PER_BLOCK_SHIFT = WORDS_PER_BLOCK_SHIFT + 6;
+
+    private final long[] words;
+    private final int size;
+    private int cardinality;
+
+    /**
+     * Binary indexed tree, 1-based, over the number of set bits per block.
+     */
+    private final int[] blockTree;
+
+    /**
+     * Creates a {@link RankSelectBitSet} for the given bits.
+     *
+     * @param words
+     *            The bits, the bit at position <code>i</code> is stored in
+     *            the word <code>i / 64</code> at bit <code>i % 64</code>. The
+     *            array is used directly and not copied.
+     * @param size
+     *            The number of bits.
+     */
+    RankSelectBitSet(long[] words, int size) {
+        this.words = words;
+        this.size = size;
+
+        int blockCount = (words.length + (1 << WORDS_PER_BLOCK_SHIFT) - 1) >>> WORDS_PER_BLOCK_SHIFT;
+        this.blockTree = new int[blockCount + 1];
+        for (int i = 0; i < words.length; i++) {
+            int count = Long.bitCount(words[i]);
+            this.blockTree[(i >>> WORDS_PER_BLOCK_SHIFT) + 1] += count;
+            this.cardinality += count;
+        }
+        // build the tree in linear time
+        for (int i = 1; i <= blockCount; i++) {
+            int parent = i + (i & -i);
+            if (parent <= blockCount) {
+                this.blockTree[parent] += this.blockTree[i];
+            }
+        }
+    }
+
+    /**
+     * Creates the words for a bit set of the given size.
+     *
+     * @param size
+     *            The number of bits.
+     * @return The words for a bit set of the given size with all bits cleared.
+     */
+    static long[] createWords(int size) {
+        return new long[(size + 63) >>> 6];
+    }
+
+    /**
+     *
+     * @return The number of bits.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     *
+     * @return The number of set bits.
+     */
+    int cardinality() {
+        return this.cardinality;
+    }
+
+    /**
+     *
+     * @param position
+     *            The position of the bit.
+     * @return <code>true</code> if the bit at the given position is set,
+     *         <code>false</code> if it is not set or the position is out of
+     *         range.
+     */
+    boolean get(int position) {
+        return position >= 0
+                && position < this.size
+                && (this.words[position >>> 6] & (1L << position)) != 0;
+    }
+
+    /**
+     * Set or clear the bit at the given position.
+     *
+     * @param position
+     *            The position of the bit.
+     * @param value
+     *            <code>true</code> to set the bit, <code>false</code> to clear
+     *            it.
+     */
+    void set(int position, boolean value) {
+        if (position < 0 || position >= this.size || get(position) == value) {
+            return;
+        }
+
+        this.words[position >>> 6] ^= 1L << position;
+        int delta = value ? 1 : -1;
+        this.cardinality += delta;
+        for (int i = (position >>> BITS_PER_BLOCK_SHIFT) + 1; i < this.blockTree.length; i += i & -i) {
+            this.blockTree[i] += delta;
+        }
+    }
+
+    /**
+     * Returns the number of set bits before the given position.
+     *
+     * @param position
+     *            The position up to which the set bits should be counted,
+     *            exclusive.
+     * @return The number of set bits before the given position.
+     */
+    int rank(int position) {
+        if (position <= 0) {
+            return 0;
+        } else if (position >= this.size) {
+            return this.cardinality;
+        }
+
+        int result = 0;
+        int block = position >>> BITS_PER_BLOCK_SHIFT;
+        for (int i = block; i > 0; i -= i & -i) {
+            result += this.blockTree[i];
+        }
+        int word = position >>> 6;
+        for (int i = block << WORDS_PER_BLOCK_SHIFT; i < word; i++) {
+            result += Long.bitCount(this.words[i]);
+        }
+        if ((position & 63) != 0) {
+            result += Long.bitCount(this.words[word] & ((1L << position) - 1));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the position of the set bit with the given rank.
+     *
+     * @param rank
+     *            The number of set bits before the requested bit.
+     * @return The position of the set bit with the given rank, or -1 if there
+     *         is no such bit.
+     */
+    int select(int rank) {
+        if (rank < 0 || rank >= this.cardinality) {
+            return -1;
+        }
+
+        // descend the tree to find the block that contains the bit
+        int block = 0;
+        int remaining = rank;
+        for (int step = Integer.highestOneBit(this.blockTree.length - 1); step > 0; step >>= 1) {
+            int next = block + step;
+            if (next < this.blockTree.length && this.blockTree[next] <= remaining) {
+                block = next;
+                remaining -= this.blockTree[next];
+            }
+        }
+
+        for (int i = block << WORDS_PER_BLOCK_SHIFT; i < this.words.length; i++) {
+            long word = this.words[i];
+            int count = Long.bitCount(word);
+            if (remaining < count) {
+                for (int j = 0; j < remaining; j++) {
+                    // clear the lowest set bit
+                    word &= word - 1;
+                }
+                return (i << 6) + Long.numberOfTrailingZeros(word);
+            }
+            remaining -= count;
+        }
+        return -1;
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2023 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -160,7 +160,7 @@ public void hideRowPositions(int... rowPositions) {
                 .sorted()
                 .toArray();
         this.hiddenRowIndexes.addAll(rowIndexes);
-        invalidateCache();
+        updateCache(rowIndexes);
         fireLayerEvent(new HideRowPositionsEvent(this, rowPositions, rowIndexes));
     }
 
@@ -182,7 +182,7 @@ public void hideRowIndexes(int... rowIndexes) {
                     .sorted()
                     .toArray();
             this.hiddenRowIndexes.addAll(filteredIndexes);
-            invalidateCache();
+            updateCache(filteredIndexes);
             fireLayerEvent(new HideRowPositionsEvent(this, rowPositions, filteredIndexes));
         }
     }
@@ -200,7 +200,7 @@ public void showRowIndexes(int... rowIndexes) {
         toProcess.retainAll(this.hiddenRowIndexes);
 
         this.hiddenRowIndexes.removeAll(toProcess);
-        invalidateCache();
+        updateCache(toProcess.toArray());
         int[] positions = getRowPositionsByIndexes(toProcess.toArray());
         fireLayerEvent(new ShowRowPositionsEvent(this, positions));
     }
@@ -249,7 +249,7 @@ public void showRowPosition(int rowPosition, boolean showToTop, boolean showAll)
     public void showAllRows() {
         int[] hidden = this.hiddenRowIndexes.toSortedArray();
         this.hiddenRowIndexes = IntSets.mutable.empty();
-        invalidateCache();
+        updateCache(hidden);
         fireLayerEvent(new ShowRowPositionsEvent(this, getRowPositionsByIndexes(hidden)));
     }
 
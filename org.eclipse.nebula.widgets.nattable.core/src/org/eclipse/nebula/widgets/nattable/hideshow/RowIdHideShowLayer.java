@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2022 Dirk Fauth.
+ * Copyright (c) 2018, 2026 Dirk Fauth.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -28,6 +28,7 @@
 import org.eclipse.nebula.widgets.nattable.command.ILayerCommand;
 import org.eclipse.nebula.widgets.nattable.data.IRowDataProvider;
 import org.eclipse.nebula.widgets.nattable.data.IRowIdAccessor;
+import org.eclipse.nebula.widgets.nattable.data.RowIdIndex;
 import org.eclipse.nebula.widgets.nattable.data.convert.IDisplayConverter;
 import org.eclipse.nebula.widgets.nattable.hideshow.command.HideRowByIndexCommandHandler;
 import org.eclipse.nebula.widgets.nattable.hideshow.command.MultiRowHideCommandHandler;
@@ -63,6 +64,11 @@
 
     protected IDisplayConverter idConverter;
 
+    /**
+     * Optional reverse index to find the row index of a hidden row id.
+     */
+    private RowIdIndex<T> rowIdIndex;
+
     /**
      *
      * @param underlyingLayer
@@ -136,7 +142,17 @@ public void loadState(String prefix, Properties properties) {
                 }
             }
 
-            for (int row = 0; row < this.rowDataProvider.getRowCount(); row++) {
+            if (this.rowIdIndex != null) {
+                for (Serializable rowId : ids) {
+                    int rowIndex = this.rowIdIndex.getRowIndex(rowId);
+                    if (rowIndex >= 0) {
+                        this.hiddenRows.put(rowId, this.rowDataProvider.getRowObject(rowIndex));
+                    }
+                }
+                ids.clear();
+            }
+
+            for (int row = 0; !ids.isEmpty() && row < this.rowDataProvider.getRowCount(); row++) {
                 T rowObject = this.rowDataProvider.getRowObject(row);
                 Serializable rowId = this.rowIdAccessor.getRowId(rowObject);
                 if (ids.contains(rowId)) {
@@ -333,6 +349,9 @@ private T getRowObjectByIndex(int rowIndex) {
     }
 
     private int getRowIndexById(Serializable rowId) {
+        if (this.rowIdIndex != null) {
+            return this.rowIdIndex.getRowIndex(rowId);
+        }
         T rowObject = this.hiddenRows.get(rowId);
         int rowIndex = this.rowDataProvider.indexOfRowObject(rowObject);
         if (rowIndex == -1) {
@@ -341,6 +360,32 @@ private int getRowIndexById(Serializable rowId) {
         return rowIndex;
     }
 
+    /**
+     *
+     * @return The {@link RowIdIndex} that is used to find the row index of a
+     *         hidden row id, or <code>null</code> if the row index is searched
+     *         via {@link IRowDataProvider#indexOfRowObject(Object)}.
+     * @since 2.7
+     */
+    public RowIdIndex<T> getRowIdIndex() {
+        return this.rowIdIndex;
+    }
+
+    /**
+     * Set a {@link RowIdIndex} that should be used to find the row index of a
+     * hidden row id. Avoids scanning the data for every hidden row when the
+     * hidden row indexes are requested.
+     *
+     * @param rowIdIndex
+     *            The {@link RowIdIndex} that should be used, or
+     *            <code>null</code> to search the row index via
+     *            {@link IRowDataProvider#indexOfRowObject(Object)}.
+     * @since 2.7
+     */
+    public void setRowIdIndex(RowIdIndex<T> rowIdIndex) {
+        this.rowIdIndex = rowIdIndex;
+    }
+
     /**
      *
      * @return The converter used for id conversion.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -22,7 +22,9 @@
 import org.eclipse.nebula.widgets.nattable.coordinate.Range;
 import org.eclipse.nebula.widgets.nattable.layer.cell.IConfigLabelAccumulator;
 import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
+import org.eclipse.nebula.widgets.nattable.layer.cell.MutableLayerCell;
 import org.eclipse.nebula.widgets.nattable.layer.cell.TranslatedLayerCell;
+import org.eclipse.nebula.widgets.nattable.layer.event.ILayerEvent;
 import org.eclipse.nebula.widgets.nattable.layer.event.IStructuralChangeEvent;
 import org.eclipse.nebula.widgets.nattable.painter.cell.ICellPainter;
 import org.eclipse.nebula.widgets.nattable.painter.layer.ILayerPainter;
@@ -42,6 +44,13 @@ public class AbstractIndexLayerTransform extends AbstractLayer implements IUniqu
 
     private IUniqueIndexLayer underlyingLayer;
 
+    /**
+     * The optional chain that maps the positions of this layer directly to the
+     * positions of the lowest underlying layer that is not a pure position
+     * transformation.
+     */
+    private IndexTransformChain indexTransformChain;
+
     public AbstractIndexLayerTransform() {
     }
 
@@ -56,12 +65,68 @@ protected void setUnderlyingLayer(IUniqueIndexLayer underlyingLayer) {
         this.underlyingLayer = underlyingLayer;
         this.underlyingLayer.setClientAreaProvider(getClientAreaProvider());
         this.underlyingLayer.addLayerListener(this);
+        if (this.indexTransformChain != null) {
+            this.indexTransformChain = new IndexTransformChain(this);
+        }
     }
 
     protected final IUniqueIndexLayer getUnderlyingLayer() {
         return this.underlyingLayer;
     }
 
+    /**
+     * Enables or disables the usage of an {@link IndexTransformChain} for
+     * this layer. If enabled, the positions of this layer are mapped to the
+     * positions of the lowest underlying layer that is not a pure position
+     * transformation, typically the {@link DataLayer}, via composed mappings
+     * per axis. This way the index and data value lookups do not need to
+     * transform the positions through every layer in the stack.
+     * <p>
+     * The mappings are created lazily and cleared on structural changes.
+     * This should not be enabled on layers whose transformation changes
+     * without structural change events, like the ViewportLayer. Typically it
+     * is enabled on the SelectionLayer of a body layer stack.
+     * </p>
+     *
+     * @param enabled
+     *            <code>true</code> to use a composed position mapping,
+     *            <code>false</code> to transform positions layer by layer.
+     * @since 2.7
+     */
+    public void setIndexTransformChainEnabled(boolean enabled) {
+        this.indexTransformChain = enabled ? new IndexTransformChain(this) : null;
+    }
+
+    /**
+     *
+     * @return The {@link IndexTransformChain} that is used by this layer or
+     *         <code>null</code> if the usage is not enabled.
+     * @since 2.7
+     */
+    public IndexTransformChain getIndexTransformChain() {
+        return this.indexTransformChain;
+    }
+
+    @Override
+    public void handleLayerEvent(ILayerEvent event) {
+        IndexTransformChain chain = this.indexTransformChain;
+        if (chain != null) {
+            chain.handleLayerEvent(event);
+        }
+        super.handleLayerEvent(event);
+    }
+
+    @Override
+    public void fireLayerEvent(ILayerEvent event) {
+        // structural changes of this layer are not handled in
+        // handleLayerEvent()
+        IndexTransformChain chain = this.indexTransformChain;
+        if (chain != null) {
+            chain.handleLayerEvent(event);
+        }
+        super.fireLayerEvent(event);
+    }
+
     // Dispose
 
     @Override
@@ -138,6 +203,10 @@ public int getPreferredColumnCount() {
 
     @Override
     public int getColumnIndexByPosition(int columnPosition) {
+        IndexTransformChain chain = this.indexTransformChain;
+        if (chain != null) {
+            return chain.getColumnIndexByPosition(columnPosition);
+        }
         return this.underlyingLayer.getColumnIndexByPosition(localToUnderlyingColumnPosition(columnPosition));
     }
 
@@ -235,6 +304,10 @@ public int getPreferredRowCount() {
 
     @Override
     public int getRowIndexByPosition(int rowPosition) {
+        IndexTransformChain chain = this.indexTransformChain;
+        if (chain != null) {
+            return chain.getRowIndexByPosition(rowPosition);
+        }
         return this.underlyingLayer.getRowIndexByPosition(localToUnderlyingRowPosition(rowPosition));
     }
 
@@ -333,6 +406,34 @@ public ILayerCell getCellByPosition(int columnPosition, int rowPosition) {
                 underlyingToLocalRowPosition(this.underlyingLayer, cell.getRowPosition()));
     }
 
+    @Override
+    public ILayerCell getCellByPosition(int columnPosition, int rowPosition, MutableLayerCell cell) {
+        if (!isCellReuseSupported()) {
+            return getCellByPosition(columnPosition, rowPosition);
+        }
+
+        ILayerCell underlyingCell = this.underlyingLayer.getCellByPosition(
+                localToUnderlyingColumnPosition(columnPosition),
+                localToUnderlyingRowPosition(rowPosition),
+                cell);
+        if (underlyingCell == null) {
+            return null;
+        }
+
+        int originColumnPosition = underlyingToLocalColumnPosition(this.underlyingLayer, underlyingCell.getOriginColumnPosition());
+        int originRowPosition = underlyingToLocalRowPosition(this.underlyingLayer, underlyingCell.getOriginRowPosition());
+        int localColumnPosition = underlyingToLocalColumnPosition(this.underlyingLayer, underlyingCell.getColumnPosition());
+        int localRowPosition = underlyingToLocalRowPosition(this.underlyingLayer, underlyingCell.getRowPosition());
+
+        if (underlyingCell == cell) {
+            return cell.translate(this, originColumnPosition, originRowPosition, localColumnPosition, localRowPosition);
+        }
+        // the underlying layer created a special cell
+        return new TranslatedLayerCell(underlyingCell, this,
+                originColumnPosition, originRowPosition,
+                localColumnPosition, localRowPosition);
+    }
+
     @Override
     public DisplayMode getDisplayModeByPosition(int columnPosition, int rowPosition) {
         return this.underlyingLayer.getDisplayModeByPosition(
@@ -358,6 +459,10 @@ public LabelStack getConfigLabelsByPosition(int columnPosition, int rowPosition)
 
     @Override
     public Object getDataValueByPosition(int columnPosition, int rowPosition) {
+        IndexTransformChain chain = this.indexTransformChain;
+        if (chain != null) {
+            return chain.getDataValueByPosition(columnPosition, rowPosition);
+        }
         return this.underlyingLayer.getDataValueByPosition(
                 localToUnderlyingColumnPosition(columnPosition),
                 localToUnderlyingRowPosition(rowPosition));
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -37,6 +37,7 @@
 import org.eclipse.nebula.widgets.nattable.layer.cell.IConfigLabelProvider;
 import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
 import org.eclipse.nebula.widgets.nattable.layer.cell.LayerCell;
+import org.eclipse.nebula.widgets.nattable.layer.cell.MutableLayerCell;
 import org.eclipse.nebula.widgets.nattable.layer.event.ILayerEvent;
 import org.eclipse.nebula.widgets.nattable.layer.event.ILayerEventHandler;
 import org.eclipse.nebula.widgets.nattable.painter.cell.ICellPainter;
@@ -76,6 +77,28 @@ public abstract class AbstractLayer implements ILayer {
      */
     protected ReadWriteLock eventHelperLock = new ReentrantReadWriteLock();
 
+    /**
+     * Caches per layer class whether
+     * {@link #getCellByPosition(int, int, MutableLayerCell)} is implemented at
+     * the same or a more specific level than
+     * {@link #getCellByPosition(int, int)}. If a subclass only overrides the
+     * latter, e.g. to create special cells, the cell can not be reused.
+     */
+    private static final ClassValue<Boolean> CELL_REUSE_SUPPORTED = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                Class<?> cellDeclaringClass = type.getMethod(
+                        "getCellByPosition", int.class, int.class).getDeclaringClass(); //$NON-NLS-1$
+                Class<?> reuseDeclaringClass = type.getMethod(
+                        "getCellByPosition", int.class, int.class, MutableLayerCell.class).getDeclaringClass(); //$NON-NLS-1$
+                return cellDeclaringClass.isAssignableFrom(reuseDeclaringClass);
+            } catch (NoSuchMethodException e) {
+                return Boolean.FALSE;
+            }
+        }
+    };
+
     // Dispose
 
     @Override
@@ -352,6 +375,37 @@ public ILayerCell getCellByPosition(int columnPosition, int rowPosition) {
         return new LayerCell(this, columnPosition, rowPosition);
     }
 
+    @Override
+    public ILayerCell getCellByPosition(int columnPosition, int rowPosition, MutableLayerCell cell) {
+        if (!isCellReuseSupported()) {
+            return getCellByPosition(columnPosition, rowPosition);
+        }
+
+        if (columnPosition < 0 || columnPosition >= getColumnCount()
+                || rowPosition < 0 || rowPosition >= getRowCount()) {
+            return null;
+        }
+
+        return cell.set(this, columnPosition, rowPosition, columnPosition, rowPosition, 1, 1);
+    }
+
+    /**
+     * Checks if the {@link MutableLayerCell} passed to
+     * {@link #getCellByPosition(int, int, MutableLayerCell)} can be used by
+     * this layer. This is not the case if a subclass overrides
+     * {@link #getCellByPosition(int, int)} without overriding
+     * {@link #getCellByPosition(int, int, MutableLayerCell)}, as the cell
+     * creation would be bypassed otherwise.
+     *
+     * @return <code>true</code> if the {@link MutableLayerCell} can be
+     *         initialized or translated by this layer, <code>false</code> if
+     *         {@link #getCellByPosition(int, int)} needs to be used.
+     * @since 2.7
+     */
+    protected final boolean isCellReuseSupported() {
+        return CELL_REUSE_SUPPORTED.get(getClass());
+    }
+
     @Override
     public Rectangle getBoundsByPosition(int columnPosition, int rowPosition) {
         ILayerCell cell = getCellByPosition(columnPosition, rowPosition);
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.layer;
+
+import java.util.Arrays;
+
+/**
+ * Binary indexed tree (Fenwick tree) that stores the difference of the size
+ * of a position to the default size. It is used by the {@link SizeConfig} to
+ * calculate the aggregated size of all positions before a position and to
+ * find the position at a pixel in O(log n), and to update the size of a
+ * single position in O(log n).
+ * <p>
+ * The tree only covers the positions up to the highest position for which a
+ * difference was set. All positions after that have the default size.
+ * </p>
+ *
+ * @since 2.7
+ */
+final class AggregatedSizeTree {
+
+    /**
+     * The differences to the default size per position.
+     */
+    private int[] differences = new int[0];
+
+    /**
+     * The tree, 1-based, the value at index i contains the sum of the
+     * differences of the positions <code>i - (i &amp; -i)</code> to
+     * <code>i - 1</code>.
+     */
+    private long[] tree = new long[1];
+
+    /**
+     * The number of positions covered by the tree.
+     */
+    private int length = 0;
+
+    /**
+     * Set the difference of the size of the given position to the default
+     * size.
+     *
+     * @param position
+     *            The position whose difference should be set.
+     * @param difference
+     *            The difference of the size of the position to the default
+     *            size.
+     */
+    void set(int position, int difference) {
+        if (position >= this.length) {
+            if (difference == 0) {
+                // positions after the covered range have the default size
+                return;
+            }
+            grow(position + 1);
+        }
+
+        int delta = difference - this.differences[position];
+        if (delta != 0) {
+            this.differences[position] = difference;
+            for (int i = position + 1; i <= this.length; i += i & -i) {
+                this.tree[i] += delta;
+            }
+        }
+    }
+
+    /**
+     * Returns the sum of the differences of all positions before the given
+     * position.
+     *
+     * @param position
+     *            The position up to which the differences should be summed,
+     *            exclusive.
+     * @return The sum of the differences of the positions before the given
+     *         position.
+     */
+    long sum(int position) {
+        long result = 0;
+        for (int i = Math.min(position, this.length); i > 0; i -= i & -i) {
+            result += this.tree[i];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the highest position within the covered range whose aggregated
+     * size, which is the number of positions before multiplied with the
+     * default size plus the sum of the differences before, is less than or
+     * equal to the given pixel. Requires that all sizes are not negative.
+     *
+     * @param pixel
+     *            The pixel to search for.
+     * @param defaultSize
+     *            The default size of a position.
+     * @return The highest position in the range 0 to {@link #length()} whose
+     *         aggregated size is less than or equal to the given pixel.
+     */
+    int find(long pixel, int defaultSize) {
+        int position = 0;
+        long aggregated = 0;
+        for (int step = Integer.highestOneBit(Math.max(this.length, 1)); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next <= this.length) {
+                long nextAggregated = aggregated + this.tree[next] + (long) step * defaultSize;
+                if (nextAggregated <= pixel) {
+                    position = next;
+                    aggregated = nextAggregated;
+                }
+            }
+        }
+        return position;
+    }
+
+    /**
+     *
+     * @return The number of positions covered by the tree.
+     */
+    int length() {
+        return this.length;
+    }
+
+    /**
+     * Removes all differences.
+     */
+    void clear() {
+        this.differences = new int[0];
+        this.tree = new long[1];
+        this.length = 0;
+    }
+
+    /**
+     * Increase the covered range, at least to the given length, and rebuild
+     * the tree in linear time.
+     *
+     * @param minLength
+     *            The minimum number of positions that should be covered.
+     */
+    private void grow(int minLength) {
+        int newLength = Math.max(minLength, this.length + (this.length >> 1));
+        this.differences = Arrays.copyOf(this.differences, newLength);
+        this.tree = new long[newLength + 1];
+        for (int i = 1; i <= newLength; i++) {
+            this.tree[i] += this.differences[i - 1];
+            int parent = i + (i & -i);
+            if (parent <= newLength) {
+                this.tree[parent] += this.tree[i];
+            }
+        }
+        this.length = newLength;
+    }
+}
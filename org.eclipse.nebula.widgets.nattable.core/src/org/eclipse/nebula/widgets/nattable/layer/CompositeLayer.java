@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2024 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -28,6 +28,7 @@
 import org.eclipse.nebula.widgets.nattable.layer.cell.IConfigLabelAccumulator;
 import org.eclipse.nebula.widgets.nattable.layer.cell.IConfigLabelProvider;
 import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
+import org.eclipse.nebula.widgets.nattable.layer.cell.MutableLayerCell;
 import org.eclipse.nebula.widgets.nattable.layer.cell.TranslatedLayerCell;
 import org.eclipse.nebula.widgets.nattable.painter.cell.ICellPainter;
 import org.eclipse.nebula.widgets.nattable.painter.layer.ILayerPainter;
@@ -538,6 +539,47 @@ public ILayerCell getCellByPosition(
         return cell;
     }
 
+    @Override
+    public ILayerCell getCellByPosition(
+            int compositeColumnPosition, int compositeRowPosition, MutableLayerCell cell) {
+        if (!isCellReuseSupported()) {
+            return getCellByPosition(compositeColumnPosition, compositeRowPosition);
+        }
+
+        Point layoutCoordinate = getLayoutXYByPosition(
+                compositeColumnPosition, compositeRowPosition);
+
+        if (layoutCoordinate == null) {
+            return null;
+        }
+
+        ILayer childLayer = this.childLayerLayout[layoutCoordinate.x][layoutCoordinate.y];
+        int childColumnPosition = compositeColumnPosition - getColumnPositionOffset(layoutCoordinate.x);
+        int childRowPosition = compositeRowPosition - getRowPositionOffset(layoutCoordinate.y);
+
+        ILayerCell childCell = childLayer.getCellByPosition(childColumnPosition, childRowPosition, cell);
+        if (childCell == null) {
+            return null;
+        }
+
+        int originColumnPosition = underlyingToLocalColumnPosition(childLayer, childCell.getOriginColumnPosition());
+        int originRowPosition = underlyingToLocalRowPosition(childLayer, childCell.getOriginRowPosition());
+        int columnPosition = underlyingToLocalColumnPosition(childLayer, childCell.getColumnPosition());
+        int rowPosition = underlyingToLocalRowPosition(childLayer, childCell.getRowPosition());
+
+        if (childCell == cell) {
+            return cell.translate(this, originColumnPosition, originRowPosition, columnPosition, rowPosition);
+        }
+        // the child layer created a special cell
+        return new TranslatedLayerCell(
+                childCell,
+                this,
+                originColumnPosition,
+                originRowPosition,
+                columnPosition,
+                rowPosition);
+    }
+
     @Override
     public Rectangle getBoundsByPosition(
             int compositeColumnPosition, int compositeRowPosition) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2024 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -555,12 +555,18 @@ public void setDataValueByPosition(int columnPosition, int rowPosition, Object n
 
     @Override
     public int getColumnPositionByX(int x) {
-        return LayerUtil.getColumnPositionByX(this, x);
+        if (x < 0 || x >= getWidth()) {
+            return -1;
+        }
+        return this.columnWidthConfig.getPositionByPixel(x);
     }
 
     @Override
     public int getRowPositionByY(int y) {
-        return LayerUtil.getRowPositionByY(this, y);
+        if (y < 0 || y >= getHeight()) {
+            return -1;
+        }
+        return this.rowHeightConfig.getPositionByPixel(y);
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -21,7 +21,9 @@
 import org.eclipse.nebula.widgets.nattable.command.ILayerCommandHandler;
 import org.eclipse.nebula.widgets.nattable.config.IConfigRegistry;
 import org.eclipse.nebula.widgets.nattable.coordinate.Range;
+import org.eclipse.nebula.widgets.nattable.layer.cell.ICellVisitor;
 import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
+import org.eclipse.nebula.widgets.nattable.layer.cell.MutableLayerCell;
 import org.eclipse.nebula.widgets.nattable.layer.event.ILayerEvent;
 import org.eclipse.nebula.widgets.nattable.layer.event.IVisualChangeEvent;
 import org.eclipse.nebula.widgets.nattable.painter.cell.ICellPainter;
@@ -547,6 +549,62 @@ public Collection<Range> underlyingToLocalRowPositions(
      */
     public ILayerCell getCellByPosition(int columnPosition, int rowPosition);
 
+    /**
+     * Returns the cell for the given coordinates on this layer by reusing the
+     * given {@link MutableLayerCell}. Layers that create simple positional
+     * cells initialize the given cell, transforming layers translate the cell
+     * of the underlying layer in place. Layers that create special cells
+     * return a new cell instance, which is also the default implementation.
+     * <p>
+     * The returned cell is only valid until the given {@link MutableLayerCell}
+     * is used for the next request.
+     * </p>
+     *
+     * @param columnPosition
+     *            The column position of the requested cell.
+     * @param rowPosition
+     *            The row position of the requested cell.
+     * @param cell
+     *            The {@link MutableLayerCell} that should be reused.
+     * @return The given {@link MutableLayerCell} or a new {@link ILayerCell}
+     *         for the given coordinates in this layer, or <code>null</code>
+     *         if the coordinates are invalid on this layer.
+     * @since 2.7
+     */
+    public default ILayerCell getCellByPosition(int columnPosition, int rowPosition, MutableLayerCell cell) {
+        return getCellByPosition(columnPosition, rowPosition);
+    }
+
+    /**
+     * Visits the cells in the given position rectangle row by row. The cells
+     * are retrieved via
+     * {@link #getCellByPosition(int, int, MutableLayerCell)} with a single
+     * reused {@link MutableLayerCell}, so the cell passed to the visitor is
+     * only valid during the call. A spanned cell is visited for every position
+     * it covers. Negative positions are skipped.
+     *
+     * @param positionRectangle
+     *            The rectangle of column and row positions to visit.
+     * @param visitor
+     *            The {@link ICellVisitor} that is called for every cell.
+     *            Returning <code>false</code> stops the iteration.
+     * @since 2.7
+     */
+    public default void forEachCell(Rectangle positionRectangle, ICellVisitor visitor) {
+        MutableLayerCell reusableCell = new MutableLayerCell();
+        int startColumn = Math.max(0, positionRectangle.x);
+        int endColumn = positionRectangle.x + positionRectangle.width;
+        int endRow = positionRectangle.y + positionRectangle.height;
+        for (int rowPosition = Math.max(0, positionRectangle.y); rowPosition < endRow; rowPosition++) {
+            for (int columnPosition = startColumn; columnPosition < endColumn; columnPosition++) {
+                ILayerCell cell = getCellByPosition(columnPosition, rowPosition, reusableCell);
+                if (cell != null && !visitor.visitCell(cell)) {
+                    return;
+                }
+            }
+        }
+    }
+
     /**
      * Calculates the bounds in pixel for the given cell position.
      *
@@ -0,0 +1,287 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.layer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.nebula.widgets.nattable.layer.event.ILayerEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.IStructuralChangeEvent;
+
+/**
+ * Composes the position transformations of a stack of layer transforms into a
+ * single mapping per axis. Starting at a top layer, all directly underlying
+ * layers that only transform positions, e.g. {@link AbstractLayerTransform}s
+ * and {@link AbstractIndexLayerTransform}s like the reorder, hide/show and
+ * tree layers that do not override
+ * {@link ILayer#getDataValueByPosition(int, int)}, are added to the chain. The
+ * first layer that is not such a transform, typically the {@link DataLayer},
+ * is the base layer of the chain.
+ * <p>
+ * The composed mappings from top layer position to base layer position are
+ * created lazily as <code>int[]</code> per axis, so the index and data value
+ * lookups via the chain need only one array access per axis instead of
+ * recursively transforming the positions through every layer.
+ * </p>
+ * <p>
+ * The mappings are cleared on {@link IStructuralChangeEvent}s of the
+ * corresponding axis, therefore the chain needs to be informed about the
+ * events of the top layer, either by registering it as {@link ILayerListener}
+ * on the top layer or via
+ * {@link AbstractIndexLayerTransform#setIndexTransformChainEnabled(boolean)}
+ * and {@link AbstractLayerTransform#setIndexTransformChainEnabled(boolean)}.
+ * It should not be used with layers whose transformation changes without a
+ * structural change event, like the ViewportLayer on scrolling.
+ * </p>
+ *
+ * @since 2.7
+ */
+public class IndexTransformChain implements ILayerListener {
+
+    private final ILayer topLayer;
+    private final ILayer[] layers;
+    private final ILayer baseLayer;
+
+    private volatile int[] columnPositions;
+    private volatile int[] rowPositions;
+
+    /**
+     * Counters that are increased on every clear operation, to avoid that a
+     * mapping that was created concurrently to a structural change is
+     * published.
+     */
+    private final AtomicInteger columnModCount = new AtomicInteger();
+    private final AtomicInteger rowModCount = new AtomicInteger();
+
+    /**
+     *
+     * @param topLayer
+     *            The layer whose positions should be mapped to the positions
+     *            of the base layer.
+     */
+    public IndexTransformChain(ILayer topLayer) {
+        this.topLayer = topLayer;
+
+        List<ILayer> chain = new ArrayList<>();
+        chain.add(topLayer);
+        ILayer layer = getUnderlyingLayer(topLayer);
+        while (layer != null && isPositionTransform(layer)) {
+            chain.add(layer);
+            layer = getUnderlyingLayer(layer);
+        }
+        this.layers = chain.toArray(new ILayer[chain.size()]);
+        this.baseLayer = layer;
+
+        if (this.baseLayer == null) {
+            throw new IllegalArgumentException("The given layer is not a layer transform"); //$NON-NLS-1$
+        }
+    }
+
+    private static ILayer getUnderlyingLayer(ILayer layer) {
+        if (layer instanceof AbstractLayerTransform) {
+            return ((AbstractLayerTransform) layer).getUnderlyingLayer();
+        } else if (layer instanceof AbstractIndexLayerTransform) {
+            return ((AbstractIndexLayerTransform) layer).getUnderlyingLayer();
+        }
+        return null;
+    }
+
+    /**
+     * Checks if the given layer only transforms positions, i.e. it is a layer
+     * transform that does not provide special data values.
+     */
+    private static boolean isPositionTransform(ILayer layer) {
+        if (getUnderlyingLayer(layer) == null) {
+            return false;
+        }
+        try {
+            Class<?> declaringClass = layer.getClass()
+                    .getMethod("getDataValueByPosition", int.class, int.class) //$NON-NLS-1$
+                    .getDeclaringClass();
+            return declaringClass == AbstractLayerTransform.class
+                    || declaringClass == AbstractIndexLayerTransform.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     *
+     * @return The layer whose positions are mapped.
+     */
+    public ILayer getTopLayer() {
+        return this.topLayer;
+    }
+
+    /**
+     *
+     * @return The layer to whose positions the positions of the top layer are
+     *         mapped.
+     */
+    public ILayer getBaseLayer() {
+        return this.baseLayer;
+    }
+
+    /**
+     *
+     * @param columnPosition
+     *            The column position in the top layer.
+     * @return The corresponding column position in the base layer or -1 if
+     *         the position can not be mapped.
+     */
+    public int getBaseColumnPosition(int columnPosition) {
+        int[] positions = this.columnPositions;
+        if (positions == null) {
+            positions = buildColumnPositions();
+        }
+        if (columnPosition >= 0 && columnPosition < positions.length) {
+            return positions[columnPosition];
+        }
+        return transformColumnPosition(columnPosition);
+    }
+
+    /**
+     *
+     * @param rowPosition
+     *            The row position in the top layer.
+     * @return The corresponding row position in the base layer or -1 if the
+     *         position can not be mapped.
+     */
+    public int getBaseRowPosition(int rowPosition) {
+        int[] positions = this.rowPositions;
+        if (positions == null) {
+            positions = buildRowPositions();
+        }
+        if (rowPosition >= 0 && rowPosition < positions.length) {
+            return positions[rowPosition];
+        }
+        return transformRowPosition(rowPosition);
+    }
+
+    /**
+     *
+     * @param columnPosition
+     *            The column position in the top layer.
+     * @return The column index for the given position.
+     */
+    public int getColumnIndexByPosition(int columnPosition) {
+        return this.baseLayer.getColumnIndexByPosition(getBaseColumnPosition(columnPosition));
+    }
+
+    /**
+     *
+     * @param rowPosition
+     *            The row position in the top layer.
+     * @return The row index for the given position.
+     */
+    public int getRowIndexByPosition(int rowPosition) {
+        return this.baseLayer.getRowIndexByPosition(getBaseRowPosition(rowPosition));
+    }
+
+    /**
+     *
+     * @param columnPosition
+     *            The column position in the top layer.
+     * @param rowPosition
+     *            The row position in the top layer.
+     * @return The data value of the base layer for the given positions.
+     */
+    public Object getDataValueByPosition(int columnPosition, int rowPosition) {
+        return this.baseLayer.getDataValueByPosition(
+                getBaseColumnPosition(columnPosition),
+                getBaseRowPosition(rowPosition));
+    }
+
+    private int transformColumnPosition(int columnPosition) {
+        int position = columnPosition;
+        for (ILayer layer : this.layers) {
+            position = layer.localToUnderlyingColumnPosition(position);
+            if (position < 0) {
+                return -1;
+            }
+        }
+        return position;
+    }
+
+    private int transformRowPosition(int rowPosition) {
+        int position = rowPosition;
+        for (ILayer layer : this.layers) {
+            position = layer.localToUnderlyingRowPosition(position);
+            if (position < 0) {
+                return -1;
+            }
+        }
+        return position;
+    }
+
+    private int[] buildColumnPositions() {
+        int modCount = this.columnModCount.get();
+        int[] positions = new int[this.topLayer.getColumnCount()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = transformColumnPosition(i);
+        }
+        synchronized (this) {
+            if (modCount == this.columnModCount.get()) {
+                this.columnPositions = positions;
+            }
+        }
+        return positions;
+    }
+
+    private int[] buildRowPositions() {
+        int modCount = this.rowModCount.get();
+        int[] positions = new int[this.topLayer.getRowCount()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = transformRowPosition(i);
+        }
+        synchronized (this) {
+            if (modCount == this.rowModCount.get()) {
+                this.rowPositions = positions;
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Clears the composed mappings, so they are created again on the next
+     * access.
+     */
+    public void clear() {
+        clearColumns();
+        clearRows();
+    }
+
+    private synchronized void clearColumns() {
+        this.columnModCount.incrementAndGet();
+        this.columnPositions = null;
+    }
+
+    private synchronized void clearRows() {
+        this.rowModCount.incrementAndGet();
+        this.rowPositions = null;
+    }
+
+    @Override
+    public void handleLayerEvent(ILayerEvent event) {
+        if (event instanceof IStructuralChangeEvent) {
+            IStructuralChangeEvent structuralEvent = (IStructuralChangeEvent) event;
+            if (structuralEvent.isHorizontalStructureChanged()) {
+                clearColumns();
+            }
+            if (structuralEvent.isVerticalStructureChanged()) {
+                clearRows();
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2023 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,19 +12,69 @@
  ******************************************************************************/
 package org.eclipse.nebula.widgets.nattable.layer;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Collection of labels applied to a cell. Used for conditional styling and
  * behavior.
+ * <p>
+ * Labels are interned into integer ids which are stored in insertion order in
+ * an int array. A bit mask of the contained ids is used to answer
+ * {@link #hasLabel(String)} for labels that are not contained without
+ * scanning the stack. For compatibility the class still extends
+ * {@link LinkedList}, but all operations are implemented on the id array, the
+ * linked nodes of the super class are not used.
+ * </p>
+ * <p>
+ * The number of interned labels is limited. If the limit is reached, e.g.
+ * because labels are created dynamically per row or per value, further labels
+ * are stored as strings and compared via {@link String#equals(Object)}.
+ * </p>
  */
-public class LabelStack extends LinkedList<String> {
+public class LabelStack extends LinkedList<String> implements RandomAccess {
 
     private static final long serialVersionUID = -2942954228158176792L;
 
+    private static final int DEFAULT_CAPACITY = 4;
+
+    /**
+     * The id of labels that are not interned because the maximum number of
+     * interned labels is reached.
+     */
+    private static final int NOT_INTERNED = -1;
+
+    private transient int[] ids;
+
+    /**
+     * The labels at the positions with the id {@link #NOT_INTERNED}. Only
+     * created if such labels are added.
+     */
+    private transient String[] uninterned;
+
+    private transient int size;
+
+    /**
+     * Bit mask of the contained ids, where the bit <code>id &amp; 63</code>
+     * is set for every contained id.
+     */
+    private transient long mask;
+
     /**
      * Creates a {@link LabelStack} initialized with the given labels.
      *
@@ -33,7 +83,10 @@ public class LabelStack extends LinkedList<String> {
      *            {@link LabelStack}.
      */
     public LabelStack(String... labels) {
-        super(Arrays.asList(labels));
+        this.ids = new int[Math.max(labels.length, DEFAULT_CAPACITY)];
+        for (String label : labels) {
+            insert(this.size, label);
+        }
     }
 
     /**
@@ -45,7 +98,10 @@ public LabelStack(String... labels) {
      * @since 2.0
      */
     public LabelStack(Collection<String> labels) {
-        super(labels);
+        this.ids = new int[Math.max(labels.size(), DEFAULT_CAPACITY)];
+        for (String label : labels) {
+            insert(this.size, label);
+        }
     }
 
     /**
@@ -58,8 +114,9 @@ public LabelStack(Collection<String> labels) {
      * @since 2.0
      */
     public boolean addLabel(String label) {
-        if (!hasLabel(label)) {
-            return add(label);
+        if (indexOf(label) < 0) {
+            insert(this.size, label);
+            return true;
         }
         return false;
     }
@@ -72,10 +129,11 @@ public boolean addLabel(String label) {
      *            The label to add.
      */
     public void addLabelOnTop(String label) {
-        if (hasLabel(label)) {
-            removeLabel(label);
+        int index = indexOf(label);
+        if (index >= 0) {
+            removeAt(index);
         }
-        addFirst(label);
+        insert(0, label);
     }
 
     /**
@@ -142,4 +200,632 @@ public boolean removeLabel(String label) {
         return remove(label);
     }
 
+    // internal id handling
+
+    private int indexOfLabel(Object label, boolean forward) {
+        int id = LabelInterner.lookup(label);
+        if (id < NOT_INTERNED || (this.mask & bit(id)) == 0) {
+            return -1;
+        }
+        int start = forward ? 0 : this.size - 1;
+        int end = forward ? this.size : -1;
+        int step = forward ? 1 : -1;
+        for (int i = start; i != end; i += step) {
+            if (this.ids[i] == id
+                    && (id != NOT_INTERNED || this.uninterned[i].equals(label))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private String labelAt(int index) {
+        int id = this.ids[index];
+        return id == NOT_INTERNED ? this.uninterned[index] : LabelInterner.label(id);
+    }
+
+    private void insert(int index, String label) {
+        if (this.size == this.ids.length) {
+            this.ids = Arrays.copyOf(this.ids, this.size * 2);
+            if (this.uninterned != null) {
+                this.uninterned = Arrays.copyOf(this.uninterned, this.ids.length);
+            }
+        }
+        int moved = this.size - index;
+        if (moved > 0) {
+            System.arraycopy(this.ids, index, this.ids, index + 1, moved);
+            if (this.uninterned != null) {
+                System.arraycopy(this.uninterned, index, this.uninterned, index + 1, moved);
+            }
+        }
+        this.size++;
+        store(index, label);
+        this.modCount++;
+    }
+
+    private void store(int index, String label) {
+        int id = LabelInterner.intern(label);
+        this.ids[index] = id;
+        if (id == NOT_INTERNED) {
+            if (this.uninterned == null) {
+                this.uninterned = new String[this.ids.length];
+            }
+            this.uninterned[index] = label;
+        } else if (this.uninterned != null) {
+            this.uninterned[index] = null;
+        }
+        this.mask |= bit(id);
+    }
+
+    private String removeAt(int index) {
+        String label = labelAt(index);
+        int moved = this.size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(this.ids, index + 1, this.ids, index, moved);
+            if (this.uninterned != null) {
+                System.arraycopy(this.uninterned, index + 1, this.uninterned, index, moved);
+            }
+        }
+        this.size--;
+        if (this.uninterned != null) {
+            this.uninterned[this.size] = null;
+        }
+        updateMask();
+        this.modCount++;
+        return label;
+    }
+
+    private void updateMask() {
+        long newMask = 0;
+        for (int i = 0; i < this.size; i++) {
+            newMask |= bit(this.ids[i]);
+        }
+        this.mask = newMask;
+    }
+
+    private static long bit(int id) {
+        return 1L << (id & 63);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+    }
+
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+    }
+
+    // List
+
+    @Override
+    public String get(int index) {
+        checkIndex(index);
+        return labelAt(index);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public String set(int index, String label) {
+        checkIndex(index);
+        String old = labelAt(index);
+        store(index, label);
+        updateMask();
+        return old;
+    }
+
+    @Override
+    public boolean add(String label) {
+        insert(this.size, label);
+        return true;
+    }
+
+    @Override
+    public void add(int index, String label) {
+        checkPositionIndex(index);
+        insert(index, label);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends String> labels) {
+        return addAll(this.size, labels);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends String> labels) {
+        checkPositionIndex(index);
+        Object[] toAdd = labels.toArray();
+        for (int i = 0; i < toAdd.length; i++) {
+            insert(index + i, (String) toAdd[i]);
+        }
+        return toAdd.length > 0;
+    }
+
+    @Override
+    public String remove(int index) {
+        checkIndex(index);
+        return removeAt(index);
+    }
+
+    @Override
+    public boolean remove(Object label) {
+        int index = indexOf(label);
+        if (index >= 0) {
+            removeAt(index);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(Object label) {
+        return indexOf(label) >= 0;
+    }
+
+    @Override
+    public int indexOf(Object label) {
+        return indexOfLabel(label, true);
+    }
+
+    @Override
+    public int lastIndexOf(Object label) {
+        return indexOfLabel(label, false);
+    }
+
+    @Override
+    public void clear() {
+        if (this.uninterned != null) {
+            Arrays.fill(this.uninterned, 0, this.size, null);
+        }
+        this.size = 0;
+        this.mask = 0;
+        this.modCount++;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new LabelIterator(0);
+    }
+
+    @Override
+    public ListIterator<String> listIterator() {
+        return new LabelIterator(0);
+    }
+
+    @Override
+    public ListIterator<String> listIterator(int index) {
+        checkPositionIndex(index);
+        return new LabelIterator(index);
+    }
+
+    @Override
+    public Spliterator<String> spliterator() {
+        return Spliterators.spliterator(this, Spliterator.ORDERED);
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[this.size];
+        for (int i = 0; i < this.size; i++) {
+            result[i] = labelAt(i);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T[] toArray(T[] a) {
+        T[] result = a.length >= this.size
+                ? a
+                : (T[]) Array.newInstance(a.getClass().getComponentType(), this.size);
+        for (int i = 0; i < this.size; i++) {
+            result[i] = (T) labelAt(i);
+        }
+        if (result.length > this.size) {
+            result[this.size] = null;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof LabelStack) {
+            LabelStack other = (LabelStack) o;
+            if (this.size != other.size) {
+                return false;
+            }
+            for (int i = 0; i < this.size; i++) {
+                if (this.ids[i] != other.ids[i]
+                        || (this.ids[i] == NOT_INTERNED && !this.uninterned[i].equals(other.uninterned[i]))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    // Deque
+
+    @Override
+    public void addFirst(String label) {
+        insert(0, label);
+    }
+
+    @Override
+    public void addLast(String label) {
+        add(label);
+    }
+
+    @Override
+    public boolean offerFirst(String label) {
+        addFirst(label);
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(String label) {
+        addLast(label);
+        return true;
+    }
+
+    @Override
+    public String removeFirst() {
+        if (this.size == 0) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(0);
+    }
+
+    @Override
+    public String removeLast() {
+        if (this.size == 0) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(this.size - 1);
+    }
+
+    @Override
+    public String pollFirst() {
+        return (this.size == 0) ? null : removeAt(0);
+    }
+
+    @Override
+    public String pollLast() {
+        return (this.size == 0) ? null : removeAt(this.size - 1);
+    }
+
+    @Override
+    public String getFirst() {
+        if (this.size == 0) {
+            throw new NoSuchElementException();
+        }
+        return labelAt(0);
+    }
+
+    @Override
+    public String getLast() {
+        if (this.size == 0) {
+            throw new NoSuchElementException();
+        }
+        return labelAt(this.size - 1);
+    }
+
+    @Override
+    public String peekFirst() {
+        return (this.size == 0) ? null : labelAt(0);
+    }
+
+    @Override
+    public String peekLast() {
+        return (this.size == 0) ? null : labelAt(this.size - 1);
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object label) {
+        return remove(label);
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object label) {
+        int index = lastIndexOf(label);
+        if (index >= 0) {
+            removeAt(index);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean offer(String label) {
+        return offerLast(label);
+    }
+
+    @Override
+    public String remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public String poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public String element() {
+        return getFirst();
+    }
+
+    @Override
+    public String peek() {
+        return peekFirst();
+    }
+
+    @Override
+    public void push(String label) {
+        addFirst(label);
+    }
+
+    @Override
+    public String pop() {
+        return removeFirst();
+    }
+
+    @Override
+    public Iterator<String> descendingIterator() {
+        ListIterator<String> it = listIterator(this.size);
+        return new Iterator<String>() {
+
+            @Override
+            public boolean hasNext() {
+                return it.hasPrevious();
+            }
+
+            @Override
+            public String next() {
+                return it.previous();
+            }
+
+            @Override
+            public void remove() {
+                it.remove();
+            }
+        };
+    }
+
+    /**
+     * Returns a copy of this {@link LabelStack} with the labels in reverse
+     * order.
+     *
+     * @return A {@link LabelStack} with the labels in reverse order.
+     * @since 2.7
+     */
+    public LabelStack reversed() {
+        LabelStack result = new LabelStack();
+        result.ids = new int[Math.max(this.size, DEFAULT_CAPACITY)];
+        for (int i = this.size - 1; i >= 0; i--) {
+            result.insert(result.size, labelAt(i));
+        }
+        return result;
+    }
+
+    // Cloneable and Serializable
+
+    @Override
+    public LabelStack clone() {
+        // LinkedList#clone() only copies the unused linked nodes
+        LabelStack clone = (LabelStack) super.clone();
+        clone.ids = Arrays.copyOf(this.ids, Math.max(this.size, DEFAULT_CAPACITY));
+        if (this.uninterned != null) {
+            clone.uninterned = Arrays.copyOf(this.uninterned, clone.ids.length);
+        }
+        return clone;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        // the ids are only valid in the current runtime, so the labels are
+        // written
+        out.defaultWriteObject();
+        out.writeInt(this.size);
+        for (int i = 0; i < this.size; i++) {
+            out.writeObject(labelAt(i));
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int count = in.readInt();
+        this.ids = new int[Math.max(count, DEFAULT_CAPACITY)];
+        for (int i = 0; i < count; i++) {
+            insert(this.size, (String) in.readObject());
+        }
+    }
+
+    /**
+     * {@link ListIterator} that operates on the id array.
+     */
+    private final class LabelIterator implements ListIterator<String> {
+
+        private int cursor;
+        private int lastReturned = -1;
+        private int expectedModCount = LabelStack.this.modCount;
+
+        LabelIterator(int index) {
+            this.cursor = index;
+        }
+
+        private void checkForComodification() {
+            if (LabelStack.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.cursor < LabelStack.this.size;
+        }
+
+        @Override
+        public String next() {
+            checkForComodification();
+            if (this.cursor >= LabelStack.this.size) {
+                throw new NoSuchElementException();
+            }
+            this.lastReturned = this.cursor++;
+            return labelAt(this.lastReturned);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return this.cursor > 0;
+        }
+
+        @Override
+        public String previous() {
+            checkForComodification();
+            if (this.cursor <= 0) {
+                throw new NoSuchElementException();
+            }
+            this.lastReturned = --this.cursor;
+            return labelAt(this.lastReturned);
+        }
+
+        @Override
+        public int nextIndex() {
+            return this.cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return this.cursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (this.lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            removeAt(this.lastReturned);
+            this.cursor = this.lastReturned;
+            this.lastReturned = -1;
+            this.expectedModCount = LabelStack.this.modCount;
+        }
+
+        @Override
+        public void set(String label) {
+            if (this.lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            LabelStack.this.set(this.lastReturned, label);
+        }
+
+        @Override
+        public void add(String label) {
+            checkForComodification();
+            insert(this.cursor++, label);
+            this.lastReturned = -1;
+            this.expectedModCount = LabelStack.this.modCount;
+        }
+    }
+
+    /**
+     * Maps labels to integer ids that are unique in the current runtime. The
+     * id 0 is reserved for <code>null</code>. The number of interned labels is
+     * limited to {@link #MAX_LABELS}, as interned labels are never released.
+     */
+    static final class LabelInterner {
+
+        /**
+         * The maximum number of interned labels.
+         */
+        static final int MAX_LABELS = 4096;
+
+        /**
+         * The id returned by {@link #lookup(Object)} for objects that can not
+         * be contained in a {@link LabelStack}.
+         */
+        private static final int ABSENT = -2;
+
+        private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+
+        private static volatile String[] labels = new String[64];
+        private static int count = 1;
+        private static volatile boolean full;
+
+        private LabelInterner() {
+            // private constructor for helper class
+        }
+
+        /**
+         *
+         * @return The id of the given label, or {@link LabelStack#NOT_INTERNED}
+         *         if the maximum number of interned labels is reached.
+         */
+        static int intern(String label) {
+            if (label == null) {
+                return 0;
+            }
+            Integer id = IDS.get(label);
+            if (id != null) {
+                return id;
+            }
+            return full ? NOT_INTERNED : register(label);
+        }
+
+        private static synchronized int register(String label) {
+            Integer id = IDS.get(label);
+            if (id != null) {
+                return id;
+            }
+            if (count >= MAX_LABELS) {
+                full = true;
+                return NOT_INTERNED;
+            }
+            String[] current = labels;
+            if (count == current.length) {
+                current = Arrays.copyOf(current, count * 2);
+            }
+            current[count] = label;
+            // publish the label before the id to make it visible for
+            // label(int) calls of other threads
+            labels = current;
+            IDS.put(label, count);
+            return count++;
+        }
+
+        /**
+         *
+         * @return The id of the given label, {@link LabelStack#NOT_INTERNED}
+         *         if the given label was not interned, or a value smaller than
+         *         that if the given object is not a label.
+         */
+        static int lookup(Object label) {
+            if (label == null) {
+                return 0;
+            }
+            if (!(label instanceof String)) {
+                return ABSENT;
+            }
+            Integer id = IDS.get(label);
+            return id != null ? id : NOT_INTERNED;
+        }
+
+        static String label(int id) {
+            return labels[id];
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -119,13 +119,30 @@ public class SizeConfig implements IPersistable {
     protected final MutableIntIntMap realSizeMap = IntIntMaps.mutable.empty();
     /**
      * Map that contains the cached aggregated sizes.
+     *
+     * @deprecated The aggregated sizes are not cached per position anymore,
+     *             they are calculated via a binary indexed tree that contains
+     *             the differences to the default size.
      */
+    @Deprecated
     protected final MutableIntIntMap aggregatedSizeCacheMap = IntIntMaps.mutable.empty();
     /**
      * Flag that indicates if the aggregated size cache is valid or if it needs
      * to get recalculated.
      */
-    protected boolean isAggregatedSizeCacheValid = true;
+    protected boolean isAggregatedSizeCacheValid = false;
+    /**
+     * Binary indexed tree that contains the differences of the scaled sizes to
+     * the scaled default size per position. Used to calculate aggregated sizes
+     * and to find the position for a pixel value in O(log n). Rebuilt if
+     * {@link #isAggregatedSizeCacheValid} is <code>false</code>.
+     */
+    private final AggregatedSizeTree aggregatedSizeTree = new AggregatedSizeTree();
+    /**
+     * The scaled default size that was used to build the
+     * {@link #aggregatedSizeTree}.
+     */
+    private int aggregatedSizeTreeDefaultSize;
     /**
      * The {@link IDpiConverter} that is used for scaling DPI conversion.
      */
@@ -269,7 +286,6 @@ public void loadState(String prefix, Properties properties) {
         this.percentageSizeMap.clear();
         this.percentageSizingMap.clear();
         this.resizablesMap.clear();
-        this.aggregatedSizeCacheMap.clear();
         this.minSizeMap.clear();
 
         this.resizableByDefault = true;
@@ -389,7 +405,7 @@ public void setDefaultSize(int position, int size) {
             throw new IllegalArgumentException("size < 0"); //$NON-NLS-1$
         }
         this.defaultSizeMap.put(position, size);
-        this.isAggregatedSizeCacheValid = false;
+        updateAggregatedSize(position);
     }
 
     private int getDefaultSize(int position) {
@@ -414,17 +430,43 @@ public int getAggregateSize(int position) {
             // value needs to be considered
             return position * upScale(this.defaultSize);
         } else {
-            // See if the cache is valid, if not clear it.
-            if (!this.isAggregatedSizeCacheValid) {
-                this.aggregatedSizeCacheMap.clear();
-                this.isAggregatedSizeCacheValid = true;
-            }
+            validateAggregatedSizeTree();
+            return (int) ((long) position * this.aggregatedSizeTreeDefaultSize + this.aggregatedSizeTree.sum(position));
+        }
+    }
 
-            if (!this.aggregatedSizeCacheMap.containsKey(position)) {
-                int aggregatedSize = calculateAggregatedSize(position);
-                this.aggregatedSizeCacheMap.put(position, aggregatedSize);
+    /**
+     * Returns the position that contains the given pixel, which is the
+     * position whose aggregated size is the greatest one that is less than or
+     * equal to the given pixel. The pixel value is interpreted in the same
+     * scaled coordinate space as the values returned by
+     * {@link #getAggregateSize(int)}. As the {@link SizeConfig} does not know
+     * the number of positions, the caller needs to ensure that the pixel is
+     * within the aggregated size of all positions.
+     *
+     * @param pixel
+     *            The pixel value for which the position is requested.
+     * @return The position that contains the given pixel or -1 if the pixel
+     *         is negative.
+     *
+     * @since 2.7
+     */
+    public int getPositionByPixel(int pixel) {
+        if (pixel < 0) {
+            return -1;
+        } else if (isAllPositionsSameSize() && !isPercentageSizing()) {
+            int size = upScale(this.defaultSize);
+            return size > 0 ? pixel / size : 0;
+        } else {
+            validateAggregatedSizeTree();
+            int position = this.aggregatedSizeTree.find(pixel, this.aggregatedSizeTreeDefaultSize);
+            if (position == this.aggregatedSizeTree.length() && this.aggregatedSizeTreeDefaultSize > 0) {
+                // all positions after the range covered by the tree have the
+                // default size
+                long start = (long) position * this.aggregatedSizeTreeDefaultSize + this.aggregatedSizeTree.sum(position);
+                position += (int) ((pixel - start) / this.aggregatedSizeTreeDefaultSize);
             }
-            return this.aggregatedSizeCacheMap.get(position);
+            return position;
         }
     }
 
@@ -657,8 +699,13 @@ public void setSize(int position, int size) {
                 this.percentageSizeMap.put(position, size);
             }
 
-            calculatePercentages(this.availableSpace, this.realSizeMap.size());
-            this.isAggregatedSizeCacheValid = false;
+            if (isPercentageSizing()) {
+                calculatePercentages(this.availableSpace, this.realSizeMap.size());
+                this.isAggregatedSizeCacheValid = false;
+            } else {
+                // only the size of a single position changed
+                updateAggregatedSize(position);
+            }
         }
     }
 
@@ -817,6 +864,7 @@ public void setPercentage(int position, double percentage) {
             this.percentageSizingMap.put(position, true);
             this.percentageSizeMap.put(position, percentage);
             this.realSizeMap.put(position, calculatePercentageValue(percentage, this.availableSpace));
+            this.isAggregatedSizeCacheValid = false;
             calculatePercentages(this.availableSpace, this.realSizeMap.size());
         }
     }
@@ -1304,39 +1352,48 @@ protected int[] correctPercentageValues(double sum, int positionCount) {
         return new int[0];
     }
 
-    private int calculateAggregatedSize(int position) {
-        int resizeAggregate = 0;
-        int resizedColumns = 0;
+    /**
+     * Rebuild the {@link #aggregatedSizeTree} if the aggregated sizes are
+     * marked as invalid.
+     */
+    private void validateAggregatedSizeTree() {
+        if (!this.isAggregatedSizeCacheValid) {
+            this.aggregatedSizeTree.clear();
+            this.aggregatedSizeTreeDefaultSize = upScale(this.defaultSize);
 
-        boolean pSizing = isPercentageSizing();
-        MutableIntIntMap mapToUse = pSizing ? this.realSizeMap : this.sizeMap;
+            MutableIntIntMap mapToUse = isPercentageSizing() ? this.realSizeMap : this.sizeMap;
+            mapToUse.forEachKey(this::setAggregatedSizeDifference);
+            this.defaultSizeMap.forEachKey(this::setAggregatedSizeDifference);
 
-        for (int resizedPosition : mapToUse.keySet().toSortedArray()) {
-            if (resizedPosition < position) {
-                resizedColumns++;
-                int size = mapToUse.get(resizedPosition);
-                resizeAggregate += pSizing ? size : upScale(size);
-            } else {
-                break;
-            }
+            this.isAggregatedSizeCacheValid = true;
         }
+    }
 
-        // also take into account the default size configuration per position
-        for (int defaultPosition : this.defaultSizeMap.keySet().toSortedArray()) {
-            if (defaultPosition < position) {
-                if (!mapToUse.containsKey(defaultPosition)) {
-                    resizedColumns++;
-                    int size = this.defaultSizeMap.get(defaultPosition);
-                    resizeAggregate += upScale(size);
-                }
-            } else {
-                break;
-            }
+    /**
+     * Update the {@link #aggregatedSizeTree} for a size change of a single
+     * position. Does nothing if the tree needs to be rebuilt anyway.
+     *
+     * @param position
+     *            The position whose size changed.
+     */
+    private void updateAggregatedSize(int position) {
+        if (this.isAggregatedSizeCacheValid) {
+            setAggregatedSizeDifference(position);
         }
+    }
 
-        int result = (position - resizedColumns) * upScale(this.defaultSize);
-        result += resizeAggregate;
-        return result;
+    private void setAggregatedSizeDifference(int position) {
+        int size;
+        if (isPercentageSizing()) {
+            // the real sizes are already scaled
+            size = this.realSizeMap.getIfAbsent(position, -1);
+            if (size == -1) {
+                size = upScale(getDefaultSize(position));
+            }
+        } else {
+            size = upScale(this.sizeMap.getIfAbsent(position, getDefaultSize(position)));
+        }
+        this.aggregatedSizeTree.set(position, size - this.aggregatedSizeTreeDefaultSize);
     }
 
     private int correctExtend(int extend, MutableIntList fixedPercentagePositions) {
@@ -1445,7 +1502,8 @@ public void reset() {
         this.percentageSizeMap.clear();
         this.percentageSizingMap.clear();
         this.realSizeMap.clear();
-        this.aggregatedSizeCacheMap.clear();
+        this.aggregatedSizeTree.clear();
+        this.isAggregatedSizeCacheValid = false;
         this.minSizeMap.clear();
     }
 
@@ -1461,8 +1519,12 @@ public void reset() {
     public void resetConfiguredSize(int position) {
         this.sizeMap.remove(position);
         this.percentageSizeMap.remove(position);
-        this.isAggregatedSizeCacheValid = false;
-        calculatePercentages(this.availableSpace, this.realSizeMap.size());
+        if (isPercentageSizing()) {
+            this.isAggregatedSizeCacheValid = false;
+            calculatePercentages(this.availableSpace, this.realSizeMap.size());
+        } else {
+            updateAggregatedSize(position);
+        }
     }
 
     /**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@
 import org.eclipse.nebula.widgets.nattable.layer.cell.DataCell;
 import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
 import org.eclipse.nebula.widgets.nattable.layer.cell.LayerCell;
+import org.eclipse.nebula.widgets.nattable.layer.cell.MutableLayerCell;
 import org.eclipse.swt.graphics.Rectangle;
 
 public class SpanningDataLayer extends DataLayer {
@@ -56,6 +57,26 @@ public ILayerCell getCellByPosition(int columnPosition, int rowPosition) {
         return new LayerCell(this, columnPosition, rowPosition, dataCell);
     }
 
+    @Override
+    public ILayerCell getCellByPosition(int columnPosition, int rowPosition, MutableLayerCell cell) {
+        if (!isCellReuseSupported()) {
+            return getCellByPosition(columnPosition, rowPosition);
+        }
+
+        if (columnPosition < 0 || columnPosition >= getColumnCount()
+                || rowPosition < 0 || rowPosition >= getRowCount()) {
+            return null;
+        }
+
+        DataCell dataCell = getDataProvider().getCellByPosition(columnPosition,
+                rowPosition);
+
+        return cell.set(this,
+                dataCell.getColumnPosition(), dataCell.getRowPosition(),
+                columnPosition, rowPosition,
+                dataCell.getColumnSpan(), dataCell.getRowSpan());
+    }
+
     @Override
     public Rectangle getBoundsByPosition(int columnPosition, int rowPosition) {
         ILayerCell cell = getCellByPosition(columnPosition, rowPosition);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2023 Edwin Park and others.
+ * Copyright (c) 2012, 2026 Edwin Park and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -71,4 +71,22 @@ public Rectangle getBounds() {
         }
         return this.bounds;
     }
-}
\ No newline at end of file
+
+    /**
+     * Resets the cached display mode, config labels, data value and bounds, so
+     * they are retrieved again from the layer on the next access. Needed for
+     * cell instances that are reused for different positions.
+     *
+     * @since 2.7
+     */
+    protected void resetCache() {
+        this.isDisplayModeCached = false;
+        this.displayMode = null;
+        this.isConfigLabelsCached = false;
+        this.configLabels = null;
+        this.isDataValueCached = false;
+        this.dataValue = null;
+        this.isBoundsCached = false;
+        this.bounds = null;
+    }
+}
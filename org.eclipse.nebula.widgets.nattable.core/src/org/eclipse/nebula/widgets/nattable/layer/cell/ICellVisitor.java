@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.layer.cell;
+
+import org.eclipse.nebula.widgets.nattable.layer.ILayer;
+
+/**
+ * Visitor that is called for every cell in a region of a layer via
+ * {@link ILayer#forEachCell(org.eclipse.swt.graphics.Rectangle, ICellVisitor)}.
+ * <p>
+ * The passed cell is typically a reused {@link MutableLayerCell} that is only
+ * valid during the call. Use {@link MutableLayerCell#detach(ILayerCell)} if a
+ * reference to the cell needs to be kept.
+ * </p>
+ *
+ * @since 2.7
+ */
+@FunctionalInterface
+public interface ICellVisitor {
+
+    /**
+     * Called for every cell in the visited region.
+     *
+     * @param cell
+     *            The cell at the current position.
+     * @return <code>true</code> to continue with the next cell,
+     *         <code>false</code> to stop the iteration.
+     */
+    boolean visitCell(ILayerCell cell);
+}
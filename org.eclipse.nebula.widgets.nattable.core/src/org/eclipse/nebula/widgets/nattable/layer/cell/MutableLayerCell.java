@@ -0,0 +1,243 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.layer.cell;
+
+import org.eclipse.nebula.widgets.nattable.layer.ILayer;
+
+/**
+ * {@link ILayerCell} implementation that is reused to iterate over multiple
+ * cells without creating a new cell instance per position and per layer. The
+ * cell is initialized by the layer that creates the cell via
+ * {@link #set(ILayer, int, int, int, int, int, int)}, transforming layers
+ * translate the positions in place via
+ * {@link #translate(ILayer, int, int, int, int)} instead of wrapping the cell
+ * in a {@link TranslatedLayerCell}.
+ * <p>
+ * As the instance is modified for every position, a reference to it is only
+ * valid until the next cell is requested. Use {@link #detach(ILayerCell)} to
+ * create a cell instance that can be kept.
+ * </p>
+ *
+ * @see ILayer#getCellByPosition(int, int, MutableLayerCell)
+ * @see ILayer#forEachCell(org.eclipse.swt.graphics.Rectangle, ICellVisitor)
+ *
+ * @since 2.7
+ */
+public class MutableLayerCell extends AbstractLayerCell {
+
+    private ILayer layer;
+
+    private int columnPosition;
+    private int rowPosition;
+
+    private int originColumnPosition;
+    private int originRowPosition;
+
+    private int columnSpan = 1;
+    private int rowSpan = 1;
+
+    /**
+     * The layer that created the cell, used to resolve the indexes the same
+     * way a chain of {@link TranslatedLayerCell}s does.
+     */
+    private ILayer sourceLayer;
+
+    private int sourceColumnPosition;
+    private int sourceRowPosition;
+
+    private int sourceOriginColumnPosition;
+    private int sourceOriginRowPosition;
+
+    /**
+     * Initializes this cell with the values of the cell that is created by the
+     * given layer.
+     *
+     * @param layer
+     *            The layer that creates the cell.
+     * @param originColumnPosition
+     *            The column position of the top left cell of a spanned cell.
+     * @param originRowPosition
+     *            The row position of the top left cell of a spanned cell.
+     * @param columnPosition
+     *            The column position of the cell.
+     * @param rowPosition
+     *            The row position of the cell.
+     * @param columnSpan
+     *            The number of columns the cell spans.
+     * @param rowSpan
+     *            The number of rows the cell spans.
+     * @return This cell.
+     */
+    public MutableLayerCell set(
+            ILayer layer,
+            int originColumnPosition,
+            int originRowPosition,
+            int columnPosition,
+            int rowPosition,
+            int columnSpan,
+            int rowSpan) {
+
+        this.sourceLayer = layer;
+        this.sourceOriginColumnPosition = originColumnPosition;
+        this.sourceOriginRowPosition = originRowPosition;
+        this.sourceColumnPosition = columnPosition;
+        this.sourceRowPosition = rowPosition;
+
+        this.columnSpan = columnSpan;
+        this.rowSpan = rowSpan;
+
+        return translate(layer, originColumnPosition, originRowPosition, columnPosition, rowPosition);
+    }
+
+    /**
+     * Translates this cell to the given layer. The spanning and the indexes
+     * are kept.
+     *
+     * @param layer
+     *            The layer to which the cell is translated.
+     * @param originColumnPosition
+     *            The origin column position in the given layer.
+     * @param originRowPosition
+     *            The origin row position in the given layer.
+     * @param columnPosition
+     *            The column position in the given layer.
+     * @param rowPosition
+     *            The row position in the given layer.
+     * @return This cell.
+     */
+    public MutableLayerCell translate(
+            ILayer layer,
+            int originColumnPosition,
+            int originRowPosition,
+            int columnPosition,
+            int rowPosition) {
+
+        this.layer = layer;
+        this.originColumnPosition = originColumnPosition;
+        this.originRowPosition = originRowPosition;
+        this.columnPosition = columnPosition;
+        this.rowPosition = rowPosition;
+
+        resetCache();
+        return this;
+    }
+
+    @Override
+    public ILayer getLayer() {
+        return this.layer;
+    }
+
+    @Override
+    public int getOriginColumnPosition() {
+        return this.originColumnPosition;
+    }
+
+    @Override
+    public int getOriginRowPosition() {
+        return this.originRowPosition;
+    }
+
+    @Override
+    public int getColumnPosition() {
+        return this.columnPosition;
+    }
+
+    @Override
+    public int getRowPosition() {
+        return this.rowPosition;
+    }
+
+    @Override
+    public int getColumnIndex() {
+        if (this.sourceLayer != null) {
+            return this.sourceLayer.getColumnIndexByPosition(this.sourceColumnPosition);
+        }
+        return this.sourceColumnPosition;
+    }
+
+    @Override
+    public int getRowIndex() {
+        if (this.sourceLayer != null) {
+            return this.sourceLayer.getRowIndexByPosition(this.sourceRowPosition);
+        }
+        return this.sourceRowPosition;
+    }
+
+    @Override
+    public int getColumnSpan() {
+        return this.columnSpan;
+    }
+
+    @Override
+    public int getRowSpan() {
+        return this.rowSpan;
+    }
+
+    /**
+     * Creates a cell instance with the current state of this cell that is not
+     * modified anymore.
+     *
+     * @return A new {@link ILayerCell} with the current state of this cell.
+     */
+    public ILayerCell copy() {
+        LayerCell sourceCell = new LayerCell(
+                this.sourceLayer,
+                this.sourceOriginColumnPosition,
+                this.sourceOriginRowPosition,
+                this.sourceColumnPosition,
+                this.sourceRowPosition,
+                this.columnSpan,
+                this.rowSpan);
+        if (this.sourceLayer == this.layer) {
+            return sourceCell;
+        }
+        return new TranslatedLayerCell(
+                sourceCell,
+                this.layer,
+                this.originColumnPosition,
+                this.originRowPosition,
+                this.columnPosition,
+                this.rowPosition);
+    }
+
+    /**
+     * Returns a cell instance for the given cell that can be kept, e.g. to
+     * collect cells while iterating.
+     *
+     * @param cell
+     *            The cell that was passed to an {@link ICellVisitor} or
+     *            returned by
+     *            {@link ILayer#getCellByPosition(int, int, MutableLayerCell)}.
+     * @return A copy of the given cell if it is a {@link MutableLayerCell},
+     *         the given cell itself otherwise.
+     */
+    public static ILayerCell detach(ILayerCell cell) {
+        if (cell instanceof MutableLayerCell) {
+            return ((MutableLayerCell) cell).copy();
+        }
+        return cell;
+    }
+
+    @Override
+    public String toString() {
+        return "MutableLayerCell: [" //$NON-NLS-1$
+                + "layer: " + (getLayer() != null ? getLayer().getClass().getSimpleName() : null) //$NON-NLS-1$
+                + ", columnPosition: " + getColumnPosition() //$NON-NLS-1$
+                + ", rowPosition: " + getRowPosition() //$NON-NLS-1$
+                + ", originColumnPosition: " + getOriginColumnPosition() //$NON-NLS-1$
+                + ", originRowPosition: " + getOriginRowPosition() //$NON-NLS-1$
+                + ", columnSpan: " + getColumnSpan() //$NON-NLS-1$
+                + ", rowSpan: " + getRowSpan() //$NON-NLS-1$
+                + "]"; //$NON-NLS-1$
+    }
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.layer.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.nebula.widgets.nattable.layer.ILayer;
+
+/**
+ * Visual refresh event that carries a batch of bean property updates. Used to
+ * inform about a high number of property updates with a single event instead
+ * of firing one {@link PropertyUpdateEvent} per update.
+ *
+ * @param <T>
+ *            Type of the bean in the backing list.
+ *
+ * @since 2.7
+ */
+public class PropertyUpdateBatchEvent<T> extends VisualRefreshEvent {
+
+    private final List<PropertyUpdateEvent<T>> updates;
+
+    /**
+     *
+     * @param layer
+     *            The layer to which the event is fired.
+     * @param updates
+     *            The property updates contained in this batch.
+     */
+    public PropertyUpdateBatchEvent(ILayer layer, List<PropertyUpdateEvent<T>> updates) {
+        super(layer);
+        this.updates = Collections.unmodifiableList(new ArrayList<>(updates));
+    }
+
+    protected PropertyUpdateBatchEvent(PropertyUpdateBatchEvent<T> event) {
+        super(event);
+        this.updates = event.updates;
+    }
+
+    /**
+     *
+     * @return The property updates contained in this batch, in the order they
+     *         were received.
+     */
+    public List<PropertyUpdateEvent<T>> getUpdates() {
+        return this.updates;
+    }
+
+    @Override
+    public PropertyUpdateBatchEvent<T> cloneEvent() {
+        return new PropertyUpdateBatchEvent<>(this);
+    }
+}
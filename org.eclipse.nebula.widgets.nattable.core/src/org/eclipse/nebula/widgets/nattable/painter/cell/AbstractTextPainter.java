@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2025 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,6 @@
  ******************************************************************************/
 package org.eclipse.nebula.widgets.nattable.painter.cell;
 
-import java.util.Map;
-import java.util.WeakHashMap;
 import java.util.regex.Pattern;
 
 import org.eclipse.nebula.widgets.nattable.config.IConfigRegistry;
@@ -29,7 +27,6 @@
 import org.eclipse.nebula.widgets.nattable.util.PlatformHelper;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Font;
-import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.FontMetrics;
 import org.eclipse.swt.graphics.GC;
 
@@ -94,9 +91,6 @@ public abstract class AbstractTextPainter extends BackgroundPainter {
     private Color originalForeground;
     private Font originalFont;
 
-    private static Map<String, Integer> temporaryMap = new WeakHashMap<>();
-    private static Map<org.eclipse.swt.graphics.Font, FontData[]> fontDataCache = new WeakHashMap<>();
-
     public AbstractTextPainter() {
         this(false, true);
     }
@@ -307,38 +301,20 @@ protected int getNumberOfNewLines(String text) {
 
     /**
      * Calculates the length of a given text by using the GC. To minimize the
-     * count of calculations, the calculation result will be stored within a
-     * Map, so the next time the length of the same text is asked for, the
-     * result is only returned by cache and is not calculated again.
+     * count of calculations, the calculation result will be stored per font
+     * in the size bounded {@link TextExtentCache}, so the next time the length
+     * of the same text is asked for, the result is only returned by cache and
+     * is not calculated again.
      *
      * @param gc
      *            the current GC
      * @param text
      *            the text to get the length for
      * @return the length of the text
+     * @see TextExtentCache#getDefault()
      */
     protected int getLengthFromCache(GC gc, String text) {
-        String originalString = text;
-        StringBuilder buffer = new StringBuilder();
-        buffer.append(text);
-        if (gc.getFont() != null) {
-            FontData[] datas = fontDataCache.get(gc.getFont());
-            if (datas == null) {
-                datas = gc.getFont().getFontData();
-                fontDataCache.put(gc.getFont(), datas);
-            }
-            if (datas != null && datas.length > 0) {
-                buffer.append(datas[0].getName());
-                buffer.append(","); //$NON-NLS-1$
-                buffer.append(datas[0].getHeight());
-                buffer.append(","); //$NON-NLS-1$
-                buffer.append(datas[0].getStyle());
-            }
-        }
-        text = buffer.toString();
-        Integer width = temporaryMap.computeIfAbsent(text, t -> Integer.valueOf(gc.textExtent(originalString).x));
-
-        return width.intValue();
+        return TextExtentCache.getDefault().getTextWidth(gc, text);
     }
 
     /**
@@ -0,0 +1,253 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.painter.cell;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.function.ToIntFunction;
+
+import org.eclipse.swt.graphics.Device;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.GC;
+
+/**
+ * Size bounded cache for text widths that are calculated via
+ * {@link GC#textExtent(String)}. The widths are cached per font, identified by
+ * the device, name, height and style of the font, as the same text has
+ * different widths with different fonts. For every font the least recently
+ * used entries are evicted once the configured maximum number of entries is
+ * reached. Additionally the number of cached fonts is limited the same way.
+ * <p>
+ * The default instance returned by {@link #getDefault()} is used by the
+ * {@link AbstractTextPainter} and therefore shared by all text painters.
+ * </p>
+ *
+ * @since 2.7
+ */
+public class TextExtentCache {
+
+    /**
+     * The default maximum number of fonts for which text widths are cached.
+     */
+    public static final int DEFAULT_MAX_FONTS = 32;
+
+    /**
+     * The default maximum number of text widths that are cached per font.
+     */
+    public static final int DEFAULT_MAX_ENTRIES_PER_FONT = 10000;
+
+    private static final TextExtentCache DEFAULT = new TextExtentCache(DEFAULT_MAX_FONTS, DEFAULT_MAX_ENTRIES_PER_FONT);
+
+    /**
+     * Key that is used for text that is measured with a GC without font.
+     */
+    private static final Object NO_FONT = new Object();
+
+    private final int maxEntriesPerFont;
+
+    private final Map<Object, Map<String, Integer>> fontCaches;
+
+    /**
+     * Cache for the keys per {@link Font} instance, to avoid creating the
+     * {@link FontData} for every measurement.
+     */
+    private final Map<Font, FontKey> fontKeys = new WeakHashMap<>();
+
+    private long hitCount;
+    private long missCount;
+
+    /**
+     *
+     * @param maxFonts
+     *            The maximum number of fonts for which text widths are cached.
+     * @param maxEntriesPerFont
+     *            The maximum number of text widths that are cached per font.
+     */
+    public TextExtentCache(int maxFonts, int maxEntriesPerFont) {
+        if (maxFonts <= 0 || maxEntriesPerFont <= 0) {
+            throw new IllegalArgumentException("The cache size needs to be greater than 0"); //$NON-NLS-1$
+        }
+        this.maxEntriesPerFont = maxEntriesPerFont;
+        this.fontCaches = new LinkedHashMap<Object, Map<String, Integer>>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Map<String, Integer>> eldest) {
+                return size() > maxFonts;
+            }
+        };
+    }
+
+    /**
+     *
+     * @return The default {@link TextExtentCache} that is shared by all text
+     *         painters.
+     */
+    public static TextExtentCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the width of the given text when rendered with the current font
+     * of the given {@link GC}. The width is only calculated if it is not
+     * cached for the font yet.
+     *
+     * @param gc
+     *            The {@link GC} that is used to calculate the text width.
+     * @param text
+     *            The text for which the width is requested.
+     * @return The width of the given text.
+     */
+    public synchronized int getTextWidth(GC gc, String text) {
+        Font font = gc.getFont();
+        Object fontKey = NO_FONT;
+        if (font != null) {
+            fontKey = this.fontKeys.get(font);
+            if (fontKey == null) {
+                fontKey = createFontKey(font);
+                this.fontKeys.put(font, (FontKey) fontKey);
+            }
+        }
+        return getTextWidth(fontKey, text, t -> gc.textExtent(t).x);
+    }
+
+    /**
+     * Returns the cached width for the given text and font key, or calculates
+     * and caches it via the given function.
+     *
+     * @param fontKey
+     *            The key that identifies the font.
+     * @param text
+     *            The text for which the width is requested.
+     * @param measure
+     *            The function that calculates the width if it is not cached.
+     * @return The width of the given text.
+     */
+    synchronized int getTextWidth(Object fontKey, String text, ToIntFunction<String> measure) {
+        Map<String, Integer> cache = this.fontCaches.get(fontKey);
+        if (cache == null) {
+            cache = new LinkedHashMap<String, Integer>(64, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+                    return size() > TextExtentCache.this.maxEntriesPerFont;
+                }
+            };
+            this.fontCaches.put(fontKey, cache);
+        }
+
+        Integer width = cache.get(text);
+        if (width != null) {
+            this.hitCount++;
+            return width.intValue();
+        }
+
+        this.missCount++;
+        int result = measure.applyAsInt(text);
+        cache.put(text, result);
+        return result;
+    }
+
+    private static FontKey createFontKey(Font font) {
+        FontData[] datas = font.getFontData();
+        if (datas != null && datas.length > 0) {
+            return new FontKey(font.getDevice(), datas[0].getName(), datas[0].getHeight(), datas[0].getStyle());
+        }
+        return new FontKey(font.getDevice(), null, 0, 0);
+    }
+
+    /**
+     * Removes all cached text widths and resets the statistics.
+     */
+    public synchronized void clear() {
+        this.fontCaches.clear();
+        this.fontKeys.clear();
+        this.hitCount = 0;
+        this.missCount = 0;
+    }
+
+    /**
+     *
+     * @return The number of requests that were answered from the cache.
+     */
+    public synchronized long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     *
+     * @return The number of requests that needed to calculate the text width.
+     */
+    public synchronized long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     *
+     * @return The number of text widths that are currently cached over all
+     *         fonts.
+     */
+    public synchronized int size() {
+        int size = 0;
+        for (Map<String, Integer> cache : this.fontCaches.values()) {
+            size += cache.size();
+        }
+        return size;
+    }
+
+    /**
+     * Identifies a font by its device and font data, so different
+     * {@link Font} instances with the same configuration share the cached
+     * widths.
+     */
+    private static final class FontKey {
+
+        private final Device device;
+        private final String name;
+        private final int height;
+        private final int style;
+
+        FontKey(Device device, String name, int height, int style) {
+            this.device = device;
+            this.name = name;
+            this.height = height;
+            this.style = style;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(this.device), this.name, this.height, this.style);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof FontKey)) {
+                return false;
+            }
+            FontKey other = (FontKey) obj;
+            return this.device == other.device
+                    && Objects.equals(this.name, other.name)
+                    && this.height == other.height
+                    && this.style == other.style;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -221,7 +221,7 @@ public void paintCell(ILayerCell cell, GC gc, Rectangle rectangle, IConfigRegist
                 int y = rectangle.y
                         + CellStyleUtil.getVerticalAlignmentPadding(cellStyle, rectangle, contentHeight)
                         + this.spacing;
-                int length = gc.textExtent(text).x;
+                int length = getLengthFromCache(gc, text);
                 paintDecoration(cellStyle, gc, x, y, length, fontHeight);
             } else {
                 // draw every line by itself because of the alignment, otherwise
@@ -243,7 +243,7 @@ public void paintCell(ILayerCell cell, GC gc, Rectangle rectangle, IConfigRegist
                             + this.spacing;
                     // y = start y of text
                     int y = yStartPos + this.spacing;
-                    int length = gc.textExtent(line).x;
+                    int length = getLengthFromCache(gc, line);
                     paintDecoration(cellStyle, gc, x, y, length, fontHeight);
 
                     // after every line calculate the y start pos new
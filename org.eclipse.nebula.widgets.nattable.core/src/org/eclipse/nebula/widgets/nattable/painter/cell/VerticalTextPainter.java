@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2025 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -250,7 +250,7 @@ public void paintCell(ILayerCell cell, GC gc, Rectangle rectangle, IConfigRegist
 
                     gc.drawText(text, rectangle.x, rectangle.y, SWT.DRAW_TRANSPARENT | SWT.DRAW_DELIMITER | SWT.DRAW_TAB);
 
-                    int length = gc.textExtent(text).x;
+                    int length = getLengthFromCache(gc, text);
                     paintDecoration(cellStyle, gc, rectangle.x, rectangle.y, length, fontHeight);
                 } else {
                     // draw every line by itself because of the alignment,
@@ -319,7 +319,7 @@ public void paintCell(ILayerCell cell, GC gc, Rectangle rectangle, IConfigRegist
 
                         gc.drawText(line, rectangle.x, rectangle.y, SWT.DRAW_TRANSPARENT | SWT.DRAW_DELIMITER | SWT.DRAW_TAB);
 
-                        int length = gc.textExtent(line).x;
+                        int length = getLengthFromCache(gc, line);
                         paintDecoration(cellStyle, gc, rectangle.x, rectangle.y, length, fontHeight);
                     }
                 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,13 +13,12 @@
 package org.eclipse.nebula.widgets.nattable.painter.layer;
 
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.nebula.widgets.nattable.config.IConfigRegistry;
 import org.eclipse.nebula.widgets.nattable.layer.ILayer;
 import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
+import org.eclipse.nebula.widgets.nattable.layer.cell.MutableLayerCell;
 import org.eclipse.nebula.widgets.nattable.painter.cell.ICellPainter;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Rectangle;
@@ -27,8 +26,36 @@
 public class CellLayerPainter implements ILayerPainter {
 
     private ILayer natLayer;
-    private Map<Integer, Integer> horizontalPositionToPixelMap;
-    private Map<Integer, Integer> verticalPositionToPixelMap;
+
+    /**
+     * The start x pixel per column position, indexed by the offset to
+     * {@link #horizontalStartPosition}. Reused between paint operations to
+     * avoid allocations per frame.
+     */
+    private int[] horizontalPositionToPixel = new int[0];
+    private int horizontalStartPosition;
+    private int horizontalPositionCount;
+
+    /**
+     * The start y pixel per row position, indexed by the offset to
+     * {@link #verticalStartPosition}. Reused between paint operations to avoid
+     * allocations per frame.
+     */
+    private int[] verticalPositionToPixel = new int[0];
+    private int verticalStartPosition;
+    private int verticalPositionCount;
+
+    /**
+     * Collects the spanned cells in a paint operation, so they are painted
+     * after the non-spanned cells. Reused between paint operations.
+     */
+    private final Collection<ILayerCell> spannedCells = Sets.mutable.empty();
+
+    /**
+     * The cell that is reused to retrieve the cells to paint, so no cell
+     * instances need to be created per position and per layer.
+     */
+    private final MutableLayerCell reusableCell = new MutableLayerCell();
 
     private final boolean clipLeft;
     private final boolean clipTop;
@@ -71,28 +98,33 @@ public void paintLayer(ILayer natLayer, GC gc, int xOffset, int yOffset,
 
         calculateDimensionInfo(positionRectangle);
 
-        Collection<ILayerCell> spannedCells = Sets.mutable.empty();
-
-        for (int rowPosition = positionRectangle.y; rowPosition < positionRectangle.y
-                + positionRectangle.height; rowPosition++) {
-            for (int columnPosition = positionRectangle.x; columnPosition < positionRectangle.x
-                    + positionRectangle.width; columnPosition++) {
-                if (columnPosition == -1 || rowPosition == -1) {
-                    continue;
-                }
-                ILayerCell cell = natLayer.getCellByPosition(columnPosition, rowPosition);
-                if (cell != null) {
-                    if (cell.isSpannedCell()) {
-                        spannedCells.add(cell);
-                    } else {
-                        paintCell(cell, gc, configRegistry);
+        try {
+            for (int rowPosition = positionRectangle.y; rowPosition < positionRectangle.y
+                    + positionRectangle.height; rowPosition++) {
+                for (int columnPosition = positionRectangle.x; columnPosition < positionRectangle.x
+                        + positionRectangle.width; columnPosition++) {
+                    if (columnPosition == -1 || rowPosition == -1) {
+                        continue;
+                    }
+                    ILayerCell cell = natLayer.getCellByPosition(columnPosition, rowPosition, this.reusableCell);
+                    if (cell != null) {
+                        if (cell.isSpannedCell()) {
+                            // the reused cell is modified for the next
+                            // position, so it needs to be detached
+                            this.spannedCells.add(MutableLayerCell.detach(cell));
+                        } else {
+                            paintCell(cell, gc, configRegistry);
+                        }
                     }
                 }
             }
-        }
 
-        for (ILayerCell cell : spannedCells) {
-            paintCell(cell, gc, configRegistry);
+            for (ILayerCell cell : this.spannedCells) {
+                paintCell(cell, gc, configRegistry);
+            }
+        } finally {
+            // do not keep references to the painted cells
+            this.spannedCells.clear();
         }
     }
 
@@ -135,43 +167,53 @@ protected boolean isClipTop(int position) {
 
     private void calculateDimensionInfo(Rectangle positionRectangle) {
         {
-            this.horizontalPositionToPixelMap = new HashMap<>();
             final int startPosition = positionRectangle.x;
             final int endPosition = startPosition + positionRectangle.width;
+            this.horizontalStartPosition = startPosition;
+            this.horizontalPositionCount = 0;
+            // one additional entry for the end position
+            final int size = Math.max(0, positionRectangle.width) + 1;
+            if (this.horizontalPositionToPixel.length < size) {
+                this.horizontalPositionToPixel = new int[size];
+            }
             int previousEndX = (startPosition > 0)
                     ? this.natLayer.getStartXOfColumnPosition(startPosition - 1)
                             + this.natLayer.getColumnWidthByPosition(startPosition - 1)
                     : Integer.MIN_VALUE;
             for (int position = startPosition; position < endPosition; position++) {
                 int startX = this.natLayer.getStartXOfColumnPosition(position);
-                this.horizontalPositionToPixelMap.put(
-                        position,
-                        isClipLeft(position) ? startX : Math.max(startX, previousEndX));
+                this.horizontalPositionToPixel[this.horizontalPositionCount++] =
+                        isClipLeft(position) ? startX : Math.max(startX, previousEndX);
                 previousEndX = startX + this.natLayer.getColumnWidthByPosition(position);
             }
-            if (endPosition < this.natLayer.getColumnCount()) {
+            if (endPosition >= startPosition && endPosition < this.natLayer.getColumnCount()) {
                 int startX = this.natLayer.getStartXOfColumnPosition(endPosition);
-                this.horizontalPositionToPixelMap.put(endPosition, Math.max(startX, previousEndX));
+                this.horizontalPositionToPixel[this.horizontalPositionCount++] = Math.max(startX, previousEndX);
             }
         }
         {
-            this.verticalPositionToPixelMap = new HashMap<>();
             final int startPosition = positionRectangle.y;
             final int endPosition = startPosition + positionRectangle.height;
+            this.verticalStartPosition = startPosition;
+            this.verticalPositionCount = 0;
+            // one additional entry for the end position
+            final int size = Math.max(0, positionRectangle.height) + 1;
+            if (this.verticalPositionToPixel.length < size) {
+                this.verticalPositionToPixel = new int[size];
+            }
             int previousEndY = (startPosition > 0)
                     ? this.natLayer.getStartYOfRowPosition(startPosition - 1)
                             + this.natLayer.getRowHeightByPosition(startPosition - 1)
                     : Integer.MIN_VALUE;
             for (int position = startPosition; position < endPosition; position++) {
                 int startY = this.natLayer.getStartYOfRowPosition(position);
-                this.verticalPositionToPixelMap.put(
-                        position,
-                        isClipTop(position) ? startY : Math.max(startY, previousEndY));
+                this.verticalPositionToPixel[this.verticalPositionCount++] =
+                        isClipTop(position) ? startY : Math.max(startY, previousEndY);
                 previousEndY = startY + this.natLayer.getRowHeightByPosition(position);
             }
-            if (endPosition < this.natLayer.getRowCount()) {
+            if (endPosition >= startPosition && endPosition < this.natLayer.getRowCount()) {
                 int startY = this.natLayer.getStartYOfRowPosition(endPosition);
-                this.verticalPositionToPixelMap.put(endPosition, Math.max(startY, previousEndY));
+                this.verticalPositionToPixel[this.verticalPositionCount++] = Math.max(startY, previousEndY);
             }
         }
     }
@@ -227,19 +269,21 @@ protected void paintCell(ILayerCell cell, GC gc, IConfigRegistry configRegistry)
 
     protected int getStartXOfColumnPosition(final int columnPosition) {
         if (columnPosition < this.natLayer.getColumnCount()) {
-            Integer start = this.horizontalPositionToPixelMap.get(columnPosition);
-            if (start == null) {
-                start = this.natLayer.getStartXOfColumnPosition(columnPosition);
-                if (columnPosition > 0) {
-                    int start2 = this.natLayer.getStartXOfColumnPosition(columnPosition - 1)
-                            + this.natLayer.getColumnWidthByPosition(columnPosition - 1);
-                    if (start2 > start.intValue()) {
-                        start = start2;
-                    }
+            int offset = columnPosition - this.horizontalStartPosition;
+            if (offset >= 0 && offset < this.horizontalPositionCount) {
+                return this.horizontalPositionToPixel[offset];
+            }
+            // position outside the painted area, e.g. the origin of a spanned
+            // cell
+            int start = this.natLayer.getStartXOfColumnPosition(columnPosition);
+            if (columnPosition > 0) {
+                int start2 = this.natLayer.getStartXOfColumnPosition(columnPosition - 1)
+                        + this.natLayer.getColumnWidthByPosition(columnPosition - 1);
+                if (start2 > start) {
+                    start = start2;
                 }
-                this.horizontalPositionToPixelMap.put(columnPosition, start);
             }
-            return start.intValue();
+            return start;
         } else {
             return this.natLayer.getWidth();
         }
@@ -247,19 +291,21 @@ protected int getStartXOfColumnPosition(final int columnPosition) {
 
     protected int getStartYOfRowPosition(final int rowPosition) {
         if (rowPosition < this.natLayer.getRowCount()) {
-            Integer start = this.verticalPositionToPixelMap.get(rowPosition);
-            if (start == null) {
-                start = this.natLayer.getStartYOfRowPosition(rowPosition);
-                if (rowPosition > 0) {
-                    int start2 = this.natLayer.getStartYOfRowPosition(rowPosition - 1)
-                            + this.natLayer.getRowHeightByPosition(rowPosition - 1);
-                    if (start2 > start.intValue()) {
-                        start = start2;
-                    }
+            int offset = rowPosition - this.verticalStartPosition;
+            if (offset >= 0 && offset < this.verticalPositionCount) {
+                return this.verticalPositionToPixel[offset];
+            }
+            // position outside the painted area, e.g. the origin of a spanned
+            // cell
+            int start = this.natLayer.getStartYOfRowPosition(rowPosition);
+            if (rowPosition > 0) {
+                int start2 = this.natLayer.getStartYOfRowPosition(rowPosition - 1)
+                        + this.natLayer.getRowHeightByPosition(rowPosition - 1);
+                if (start2 > start) {
+                    start = start2;
                 }
-                this.verticalPositionToPixelMap.put(rowPosition, start);
             }
-            return start.intValue();
+            return start;
         } else {
             return this.natLayer.getHeight();
         }
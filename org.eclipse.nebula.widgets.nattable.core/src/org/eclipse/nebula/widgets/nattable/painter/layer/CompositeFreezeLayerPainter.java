@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2020 Dirk Fauth.
+ * Copyright (c) 2018, 2026 Dirk Fauth.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -44,6 +44,7 @@ public class CompositeFreezeLayerPainter extends CompositeLayerPainter {
     private CompositeFreezeLayer compositeFreezeLayer;
     private ILayer freezeLayer;
     private boolean inspectComposite = true;
+    private int separatorLineWidth = 1;
 
     /**
      * ILayer that should be used to shift the freeze border down in case of
@@ -153,7 +154,8 @@ public void paintLayer(
         Color oldFg = gc.getForeground();
         int oldWidth = gc.getLineWidth();
         gc.setForeground(separatorColor);
-        gc.setLineWidth(GUIHelper.convertHorizontalPixelToDpi(separatorWidth, configRegistry));
+        this.separatorLineWidth = GUIHelper.convertHorizontalPixelToDpi(separatorWidth, configRegistry);
+        gc.setLineWidth(this.separatorLineWidth);
         final int freezeWidth = this.freezeLayer.getWidth() - 1;
         if (freezeWidth > 0) {
             int x = getFreezeX(xOffset);
@@ -176,6 +178,17 @@ public void paintLayer(
         gc.setLineWidth(oldWidth);
     }
 
+    /**
+     * Returns the line width of the freeze border that was used on the last
+     * paint operation, already converted to the display DPI.
+     *
+     * @return The line width of the freeze border.
+     * @since 2.7
+     */
+    public int getSeparatorLineWidth() {
+        return this.separatorLineWidth;
+    }
+
     /**
      * Returns the height of the freeze border dependent on the configured
      * layers this painter is attached to.
@@ -0,0 +1,285 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.resize;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import org.eclipse.nebula.widgets.nattable.config.CellConfigAttributes;
+import org.eclipse.nebula.widgets.nattable.config.IConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.data.convert.IDisplayConverter;
+import org.eclipse.nebula.widgets.nattable.layer.ILayer;
+import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
+import org.eclipse.nebula.widgets.nattable.resize.config.ResizeConfigAttributes;
+import org.eclipse.nebula.widgets.nattable.style.DisplayMode;
+
+/**
+ * Configuration for the column auto resize to only measure a subset of the
+ * rows. Measuring every cell with the configured painter is expensive for
+ * large tables, as every cell needs to be converted and measured via a
+ * {@link org.eclipse.swt.graphics.GC GC}. With sampling only the selected rows
+ * are measured.
+ * <p>
+ * Two modes are supported:
+ * </p>
+ * <ul>
+ * <li>{@link #longestValues(int)} - measures the rows with the longest
+ * values. The values of all rows are ranked by the length of their display
+ * value, which is cheap compared to the measurement.</li>
+ * <li>{@link #randomSample(int)} - measures a random sample of the rows. This
+ * gives a statistical estimation of the preferred width, so the result might
+ * be too small for single outliers.</li>
+ * </ul>
+ * <p>
+ * Sampling is enabled by registering an instance for
+ * {@link ResizeConfigAttributes#AUTO_RESIZE_SAMPLING}. If the number of rows
+ * is not greater than the sample size, all rows are measured.
+ * </p>
+ * <p>
+ * The selected rows are still measured in the UI thread, as the measurement
+ * via the configured painter requires a {@link org.eclipse.swt.graphics.GC GC}.
+ * </p>
+ *
+ * @see MaxCellBoundsHelper
+ * @since 2.7
+ */
+public final class AutoResizeSampling {
+
+    /**
+     * The number of rows that is necessary to rank the values in parallel.
+     * For smaller tables the overhead of the parallel processing exceeds the
+     * benefit.
+     */
+    private static final int PARALLEL_THRESHOLD = 10000;
+
+    private final boolean longestValues;
+    private final int sampleSize;
+    private final boolean parallel;
+
+    private AutoResizeSampling(boolean longestValues, int sampleSize, boolean parallel) {
+        if (sampleSize <= 0) {
+            throw new IllegalArgumentException("The sample size needs to be greater than 0"); //$NON-NLS-1$
+        }
+        this.longestValues = longestValues;
+        this.sampleSize = sampleSize;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Creates a sampling that measures the rows with the longest values. The
+     * values are ranked in the calling thread.
+     *
+     * @param sampleSize
+     *            The number of rows with the longest values that should be
+     *            measured.
+     * @return The sampling configuration.
+     */
+    public static AutoResizeSampling longestValues(int sampleSize) {
+        return new AutoResizeSampling(true, sampleSize, false);
+    }
+
+    /**
+     * Creates a sampling that measures the rows with the longest values.
+     *
+     * @param sampleSize
+     *            The number of rows with the longest values that should be
+     *            measured.
+     * @param parallel
+     *            <code>true</code> if the values should be ranked in parallel
+     *            on the common fork-join pool for large tables,
+     *            <code>false</code> if the ranking should be performed in the
+     *            calling thread. Parallel ranking should only be enabled if the
+     *            layer stack supports concurrent read access to its cells and
+     *            the registered display converters are thread-safe, e.g.
+     *            {@link org.eclipse.nebula.widgets.nattable.data.convert.DateTimeDisplayConverter
+     *            DateTimeDisplayConverter}.
+     * @return The sampling configuration.
+     */
+    public static AutoResizeSampling longestValues(int sampleSize, boolean parallel) {
+        return new AutoResizeSampling(true, sampleSize, parallel);
+    }
+
+    /**
+     * Creates a sampling that measures a random sample of the rows.
+     *
+     * @param sampleSize
+     *            The number of rows that should be measured.
+     * @return The sampling configuration.
+     */
+    public static AutoResizeSampling randomSample(int sampleSize) {
+        return new AutoResizeSampling(false, sampleSize, false);
+    }
+
+    /**
+     *
+     * @return The number of rows that should be measured.
+     */
+    public int getSampleSize() {
+        return this.sampleSize;
+    }
+
+    /**
+     *
+     * @return <code>true</code> if the rows with the longest values are
+     *         measured, <code>false</code> if a random sample is measured.
+     */
+    public boolean isLongestValues() {
+        return this.longestValues;
+    }
+
+    /**
+     * Returns the row positions that should be measured to calculate the
+     * preferred width of the given column.
+     *
+     * @param layer
+     *            The layer to which the column position matches.
+     * @param columnPosition
+     *            The column position for which the rows should be selected.
+     * @param configRegistry
+     *            The {@link IConfigRegistry} to get the display converters
+     *            used to rank the values.
+     * @return The sorted row positions that should be measured, or
+     *         <code>null</code> if all rows should be measured because the
+     *         number of rows is not greater than the sample size.
+     */
+    public int[] getRowPositions(ILayer layer, int columnPosition, IConfigRegistry configRegistry) {
+        int rowCount = layer.getRowCount();
+        if (rowCount <= this.sampleSize) {
+            return null;
+        }
+
+        int[] result = this.longestValues
+                ? getLongestValueRows(layer, columnPosition, rowCount, configRegistry)
+                : getRandomRows(rowCount);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private int[] getLongestValueRows(ILayer layer, int columnPosition, int rowCount, IConfigRegistry configRegistry) {
+        int[] lengths = new int[rowCount];
+        IntStream rows = IntStream.range(0, rowCount);
+        if (this.parallel && rowCount >= PARALLEL_THRESHOLD) {
+            rows = rows.parallel();
+        }
+        rows.forEach(row -> lengths[row] = getValueLength(layer, columnPosition, row, configRegistry));
+        return selectLongest(lengths, this.sampleSize);
+    }
+
+    /**
+     * Returns the length of the display value of the given cell, or -1 if the
+     * cell should not be measured for the column.
+     */
+    private static int getValueLength(ILayer layer, int columnPosition, int rowPosition, IConfigRegistry configRegistry) {
+        ILayerCell cell = layer.getCellByPosition(columnPosition, rowPosition);
+        if (cell == null
+                || (cell.getOriginColumnPosition() + cell.getColumnSpan() - 1) != columnPosition) {
+            return -1;
+        }
+        Object value = cell.getDataValue();
+        IDisplayConverter displayConverter = configRegistry.getConfigAttribute(
+                CellConfigAttributes.DISPLAY_CONVERTER,
+                DisplayMode.NORMAL,
+                cell.getConfigLabels());
+        if (displayConverter != null) {
+            value = displayConverter.canonicalToDisplayValue(cell, configRegistry, value);
+        }
+        return (value != null) ? value.toString().length() : 0;
+    }
+
+    /**
+     * Selects the positions of the given number of greatest values. Negative
+     * values are never selected.
+     *
+     * @param lengths
+     *            The values per position.
+     * @param count
+     *            The maximum number of positions to select.
+     * @return The positions of the greatest values in no specific order.
+     */
+    static int[] selectLongest(int[] lengths, int count) {
+        // bounded min-heap that contains the length in the upper and the
+        // position in the lower 32 bits, so the smallest length is on top
+        long[] heap = new long[Math.min(count, lengths.length)];
+        int size = 0;
+        for (int i = 0; i < lengths.length; i++) {
+            if (lengths[i] < 0) {
+                continue;
+            }
+            long entry = ((long) lengths[i] << 32) | i;
+            if (size < heap.length) {
+                heap[size] = entry;
+                siftUp(heap, size++);
+            } else if (entry > heap[0]) {
+                heap[0] = entry;
+                siftDown(heap, size);
+            }
+        }
+
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = (int) heap[i];
+        }
+        return result;
+    }
+
+    private static void siftUp(long[] heap, int index) {
+        long entry = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] <= entry) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = entry;
+    }
+
+    private static void siftDown(long[] heap, int size) {
+        long entry = heap[0];
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (entry <= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = entry;
+    }
+
+    /**
+     * Selects distinct random row positions via Floyd's algorithm.
+     */
+    private int[] getRandomRows(int rowCount) {
+        SplittableRandom random = new SplittableRandom();
+        boolean[] selected = new boolean[rowCount];
+        int[] result = new int[this.sampleSize];
+        int i = 0;
+        for (int j = rowCount - this.sampleSize; j < rowCount; j++) {
+            int row = random.nextInt(j + 1);
+            if (selected[row]) {
+                row = j;
+            }
+            selected[row] = true;
+            result[i++] = row;
+        }
+        return result;
+    }
+}
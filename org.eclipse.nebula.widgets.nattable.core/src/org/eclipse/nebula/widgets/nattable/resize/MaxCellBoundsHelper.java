@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2024 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,8 @@
 import org.eclipse.nebula.widgets.nattable.layer.ILayer;
 import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
 import org.eclipse.nebula.widgets.nattable.painter.cell.ICellPainter;
+import org.eclipse.nebula.widgets.nattable.resize.config.ResizeConfigAttributes;
+import org.eclipse.nebula.widgets.nattable.style.DisplayMode;
 import org.eclipse.nebula.widgets.nattable.util.GCFactory;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Rectangle;
@@ -39,6 +41,11 @@ private MaxCellBoundsHelper() {
      * Calculates the preferred column widths of the given columns based on the
      * given {@link IConfigRegistry}. The preferred column width is the width
      * needed at minimum to fit all the contents horizontally.
+     * <p>
+     * If an {@link AutoResizeSampling} is registered for
+     * {@link ResizeConfigAttributes#AUTO_RESIZE_SAMPLING}, only the sampled
+     * rows are measured per column.
+     * </p>
      *
      * @param configRegistry
      *            The {@link IConfigRegistry} to get the required configuration
@@ -58,12 +65,21 @@ private MaxCellBoundsHelper() {
     public static int[] getPreferredColumnWidths(
             IConfigRegistry configRegistry, GCFactory gcFactory, ILayer layer, int[] columnPositions) {
 
+        AutoResizeSampling sampling = configRegistry.getConfigAttribute(
+                ResizeConfigAttributes.AUTO_RESIZE_SAMPLING,
+                DisplayMode.NORMAL);
+
         GC gc = gcFactory.createGC();
         if (gc != null) {
             try {
                 int[] columnWidths = new int[columnPositions.length];
                 for (int i = 0; i < columnPositions.length; i++) {
-                    columnWidths[i] = getPreferredColumnWidth(layer, columnPositions[i], configRegistry, gc);
+                    int[] rowPositions = (sampling != null)
+                            ? sampling.getRowPositions(layer, columnPositions[i], configRegistry)
+                            : null;
+                    columnWidths[i] = (rowPositions != null)
+                            ? getPreferredColumnWidth(layer, columnPositions[i], rowPositions, configRegistry, gc)
+                            : getPreferredColumnWidth(layer, columnPositions[i], configRegistry, gc);
                 }
                 return columnWidths;
             } finally {
@@ -95,40 +111,81 @@ public static int[] getPreferredColumnWidths(
     private static int getPreferredColumnWidth(ILayer layer, int columnPosition, IConfigRegistry configRegistry, GC gc) {
 
         int maxWidth = -1;
-        ICellPainter painter;
-        ILayerCell cell;
-
         for (int rowPosition = 0; rowPosition < layer.getRowCount(); rowPosition++) {
-            cell = layer.getCellByPosition(columnPosition, rowPosition);
-            if (cell != null) {
-                boolean atEndOfCellSpan = (cell.getOriginColumnPosition() + cell.getColumnSpan() - 1) == columnPosition;
-                if (atEndOfCellSpan) {
-                    painter = layer.getCellPainter(cell.getColumnPosition(), cell.getRowPosition(), cell, configRegistry);
-                    if (painter != null) {
-                        int preferredWidth = painter.getPreferredWidth(cell, gc, configRegistry);
+            int preferredWidth = getPreferredCellWidth(layer, columnPosition, rowPosition, configRegistry, gc);
+            maxWidth = (preferredWidth > maxWidth) ? preferredWidth : maxWidth;
+        }
 
-                        // Adjust width
-                        Rectangle bounds = cell.getBounds();
-                        bounds.width = preferredWidth;
-                        Rectangle adjustedCellBounds = cell
-                                .getLayer()
-                                .getLayerPainter()
-                                .adjustCellBounds(columnPosition, rowPosition, bounds);
-                        preferredWidth += preferredWidth - adjustedCellBounds.width;
+        return maxWidth;
+    }
 
-                        if (cell.getColumnSpan() > 1) {
-                            int columnStartX = layer.getStartXOfColumnPosition(columnPosition);
-                            int cellStartX = layer.getStartXOfColumnPosition(cell.getOriginColumnPosition());
-                            preferredWidth = Math.max(0, preferredWidth - (columnStartX - cellStartX));
-                        }
+    /**
+     * Calculates the minimum width (in pixels) required to display the complete
+     * contents of the cells in the given rows of a column.
+     *
+     * @param layer
+     *            The layer to which the column position matches.
+     * @param columnPosition
+     *            The column position whose preferred width should be
+     *            calculated.
+     * @param rowPositions
+     *            The row positions of the cells that should be measured.
+     * @param configRegistry
+     *            The {@link IConfigRegistry} to get the required configuration
+     *            values.
+     * @param gc
+     *            The {@link GC} needed for UI related calculations.
+     * @return The preferred column width of the given column or -1 if there are
+     *         no cells for the specified positions.
+     */
+    private static int getPreferredColumnWidth(ILayer layer, int columnPosition, int[] rowPositions, IConfigRegistry configRegistry, GC gc) {
+
+        int maxWidth = -1;
+        for (int rowPosition : rowPositions) {
+            int preferredWidth = getPreferredCellWidth(layer, columnPosition, rowPosition, configRegistry, gc);
+            maxWidth = (preferredWidth > maxWidth) ? preferredWidth : maxWidth;
+        }
+
+        return maxWidth;
+    }
+
+    /**
+     * Calculates the width needed by the cell at the given position in the
+     * given column. For spanned cells only the part of the width is returned
+     * that is not covered by the previous columns of the span.
+     *
+     * @return The preferred width of the cell or -1 if the cell should not be
+     *         measured for the column.
+     */
+    private static int getPreferredCellWidth(ILayer layer, int columnPosition, int rowPosition, IConfigRegistry configRegistry, GC gc) {
+        ILayerCell cell = layer.getCellByPosition(columnPosition, rowPosition);
+        if (cell != null) {
+            boolean atEndOfCellSpan = (cell.getOriginColumnPosition() + cell.getColumnSpan() - 1) == columnPosition;
+            if (atEndOfCellSpan) {
+                ICellPainter painter = layer.getCellPainter(cell.getColumnPosition(), cell.getRowPosition(), cell, configRegistry);
+                if (painter != null) {
+                    int preferredWidth = painter.getPreferredWidth(cell, gc, configRegistry);
+
+                    // Adjust width
+                    Rectangle bounds = cell.getBounds();
+                    bounds.width = preferredWidth;
+                    Rectangle adjustedCellBounds = cell
+                            .getLayer()
+                            .getLayerPainter()
+                            .adjustCellBounds(columnPosition, rowPosition, bounds);
+                    preferredWidth += preferredWidth - adjustedCellBounds.width;
 
-                        maxWidth = (preferredWidth > maxWidth) ? preferredWidth : maxWidth;
+                    if (cell.getColumnSpan() > 1) {
+                        int columnStartX = layer.getStartXOfColumnPosition(columnPosition);
+                        int cellStartX = layer.getStartXOfColumnPosition(cell.getOriginColumnPosition());
+                        preferredWidth = Math.max(0, preferredWidth - (columnStartX - cellStartX));
                     }
+
+                    return preferredWidth;
                 }
             }
         }
-
-        return maxWidth;
+        return -1;
     }
 
     /**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -45,9 +45,11 @@ protected boolean doCommand(MultiColumnResizeCommand command) {
             this.dataLayer.setColumnWidthByPosition(columnPosition, newColumnWidth, false);
         }
 
+        // fire a single event for all resized columns to avoid multiple
+        // structure recalculations and repaints
         List<Range> ranges = PositionUtil.getRanges(columnPositions);
-        for (Range range : ranges) {
-            this.dataLayer.fireLayerEvent(new ColumnResizeEvent(this.dataLayer, range));
+        if (!ranges.isEmpty()) {
+            this.dataLayer.fireLayerEvent(new ColumnResizeEvent(this.dataLayer, ranges));
         }
 
         return true;
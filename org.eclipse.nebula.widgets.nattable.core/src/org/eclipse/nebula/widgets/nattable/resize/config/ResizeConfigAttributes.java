@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.resize.config;
+
+import org.eclipse.nebula.widgets.nattable.resize.AutoResizeSampling;
+import org.eclipse.nebula.widgets.nattable.style.ConfigAttribute;
+
+/**
+ * Configuration attributes that are used to configure the resize
+ * functionality.
+ *
+ * @since 2.7
+ */
+public final class ResizeConfigAttributes {
+
+    private ResizeConfigAttributes() {
+        // private default constructor for constants class
+    }
+
+    /**
+     * The configuration attribute for specifying the {@link AutoResizeSampling}
+     * that should be used on auto resizing columns. If no value is registered,
+     * all rows are measured.
+     */
+    public static final ConfigAttribute<AutoResizeSampling> AUTO_RESIZE_SAMPLING = new ConfigAttribute<>();
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -31,6 +31,21 @@ public ColumnResizeEvent(ILayer layer, Range columnPositionRange) {
         super(layer, columnPositionRange);
     }
 
+    /**
+     * Creates a {@link ColumnResizeEvent} for multiple column position ranges,
+     * e.g. to inform about the resize of several non-contiguous columns via a
+     * single event.
+     *
+     * @param layer
+     *            The layer to which the column positions match.
+     * @param columnPositionRanges
+     *            The column position ranges of the resized columns.
+     * @since 2.7
+     */
+    public ColumnResizeEvent(ILayer layer, Collection<Range> columnPositionRanges) {
+        super(layer, columnPositionRanges);
+    }
+
     protected ColumnResizeEvent(ColumnResizeEvent event) {
         super(event);
     }
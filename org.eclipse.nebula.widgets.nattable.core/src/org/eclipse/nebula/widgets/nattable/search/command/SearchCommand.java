@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
 package org.eclipse.nebula.widgets.nattable.search.command;
 
 import java.util.Comparator;
+import java.util.concurrent.Executor;
 
 import org.eclipse.nebula.widgets.nattable.command.ILayerCommand;
 import org.eclipse.nebula.widgets.nattable.layer.ILayer;
@@ -34,6 +35,7 @@ public class SearchCommand implements ILayerCommand {
     private final SearchDirection searchDirection;
     private final Comparator<?> comparator;
     private ILayerListener searchEventListener;
+    private Executor executor;
 
     /**
      *
@@ -164,6 +166,7 @@ protected SearchCommand(SearchCommand command) {
                 command.isIncremental, command.isRegex,
                 command.isIncludeCollapsed, command.comparator);
         this.searchEventListener = command.searchEventListener;
+        this.executor = command.executor;
     }
 
     public ILayer getContext() {
@@ -223,6 +226,36 @@ public Comparator<?> getComparator() {
         return this.comparator;
     }
 
+    /**
+     *
+     * @return The {@link Executor} that should be used to perform the search
+     *         asynchronously, or <code>null</code> if the search should be
+     *         performed synchronously.
+     * @since 2.7
+     */
+    public Executor getExecutor() {
+        return this.executor;
+    }
+
+    /**
+     * Set an {@link Executor} to perform the search asynchronously. This is
+     * only supported by search strategies that support asynchronous
+     * execution, like the
+     * {@link org.eclipse.nebula.widgets.nattable.search.strategy.GridSearchStrategy
+     * GridSearchStrategy}. The result is processed in the UI thread once the
+     * search is finished, so the search event listener is informed after the
+     * command execution returned.
+     *
+     * @param executor
+     *            The {@link Executor} that should be used to perform the
+     *            search, or <code>null</code> if the search should be
+     *            performed synchronously.
+     * @since 2.7
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
     @Override
     public boolean convertToTargetLayer(ILayer targetLayer) {
         this.context = targetLayer;
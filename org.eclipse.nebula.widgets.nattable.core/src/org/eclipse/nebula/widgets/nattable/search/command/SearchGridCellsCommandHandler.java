@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,14 +12,19 @@
  ******************************************************************************/
 package org.eclipse.nebula.widgets.nattable.search.command;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import org.eclipse.nebula.widgets.nattable.command.ILayerCommandHandler;
 import org.eclipse.nebula.widgets.nattable.coordinate.PositionCoordinate;
 import org.eclipse.nebula.widgets.nattable.layer.ILayer;
 import org.eclipse.nebula.widgets.nattable.layer.ILayerListener;
 import org.eclipse.nebula.widgets.nattable.search.event.SearchEvent;
 import org.eclipse.nebula.widgets.nattable.search.strategy.AbstractSearchStrategy;
+import org.eclipse.nebula.widgets.nattable.search.strategy.GridSearchStrategy;
 import org.eclipse.nebula.widgets.nattable.selection.SelectionLayer;
 import org.eclipse.nebula.widgets.nattable.selection.command.SelectCellCommand;
+import org.eclipse.swt.widgets.Display;
 
 public class SearchGridCellsCommandHandler implements ILayerCommandHandler<SearchCommand> {
 
@@ -43,6 +48,7 @@ public boolean doCommand(ILayer targetLayer, SearchCommand searchCommand) {
         if (searchEventListener != null) {
             this.selectionLayer.addLayerListener(searchEventListener);
         }
+        boolean async = false;
         try {
             PositionCoordinate anchor = this.selectionLayer.getSelectionAnchor();
             if (anchor.columnPosition < 0 || anchor.rowPosition < 0) {
@@ -68,23 +74,39 @@ public boolean doCommand(ILayer targetLayer, SearchCommand searchCommand) {
                 performActionOnResult = !searchStrategy.processResultInternally();
             }
 
-            this.searchResultCellCoordinate = searchCommand.getSearchStrategy().executeSearch(dataValueToFind);
-
-            this.selectionLayer.fireLayerEvent(new SearchEvent(this.searchResultCellCoordinate));
-
-            if (performActionOnResult && this.searchResultCellCoordinate != null) {
-                final SelectCellCommand command = new SelectCellCommand(
-                        this.selectionLayer,
-                        this.searchResultCellCoordinate.columnPosition,
-                        this.searchResultCellCoordinate.rowPosition,
-                        false,
-                        false);
-                command.setForcingEntireCellIntoViewport(true);
-                this.selectionLayer.doCommand(command);
+            Executor executor = searchCommand.getExecutor();
+            Display display = Display.getCurrent();
+            if (executor != null
+                    && display != null
+                    && searchCommand.getSearchStrategy() instanceof GridSearchStrategy) {
+                CompletableFuture<PositionCoordinate> result =
+                        ((GridSearchStrategy) searchCommand.getSearchStrategy()).executeSearchAsync(dataValueToFind, executor);
+                final boolean finalPerformActionOnResult = performActionOnResult;
+                result.whenComplete((coordinate, error) -> {
+                    if (!display.isDisposed()) {
+                        display.asyncExec(() -> {
+                            try {
+                                // a cancelled search does not produce a
+                                // result
+                                if (!result.isCancelled()) {
+                                    processSearchResult(error == null ? coordinate : null, finalPerformActionOnResult);
+                                }
+                            } finally {
+                                if (searchEventListener != null) {
+                                    this.selectionLayer.removeLayerListener(searchEventListener);
+                                }
+                            }
+                        });
+                    }
+                });
+                async = true;
+            } else {
+                processSearchResult(
+                        searchCommand.getSearchStrategy().executeSearch(dataValueToFind),
+                        performActionOnResult);
             }
-
         } finally {
-            if (searchEventListener != null) {
+            if (searchEventListener != null && !async) {
                 this.selectionLayer.removeLayerListener(searchEventListener);
             }
         }
@@ -92,6 +114,33 @@ public boolean doCommand(ILayer targetLayer, SearchCommand searchCommand) {
         return true;
     }
 
+    /**
+     * Fires the {@link SearchEvent} for the search result and selects the
+     * matching cell if necessary.
+     *
+     * @param searchResult
+     *            The coordinates of the matching cell or <code>null</code> if
+     *            no cell matches.
+     * @param performActionOnResult
+     *            <code>true</code> if the matching cell should be selected.
+     */
+    private void processSearchResult(PositionCoordinate searchResult, boolean performActionOnResult) {
+        this.searchResultCellCoordinate = searchResult;
+
+        this.selectionLayer.fireLayerEvent(new SearchEvent(this.searchResultCellCoordinate));
+
+        if (performActionOnResult && this.searchResultCellCoordinate != null) {
+            final SelectCellCommand command = new SelectCellCommand(
+                    this.selectionLayer,
+                    this.searchResultCellCoordinate.columnPosition,
+                    this.searchResultCellCoordinate.rowPosition,
+                    false,
+                    false);
+            command.setForcingEntireCellIntoViewport(true);
+            this.selectionLayer.doCommand(command);
+        }
+    }
+
     public PositionCoordinate getSearchResultCellCoordinate() {
         return this.searchResultCellCoordinate;
     }
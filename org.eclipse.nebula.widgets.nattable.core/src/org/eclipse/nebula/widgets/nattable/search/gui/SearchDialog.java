@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2023 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,8 @@
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.regex.PatternSyntaxException;
 
 import org.eclipse.jface.dialogs.Dialog;
@@ -93,6 +95,18 @@ private class SelectionItem {
      */
     private ArrayDeque<SelectionItem> selections = new ArrayDeque<>();
 
+    /**
+     * The strategy of the currently running asynchronous search, or
+     * <code>null</code> if no search is running.
+     */
+    private GridSearchStrategy runningSearch;
+
+    /**
+     * The {@link Executor} to perform searches in the background, or
+     * <code>null</code> to search synchronously in the UI thread.
+     */
+    private Executor searchExecutor;
+
     // Dialog settings
     private IDialogSettings originalSettings;
     private IDialogSettings dialogSettings;
@@ -351,6 +365,7 @@ private String getTextForSelection(PositionCoordinate selection) {
 
     @Override
     public boolean close() {
+        cancelSearch();
         storeSettings();
         return super.close();
     }
@@ -480,7 +495,11 @@ protected Composite createButtonSection(Composite composite) {
         this.findButton.addSelectionListener(new SelectionAdapter() {
             @Override
             public void widgetSelected(SelectionEvent e) {
-                doFind();
+                if (SearchDialog.this.runningSearch != null) {
+                    cancelSearch();
+                } else {
+                    doFind();
+                }
             }
         });
 
@@ -742,6 +761,15 @@ private void doSelect(SelectionItem selection) {
 
     private class SearchEventListener implements ILayerListener {
         private PositionCoordinate pos;
+        private final Consumer<PositionCoordinate> onResult;
+
+        SearchEventListener() {
+            this(null);
+        }
+
+        SearchEventListener(Consumer<PositionCoordinate> onResult) {
+            this.onResult = onResult;
+        }
 
         @Override
         public void handleLayerEvent(ILayerEvent event) {
@@ -750,57 +778,159 @@ public void handleLayerEvent(ILayerEvent event) {
             }
             SearchEvent searchEvent = (SearchEvent) event;
             this.pos = searchEvent.getCellCoordinate();
+            if (this.onResult != null) {
+                this.onResult.accept(this.pos);
+            }
         }
     }
 
     private void doFind0(final boolean isIncremental, final String text) {
+        // only one search at a time
+        cancelSearch();
+
+        final PositionCoordinate previous =
+                new PositionCoordinate(SearchDialog.this.selections.peek().pos);
+        final SearchCommand searchCommand = createSearchCommand(text, isIncremental);
+        final Executor executor = getSearchExecutor();
+        if (!isIncremental
+                && executor != null
+                && searchCommand.getSearchStrategy() instanceof GridSearchStrategy) {
+            doFindAsync(searchCommand, text, previous, executor);
+            return;
+        }
 
         BusyIndicator.showWhile(getShell().getDisplay(), () -> {
-            PositionCoordinate previous =
-                    new PositionCoordinate(SearchDialog.this.selections.peek().pos);
             try {
-                final SearchCommand searchCommand = createSearchCommand(text, isIncremental);
                 final SearchEventListener searchEventListener = new SearchEventListener();
                 searchCommand.setSearchEventListener(searchEventListener);
                 SearchDialog.this.natTable.doCommand(searchCommand);
-                if (searchEventListener.pos == null) {
-                    // Beep and show status if not found
-                    SearchDialog.this.statusLabel.setText(getNotFoundStatusString());
-                    getShell().getDisplay().beep();
-                } else {
-                    SelectionItem selection = new SelectionItem(text, searchEventListener.pos);
-                    SearchDialog.this.selections.push(selection);
-                    if (!isIncremental) {
-                        resetIncrementalSelections();
-                    }
-                    // Beep and show status if wrapped
-                    if (previous != null && previous.columnPosition > -1) {
-                        int columnDelta = selection.pos.columnPosition - previous.columnPosition;
-                        int rowDelta = selection.pos.rowPosition - previous.rowPosition;
-                        if (!SearchDialog.this.forwardValue) {
-                            columnDelta = -columnDelta;
-                            rowDelta = -rowDelta;
-                        }
-                        int primaryDelta = SearchDialog.this.columnFirstValue ? columnDelta : rowDelta;
-                        int secondaryDelta = SearchDialog.this.columnFirstValue ? rowDelta : columnDelta;
-                        if (primaryDelta < 0 || !isIncremental
-                                && primaryDelta == 0 && secondaryDelta <= 0) {
-                            SearchDialog.this.statusLabel.setText(getWrappedStatusString());
-                            getShell().getDisplay().beep();
-                        }
-                    }
-                }
-                if (!isIncremental) {
-                    updateFindHistory();
-                }
+                handleSearchResult(text, isIncremental, previous, searchEventListener.pos);
             } catch (PatternSyntaxException e) {
-                SearchDialog.this.statusLabel.setText(e.getLocalizedMessage());
-                SearchDialog.this.statusLabel.setForeground(JFaceColors.getErrorText(SearchDialog.this.statusLabel.getDisplay()));
-                getShell().getDisplay().beep();
+                handlePatternSyntaxException(e);
             }
         });
     }
 
+    /**
+     * Performs the search in the background, so the UI stays responsive and
+     * the search can be cancelled via the find button.
+     */
+    private void doFindAsync(SearchCommand searchCommand, String text, PositionCoordinate previous, Executor executor) {
+        final GridSearchStrategy strategy = (GridSearchStrategy) searchCommand.getSearchStrategy();
+        searchCommand.setSearchEventListener(new SearchEventListener(pos -> {
+            // ignore results of cancelled searches
+            if (this.runningSearch == strategy) {
+                searchFinished();
+                handleSearchResult(text, false, previous, pos);
+            }
+        }));
+        searchCommand.setExecutor(executor);
+
+        this.runningSearch = strategy;
+        this.findButton.setText(Messages.getString("Search.cancelButtonLabel")); //$NON-NLS-1$
+        try {
+            this.natTable.doCommand(searchCommand);
+        } catch (PatternSyntaxException e) {
+            searchFinished();
+            handlePatternSyntaxException(e);
+        }
+    }
+
+    /**
+     * Cancels the currently running asynchronous search.
+     *
+     * @since 2.7
+     */
+    protected void cancelSearch() {
+        if (this.runningSearch != null) {
+            this.runningSearch.cancel();
+            searchFinished();
+        }
+    }
+
+    private void searchFinished() {
+        this.runningSearch = null;
+        if (this.findButton != null && !this.findButton.isDisposed()) {
+            this.findButton.setText(Messages.getString("Search.findButtonLabel")); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Returns the {@link Executor} that is used to perform searches with the
+     * {@link GridSearchStrategy} in the background.
+     *
+     * @return The {@link Executor} to perform the search, or
+     *         <code>null</code> if the search is performed synchronously in
+     *         the UI thread, which is the default.
+     * @since 2.7
+     */
+    protected Executor getSearchExecutor() {
+        return this.searchExecutor;
+    }
+
+    /**
+     * Set the {@link Executor} that is used to perform searches with the
+     * {@link GridSearchStrategy} in the background, so the UI stays responsive
+     * and the search can be cancelled via the find button.
+     * <p>
+     * <b>Note:</b> The background search accesses the cells and converts the
+     * values via the configured display converters outside the UI thread while
+     * the table is still painted. It should therefore only be enabled if the
+     * layers and the display converters in use are thread-safe, e.g. the
+     * {@link org.eclipse.nebula.widgets.nattable.data.convert.DateTimeDisplayConverter
+     * DateTimeDisplayConverter} instead of the
+     * {@link org.eclipse.nebula.widgets.nattable.data.convert.DefaultDateDisplayConverter
+     * DefaultDateDisplayConverter}.
+     * </p>
+     *
+     * @param searchExecutor
+     *            The {@link Executor} to perform the search, or
+     *            <code>null</code> to search synchronously in the UI thread.
+     * @since 2.7
+     */
+    public void setSearchExecutor(Executor searchExecutor) {
+        this.searchExecutor = searchExecutor;
+    }
+
+    private void handleSearchResult(String text, boolean isIncremental, PositionCoordinate previous, PositionCoordinate pos) {
+        if (pos == null) {
+            // Beep and show status if not found
+            SearchDialog.this.statusLabel.setText(getNotFoundStatusString());
+            getShell().getDisplay().beep();
+        } else {
+            SelectionItem selection = new SelectionItem(text, pos);
+            SearchDialog.this.selections.push(selection);
+            if (!isIncremental) {
+                resetIncrementalSelections();
+            }
+            // Beep and show status if wrapped
+            if (previous != null && previous.columnPosition > -1) {
+                int columnDelta = selection.pos.columnPosition - previous.columnPosition;
+                int rowDelta = selection.pos.rowPosition - previous.rowPosition;
+                if (!SearchDialog.this.forwardValue) {
+                    columnDelta = -columnDelta;
+                    rowDelta = -rowDelta;
+                }
+                int primaryDelta = SearchDialog.this.columnFirstValue ? columnDelta : rowDelta;
+                int secondaryDelta = SearchDialog.this.columnFirstValue ? rowDelta : columnDelta;
+                if (primaryDelta < 0 || !isIncremental
+                        && primaryDelta == 0 && secondaryDelta <= 0) {
+                    SearchDialog.this.statusLabel.setText(getWrappedStatusString());
+                    getShell().getDisplay().beep();
+                }
+            }
+        }
+        if (!isIncremental) {
+            updateFindHistory();
+        }
+    }
+
+    private void handlePatternSyntaxException(PatternSyntaxException e) {
+        SearchDialog.this.statusLabel.setText(e.getLocalizedMessage());
+        SearchDialog.this.statusLabel.setForeground(JFaceColors.getErrorText(SearchDialog.this.statusLabel.getDisplay()));
+        getShell().getDisplay().beep();
+    }
+
     private PositionCoordinate getPosition() {
         if (this.selectionLayer == null) {
             return new PositionCoordinate(
@@ -869,16 +999,10 @@ private SearchCommand createSearchCommand(String text, boolean isIncremental) {
         }
 
         SearchDirection searchDirection = this.forwardValue ? SearchDirection.SEARCH_FORWARD : SearchDirection.SEARCH_BACKWARDS;
-        ISearchStrategy searchStrategy;
-        if (this.allValue) {
-            searchStrategy = new GridSearchStrategy(this.natTable.getConfigRegistry(), true, this.columnFirstValue);
-        } else {
-            searchStrategy = new SelectionSearchStrategy(this.natTable.getConfigRegistry(), this.columnFirstValue);
-        }
         return new SearchCommand(
                 text,
                 this.natTable,
-                searchStrategy,
+                createSearchStrategy(this.allValue, this.columnFirstValue),
                 searchDirection,
                 this.wrapSearchValue,
                 this.caseSensitiveValue,
@@ -888,6 +1012,29 @@ private SearchCommand createSearchCommand(String text, boolean isIncremental) {
                 this.comparator);
     }
 
+    /**
+     * Creates the {@link ISearchStrategy} that is used for a search. Can be
+     * overridden to configure the strategy, e.g. to enable the parallel search
+     * or to set a
+     * {@link org.eclipse.nebula.widgets.nattable.search.strategy.GridSearchIndex
+     * GridSearchIndex} on the {@link GridSearchStrategy}.
+     *
+     * @param all
+     *            <code>true</code> if the whole table should be searched,
+     *            <code>false</code> if only the selection should be searched.
+     * @param columnFirst
+     *            <code>true</code> if the search should be performed column
+     *            by column.
+     * @return The {@link ISearchStrategy} to use.
+     * @since 2.7
+     */
+    protected ISearchStrategy createSearchStrategy(boolean all, boolean columnFirst) {
+        if (all) {
+            return new GridSearchStrategy(this.natTable.getConfigRegistry(), true, columnFirst);
+        }
+        return new SelectionSearchStrategy(this.natTable.getConfigRegistry(), columnFirst);
+    }
+
     /**
      * Called after executed find action to update the history.
      */
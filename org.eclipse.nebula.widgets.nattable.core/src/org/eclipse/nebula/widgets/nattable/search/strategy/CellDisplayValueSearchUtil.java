@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -16,8 +16,13 @@
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.regex.Pattern;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.regex.PatternSyntaxException;
+import java.util.stream.IntStream;
 
 import org.eclipse.nebula.widgets.nattable.config.CellConfigAttributes;
 import org.eclipse.nebula.widgets.nattable.config.IConfigRegistry;
@@ -26,6 +31,7 @@
 import org.eclipse.nebula.widgets.nattable.layer.ILayer;
 import org.eclipse.nebula.widgets.nattable.layer.LabelStack;
 import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
+import org.eclipse.nebula.widgets.nattable.layer.cell.MutableLayerCell;
 import org.eclipse.nebula.widgets.nattable.search.strategy.GridSearchStrategy.GridRectangle;
 import org.eclipse.nebula.widgets.nattable.style.DisplayMode;
 
@@ -141,21 +147,18 @@ static PositionCoordinate findCell(
             final boolean wholeWord,
             final boolean regex,
             final boolean includeCollapsed) {
-        String stringValue = caseSensitive ? valueToMatch.toString() : valueToMatch.toString().toLowerCase();
-        Pattern pattern = regex ? Pattern.compile(stringValue) : null;
+        CellValueMatcher matcher = new CellValueMatcher(valueToMatch, comparator, caseSensitive, wholeWord, regex);
+        MutableLayerCell reusableCell = new MutableLayerCell();
         for (int cellIndex = 0; cellIndex < cellsToSearch.length; cellIndex++) {
             final PositionCoordinate cellCoordinate = cellsToSearch[cellIndex];
             if (compare(
                     layer,
                     configRegistry,
-                    pattern,
-                    stringValue,
-                    comparator,
-                    caseSensitive,
-                    wholeWord,
-                    regex,
+                    matcher,
+                    null,
                     cellCoordinate.columnPosition,
-                    cellCoordinate.rowPosition)) {
+                    cellCoordinate.rowPosition,
+                    reusableCell)) {
                 return cellCoordinate;
             }
         }
@@ -189,69 +192,180 @@ static PositionCoordinate findCell(
             final boolean regex,
             final boolean columnFirst,
             final boolean includeCollapsed) {
-        String stringValue = caseSensitive ? valueToMatch.toString() : valueToMatch.toString().toLowerCase();
-        Pattern pattern = regex ? Pattern.compile(stringValue) : null;
-        for (GridRectangle cellRectangle : cellRectangles) {
-            int direction = cellRectangle.firstDim.size() > 0 || cellRectangle.secondDim.size() > 0 ? 1 : -1;
-            for (int i = cellRectangle.firstDim.start; Math.abs(cellRectangle.firstDim.end - i) > 0; i += direction) {
-                PositionCoordinate result = findCell(
-                        layer,
-                        configRegistry,
-                        i,
-                        cellRectangle.secondDim.start,
-                        cellRectangle.secondDim.end,
-                        direction,
-                        pattern,
-                        stringValue,
-                        comparator,
-                        caseSensitive,
-                        wholeWord,
-                        regex,
-                        columnFirst,
-                        includeCollapsed);
-                if (result != null) {
-                    return result;
+        return findCell(
+                layer,
+                configRegistry,
+                cellRectangles,
+                new CellValueMatcher(valueToMatch, comparator, caseSensitive, wholeWord, regex),
+                columnFirst,
+                null,
+                false,
+                new AtomicBoolean());
+    }
+
+    /**
+     * Finds the first matching cell in a list of grid cell rectangles.
+     *
+     * @param layer
+     *            The layer to search.
+     * @param configRegistry
+     *            The {@link IConfigRegistry} to retrieve the display
+     *            converters.
+     * @param cellRectangles
+     *            The grid cell rectangles in search order.
+     * @param matcher
+     *            The matcher that checks the display values.
+     * @param columnFirst
+     *            Whether the first dimension of the rectangles are columns.
+     * @param index
+     *            The optional index of display values, can be
+     *            <code>null</code>.
+     * @param parallel
+     *            Whether the rectangles should be partitioned and searched in
+     *            parallel.
+     * @param cancelled
+     *            Flag to cancel the search. Checked for every cell.
+     * @return The first matching cell in search order or <code>null</code> if
+     *         no cell matches or the search was cancelled.
+     */
+    static PositionCoordinate findCell(
+            final ILayer layer,
+            final IConfigRegistry configRegistry,
+            final List<GridRectangle> cellRectangles,
+            final CellValueMatcher matcher,
+            final boolean columnFirst,
+            final GridSearchIndex index,
+            final boolean parallel,
+            final AtomicBoolean cancelled) {
+
+        List<int[]> slices = getSlices(cellRectangles);
+        int chunkCount = parallel
+                ? Math.min(slices.size(), ForkJoinPool.getCommonPoolParallelism() * 4)
+                : 1;
+
+        if (chunkCount <= 1) {
+            PositionCoordinate[] result = new PositionCoordinate[1];
+            for (int[] slice : slices) {
+                if (searchSlice(layer, configRegistry, slice, matcher, columnFirst, index, cancelled, match -> {
+                    result[0] = match;
+                    return true;
+                })) {
+                    break;
                 }
             }
+            return cancelled.get() ? null : result[0];
         }
-        return null;
+
+        // search consecutive chunks of slices in parallel, the first match in
+        // search order is the match in the chunk with the lowest index, so
+        // chunks after an already found match can be skipped
+        PositionCoordinate[] results = new PositionCoordinate[chunkCount];
+        AtomicInteger firstMatchChunk = new AtomicInteger(Integer.MAX_VALUE);
+        int sliceCount = slices.size();
+        IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+            int from = (int) ((long) sliceCount * chunk / chunkCount);
+            int to = (int) ((long) sliceCount * (chunk + 1) / chunkCount);
+            for (int i = from; i < to && chunk < firstMatchChunk.get(); i++) {
+                if (searchSlice(layer, configRegistry, slices.get(i), matcher, columnFirst, index, cancelled, match -> {
+                    results[chunk] = match;
+                    firstMatchChunk.accumulateAndGet(chunk, Math::min);
+                    return true;
+                })) {
+                    break;
+                }
+            }
+        });
+
+        int chunk = firstMatchChunk.get();
+        return (cancelled.get() || chunk == Integer.MAX_VALUE) ? null : results[chunk];
     }
 
     /**
-     * Finds the first matching cell in a table slice.
+     * Passes all matching cells in a list of grid cell rectangles in search
+     * order to the given consumer.
      *
      * @param layer
+     *            The layer to search.
      * @param configRegistry
-     * @param firstDimIndex
-     * @param secondDimStart
-     * @param secondDimEnd
-     * @param direction
-     * @param pattern
-     * @param stringValue
-     * @param comparator
-     * @param caseSensitive
-     * @param wholeWord
-     * @param regex
+     *            The {@link IConfigRegistry} to retrieve the display
+     *            converters.
+     * @param cellRectangles
+     *            The grid cell rectangles in search order.
+     * @param matcher
+     *            The matcher that checks the display values.
      * @param columnFirst
-     * @param includeCollapsed
-     * @return
-     * @throws PatternSyntaxException
+     *            Whether the first dimension of the rectangles are columns.
+     * @param index
+     *            The optional index of display values, can be
+     *            <code>null</code>.
+     * @param cancelled
+     *            Flag to cancel the search. Checked for every cell.
+     * @param consumer
+     *            The consumer that gets every matching cell as soon as it is
+     *            found.
+     */
+    static void findAllCells(
+            final ILayer layer,
+            final IConfigRegistry configRegistry,
+            final List<GridRectangle> cellRectangles,
+            final CellValueMatcher matcher,
+            final boolean columnFirst,
+            final GridSearchIndex index,
+            final AtomicBoolean cancelled,
+            final Consumer<PositionCoordinate> consumer) {
+
+        for (int[] slice : getSlices(cellRectangles)) {
+            if (searchSlice(layer, configRegistry, slice, matcher, columnFirst, index, cancelled, match -> {
+                consumer.accept(match);
+                return false;
+            })) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Splits the given grid cell rectangles into slices in search order. Every
+     * slice is encoded as int array containing the first dimension index, the
+     * start and the end of the second dimension and the direction.
+     */
+    private static List<int[]> getSlices(List<GridRectangle> cellRectangles) {
+        List<int[]> slices = new ArrayList<>();
+        for (GridRectangle cellRectangle : cellRectangles) {
+            int direction = cellRectangle.firstDim.size() > 0 || cellRectangle.secondDim.size() > 0 ? 1 : -1;
+            for (int i = cellRectangle.firstDim.start; Math.abs(cellRectangle.firstDim.end - i) > 0; i += direction) {
+                slices.add(new int[] { i, cellRectangle.secondDim.start, cellRectangle.secondDim.end, direction });
+            }
+        }
+        return slices;
+    }
+
+    /**
+     * Searches a table slice and passes the matching cells to the given
+     * handler.
+     *
+     * @param slice
+     *            The slice as created by {@link #getSlices(List)}.
+     * @param onMatch
+     *            The handler for a matching cell, returns <code>true</code> if
+     *            the search should stop.
+     * @return <code>true</code> if the search should stop because the match
+     *         handler returned <code>true</code> or the search was cancelled.
      */
-    private static PositionCoordinate findCell(
+    private static boolean searchSlice(
             ILayer layer,
             IConfigRegistry configRegistry,
-            int firstDimIndex,
-            int secondDimStart,
-            int secondDimEnd,
-            int direction,
-            Pattern pattern,
-            String stringValue,
-            Comparator<String> comparator,
-            boolean caseSensitive,
-            boolean wholeWord,
-            boolean regex,
-            final boolean columnFirst,
-            boolean includeCollapsed) {
+            int[] slice,
+            CellValueMatcher matcher,
+            boolean columnFirst,
+            GridSearchIndex index,
+            AtomicBoolean cancelled,
+            Predicate<PositionCoordinate> onMatch) {
+
+        int firstDimIndex = slice[0];
+        int secondDimStart = slice[1];
+        int secondDimEnd = slice[2];
+        int direction = slice[3];
 
         int columnPosition;
         int rowPosition;
@@ -263,8 +377,15 @@ private static PositionCoordinate findCell(
             rowPosition = firstDimIndex;
         }
 
+        // the cell is only needed for the current position
+        MutableLayerCell reusableCell = new MutableLayerCell();
+
         for (int i = secondDimStart; direction * (secondDimEnd - i) > 0; i += direction) {
-            ILayerCell cellByPosition = layer.getCellByPosition(columnPosition, rowPosition);
+            if (cancelled.get()) {
+                return true;
+            }
+
+            ILayerCell cellByPosition = layer.getCellByPosition(columnPosition, rowPosition, reusableCell);
 
             // on backwards search we only consider the origin position for
             // spanned cells, otherwise the find order is different from the
@@ -272,27 +393,24 @@ private static PositionCoordinate findCell(
             if (!(direction < 0 &&
                     (cellByPosition.getOriginColumnPosition() != cellByPosition.getColumnPosition() ||
                             cellByPosition.getOriginRowPosition() != cellByPosition.getRowPosition()))) {
-                PositionCoordinate searchAnchor = getSearchAnchor(cellByPosition, direction);
-
-                // If we do not hit the searchAnchor with our current position
+                // If we do not hit the origin of the cell with our current position
                 // it means that we have hit a spanned cell somewhere else than
                 // in the top left (for direction == 1) or bottom right (for
                 // direction == -1). That in turn means that we have already
                 // visited that cell. Thus we skip the compare and proceed to
                 // the next position.
-                if (searchAnchor.columnPosition == columnPosition && searchAnchor.rowPosition == rowPosition) {
+                if (cellByPosition.getOriginColumnPosition() == columnPosition
+                        && cellByPosition.getOriginRowPosition() == rowPosition) {
                     if (compare(
                             layer,
                             configRegistry,
-                            pattern,
-                            stringValue,
-                            comparator,
-                            caseSensitive,
-                            wholeWord,
-                            regex,
+                            matcher,
+                            index,
                             columnPosition,
-                            rowPosition)) {
-                        return new PositionCoordinate(layer, columnPosition, rowPosition);
+                            rowPosition,
+                            reusableCell)
+                            && onMatch.test(new PositionCoordinate(layer, columnPosition, rowPosition))) {
+                        return true;
                     }
                 }
             }
@@ -303,31 +421,74 @@ private static PositionCoordinate findCell(
                 columnPosition += direction;
             }
         }
-        return null;
+        return false;
+    }
+
+    private static boolean compare(
+            ILayer layer,
+            IConfigRegistry configRegistry,
+            CellValueMatcher matcher,
+            GridSearchIndex index,
+            int columnPosition,
+            int rowPosition,
+            MutableLayerCell reusableCell) {
+
+        if (index != null) {
+            return index.matches(matcher, columnPosition, rowPosition);
+        }
+        return matcher.matches(getDisplayValue(layer, configRegistry, columnPosition, rowPosition, reusableCell));
     }
 
     /**
-     * Get an anchor for the search of the given cell.
+     * Returns the display value of the cell at the given position as it is
+     * used for searching.
      *
-     * @param cell
-     * @param direction
-     * @return
+     * @param layer
+     *            The layer to which the positions match.
+     * @param configRegistry
+     *            The {@link IConfigRegistry} to retrieve the display
+     *            converter.
+     * @param columnPosition
+     *            The column position of the cell.
+     * @param rowPosition
+     *            The row position of the cell.
+     * @return The display value of the cell or <code>null</code> if the cell
+     *         should not be included in the search.
      */
-    private static PositionCoordinate getSearchAnchor(ILayerCell cell, int direction) {
-        return new PositionCoordinate(cell.getLayer(), cell.getOriginColumnPosition(), cell.getOriginRowPosition());
+    static String getDisplayValue(
+            ILayer layer,
+            IConfigRegistry configRegistry,
+            int columnPosition,
+            int rowPosition) {
+
+        return getDisplayValue(layer, configRegistry, columnPosition, rowPosition, new MutableLayerCell());
     }
 
-    private static boolean compare(
+    /**
+     * Returns the display value of the cell at the given position as it is
+     * used for searching.
+     *
+     * @param layer
+     *            The layer to which the positions match.
+     * @param configRegistry
+     *            The {@link IConfigRegistry} to retrieve the display
+     *            converter.
+     * @param columnPosition
+     *            The column position of the cell.
+     * @param rowPosition
+     *            The row position of the cell.
+     * @param reusableCell
+     *            The {@link MutableLayerCell} that is reused to retrieve the
+     *            cell, so iterations do not create a cell per position.
+     * @return The display value of the cell or <code>null</code> if the cell
+     *         should not be included in the search.
+     */
+    static String getDisplayValue(
             ILayer layer,
             IConfigRegistry configRegistry,
-            Pattern pattern,
-            String stringValue,
-            Comparator<String> comparator,
-            boolean caseSensitive,
-            boolean wholeWord,
-            boolean regex,
             int columnPosition,
-            int rowPosition) {
+            int rowPosition,
+            MutableLayerCell reusableCell) {
 
         // Convert cell's data
         LabelStack labels = layer.getConfigLabelsByPosition(columnPosition, rowPosition);
@@ -338,34 +499,17 @@ private static boolean compare(
                     labels);
             Object dataValue = null;
             if (displayConverter != null) {
-                ILayerCell cell = layer.getCellByPosition(columnPosition, rowPosition);
+                ILayerCell cell = layer.getCellByPosition(columnPosition, rowPosition, reusableCell);
                 if (cell != null) {
                     dataValue = displayConverter.canonicalToDisplayValue(cell, configRegistry, cell.getDataValue());
                 }
             }
 
-            // Compare with valueToMatch
+            // only comparable values are compared with valueToMatch
             if (dataValue instanceof Comparable<?>) {
-                String dataValueString = caseSensitive ? dataValue.toString() : dataValue.toString().toLowerCase();
-                if (regex) {
-                    if (pattern.matcher(dataValueString).matches()) {
-                        return true;
-                    }
-                } else if (comparator.compare(stringValue, dataValueString) == 0) {
-                    return true;
-                } else if (!wholeWord && dataValueString.contains(stringValue)) {
-                    return true;
-                } else if (wholeWord) {
-                    // we also need to check single words in a multi word value
-                    String[] split = dataValueString.split("\\b"); //$NON-NLS-1$
-                    for (String word : split) {
-                        if (comparator.compare(stringValue, word) == 0) {
-                            return true;
-                        }
-                    }
-                }
+                return dataValue.toString();
             }
         }
-        return false;
+        return null;
     }
 }
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.search.strategy;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Checks if the display value of a cell matches the value to search for. The
+ * matching rules are the same as used by the search strategies, which means
+ * regular expressions need to match the whole value, while otherwise a value
+ * matches if it is equal to the search value according to the comparator, if
+ * it contains the search value or in whole word mode if one of its words is
+ * equal to the search value.
+ * <p>
+ * Instances are immutable and therefore can be used by multiple threads.
+ * Instances with the same search configuration are equal, which is used by
+ * the {@link GridSearchIndex} to cache the search results.
+ * </p>
+ *
+ * @since 2.7
+ */
+final class CellValueMatcher {
+
+    private final String stringValue;
+    private final Pattern pattern;
+    private final Comparator<String> comparator;
+    private final boolean caseSensitive;
+    private final boolean wholeWord;
+    private final boolean regex;
+
+    /**
+     *
+     * @param valueToMatch
+     *            The value to search for.
+     * @param comparator
+     *            The comparator that is used to check for equality.
+     * @param caseSensitive
+     *            Whether the search should be case sensitive.
+     * @param wholeWord
+     *            Whether only whole words should match.
+     * @param regex
+     *            Whether the value to search for is a regular expression.
+     * @throws PatternSyntaxException
+     *             if regex is <code>true</code> and the value to search for
+     *             is not a valid regular expression.
+     */
+    CellValueMatcher(
+            Object valueToMatch,
+            Comparator<String> comparator,
+            boolean caseSensitive,
+            boolean wholeWord,
+            boolean regex) {
+        this.stringValue = caseSensitive ? valueToMatch.toString() : valueToMatch.toString().toLowerCase();
+        this.pattern = regex ? Pattern.compile(this.stringValue) : null;
+        this.comparator = comparator;
+        this.caseSensitive = caseSensitive;
+        this.wholeWord = wholeWord;
+        this.regex = regex;
+    }
+
+    /**
+     *
+     * @param displayValue
+     *            The display value of a cell, can be <code>null</code>.
+     * @return <code>true</code> if the given display value matches the value
+     *         to search for.
+     */
+    boolean matches(String displayValue) {
+        if (displayValue == null) {
+            return false;
+        }
+
+        String dataValueString = this.caseSensitive ? displayValue : displayValue.toLowerCase();
+        if (this.regex) {
+            if (this.pattern.matcher(dataValueString).matches()) {
+                return true;
+            }
+        } else if (this.comparator.compare(this.stringValue, dataValueString) == 0) {
+            return true;
+        } else if (!this.wholeWord && dataValueString.contains(this.stringValue)) {
+            return true;
+        } else if (this.wholeWord) {
+            // we also need to check single words in a multi word value
+            String[] split = dataValueString.split("\\b"); //$NON-NLS-1$
+            for (String word : split) {
+                if (this.comparator.compare(this.stringValue, word) == 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.stringValue, this.caseSensitive, this.wholeWord, this.regex);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CellValueMatcher)) {
+            return false;
+        }
+        CellValueMatcher other = (CellValueMatcher) obj;
+        return this.stringValue.equals(other.stringValue)
+                && this.comparator == other.comparator
+                && this.caseSensitive == other.caseSensitive
+                && this.wholeWord == other.wholeWord
+                && this.regex == other.regex;
+    }
+}
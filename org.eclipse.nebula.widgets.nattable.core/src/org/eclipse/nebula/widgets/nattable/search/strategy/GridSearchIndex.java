@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.search.strategy;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.collections.api.factory.primitive.IntLists;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.nebula.widgets.nattable.config.IConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.edit.event.DataUpdateEvent;
+import org.eclipse.nebula.widgets.nattable.layer.ILayer;
+import org.eclipse.nebula.widgets.nattable.layer.ILayerListener;
+import org.eclipse.nebula.widgets.nattable.layer.cell.MutableLayerCell;
+import org.eclipse.nebula.widgets.nattable.layer.event.CellVisualUpdateEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.ColumnVisualUpdateEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.ILayerEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.IStructuralChangeEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.PropertyUpdateEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowUpdateEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.RowVisualUpdateEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.VisualRefreshEvent;
+
+/**
+ * Inverted index of the display values per column that can be set to a
+ * {@link GridSearchStrategy} to speed up repeated searches. For every column
+ * the rows are grouped by their display value, so a search only needs to
+ * check every distinct display value once instead of converting and checking
+ * every cell. The rows that match a search are cached per column, so
+ * searching for the next occurrence of the same value does not check the
+ * values again.
+ * <p>
+ * The index for a column is created lazily on the first search in that
+ * column, which means the first search converts all values of the column.
+ * The index registers itself as listener on the given layer and is cleared on
+ * structural changes and data updates. Call {@link #dispose()} to unregister
+ * the listener if the index is not needed anymore.
+ * </p>
+ *
+ * @since 2.7
+ */
+public class GridSearchIndex implements ILayerListener {
+
+    private final ILayer layer;
+    private final IConfigRegistry configRegistry;
+
+    /**
+     * The index per column position. The map is replaced on clear, so columns
+     * that are indexed concurrently to a clear are not added to the new map.
+     */
+    private volatile Map<Integer, ColumnIndex> columns = new ConcurrentHashMap<>();
+
+    /**
+     *
+     * @param layer
+     *            The layer whose cells are indexed, typically the
+     *            SelectionLayer that is used as context layer of the
+     *            {@link GridSearchStrategy}.
+     * @param configRegistry
+     *            The {@link IConfigRegistry} to retrieve the display
+     *            converters.
+     */
+    public GridSearchIndex(ILayer layer, IConfigRegistry configRegistry) {
+        this.layer = layer;
+        this.configRegistry = configRegistry;
+        this.layer.addLayerListener(this);
+    }
+
+    /**
+     *
+     * @return The layer whose cells are indexed.
+     */
+    public ILayer getLayer() {
+        return this.layer;
+    }
+
+    /**
+     * Check if the display value of the cell at the given position matches.
+     *
+     * @param matcher
+     *            The matcher that checks the display values.
+     * @param columnPosition
+     *            The column position of the cell.
+     * @param rowPosition
+     *            The row position of the cell.
+     * @return <code>true</code> if the display value of the cell matches.
+     */
+    boolean matches(CellValueMatcher matcher, int columnPosition, int rowPosition) {
+        Map<Integer, ColumnIndex> current = this.columns;
+        ColumnIndex columnIndex = current.computeIfAbsent(columnPosition, ColumnIndex::new);
+        return columnIndex.getMatchingRows(matcher).get(rowPosition);
+    }
+
+    /**
+     * Removes all indexed values. The index is created again on the next
+     * search.
+     */
+    public void clear() {
+        this.columns = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Unregisters the index from the layer and removes all indexed values.
+     */
+    public void dispose() {
+        this.layer.removeLayerListener(this);
+        clear();
+    }
+
+    @Override
+    public void handleLayerEvent(ILayerEvent event) {
+        if (event instanceof IStructuralChangeEvent
+                || event instanceof DataUpdateEvent
+                || event instanceof CellVisualUpdateEvent
+                || event instanceof RowUpdateEvent
+                || event instanceof RowVisualUpdateEvent
+                || event instanceof ColumnVisualUpdateEvent
+                || event instanceof PropertyUpdateEvent
+                || event instanceof VisualRefreshEvent) {
+            clear();
+        }
+    }
+
+    /**
+     * The rows of a column grouped by display value.
+     */
+    private final class ColumnIndex {
+
+        private final int rowCount;
+        private final Map<String, MutableIntList> rowsByValue = new HashMap<>();
+
+        /**
+         * The result of the last search in this column.
+         */
+        private volatile MatchResult lastResult;
+
+        ColumnIndex(int columnPosition) {
+            this.rowCount = GridSearchIndex.this.layer.getRowCount();
+            MutableLayerCell reusableCell = new MutableLayerCell();
+            for (int rowPosition = 0; rowPosition < this.rowCount; rowPosition++) {
+                String displayValue = CellDisplayValueSearchUtil.getDisplayValue(
+                        GridSearchIndex.this.layer,
+                        GridSearchIndex.this.configRegistry,
+                        columnPosition,
+                        rowPosition,
+                        reusableCell);
+                if (displayValue != null) {
+                    this.rowsByValue.computeIfAbsent(displayValue, v -> IntLists.mutable.empty()).add(rowPosition);
+                }
+            }
+        }
+
+        BitSet getMatchingRows(CellValueMatcher matcher) {
+            MatchResult result = this.lastResult;
+            if (result == null || !result.matcher.equals(matcher)) {
+                BitSet rows = new BitSet(this.rowCount);
+                for (Map.Entry<String, MutableIntList> entry : this.rowsByValue.entrySet()) {
+                    if (matcher.matches(entry.getKey())) {
+                        entry.getValue().forEach(rows::set);
+                    }
+                }
+                result = new MatchResult(matcher, rows);
+                this.lastResult = result;
+            }
+            return result.rows;
+        }
+    }
+
+    private static final class MatchResult {
+
+        final CellValueMatcher matcher;
+        final BitSet rows;
+
+        MatchResult(CellValueMatcher matcher, BitSet rows) {
+            this.matcher = matcher;
+            this.rows = rows;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,12 @@
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 import org.eclipse.nebula.widgets.nattable.config.ConfigRegistry;
 import org.eclipse.nebula.widgets.nattable.config.IConfigRegistry;
@@ -26,10 +32,35 @@
 import org.eclipse.nebula.widgets.nattable.search.SearchDirection;
 import org.eclipse.nebula.widgets.nattable.selection.SelectionLayer;
 
+/**
+ * Search strategy that searches the whole grid starting at the selection
+ * anchor.
+ * <p>
+ * By default the search is performed cell by cell in the calling thread. For
+ * large tables the search can be
+ * </p>
+ * <ul>
+ * <li>executed in parallel via {@link #setParallel(boolean)}, which
+ * partitions the grid into chunks that are searched on the common fork-join
+ * pool, while the result is still the first match in search order,</li>
+ * <li>executed in the background via
+ * {@link #executeSearchAsync(Object, Executor)},</li>
+ * <li>cancelled via {@link #cancel()},</li>
+ * <li>accelerated for repeated searches via a {@link GridSearchIndex}.</li>
+ * </ul>
+ */
 public class GridSearchStrategy extends AbstractSearchStrategy {
 
     private final IConfigRegistry configRegistry;
 
+    private volatile boolean parallel;
+    private GridSearchIndex searchIndex;
+
+    /**
+     * The cancel flags of the currently running searches.
+     */
+    private final Set<AtomicBoolean> runningSearches = ConcurrentHashMap.newKeySet();
+
     public GridSearchStrategy(IConfigRegistry configRegistry, boolean wrapSearch, boolean columnFirst) {
         this(configRegistry, wrapSearch, SearchDirection.SEARCH_FORWARD, columnFirst);
     }
@@ -77,6 +108,226 @@ public static class GridRectangle {
 
     @Override
     public PositionCoordinate executeSearch(Object valueToMatch) {
+        AtomicBoolean searchCancelled = startSearch();
+        try {
+            List<GridRectangle> gridRanges = getSearchRanges();
+            if (gridRanges == null) {
+                return null;
+            }
+            return findCell(gridRanges, createMatcher(valueToMatch), searchCancelled);
+        } finally {
+            this.runningSearches.remove(searchCancelled);
+        }
+    }
+
+    /**
+     * Executes the search asynchronously via the given {@link Executor}. The
+     * start of the search is determined and the value to search for is
+     * validated in the calling thread, which typically is the UI thread.
+     * Therefore a {@link java.util.regex.PatternSyntaxException
+     * PatternSyntaxException} for an invalid regular expression is thrown
+     * immediately.
+     * <p>
+     * Cancelling the returned {@link CompletableFuture} cancels the search.
+     * Note that the returned future is completed in the thread that executed
+     * the search, so the result needs to be processed in the UI thread by the
+     * caller.
+     * </p>
+     *
+     * @param valueToMatch
+     *            The value to search for.
+     * @param executor
+     *            The {@link Executor} that should execute the search.
+     * @return The {@link CompletableFuture} that is completed with the
+     *         coordinates of the matching cell or <code>null</code> if no
+     *         cell matches.
+     * @since 2.7
+     */
+    public CompletableFuture<PositionCoordinate> executeSearchAsync(Object valueToMatch, Executor executor) {
+        List<GridRectangle> gridRanges = getSearchRanges();
+        CellValueMatcher matcher = createMatcher(valueToMatch);
+        AtomicBoolean searchCancelled = startSearch();
+
+        CompletableFuture<PositionCoordinate> future = new CompletableFuture<PositionCoordinate>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                searchCancelled.set(true);
+                return super.cancel(mayInterruptIfRunning);
+            }
+        };
+
+        if (gridRanges == null) {
+            this.runningSearches.remove(searchCancelled);
+            future.complete(null);
+            return future;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    PositionCoordinate result = findCell(gridRanges, matcher, searchCancelled);
+                    if (searchCancelled.get()) {
+                        future.cancel(false);
+                    } else {
+                        future.complete(result);
+                    }
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    this.runningSearches.remove(searchCancelled);
+                }
+            });
+        } catch (RuntimeException e) {
+            this.runningSearches.remove(searchCancelled);
+            throw e;
+        }
+        return future;
+    }
+
+    /**
+     * Searches all cells that match the given value in search order, starting
+     * at the selection anchor. Every match is passed to the given consumer as
+     * soon as it is found, which makes it possible to show matches before the
+     * search is finished. The search is performed in the calling thread and
+     * can be cancelled via {@link #cancel()}.
+     *
+     * @param valueToMatch
+     *            The value to search for.
+     * @param consumer
+     *            The consumer that gets the coordinates of every matching
+     *            cell.
+     * @since 2.7
+     */
+    public void findAll(Object valueToMatch, Consumer<PositionCoordinate> consumer) {
+        AtomicBoolean searchCancelled = startSearch();
+        try {
+            List<GridRectangle> gridRanges = getSearchRanges();
+            if (gridRanges != null) {
+                CellDisplayValueSearchUtil.findAllCells(
+                        getContextLayer(),
+                        this.configRegistry,
+                        gridRanges,
+                        createMatcher(valueToMatch),
+                        isColumnFirst(),
+                        getUsableSearchIndex(),
+                        searchCancelled,
+                        consumer);
+            }
+        } finally {
+            this.runningSearches.remove(searchCancelled);
+        }
+    }
+
+    /**
+     * Cancels all currently running searches of this strategy, including
+     * overlapping searches started from different threads. A cancelled search
+     * returns <code>null</code>. Searches that are started after this call
+     * are not affected.
+     *
+     * @since 2.7
+     */
+    public void cancel() {
+        for (AtomicBoolean searchCancelled : this.runningSearches) {
+            searchCancelled.set(true);
+        }
+    }
+
+    /**
+     * Registers the cancel flag of a new search.
+     *
+     * @return The cancel flag of the new search, which needs to be removed
+     *         from the running searches once the search is finished.
+     */
+    private AtomicBoolean startSearch() {
+        AtomicBoolean searchCancelled = new AtomicBoolean();
+        this.runningSearches.add(searchCancelled);
+        return searchCancelled;
+    }
+
+    /**
+     *
+     * @return <code>true</code> if the grid is partitioned and searched in
+     *         parallel.
+     * @since 2.7
+     */
+    public boolean isParallel() {
+        return this.parallel;
+    }
+
+    /**
+     * Configure whether the grid should be partitioned and searched in
+     * parallel on the common fork-join pool. The result is still the first
+     * match in search order. Only enable the parallel search if the layer
+     * stack and the registered display converters support concurrent access,
+     * e.g. converters based on {@link java.text.SimpleDateFormat
+     * SimpleDateFormat} are not thread-safe.
+     *
+     * @param parallel
+     *            <code>true</code> if the grid should be searched in parallel.
+     * @since 2.7
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     *
+     * @return The {@link GridSearchIndex} that is used to speed up repeated
+     *         searches, or <code>null</code> if no index is used.
+     * @since 2.7
+     */
+    public GridSearchIndex getSearchIndex() {
+        return this.searchIndex;
+    }
+
+    /**
+     * Set a {@link GridSearchIndex} to speed up repeated searches. The index
+     * is only used if it was created for the context layer of this strategy.
+     *
+     * @param searchIndex
+     *            The {@link GridSearchIndex} to use, or <code>null</code> to
+     *            search without index.
+     * @since 2.7
+     */
+    public void setSearchIndex(GridSearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    private GridSearchIndex getUsableSearchIndex() {
+        GridSearchIndex index = this.searchIndex;
+        return (index != null && index.getLayer() == getContextLayer()) ? index : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private CellValueMatcher createMatcher(Object valueToMatch) {
+        return new CellValueMatcher(
+                valueToMatch,
+                (Comparator<String>) getComparator(),
+                isCaseSensitive(),
+                isWholeWord(),
+                isRegex());
+    }
+
+    private PositionCoordinate findCell(List<GridRectangle> gridRanges, CellValueMatcher matcher, AtomicBoolean searchCancelled) {
+        return CellDisplayValueSearchUtil.findCell(
+                getContextLayer(),
+                this.configRegistry,
+                gridRanges,
+                matcher,
+                isColumnFirst(),
+                getUsableSearchIndex(),
+                this.parallel,
+                searchCancelled);
+    }
+
+    /**
+     * Determines the ranges to search in search order, starting at the
+     * selection anchor.
+     *
+     * @return The ranges to search or <code>null</code> if there is nothing
+     *         to search.
+     */
+    private List<GridRectangle> getSearchRanges() {
 
         ILayer contextLayer = getContextLayer();
         if (!(contextLayer instanceof SelectionLayer)) {
@@ -153,7 +404,7 @@ public PositionCoordinate executeSearch(Object valueToMatch) {
         }
 
         // Get a sequence of ranges for searching.
-        List<GridRectangle> gridRanges = getRanges(
+        return getRanges(
                 firstDimPosition,
                 secondDimPosition,
                 direction,
@@ -161,21 +412,6 @@ public PositionCoordinate executeSearch(Object valueToMatch) {
                 firstDimEnd,
                 secondDimStart,
                 secondDimEnd);
-
-        // Perform the search.
-        @SuppressWarnings("unchecked")
-        Comparator<String> comparator = (Comparator<String>) getComparator();
-        return CellDisplayValueSearchUtil.findCell(
-                getContextLayer(),
-                this.configRegistry,
-                gridRanges,
-                valueToMatch,
-                comparator,
-                isCaseSensitive(),
-                isWholeWord(),
-                isRegex(),
-                isColumnFirst(),
-                isIncludeCollapsed());
     }
 
     /**
@@ -0,0 +1,243 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.selection;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.nebula.widgets.nattable.coordinate.Range;
+import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
+import org.eclipse.swt.graphics.Rectangle;
+
+/**
+ * {@link SelectionModel} that uses an interval tree for hit testing instead of
+ * iterating over all selection rectangles. This is useful for tables with a
+ * lot of disjoint selections, e.g. created via ctrl+click, as checking whether
+ * a cell, row or column is selected does not scale with the number of
+ * selection rectangles anymore.
+ * <p>
+ * The index is created lazily on the first query after a modification of the
+ * selection. Additionally rectangles that are added to the selection are
+ * merged with existing rectangles if the union of both is again a rectangle,
+ * e.g. when selecting adjacent cells in the same row. This keeps the number of
+ * stored rectangles small.
+ * </p>
+ * <p>
+ * The behavior on structural changes is the same as with the
+ * {@link SelectionModel}, including the support for
+ * {@link #setClearSelectionOnChange(boolean)}.
+ * </p>
+ *
+ * @since 2.7
+ */
+public class IntervalTreeSelectionModel extends SelectionModel {
+
+    private volatile RectangleIntervalTree index;
+
+    public IntervalTreeSelectionModel(SelectionLayer selectionLayer) {
+        super(selectionLayer);
+    }
+
+    public IntervalTreeSelectionModel(SelectionLayer selectionLayer, boolean multipleSelectionAllowed) {
+        super(selectionLayer, multipleSelectionAllowed);
+    }
+
+    @Override
+    public void addSelection(int columnPosition, int rowPosition) {
+        addSelection(new Rectangle(columnPosition, rowPosition, 1, 1));
+    }
+
+    @Override
+    public void addSelection(Rectangle range) {
+        if (range != null) {
+            super.addSelection(range);
+
+            getSelectionsLock().writeLock().lock();
+            try {
+                if (isMultipleSelectionAllowed()) {
+                    mergeSelection(range);
+                }
+                this.index = null;
+            } finally {
+                getSelectionsLock().writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Merges the given rectangle, that was just added to the selections, with
+     * existing rectangles if the result is again a rectangle. The merge is
+     * repeated with the resulting rectangle until no more merge is possible.
+     *
+     * @param added
+     *            The rectangle that was added to the selections.
+     */
+    private void mergeSelection(Rectangle added) {
+        List<Rectangle> selections = getSelections();
+        Rectangle current = added;
+        boolean merged = true;
+        while (merged) {
+            merged = false;
+            Iterator<Rectangle> it = selections.iterator();
+            while (it.hasNext()) {
+                Rectangle r = it.next();
+                if (r != current && isMergeable(current, r)) {
+                    it.remove();
+                    selections.remove(current);
+                    current = current.union(r);
+                    selections.add(current);
+                    merged = true;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Check if the union of the two given rectangles covers exactly the same
+     * cells as both rectangles, which is the case if one contains the other or
+     * if they are aligned on one axis and overlap or touch on the other.
+     */
+    private boolean isMergeable(Rectangle r1, Rectangle r2) {
+        if (r1.width <= 0 || r1.height <= 0 || r2.width <= 0 || r2.height <= 0) {
+            return false;
+        }
+        if (r1.x == r2.x && r1.width == r2.width) {
+            return r1.y <= r2.y + r2.height && r2.y <= r1.y + r1.height;
+        }
+        if (r1.y == r2.y && r1.height == r2.height) {
+            return r1.x <= r2.x + r2.width && r2.x <= r1.x + r1.width;
+        }
+        Rectangle union = r1.union(r2);
+        return union.equals(r1) || union.equals(r2);
+    }
+
+    @Override
+    public void clearSelection() {
+        super.clearSelection();
+        invalidateIndex();
+    }
+
+    @Override
+    public void clearSelection(Rectangle removedSelection) {
+        super.clearSelection(removedSelection);
+        invalidateIndex();
+    }
+
+    private void invalidateIndex() {
+        getSelectionsLock().writeLock().lock();
+        try {
+            this.index = null;
+        } finally {
+            getSelectionsLock().writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the index for the current selections and creates it if
+     * necessary. Needs to be called with acquired read lock.
+     *
+     * @return The index for the current selections.
+     */
+    private RectangleIntervalTree getIndex() {
+        RectangleIntervalTree result = this.index;
+        if (result == null) {
+            result = new RectangleIntervalTree(getSelections());
+            this.index = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isCellPositionSelected(int columnPosition, int rowPosition) {
+        ILayerCell cell = this.selectionLayer.getCellByPosition(columnPosition, rowPosition);
+        if (cell == null) {
+            return false;
+        }
+
+        getSelectionsLock().readLock().lock();
+        try {
+            return getIndex().intersects(
+                    cell.getOriginColumnPosition(),
+                    cell.getOriginRowPosition(),
+                    cell.getColumnSpan(),
+                    cell.getRowSpan());
+        } finally {
+            getSelectionsLock().readLock().unlock();
+        }
+    }
+
+    @Override
+    public int[] getSelectedColumnPositions() {
+        List<Range> ranges;
+        getSelectionsLock().readLock().lock();
+        try {
+            ranges = getIndex().getColumnRanges(this.selectionLayer.getColumnCount());
+        } finally {
+            getSelectionsLock().readLock().unlock();
+        }
+
+        int count = 0;
+        for (Range range : ranges) {
+            count += range.size();
+        }
+        int[] result = new int[count];
+        int i = 0;
+        for (Range range : ranges) {
+            for (int column = range.start; column < range.end; column++) {
+                result[i++] = column;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isColumnPositionSelected(int columnPosition) {
+        if (columnPosition >= this.selectionLayer.getColumnCount()) {
+            return false;
+        }
+
+        getSelectionsLock().readLock().lock();
+        try {
+            return getIndex().containsColumn(columnPosition);
+        } finally {
+            getSelectionsLock().readLock().unlock();
+        }
+    }
+
+    @Override
+    public Set<Range> getSelectedRowPositions() {
+        getSelectionsLock().readLock().lock();
+        try {
+            return new HashSet<>(getIndex().getRowRanges(this.selectionLayer.getRowCount()));
+        } finally {
+            getSelectionsLock().readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isRowPositionSelected(int rowPosition) {
+        if (rowPosition >= this.selectionLayer.getRowCount()) {
+            return false;
+        }
+
+        getSelectionsLock().readLock().lock();
+        try {
+            return getIndex().containsRow(rowPosition);
+        } finally {
+            getSelectionsLock().readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,295 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.selection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.nebula.widgets.nattable.coordinate.Range;
+import org.eclipse.swt.graphics.Rectangle;
+
+/**
+ * Immutable spatial index over a collection of {@link Rectangle}s that is used
+ * by the {@link IntervalTreeSelectionModel} for fast hit testing.
+ * <p>
+ * The rectangles are stored in a centered interval tree on the vertical axis.
+ * An intersection test only inspects the tree nodes on the path to the
+ * requested rows and the rectangles in those nodes that overlap the requested
+ * rows, which results in <i>O(log n + k)</i> instead of <i>O(n)</i>.
+ * Additionally the row and column ranges covered by the rectangles are merged
+ * into sorted disjoint ranges, so checks for a selected row or column are
+ * performed via binary search.
+ * </p>
+ *
+ * @since 2.7
+ */
+final class RectangleIntervalTree {
+
+    private static final Comparator<Rectangle> BY_START = (r1, r2) -> Integer.compare(r1.y, r2.y);
+    private static final Comparator<Rectangle> BY_END = (r1, r2) -> Integer.compare(r2.y + r2.height, r1.y + r1.height);
+
+    private final Node root;
+
+    private final int[] rowStarts;
+    private final int[] rowEnds;
+
+    private final int[] columnStarts;
+    private final int[] columnEnds;
+
+    /**
+     * Creates an index for the given rectangles. Empty rectangles are ignored.
+     *
+     * @param rectangles
+     *            The rectangles to index.
+     */
+    RectangleIntervalTree(Collection<Rectangle> rectangles) {
+        List<Rectangle> nonEmpty = new ArrayList<>(rectangles.size());
+        for (Rectangle r : rectangles) {
+            if (r.width > 0 && r.height > 0) {
+                nonEmpty.add(r);
+            }
+        }
+
+        this.root = build(nonEmpty);
+
+        int[][] rows = merge(nonEmpty, true);
+        this.rowStarts = rows[0];
+        this.rowEnds = rows[1];
+
+        int[][] columns = merge(nonEmpty, false);
+        this.columnStarts = columns[0];
+        this.columnEnds = columns[1];
+    }
+
+    /**
+     * Check if at least one indexed rectangle intersects the given area.
+     *
+     * @param x
+     *            The x coordinate of the area.
+     * @param y
+     *            The y coordinate of the area.
+     * @param width
+     *            The width of the area.
+     * @param height
+     *            The height of the area.
+     * @return <code>true</code> if an indexed rectangle intersects the given
+     *         area.
+     */
+    boolean intersects(int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return false;
+        }
+        return intersects(this.root, x, x + width, y, y + height);
+    }
+
+    private static boolean intersects(Node node, int x, int xEnd, int y, int yEnd) {
+        while (node != null) {
+            if (yEnd <= node.center) {
+                // only rectangles that start before the end of the area can
+                // intersect
+                for (Rectangle r : node.byStart) {
+                    if (r.y >= yEnd) {
+                        break;
+                    }
+                    if (r.x < xEnd && x < r.x + r.width) {
+                        return true;
+                    }
+                }
+                node = node.left;
+            } else if (y > node.center) {
+                // only rectangles that end after the start of the area can
+                // intersect
+                for (Rectangle r : node.byEnd) {
+                    if (r.y + r.height <= y) {
+                        break;
+                    }
+                    if (r.x < xEnd && x < r.x + r.width) {
+                        return true;
+                    }
+                }
+                node = node.right;
+            } else {
+                // the area contains the center, all rectangles of the node
+                // intersect vertically
+                for (Rectangle r : node.byStart) {
+                    if (r.x < xEnd && x < r.x + r.width) {
+                        return true;
+                    }
+                }
+                // the area can span to both sides of the center
+                return (y < node.center && intersects(node.left, x, xEnd, y, yEnd))
+                        || (yEnd > node.center + 1 && intersects(node.right, x, xEnd, y, yEnd));
+            }
+        }
+        return false;
+    }
+
+    /**
+     *
+     * @param rowPosition
+     *            The row position to check.
+     * @return <code>true</code> if the given row is covered by at least one
+     *         indexed rectangle.
+     */
+    boolean containsRow(int rowPosition) {
+        return contains(this.rowStarts, this.rowEnds, rowPosition);
+    }
+
+    /**
+     *
+     * @param columnPosition
+     *            The column position to check.
+     * @return <code>true</code> if the given column is covered by at least one
+     *         indexed rectangle.
+     */
+    boolean containsColumn(int columnPosition) {
+        return contains(this.columnStarts, this.columnEnds, columnPosition);
+    }
+
+    /**
+     *
+     * @param limit
+     *            The exclusive upper bound, typically the row count. Ranges
+     *            are clipped at this value.
+     * @return The sorted disjoint row ranges covered by the indexed
+     *         rectangles.
+     */
+    List<Range> getRowRanges(int limit) {
+        return getRanges(this.rowStarts, this.rowEnds, limit);
+    }
+
+    /**
+     *
+     * @param limit
+     *            The exclusive upper bound, typically the column count. Ranges
+     *            are clipped at this value.
+     * @return The sorted disjoint column ranges covered by the indexed
+     *         rectangles.
+     */
+    List<Range> getColumnRanges(int limit) {
+        return getRanges(this.columnStarts, this.columnEnds, limit);
+    }
+
+    private static boolean contains(int[] starts, int[] ends, int position) {
+        // find the last range that starts before or at the position
+        int low = 0;
+        int high = starts.length - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] <= position) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found >= 0 && position < ends[found];
+    }
+
+    private static List<Range> getRanges(int[] starts, int[] ends, int limit) {
+        List<Range> result = new ArrayList<>(starts.length);
+        for (int i = 0; i < starts.length && starts[i] < limit; i++) {
+            result.add(new Range(starts[i], Math.min(ends[i], limit)));
+        }
+        return result;
+    }
+
+    /**
+     * Merges the vertical or horizontal extent of the given rectangles into
+     * sorted disjoint ranges. Overlapping and adjacent ranges are combined.
+     */
+    private static int[][] merge(List<Rectangle> rectangles, boolean vertical) {
+        int size = rectangles.size();
+        long[] ranges = new long[size];
+        for (int i = 0; i < size; i++) {
+            Rectangle r = rectangles.get(i);
+            int start = vertical ? r.y : r.x;
+            int end = vertical ? r.y + r.height : r.x + r.width;
+            // encode start and end in one long to sort by start without
+            // boxing
+            ranges[i] = ((long) start << 32) | (end & 0xFFFFFFFFL);
+        }
+        Arrays.sort(ranges);
+
+        int[] starts = new int[size];
+        int[] ends = new int[size];
+        int count = 0;
+        for (long range : ranges) {
+            int start = (int) (range >> 32);
+            int end = (int) range;
+            if (count > 0 && start <= ends[count - 1]) {
+                ends[count - 1] = Math.max(ends[count - 1], end);
+            } else {
+                starts[count] = start;
+                ends[count] = end;
+                count++;
+            }
+        }
+        return new int[][] { Arrays.copyOf(starts, count), Arrays.copyOf(ends, count) };
+    }
+
+    private static Node build(List<Rectangle> rectangles) {
+        if (rectangles.isEmpty()) {
+            return null;
+        }
+
+        // use the median of the start positions as center
+        int[] startPositions = new int[rectangles.size()];
+        for (int i = 0; i < startPositions.length; i++) {
+            startPositions[i] = rectangles.get(i).y;
+        }
+        Arrays.sort(startPositions);
+        int center = startPositions[startPositions.length / 2];
+
+        List<Rectangle> left = new ArrayList<>();
+        List<Rectangle> right = new ArrayList<>();
+        List<Rectangle> overlapping = new ArrayList<>();
+        for (Rectangle r : rectangles) {
+            if (r.y + r.height <= center) {
+                left.add(r);
+            } else if (r.y > center) {
+                right.add(r);
+            } else {
+                overlapping.add(r);
+            }
+        }
+
+        Rectangle[] byStart = overlapping.toArray(new Rectangle[overlapping.size()]);
+        Arrays.sort(byStart, BY_START);
+        Rectangle[] byEnd = overlapping.toArray(new Rectangle[overlapping.size()]);
+        Arrays.sort(byEnd, BY_END);
+
+        return new Node(center, byStart, byEnd, build(left), build(right));
+    }
+
+    private static final class Node {
+
+        final int center;
+        final Rectangle[] byStart;
+        final Rectangle[] byEnd;
+        final Node left;
+        final Node right;
+
+        Node(int center, Rectangle[] byStart, Rectangle[] byEnd, Node left, Node right) {
+            this.center = center;
+            this.byStart = byStart;
+            this.byEnd = byEnd;
+            this.left = left;
+            this.right = right;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -29,6 +29,7 @@
 import org.eclipse.nebula.widgets.nattable.coordinate.Range;
 import org.eclipse.nebula.widgets.nattable.data.IRowDataProvider;
 import org.eclipse.nebula.widgets.nattable.data.IRowIdAccessor;
+import org.eclipse.nebula.widgets.nattable.data.RowIdIndex;
 import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
 import org.eclipse.nebula.widgets.nattable.layer.event.IStructuralChangeEvent;
 import org.eclipse.nebula.widgets.nattable.layer.event.StructuralDiff;
@@ -50,6 +51,10 @@
     protected Rectangle lastSelectedRange;
     protected Set<Serializable> lastSelectedRowIds;
     protected final ReadWriteLock selectionsLock;
+    /**
+     * Optional reverse index to find the row index of a selected row id.
+     */
+    private RowIdIndex<R> rowIdIndex;
 
     public RowSelectionModel(SelectionLayer selectionLayer,
             IRowDataProvider<R> rowDataProvider, IRowIdAccessor<R> rowIdAccessor) {
@@ -68,6 +73,32 @@ public RowSelectionModel(SelectionLayer selectionLayer,
         this.selectionsLock = new ReentrantReadWriteLock();
     }
 
+    /**
+     *
+     * @return The {@link RowIdIndex} that is used to find the row index of a
+     *         selected row id, or <code>null</code> if the row index is
+     *         searched via {@link IRowDataProvider#indexOfRowObject(Object)}.
+     * @since 2.7
+     */
+    public RowIdIndex<R> getRowIdIndex() {
+        return this.rowIdIndex;
+    }
+
+    /**
+     * Set a {@link RowIdIndex} that should be used to find the row index of a
+     * selected row id. Avoids scanning the data for every selected row, which
+     * is especially useful for big selections.
+     *
+     * @param rowIdIndex
+     *            The {@link RowIdIndex} that should be used, or
+     *            <code>null</code> to search the row index via
+     *            {@link IRowDataProvider#indexOfRowObject(Object)}.
+     * @since 2.7
+     */
+    public void setRowIdIndex(RowIdIndex<R> rowIdIndex) {
+        this.rowIdIndex = rowIdIndex;
+    }
+
     @Override
     public boolean isMultipleSelectionAllowed() {
         return this.multipleSelectionAllowed;
@@ -407,8 +438,7 @@ private int getRowPositionById(Serializable rowId) {
         this.selectionsLock.readLock().lock();
 
         try {
-            R rowObject = this.selectedRows.get(rowId);
-            int rowIndex = this.rowDataProvider.indexOfRowObject(rowObject);
+            int rowIndex = getRowIndexById(rowId);
             if (rowIndex == -1) {
                 return -1;
             }
@@ -418,6 +448,14 @@ private int getRowPositionById(Serializable rowId) {
         }
     }
 
+    private int getRowIndexById(Serializable rowId) {
+        if (this.rowIdIndex != null) {
+            return this.rowIdIndex.getRowIndex(rowId);
+        }
+        R rowObject = this.selectedRows.get(rowId);
+        return this.rowDataProvider.indexOfRowObject(rowObject);
+    }
+
     @Override
     public void handleLayerEvent(IStructuralChangeEvent event) {
         // handling for deleting rows
@@ -426,7 +464,9 @@ public void handleLayerEvent(IStructuralChangeEvent event) {
             // need to check if the selected objects still exist
             ArrayList<Serializable> keysToRemove = new ArrayList<>();
             for (Map.Entry<Serializable, R> entry : this.selectedRows.entrySet()) {
-                int rowIndex = this.rowDataProvider.indexOfRowObject(entry.getValue());
+                int rowIndex = this.rowIdIndex != null
+                        ? this.rowIdIndex.getRowIndex(entry.getKey())
+                        : this.rowDataProvider.indexOfRowObject(entry.getValue());
                 if (rowIndex == -1) {
                     keysToRemove.add(entry.getKey());
                 }
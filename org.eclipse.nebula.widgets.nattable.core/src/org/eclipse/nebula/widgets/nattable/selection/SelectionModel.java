@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -226,6 +226,17 @@ public List<Rectangle> getSelections() {
         return this.selections;
     }
 
+    /**
+     *
+     * @return The {@link ReadWriteLock} that is used to synchronize the access
+     *         to the selections of this model. Needed by subclasses that
+     *         operate on the list returned by {@link #getSelections()}.
+     * @since 2.7
+     */
+    protected ReadWriteLock getSelectionsLock() {
+        return this.selectionsLock;
+    }
+
     // Cell features
 
     @Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2020 Jonas Hugo, Markus Wahl, Dirk Fauth.
+ * Copyright (c) 2014, 2026 Jonas Hugo, Markus Wahl, Dirk Fauth.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -28,6 +28,7 @@
 import org.eclipse.nebula.widgets.nattable.coordinate.Range;
 import org.eclipse.nebula.widgets.nattable.data.IRowDataProvider;
 import org.eclipse.nebula.widgets.nattable.data.IRowIdAccessor;
+import org.eclipse.nebula.widgets.nattable.data.RowIdIndex;
 import org.eclipse.nebula.widgets.nattable.layer.IUniqueIndexLayer;
 import org.eclipse.nebula.widgets.nattable.layer.cell.ILayerCell;
 import org.eclipse.nebula.widgets.nattable.layer.event.IStructuralChangeEvent;
@@ -70,6 +71,11 @@
      */
     private final IRowIdAccessor<T> rowIdAccessor;
 
+    /**
+     * Optional reverse index to find the row index of a row object via its id
+     */
+    private RowIdIndex<T> rowIdIndex;
+
     /**
      * Whether to allow multiple selections
      */
@@ -135,6 +141,32 @@ public PreserveSelectionModel(
         this.selectionsLock = new ReentrantReadWriteLock();
     }
 
+    /**
+     *
+     * @return The {@link RowIdIndex} that is used to find the row index of a
+     *         selected row object, or <code>null</code> if the row index is
+     *         searched via {@link IRowDataProvider#indexOfRowObject(Object)}.
+     * @since 2.7
+     */
+    public RowIdIndex<T> getRowIdIndex() {
+        return this.rowIdIndex;
+    }
+
+    /**
+     * Set a {@link RowIdIndex} that should be used to find the row index of a
+     * selected row object. Avoids scanning the data for every selected row,
+     * which is especially useful for big selections.
+     *
+     * @param rowIdIndex
+     *            The {@link RowIdIndex} that should be used, or
+     *            <code>null</code> to search the row index via
+     *            {@link IRowDataProvider#indexOfRowObject(Object)}.
+     * @since 2.7
+     */
+    public void setRowIdIndex(RowIdIndex<T> rowIdIndex) {
+        this.rowIdIndex = rowIdIndex;
+    }
+
     @Override
     public boolean isMultipleSelectionAllowed() {
         return this.allowMultiSelection;
@@ -538,13 +570,30 @@ private T getRowObjectByPosition(int rowPosition) {
      * @since 1.6
      */
     protected int getRowPositionByRowObject(T rowObject) {
-        int rowIndex = this.rowDataProvider.indexOfRowObject(rowObject);
+        int rowIndex = getRowIndexByRowObject(rowObject);
         if (rowIndex == -1) {
             return -1;
         }
         return this.selectionLayer.getRowPositionByIndex(rowIndex);
     }
 
+    /**
+     * Retrieves the row index for a row object, either via the
+     * {@link RowIdIndex} if set, or via the {@link IRowDataProvider}.
+     *
+     * @param rowObject
+     *            row object for retrieving row index
+     * @return row index for rowObject, or -1 if undefined
+     *
+     * @since 2.7
+     */
+    protected int getRowIndexByRowObject(T rowObject) {
+        if (this.rowIdIndex != null) {
+            return this.rowIdIndex.getRowIndexByRowObject(rowObject);
+        }
+        return this.rowDataProvider.indexOfRowObject(rowObject);
+    }
+
     @Override
     public Point getSelectionAnchor() {
         if (this.selectionAnchorPoint == null) {
@@ -755,7 +804,7 @@ public void handleLayerEvent(IStructuralChangeEvent event) {
             Collection<Serializable> keysToRemove = new ArrayList<>();
             for (Selections.Row<T> row : this.selections.getRows()) {
                 if (!ignoreVerticalChange(row)) {
-                    int rowIndex = this.rowDataProvider.indexOfRowObject(row.getRowObject());
+                    int rowIndex = getRowIndexByRowObject(row.getRowObject());
                     if (rowIndex == -1 || this.selectionLayer.getRowPositionByIndex(rowIndex) == -1) {
                         keysToRemove.add(row.getId());
                     }
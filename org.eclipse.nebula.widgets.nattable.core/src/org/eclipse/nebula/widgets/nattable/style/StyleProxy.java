@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -74,35 +74,25 @@ public StyleProxy(
         this.configLabels = configLabels;
     }
 
+    /**
+     * Searches the styles that match the display mode and config labels of
+     * this proxy for a value of the given style attribute. The matching
+     * styles are resolved via
+     * {@link IConfigRegistry#getConfigAttributes(ConfigAttribute, DisplayMode, List)}
+     * in the order of their precedence, so the registry is only searched once
+     * instead of once per display mode and label.
+     */
     @Override
     public <T> T getAttributeValue(ConfigAttribute<T> styleAttribute) {
-        T styleAttributeValue = null;
-        IDisplayModeOrdering displayModeOrdering = this.configRegistry.getDisplayModeOrdering();
-
-        for (DisplayMode displayMode : displayModeOrdering.getDisplayModeOrdering(this.targetDisplayMode)) {
-            for (String configLabel : this.configLabels) {
-                IStyle cellStyle = this.configRegistry.getSpecificConfigAttribute(
-                        this.styleConfigAttribute,
-                        displayMode,
-                        configLabel);
-                if (cellStyle != null) {
-                    styleAttributeValue = cellStyle.getAttributeValue(styleAttribute);
-                    if (styleAttributeValue != null) {
-                        return styleAttributeValue;
-                    }
-                }
-            }
+        List<IStyle> styles = this.configRegistry.getConfigAttributes(
+                this.styleConfigAttribute,
+                this.targetDisplayMode,
+                this.configLabels);
 
-            // default
-            IStyle cellStyle = this.configRegistry.getSpecificConfigAttribute(
-                    this.styleConfigAttribute,
-                    displayMode,
-                    null);
-            if (cellStyle != null) {
-                styleAttributeValue = cellStyle.getAttributeValue(styleAttribute);
-                if (styleAttributeValue != null) {
-                    return styleAttributeValue;
-                }
+        for (IStyle style : styles) {
+            T styleAttributeValue = style.getAttributeValue(styleAttribute);
+            if (styleAttributeValue != null) {
+                return styleAttributeValue;
             }
         }
 
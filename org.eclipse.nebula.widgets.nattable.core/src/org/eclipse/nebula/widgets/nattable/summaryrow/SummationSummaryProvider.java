@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
 package org.eclipse.nebula.widgets.nattable.summaryrow;
 
 import org.eclipse.nebula.widgets.nattable.data.IDataProvider;
+import org.eclipse.nebula.widgets.nattable.data.IPrimitiveDataProvider;
 
 /**
  * Implementation of ISummaryProvider that summarizes all values in a column if
@@ -27,6 +28,12 @@
  */
 public class SummationSummaryProvider implements ISummaryProvider {
 
+    /**
+     * The number of values that are read from the {@link IDataProvider} at
+     * once.
+     */
+    private static final int BLOCK_SIZE = 1024;
+
     private final IDataProvider dataProvider;
     private final boolean strict;
 
@@ -80,16 +87,55 @@ public SummationSummaryProvider(IDataProvider dataProvider, boolean strict) {
      */
     @Override
     public Object summarize(int columnIndex) {
+        if (this.dataProvider instanceof IPrimitiveDataProvider
+                && ((IPrimitiveDataProvider) this.dataProvider).isNumericColumn(columnIndex)) {
+            return summarizePrimitive((IPrimitiveDataProvider) this.dataProvider, columnIndex);
+        }
+
         int rowCount = this.dataProvider.getRowCount();
         double summaryValue = 0;
+        Object[] block = new Object[Math.min(rowCount, BLOCK_SIZE)];
+
+        for (int blockStart = 0; blockStart < rowCount; blockStart += BLOCK_SIZE) {
+            int blockEnd = Math.min(blockStart + BLOCK_SIZE, rowCount);
+            this.dataProvider.getDataValues(columnIndex, blockStart, blockEnd, block);
+
+            for (int i = 0; i < blockEnd - blockStart; i++) {
+                Object dataValue = block[i];
+                if (dataValue instanceof Number) {
+                    summaryValue += ((Number) dataValue).doubleValue();
+                } else if (this.strict) {
+                    return DEFAULT_SUMMARY_VALUE;
+                }
+            }
+        }
 
-        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
-            Object dataValue = this.dataProvider.getDataValue(columnIndex, rowIndex);
+        return summaryValue;
+    }
+
+    /**
+     * Calculates the sum of a numeric column of an
+     * {@link IPrimitiveDataProvider} without boxing the values.
+     */
+    private Object summarizePrimitive(IPrimitiveDataProvider primitiveDataProvider, int columnIndex) {
+        int rowCount = primitiveDataProvider.getRowCount();
+        double summaryValue = 0;
+        double[] block = new double[Math.min(rowCount, BLOCK_SIZE)];
+
+        for (int blockStart = 0; blockStart < rowCount; blockStart += BLOCK_SIZE) {
+            int blockEnd = Math.min(blockStart + BLOCK_SIZE, rowCount);
+            if (this.strict) {
+                for (int rowIndex = blockStart; rowIndex < blockEnd; rowIndex++) {
+                    if (primitiveDataProvider.isNull(columnIndex, rowIndex)) {
+                        return DEFAULT_SUMMARY_VALUE;
+                    }
+                }
+            }
 
-            if (dataValue instanceof Number) {
-                summaryValue += ((Number) dataValue).doubleValue();
-            } else if (this.strict) {
-                return DEFAULT_SUMMARY_VALUE;
+            // null values are returned as 0 and therefore do not change the sum
+            primitiveDataProvider.getDoubles(columnIndex, blockStart, blockEnd, block);
+            for (int i = 0; i < blockEnd - blockStart; i++) {
+                summaryValue += block[i];
             }
         }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,14 @@
 
 /**
  * Listener for the Vertical scroll bar events.
+ * <p>
+ * In case virtual vertical coordinates are enabled on the
+ * {@link ViewportLayer}, the scroll bar operates on rows instead of pixels, so
+ * the scroll bar range does not overflow for tables whose height exceeds the
+ * <code>int</code> range.
+ * </p>
+ *
+ * @see ViewportLayer#setVirtualVerticalCoordinates(boolean)
  */
 public class VerticalScrollBarHandler extends ScrollBarHandlerTemplate implements Listener {
 
@@ -42,17 +50,27 @@ public VerticalScrollBarHandler(ViewportLayer viewportLayer,
      */
     @Override
     int getViewportOrigin() {
+        if (this.viewportLayer.isVirtualVerticalCoordinates()) {
+            return this.viewportLayer.getOriginRowPosition();
+        }
         return this.viewportLayer.getOrigin().getY();
     }
 
     @Override
     int getViewportMinimumOrigin() {
+        if (this.viewportLayer.isVirtualVerticalCoordinates()) {
+            return this.viewportLayer.getMinimumOriginRowPosition();
+        }
         return this.viewportLayer.getMinimumOrigin().getY();
     }
 
     @Override
     void setViewportOrigin(int y) {
-        this.viewportLayer.setOriginY(y);
+        if (this.viewportLayer.isVirtualVerticalCoordinates()) {
+            this.viewportLayer.setOriginRowPosition(y);
+        } else {
+            this.viewportLayer.setOriginY(y);
+        }
     }
 
     @Override
@@ -68,11 +86,30 @@ boolean keepScrolling() {
 
     @Override
     int getViewportWindowSpan() {
+        if (this.viewportLayer.isVirtualVerticalCoordinates()) {
+            // the number of completely visible rows
+            int clientAreaHeight = this.viewportLayer.getClientAreaHeight();
+            if (clientAreaHeight == 0) {
+                return 0;
+            }
+            int rowCount = this.viewportLayer.getRowCount();
+            if (rowCount > 0
+                    && this.viewportLayer.getStartYOfRowPosition(rowCount - 1)
+                            + this.viewportLayer.getRowHeightByPosition(rowCount - 1) > clientAreaHeight) {
+                rowCount--;
+            }
+            return Math.max(rowCount, 1);
+        }
         return this.viewportLayer.getClientAreaHeight();
     }
 
     @Override
     int getScrollableLayerSpan() {
+        if (this.viewportLayer.isVirtualVerticalCoordinates()) {
+            int maxRowPosition = this.viewportLayer.getMaxRowPosition();
+            int rowCount = this.scrollableLayer.getRowCount();
+            return (maxRowPosition >= 0 && maxRowPosition < rowCount) ? maxRowPosition : rowCount;
+        }
         if (this.viewportLayer.getMaxHeight() >= 0
                 && this.viewportLayer.getMaxHeight() < this.scrollableLayer.getHeight()) {
             return this.viewportLayer.getMaxHeight();
@@ -83,6 +120,9 @@ int getScrollableLayerSpan() {
 
     @Override
     int getScrollIncrement() {
+        if (this.viewportLayer.isVirtualVerticalCoordinates()) {
+            return 1;
+        }
         return this.viewportLayer.getRowCount() > 0 ? this.viewportLayer
                 .getRowHeightByPosition(0) : 0;
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2025 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -82,6 +82,18 @@ public class ViewportLayer extends AbstractLayerTransform implements IUniqueInde
     private boolean viewportOff = false;
     private PixelCoordinate savedOrigin = new PixelCoordinate(0, 0);
 
+    /**
+     * Flag to configure whether the vertical origin is tracked as row position
+     * instead of as pixel coordinate. See
+     * {@link #setVirtualVerticalCoordinates(boolean)}.
+     */
+    private boolean virtualVerticalCoordinates = false;
+    /**
+     * The origin row position in the scrollable layer. Only used in case
+     * virtual vertical coordinates are enabled.
+     */
+    private int virtualOriginRowPosition = 0;
+
     // split viewport support
     /**
      * Only used for split viewport support to configure the maximum column
@@ -344,14 +356,20 @@ public void setMinimumOriginY(int newMinimumOriginY) {
             }
 
             PixelCoordinate previousMinimumOrigin = this.minimumOrigin;
+            int previousMinimumOriginRowPosition = this.minimumOriginRowPosition;
 
             if (newMinimumOriginY != this.minimumOrigin.getY()) {
                 this.minimumOrigin = new PixelCoordinate(this.minimumOrigin.getX(), newMinimumOriginY);
                 this.minimumOriginRowPosition = this.scrollableLayer.getRowPositionByY(this.minimumOrigin.getY());
             }
 
-            int delta = this.minimumOrigin.getY() - previousMinimumOrigin.getY();
-            setOriginY(this.origin.getY() + delta);
+            if (this.virtualVerticalCoordinates) {
+                int delta = this.minimumOriginRowPosition - previousMinimumOriginRowPosition;
+                setOriginRowPosition(this.virtualOriginRowPosition + delta);
+            } else {
+                int delta = this.minimumOrigin.getY() - previousMinimumOrigin.getY();
+                setOriginY(this.origin.getY() + delta);
+            }
 
             recalculateVerticalScrollBar();
         }
@@ -376,7 +394,22 @@ public void setMinimumOrigin(int newMinimumOriginX, int newMinimumOriginY) {
      * @return The origin pixel position
      */
     public PixelCoordinate getOrigin() {
-        return this.viewportOff ? this.minimumOrigin : this.origin;
+        if (this.viewportOff) {
+            return this.minimumOrigin;
+        }
+        if (this.virtualVerticalCoordinates) {
+            // the y coordinate is derived from the origin row position, it
+            // might overflow, but as only differences to other y coordinates
+            // are calculated the result is still correct
+            int originRowPosition = getOriginRowPosition();
+            int originY = originRowPosition >= 0
+                    ? this.scrollableLayer.getStartYOfRowPosition(originRowPosition)
+                    : this.minimumOrigin.getY();
+            if (originY != this.origin.getY()) {
+                this.origin = new PixelCoordinate(this.origin.getX(), originY);
+            }
+        }
+        return this.origin;
     }
 
     /**
@@ -404,9 +437,218 @@ public int getOriginColumnPosition() {
      * @since 2.1
      */
     public int getOriginRowPosition() {
+        if (this.virtualVerticalCoordinates && !this.viewportOff) {
+            int rowCount = this.scrollableLayer.getRowCount();
+            if (rowCount == 0) {
+                return -1;
+            }
+            return Math.min(this.virtualOriginRowPosition, rowCount - 1);
+        }
         return this.scrollableLayer.getRowPositionByY(getOrigin().getY());
     }
 
+    /**
+     * Set the origin row position, which is the row position in the scrollable
+     * layer of the first row that is shown in the viewport.
+     *
+     * @param rowPosition
+     *            The new origin row position.
+     * @since 2.7
+     */
+    public void setOriginRowPosition(int rowPosition) {
+        if (this.virtualVerticalCoordinates) {
+            int checkedRowPosition = boundsCheckOriginRowPosition(rowPosition);
+            if (checkedRowPosition != this.virtualOriginRowPosition) {
+                // the difference is also correct in case the start
+                // coordinates overflow for huge row counts
+                int deltaY = this.scrollableLayer.getStartYOfRowPosition(checkedRowPosition)
+                        - this.scrollableLayer.getStartYOfRowPosition(this.virtualOriginRowPosition);
+                invalidateVerticalStructure();
+                this.virtualOriginRowPosition = checkedRowPosition;
+                fireScrollEvent(0, deltaY);
+            }
+        } else {
+            setOriginY(this.scrollableLayer.getStartYOfRowPosition(rowPosition));
+        }
+    }
+
+    /**
+     * Configure whether the vertical origin of this viewport should be tracked
+     * as row position instead of as pixel coordinate.
+     * <p>
+     * The y coordinates of the layers are of type <code>int</code>. If the
+     * aggregated height of all rows of the scrollable layer exceeds
+     * {@link Integer#MAX_VALUE}, e.g. a table with more than 107 million rows
+     * with a height of 20 pixels, the y coordinates overflow. With virtual
+     * vertical coordinates the viewport only calculates the differences of y
+     * coordinates relative to the origin row, which are correct even if the
+     * absolute y coordinates overflow, and maps them onto the pixel space of
+     * the visible window. The vertical scrollbar then operates on rows instead
+     * of pixels, so the scrolling is always aligned to the start of a row.
+     * </p>
+     * <p>
+     * <b>Note:</b> This mode is intended for tables with a huge number of rows.
+     * Split viewports and printing the entire table still use absolute pixel
+     * coordinates and are therefore not supported for tables whose height
+     * exceeds the <code>int</code> range.
+     * </p>
+     *
+     * @param virtualVerticalCoordinates
+     *            <code>true</code> to track the vertical origin as row
+     *            position, <code>false</code> to track it as pixel coordinate.
+     * @since 2.7
+     */
+    public void setVirtualVerticalCoordinates(boolean virtualVerticalCoordinates) {
+        if (virtualVerticalCoordinates != this.virtualVerticalCoordinates) {
+            int originRowPosition = getOriginRowPosition();
+            this.virtualVerticalCoordinates = virtualVerticalCoordinates;
+            invalidateVerticalStructure();
+            if (virtualVerticalCoordinates) {
+                this.virtualOriginRowPosition = Math.max(originRowPosition, this.minimumOriginRowPosition);
+            } else {
+                this.origin = new PixelCoordinate(this.origin.getX(),
+                        this.scrollableLayer.getStartYOfRowPosition(Math.max(originRowPosition, 0)));
+            }
+            recalculateVerticalScrollBar();
+        }
+    }
+
+    /**
+     *
+     * @return <code>true</code> if the vertical origin of this viewport is
+     *         tracked as row position instead of as pixel coordinate.
+     * @since 2.7
+     */
+    public boolean isVirtualVerticalCoordinates() {
+        return this.virtualVerticalCoordinates;
+    }
+
+    /**
+     * Range checking for the origin row position in case virtual vertical
+     * coordinates are enabled.
+     *
+     * @param rowPosition
+     *            The row position to check.
+     * @return A valid row position within bounds: minimum origin row position
+     *         &lt;= row position &lt;= the row position from which the last row
+     *         is shown completely.
+     */
+    private int boundsCheckOriginRowPosition(int rowPosition) {
+        int min = this.minimumOriginRowPosition;
+        if (rowPosition <= min) {
+            return min;
+        }
+        int rowCount = getMaxRowPosition() < 0 ? this.scrollableLayer.getRowCount() : getMaxRowPosition();
+        if (rowCount <= min) {
+            return min;
+        }
+        int max = Math.max(getOriginRowPositionForLastRow(rowCount - 1), min);
+        return Math.min(rowPosition, max);
+    }
+
+    /**
+     * Returns the smallest origin row position for which the given row is
+     * shown completely in the viewport, or the given row position itself in
+     * case the row is higher than the client area.
+     *
+     * @param rowPosition
+     *            The row position in the scrollable layer that should be the
+     *            last completely visible row.
+     * @return The origin row position for which the given row is the last
+     *         completely visible row.
+     */
+    private int getOriginRowPositionForLastRow(int rowPosition) {
+        int offset = this.scrollableLayer.getRowHeightByPosition(rowPosition) - getClientAreaHeight();
+        if (offset >= 0) {
+            return rowPosition;
+        }
+        int originRowPosition = getRowPositionByOffset(rowPosition, offset);
+        if (this.scrollableLayer.getStartYOfRowPosition(originRowPosition)
+                - this.scrollableLayer.getStartYOfRowPosition(rowPosition) < offset) {
+            // the row is only partially visible
+            originRowPosition++;
+        }
+        return originRowPosition;
+    }
+
+    /**
+     * Returns the row position in the scrollable layer that contains the pixel
+     * with the given offset to the start of the given row position. Only the
+     * differences of y coordinates are calculated, so the result is correct
+     * even if the absolute y coordinates overflow, as long as the offset fits
+     * into an <code>int</code>. The search needs a logarithmic number of y
+     * coordinate calculations.
+     *
+     * @param rowPosition
+     *            The row position in the scrollable layer to start from.
+     * @param offset
+     *            The offset in pixels to the start of the given row position,
+     *            can be negative.
+     * @return The row position in the scrollable layer that contains the pixel
+     *         at the given offset. If the offset is outside the scrollable
+     *         layer, the first or the last row position is returned.
+     */
+    private int getRowPositionByOffset(int rowPosition, int offset) {
+        int rowCount = this.scrollableLayer.getRowCount();
+        int startY = this.scrollableLayer.getStartYOfRowPosition(rowPosition);
+        int low;
+        int high;
+        if (offset >= 0) {
+            // find the largest row position whose start is not after the
+            // offset, the start of low is always less than or equal to the
+            // offset, the start of high is always greater than the offset
+            low = rowPosition;
+            high = rowCount;
+            for (long step = 1; low + step < rowCount; step <<= 1) {
+                int next = (int) (low + step);
+                int distance = this.scrollableLayer.getStartYOfRowPosition(next) - startY;
+                if (distance < 0 || distance > offset) {
+                    high = next;
+                    break;
+                }
+                low = next;
+            }
+            while (high - low > 1) {
+                int mid = (low + high) >>> 1;
+                int distance = this.scrollableLayer.getStartYOfRowPosition(mid) - startY;
+                if (distance >= 0 && distance <= offset) {
+                    low = mid;
+                } else {
+                    high = mid;
+                }
+            }
+        } else {
+            // find the largest row position whose start is not after the
+            // offset, the distance of low is always greater than or equal to
+            // the required distance, the distance of high is always less,
+            // -1 marks that no such row position exists
+            long required = -(long) offset;
+            low = -1;
+            high = rowPosition;
+            for (long step = 1; high > 0; step <<= 1) {
+                int next = (int) Math.max(high - step, 0);
+                int distance = startY - this.scrollableLayer.getStartYOfRowPosition(next);
+                if (distance < 0 || distance >= required) {
+                    low = next;
+                    break;
+                }
+                high = next;
+            }
+            while (high - low > 1) {
+                int mid = (low + high) >>> 1;
+                int distance = startY - this.scrollableLayer.getStartYOfRowPosition(mid);
+                if (distance >= 0 && distance < required) {
+                    high = mid;
+                } else {
+                    low = mid;
+                }
+            }
+            // the offset is before the first row
+            low = Math.max(low, 0);
+        }
+        return low;
+    }
+
     /**
      * Range checking for origin X pixel position.
      *
@@ -458,26 +700,42 @@ public void setOriginX(int newOriginX) {
         newOriginX = boundsCheckOriginX(adjustOriginX(newOriginX));
 
         if (newOriginX != this.origin.getX()) {
+            int deltaX = newOriginX - this.origin.getX();
             invalidateHorizontalStructure();
             this.origin = new PixelCoordinate(newOriginX, this.origin.getY());
-            fireScrollEvent();
+            fireScrollEvent(deltaX, 0);
         }
     }
 
     /**
      * Set the origin Y pixel position.
+     * <p>
+     * In case virtual vertical coordinates are enabled, the origin is set to
+     * the row that contains the given y pixel position, which is calculated
+     * relative to the current origin.
+     * </p>
      *
      * @param newOriginY
      *            The new origin y value.
+     * @see #setVirtualVerticalCoordinates(boolean)
      */
     public void setOriginY(int newOriginY) {
+        if (this.virtualVerticalCoordinates) {
+            int originRowPosition = getOriginRowPosition();
+            if (originRowPosition >= 0) {
+                setOriginRowPosition(getRowPositionByOffset(originRowPosition, newOriginY - getOrigin().getY()));
+            }
+            return;
+        }
+
         newOriginY = boundsCheckOriginY(newOriginY);
         newOriginY = boundsCheckOriginY(adjustOriginY(newOriginY));
 
         if (newOriginY != this.origin.getY()) {
+            int deltaY = newOriginY - this.origin.getY();
             invalidateVerticalStructure();
             this.origin = new PixelCoordinate(this.origin.getX(), newOriginY);
-            fireScrollEvent();
+            fireScrollEvent(0, deltaY);
         }
     }
 
@@ -490,6 +748,17 @@ public void setOriginY(int newOriginY) {
      *            The new origin y value.
      */
     public void resetOrigin(int newOriginX, int newOriginY) {
+        if (this.virtualVerticalCoordinates) {
+            int originRowPosition = getOriginRowPosition();
+            int newOriginRowPosition = originRowPosition >= 0
+                    ? getRowPositionByOffset(originRowPosition, newOriginY - getOrigin().getY())
+                    : 0;
+            if (newOriginRowPosition != this.virtualOriginRowPosition) {
+                this.virtualOriginRowPosition = newOriginRowPosition;
+                invalidateVerticalStructure();
+            }
+        }
+
         PixelCoordinate previousOrigin = this.origin;
 
         this.minimumOrigin = new PixelCoordinate(0, 0);
@@ -736,7 +1005,11 @@ public int getRowCount() {
                 if (availableHeight >= 0) {
 
                     // lower bound check
-                    if (this.origin.getY() < this.minimumOrigin.getY()) {
+                    if (this.virtualVerticalCoordinates) {
+                        if (this.virtualOriginRowPosition < this.minimumOriginRowPosition) {
+                            this.virtualOriginRowPosition = this.minimumOriginRowPosition;
+                        }
+                    } else if (this.origin.getY() < this.minimumOrigin.getY()) {
                         this.origin = new PixelCoordinate(this.origin.getX(), this.minimumOrigin.getY());
                     }
 
@@ -801,6 +1074,17 @@ public int getHeight() {
 
     @Override
     public int getRowPositionByY(int y) {
+        if (this.virtualVerticalCoordinates && !this.viewportOff) {
+            int originRowPosition = getOriginRowPosition();
+            if (y < 0 || originRowPosition < 0) {
+                return -1;
+            }
+            int rowPosition = getRowPositionByOffset(originRowPosition, y);
+            int endY = getUnderlyingLayer().getStartYOfRowPosition(rowPosition)
+                    + getUnderlyingLayer().getRowHeightByPosition(rowPosition)
+                    - getOrigin().getY();
+            return (endY > y) ? rowPosition - originRowPosition : -1;
+        }
         return getUnderlyingLayer().getRowPositionByY(getOrigin().getY() + y) - getOriginRowPosition();
     }
 
@@ -884,6 +1168,9 @@ protected void recalculateAvailableWidthAndColumnCount() {
      */
     protected void recalculateAvailableHeightAndRowCount() {
         int clientAreaHeight = getMaxRowPosition() >= 0 ? Math.min(getMaxHeight(), getClientAreaHeight()) : getClientAreaHeight();
+        if (this.virtualVerticalCoordinates) {
+            this.virtualOriginRowPosition = boundsCheckOriginRowPosition(this.virtualOriginRowPosition);
+        }
         int availableHeight = clientAreaHeight;
         int originRowPosition = getOriginRowPosition();
         if (originRowPosition >= 0) {
@@ -911,9 +1198,11 @@ protected void recalculateAvailableHeightAndRowCount() {
         if (this.cachedHeight > clientAreaHeight)
             this.cachedHeight = clientAreaHeight;
 
-        int checkedOriginY = boundsCheckOriginY(this.origin.getY());
-        if (checkedOriginY != this.origin.getY()) {
-            this.origin = new PixelCoordinate(this.origin.getX(), checkedOriginY);
+        if (!this.virtualVerticalCoordinates) {
+            int checkedOriginY = boundsCheckOriginY(this.origin.getY());
+            if (checkedOriginY != this.origin.getY()) {
+                this.origin = new PixelCoordinate(this.origin.getX(), checkedOriginY);
+            }
         }
 
         if (this.keepInViewportRowPosition > -1) {
@@ -993,7 +1282,17 @@ public void moveRowPositionIntoViewport(int scrollableRowPosition) {
 
                 boolean startKeepInViewport = false;
 
-                if (scrollableRowPosition <= originRowPosition) {
+                if (this.virtualVerticalCoordinates) {
+                    // only calculate relative to the origin row position
+                    // as the absolute y coordinates might overflow
+                    int newOriginRowPosition = (scrollableRowPosition <= originRowPosition)
+                            ? scrollableRowPosition
+                            : Math.max(getOriginRowPositionForLastRow(scrollableRowPosition), originRowPosition);
+                    if (newOriginRowPosition != originRowPosition) {
+                        setOriginRowPosition(newOriginRowPosition);
+                        startKeepInViewport = true;
+                    }
+                } else if (scrollableRowPosition <= originRowPosition) {
                     // Move up
                     int oldOriginY = this.origin.getY();
                     setOriginY(this.scrollableLayer.getStartYOfRowPosition(scrollableRowPosition));
@@ -1031,6 +1330,21 @@ protected void fireScrollEvent() {
         fireLayerEvent(new ScrollEvent(this));
     }
 
+    /**
+     * Fires a {@link ScrollEvent} that carries the pixel distance the origin
+     * was moved, so the already painted content can be moved instead of
+     * repainting the whole viewport.
+     *
+     * @param deltaX
+     *            The pixel distance the origin was moved horizontally.
+     * @param deltaY
+     *            The pixel distance the origin was moved vertically.
+     * @since 2.7
+     */
+    protected void fireScrollEvent(int deltaX, int deltaY) {
+        fireLayerEvent(new ScrollEvent(this, deltaX, deltaY));
+    }
+
     boolean processingClientAreaResizeCommand = false;
 
     @Override
@@ -1202,7 +1516,14 @@ private void recalculateVerticalScrollBar() {
         if (this.vBarListener != null) {
             this.vBarListener.recalculateScrollBarSize();
 
-            if (!this.vBarListener.scroller.isDisposed()
+            if (this.virtualVerticalCoordinates) {
+                if (!this.vBarListener.scroller.isDisposed()
+                        && !this.vBarListener.scroller.getEnabled()) {
+                    setOriginRowPosition(this.minimumOriginRowPosition);
+                } else {
+                    setOriginRowPosition(this.virtualOriginRowPosition);
+                }
+            } else if (!this.vBarListener.scroller.isDisposed()
                     && !this.vBarListener.scroller.getEnabled()) {
                 setOriginY(this.minimumOrigin.getY());
             } else {
@@ -1225,7 +1546,11 @@ public void recalculateScrollBars() {
     protected void handleGridResize() {
         setOriginX(this.origin.getX());
         recalculateHorizontalScrollBar();
-        setOriginY(this.origin.getY());
+        if (this.virtualVerticalCoordinates) {
+            setOriginRowPosition(this.virtualOriginRowPosition);
+        } else {
+            setOriginY(this.origin.getY());
+        }
         recalculateVerticalScrollBar();
     }
 
@@ -1736,8 +2061,7 @@ public void drag(MoveDirectionEnum horizontal, MoveDirectionEnum vertical) {
                     getOriginColumnPosition() + x));
         }
         if (y != 0) {
-            setOriginY(getUnderlyingLayer().getStartYOfRowPosition(
-                    getOriginRowPosition() + y));
+            setOriginRowPosition(getOriginRowPosition() + y);
         }
     }
 
@@ -1852,7 +2176,7 @@ public void run() {
                 setOriginX(getUnderlyingLayer().getStartXOfColumnPosition(getOriginColumnPosition() + this.x));
             }
             if (this.y != 0) {
-                setOriginY(getUnderlyingLayer().getStartYOfRowPosition(getOriginRowPosition() + this.y));
+                setOriginRowPosition(getOriginRowPosition() + this.y);
             }
 
             this.display.timerExec(100, this);
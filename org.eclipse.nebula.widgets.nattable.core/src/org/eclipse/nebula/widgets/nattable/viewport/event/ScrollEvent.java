@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -14,18 +14,60 @@
 
 import java.util.Collection;
 
+import org.eclipse.nebula.widgets.nattable.layer.ILayer;
 import org.eclipse.nebula.widgets.nattable.layer.event.StructuralDiff;
 import org.eclipse.nebula.widgets.nattable.layer.event.StructuralRefreshEvent;
 import org.eclipse.nebula.widgets.nattable.viewport.ViewportLayer;
+import org.eclipse.swt.graphics.Rectangle;
 
 public class ScrollEvent extends StructuralRefreshEvent {
 
+    private final int deltaX;
+    private final int deltaY;
+    private Rectangle scrolledArea;
+
     public ScrollEvent(ViewportLayer viewportLayer) {
         super(viewportLayer);
+        this.deltaX = 0;
+        this.deltaY = 0;
+    }
+
+    /**
+     * Creates a {@link ScrollEvent} that carries the pixel distance the origin
+     * of the viewport was moved. Together with the scrolled area that is
+     * converted on the way up the layer stack, this information can be used
+     * to move the already painted pixels instead of repainting the whole
+     * area.
+     *
+     * @param viewportLayer
+     *            The {@link ViewportLayer} that was scrolled.
+     * @param deltaX
+     *            The pixel distance the origin was moved horizontally.
+     * @param deltaY
+     *            The pixel distance the origin was moved vertically.
+     * @since 2.7
+     */
+    public ScrollEvent(ViewportLayer viewportLayer, int deltaX, int deltaY) {
+        super(viewportLayer);
+        this.deltaX = deltaX;
+        this.deltaY = deltaY;
+        // use the client area to avoid recalculations in the viewport while
+        // it is still processing the scroll operation
+        if (viewportLayer.getMaxColumnPosition() < 0 && viewportLayer.getMaxRowPosition() < 0) {
+            Rectangle clientArea = viewportLayer.getClientAreaProvider().getClientArea();
+            this.scrolledArea = new Rectangle(0, 0, clientArea.width, clientArea.height);
+        }
     }
 
     protected ScrollEvent(ScrollEvent event) {
         super(event);
+        this.deltaX = event.deltaX;
+        this.deltaY = event.deltaY;
+        this.scrolledArea = event.scrolledArea != null ? new Rectangle(
+                event.scrolledArea.x,
+                event.scrolledArea.y,
+                event.scrolledArea.width,
+                event.scrolledArea.height) : null;
     }
 
     @Override
@@ -33,6 +75,96 @@ public ScrollEvent cloneEvent() {
         return new ScrollEvent(this);
     }
 
+    @Override
+    public boolean convertToLocal(ILayer localLayer) {
+        ILayer sourceLayer = getLayer();
+        if (this.scrolledArea != null && sourceLayer != localLayer) {
+            this.scrolledArea = convertArea(sourceLayer, localLayer, this.scrolledArea);
+        }
+        return super.convertToLocal(localLayer);
+    }
+
+    /**
+     * Converts the given pixel area from the coordinates of the underlying
+     * layer to the coordinates of the local layer, by comparing the start
+     * pixels of the first column and row in the area.
+     *
+     * @return The converted area or <code>null</code> if the area can not be
+     *         converted.
+     */
+    private static Rectangle convertArea(ILayer underlyingLayer, ILayer localLayer, Rectangle area) {
+        int columnPosition = underlyingLayer.getColumnPositionByX(area.x);
+        int rowPosition = underlyingLayer.getRowPositionByY(area.y);
+        if (columnPosition < 0 || rowPosition < 0) {
+            return null;
+        }
+
+        int localColumnPosition = localLayer.underlyingToLocalColumnPosition(underlyingLayer, columnPosition);
+        int localRowPosition = localLayer.underlyingToLocalRowPosition(underlyingLayer, rowPosition);
+        if (localColumnPosition < 0 || localRowPosition < 0) {
+            return null;
+        }
+
+        return new Rectangle(
+                area.x + localLayer.getStartXOfColumnPosition(localColumnPosition) - underlyingLayer.getStartXOfColumnPosition(columnPosition),
+                area.y + localLayer.getStartYOfRowPosition(localRowPosition) - underlyingLayer.getStartYOfRowPosition(rowPosition),
+                area.width,
+                area.height);
+    }
+
+    /**
+     *
+     * @return The pixel distance the origin of the viewport was moved
+     *         horizontally. A positive value means the content moved to the
+     *         left.
+     * @since 2.7
+     */
+    public int getDeltaX() {
+        return this.deltaX;
+    }
+
+    /**
+     *
+     * @return The pixel distance the origin of the viewport was moved
+     *         vertically. A positive value means the content moved up.
+     * @since 2.7
+     */
+    public int getDeltaY() {
+        return this.deltaY;
+    }
+
+    /**
+     *
+     * @return The pixel area in the coordinates of the layer returned by
+     *         {@link #getLayer()} whose content was moved by the scroll
+     *         operation, or <code>null</code> if the moved area is not known.
+     * @since 2.7
+     */
+    public Rectangle getScrolledArea() {
+        return this.scrolledArea;
+    }
+
+    /**
+     * Excludes the given number of pixels at the left and the top from the
+     * scrolled area. Used by layers that paint decorations at the edges of
+     * the scrolled area, which do not move together with the content.
+     *
+     * @param left
+     *            The number of pixels to exclude at the left edge.
+     * @param top
+     *            The number of pixels to exclude at the top edge.
+     * @since 2.7
+     */
+    public void insetScrolledArea(int left, int top) {
+        if (this.scrolledArea != null) {
+            this.scrolledArea = new Rectangle(
+                    this.scrolledArea.x + left,
+                    this.scrolledArea.y + top,
+                    Math.max(0, this.scrolledArea.width - left),
+                    Math.max(0, this.scrolledArea.height - top));
+        }
+    }
+
     @Override
     public Collection<StructuralDiff> getColumnDiffs() {
         // TODO this is bogus - should have a horiz/vert scroll event instead
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.extension.glazedlists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.nebula.widgets.nattable.command.DisposeResourcesCommand;
+import org.eclipse.nebula.widgets.nattable.dataset.fixture.data.BlinkingRowDataFixture;
+import org.eclipse.nebula.widgets.nattable.dataset.fixture.data.RowDataFixture;
+import org.eclipse.nebula.widgets.nattable.dataset.fixture.data.RowDataListFixture;
+import org.eclipse.nebula.widgets.nattable.extension.glazedlists.fixture.DataLayerFixture;
+import org.eclipse.nebula.widgets.nattable.extension.glazedlists.fixture.LayerListenerFixture;
+import org.eclipse.nebula.widgets.nattable.layer.event.PropertyUpdateBatchEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.PropertyUpdateEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import ca.odell.glazedlists.EventList;
+import ca.odell.glazedlists.GlazedLists;
+
+public class CoalescingGlazedListsEventLayerTest {
+
+    private CoalescingGlazedListsEventLayer<RowDataFixture> layerUnderTest;
+    private LayerListenerFixture listenerFixture;
+
+    private void setup(int capacity) {
+        EventList<RowDataFixture> listFixture = GlazedLists.eventList(RowDataListFixture.getList());
+
+        this.layerUnderTest = new CoalescingGlazedListsEventLayer<>(
+                new DataLayerFixture(),
+                listFixture,
+                null,
+                capacity,
+                CoalescingGlazedListsEventLayer.DEFAULT_FRAME_INTERVAL);
+        this.layerUnderTest.setTestMode(true);
+
+        this.listenerFixture = new LayerListenerFixture();
+        this.layerUnderTest.addLayerListener(this.listenerFixture);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.layerUnderTest.doCommand(new DisposeResourcesCommand());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldCoalesceUpdatesPerCell() {
+        setup(CoalescingGlazedListsEventLayer.DEFAULT_CAPACITY);
+        // negative prices to make sure every update differs from the
+        // fixture values and fires a PropertyChangeEvent
+        List<BlinkingRowDataFixture> list = BlinkingRowDataFixture.getList(this.layerUnderTest);
+        BlinkingRowDataFixture first = list.get(0);
+        double initialPrice = first.getAsk_price();
+
+        for (int i = 1; i <= 10; i++) {
+            first.setAsk_price(-i);
+        }
+        first.setBid_price(-5.0);
+        list.get(1).setAsk_price(-20.0);
+
+        // nothing is fired before the buffer is drained
+        assertEquals(0, this.listenerFixture.getEventsCount());
+        assertEquals(12, this.layerUnderTest.getPendingUpdateCount());
+
+        assertEquals(3, this.layerUnderTest.flushPropertyUpdates());
+        assertEquals(1, this.listenerFixture.getEventsCount());
+
+        PropertyUpdateBatchEvent<RowDataFixture> batch =
+                (PropertyUpdateBatchEvent<RowDataFixture>) this.listenerFixture.getReceivedEvent(PropertyUpdateBatchEvent.class);
+        assertNotNull(batch);
+        List<PropertyUpdateEvent<RowDataFixture>> updates = batch.getUpdates();
+        assertEquals(3, updates.size());
+
+        PropertyUpdateEvent<RowDataFixture> askUpdate = updates.get(0);
+        assertEquals("ask_price", askUpdate.getPropertyName());
+        assertEquals(first, askUpdate.getSourceBean());
+        assertEquals(Double.valueOf(initialPrice), askUpdate.getOldValue());
+        assertEquals(Double.valueOf(-10.0), askUpdate.getNewValue());
+
+        assertEquals("bid_price", updates.get(1).getPropertyName());
+        assertEquals(list.get(1), updates.get(2).getSourceBean());
+
+        assertEquals(12, this.layerUnderTest.getReceivedUpdateCount());
+        assertEquals(9, this.layerUnderTest.getCoalescedUpdateCount());
+        assertEquals(0, this.layerUnderTest.getDroppedUpdateCount());
+        assertEquals(0, this.layerUnderTest.getPendingUpdateCount());
+
+        // no event if there is nothing to drain
+        assertEquals(0, this.layerUnderTest.flushPropertyUpdates());
+        assertEquals(1, this.listenerFixture.getEventsCount());
+    }
+
+    @Test
+    public void shouldDropUpdatesIfBufferIsFull() {
+        setup(4);
+        List<BlinkingRowDataFixture> list = BlinkingRowDataFixture.getList(this.layerUnderTest);
+
+        for (int i = 0; i < 6; i++) {
+            list.get(i).setAsk_price(-(i + 1));
+        }
+
+        assertEquals(4, this.layerUnderTest.getCapacity());
+        assertEquals(4, this.layerUnderTest.getPendingUpdateCount());
+        assertEquals(2, this.layerUnderTest.getDroppedUpdateCount());
+
+        assertEquals(4, this.layerUnderTest.flushPropertyUpdates());
+
+        // the buffer can be used again after draining
+        list.get(5).setAsk_price(-50.0);
+        assertEquals(1, this.layerUnderTest.flushPropertyUpdates());
+        assertEquals(2, this.layerUnderTest.getDroppedUpdateCount());
+    }
+
+    @Test
+    public void shouldNotLoseUpdatesOfConcurrentProducers() throws Exception {
+        setup(CoalescingGlazedListsEventLayer.DEFAULT_CAPACITY);
+        List<BlinkingRowDataFixture> list = BlinkingRowDataFixture.getList(this.layerUnderTest);
+
+        int producerCount = 4;
+        int updatesPerProducer = 5000;
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < producerCount; p++) {
+            BlinkingRowDataFixture row = list.get(p);
+            Thread producer = new Thread(() -> {
+                for (int i = 1; i <= updatesPerProducer; i++) {
+                    row.setAsk_price(-i);
+                }
+            });
+            producers.add(producer);
+            producer.start();
+        }
+
+        int fired = 0;
+        boolean running = true;
+        while (running) {
+            running = false;
+            for (Thread producer : producers) {
+                running |= producer.isAlive();
+            }
+            fired += this.layerUnderTest.flushPropertyUpdates();
+        }
+        fired += this.layerUnderTest.flushPropertyUpdates();
+
+        long received = this.layerUnderTest.getReceivedUpdateCount();
+        assertEquals(producerCount * updatesPerProducer, received);
+        assertEquals(0, this.layerUnderTest.getDroppedUpdateCount());
+        assertEquals(received, fired + this.layerUnderTest.getCoalescedUpdateCount());
+        assertFalse(this.listenerFixture.getReceivedEvents().isEmpty());
+
+        // the latest value of every row was delivered last
+        for (int p = 0; p < producerCount; p++) {
+            assertEquals(Double.valueOf(-updatesPerProducer), lastValue(list.get(p)));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object lastValue(RowDataFixture row) {
+        Object value = null;
+        for (Object event : this.listenerFixture.getReceivedEvents()) {
+            for (PropertyUpdateEvent<RowDataFixture> update : ((PropertyUpdateBatchEvent<RowDataFixture>) event).getUpdates()) {
+                if (update.getSourceBean() == row) {
+                    value = update.getNewValue();
+                }
+            }
+        }
+        return value;
+    }
+}
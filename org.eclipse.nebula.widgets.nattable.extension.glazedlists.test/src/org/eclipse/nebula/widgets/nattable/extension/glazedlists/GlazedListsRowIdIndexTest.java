@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.extension.glazedlists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.nebula.widgets.nattable.data.ListDataProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ca.odell.glazedlists.EventList;
+import ca.odell.glazedlists.FilterList;
+import ca.odell.glazedlists.GlazedLists;
+import ca.odell.glazedlists.SortedList;
+
+public class GlazedListsRowIdIndexTest {
+
+    private EventList<String> eventList;
+    private SortedList<String> sortedList;
+    private FilterList<String> filterList;
+    private GlazedListsRowIdIndex<String> rowIdIndex;
+    private int changeCount;
+    private int rowObjectAccessCount;
+
+    @BeforeEach
+    public void setup() {
+        List<String> rows = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            rows.add("row" + i);
+        }
+        this.eventList = GlazedLists.eventList(rows);
+        this.sortedList = new SortedList<>(this.eventList, null);
+        this.filterList = new FilterList<>(this.sortedList);
+
+        ListDataProvider<String> dataProvider = new ListDataProvider<>(this.filterList, null) {
+            @Override
+            public String getRowObject(int rowIndex) {
+                GlazedListsRowIdIndexTest.this.rowObjectAccessCount++;
+                return super.getRowObject(rowIndex);
+            }
+        };
+        this.rowIdIndex = new GlazedListsRowIdIndex<>(this.filterList, dataProvider, rowObject -> rowObject) {
+            @Override
+            public synchronized void rowsChanged(int[] deleted, int[] inserted) {
+                GlazedListsRowIdIndexTest.this.changeCount++;
+                super.rowsChanged(deleted, inserted);
+            }
+        };
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.rowIdIndex.dispose();
+    }
+
+    private void assertIndexed() {
+        for (int i = 0; i < this.filterList.size(); i++) {
+            assertEquals(i, this.rowIdIndex.getRowIndex(this.filterList.get(i)), this.filterList.get(i));
+        }
+    }
+
+    /**
+     * Checks that the index was updated incrementally, as every lookup only
+     * needs to verify the found row and no rebuild is triggered.
+     */
+    private void assertIndexedIncrementally() {
+        this.rowObjectAccessCount = 0;
+        assertIndexed();
+        assertEquals(this.filterList.size(), this.rowObjectAccessCount);
+    }
+
+    @Test
+    public void shouldUpdateOnListChanges() {
+        assertIndexed();
+
+        this.eventList.add(0, "new0");
+        this.eventList.addAll(50, Arrays.asList("new50", "new51"));
+        this.eventList.add("newLast");
+        assertIndexed();
+
+        this.eventList.remove(80);
+        this.eventList.subList(10, 15).clear();
+        this.eventList.set(this.eventList.indexOf("row3"), "replaced");
+        assertIndexed();
+        assertEquals(-1, this.rowIdIndex.getRowIndex("row3"));
+    }
+
+    @Test
+    public void shouldUpdateOnFilterAndSort() {
+        assertIndexed();
+
+        this.filterList.setMatcher(item -> item.endsWith("7"));
+        assertEquals(10, this.filterList.size());
+        assertIndexed();
+        assertEquals(-1, this.rowIdIndex.getRowIndex("row8"));
+
+        this.sortedList.setComparator(Comparator.reverseOrder());
+        assertIndexed();
+
+        this.filterList.setMatcher(null);
+        assertIndexed();
+    }
+
+    @Test
+    public void shouldApplyManyBlocksAtOnce() {
+        assertIndexed();
+
+        // every other row is removed, which results in 50 delete blocks
+        this.filterList.setMatcher(item -> Integer.parseInt(item.substring(3)) % 2 == 0);
+        assertEquals(50, this.filterList.size());
+        assertEquals(1, this.changeCount);
+        assertIndexedIncrementally();
+        assertEquals(-1, this.rowIdIndex.getRowIndex("row1"));
+
+        // deletes and inserts in alternating non-adjacent blocks
+        this.filterList.setMatcher(item -> Integer.parseInt(item.substring(3)) % 4 < 2);
+        assertEquals(50, this.filterList.size());
+        assertEquals(2, this.changeCount);
+        assertIndexedIncrementally();
+        assertEquals(-1, this.rowIdIndex.getRowIndex("row2"));
+        assertEquals(-1, this.rowIdIndex.getRowIndex("row3"));
+
+        // the removed rows are inserted again in 50 insert blocks
+        this.filterList.setMatcher(null);
+        assertEquals(100, this.filterList.size());
+        assertEquals(3, this.changeCount);
+        assertIndexedIncrementally();
+    }
+}
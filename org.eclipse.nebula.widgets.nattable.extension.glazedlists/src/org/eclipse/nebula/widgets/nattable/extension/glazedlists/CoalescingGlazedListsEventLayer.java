@@ -0,0 +1,359 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.extension.glazedlists;
+
+import java.beans.PropertyChangeEvent;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.nebula.widgets.nattable.command.DisposeResourcesCommand;
+import org.eclipse.nebula.widgets.nattable.command.ILayerCommand;
+import org.eclipse.nebula.widgets.nattable.data.IRowIdAccessor;
+import org.eclipse.nebula.widgets.nattable.layer.IUniqueIndexLayer;
+import org.eclipse.nebula.widgets.nattable.layer.event.PropertyUpdateBatchEvent;
+import org.eclipse.nebula.widgets.nattable.layer.event.PropertyUpdateEvent;
+import org.eclipse.nebula.widgets.nattable.util.Scheduler;
+import org.eclipse.swt.widgets.Display;
+
+import ca.odell.glazedlists.EventList;
+
+/**
+ * Specialization of the {@link GlazedListsEventLayer} for high frequency bean
+ * updates, e.g. price feeds that update properties from several threads.
+ * <p>
+ * Instead of firing a {@link PropertyUpdateEvent} in the UI thread for every
+ * PropertyChangeEvent, the updates are collected in a bounded lock-free ring
+ * buffer. Once per frame the buffer is drained in the UI thread, the updates
+ * are coalesced per row id and property, so only the latest value of a cell
+ * survives, and a single {@link PropertyUpdateBatchEvent} is fired for all
+ * updates of the frame. The old value of a coalesced update is the old value
+ * of the first update in the frame, so a BlinkLayer still compares against
+ * the value that was shown last.
+ * </p>
+ * <p>
+ * If the producers are faster than the UI thread and the buffer is full,
+ * further updates are dropped and counted. The counters and the current fill
+ * level of the buffer can be used to monitor the back-pressure.
+ * </p>
+ *
+ * @param <T>
+ *            Type of the bean in the backing list.
+ *
+ * @see #getDroppedUpdateCount()
+ * @see #getPendingUpdateCount()
+ *
+ * @since 2.7
+ */
+public class CoalescingGlazedListsEventLayer<T> extends GlazedListsEventLayer<T> {
+
+    /**
+     * The default capacity of the update buffer.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+    /**
+     * The default frame interval in milliseconds, which is about 60 frames per
+     * second.
+     */
+    public static final long DEFAULT_FRAME_INTERVAL = 16L;
+
+    private static final Scheduler scheduler = new Scheduler("CoalescingGlazedListsEventLayer"); //$NON-NLS-1$
+
+    private final IRowIdAccessor<T> rowIdAccessor;
+    private final UpdateRingBuffer<PropertyUpdateEvent<T>> buffer;
+    private final ScheduledFuture<?> frameFuture;
+
+    private final AtomicBoolean drainPending = new AtomicBoolean(false);
+    private final AtomicBoolean frameTerminated = new AtomicBoolean(false);
+
+    private final AtomicLong receivedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    private final Object drainLock = new Object();
+    private volatile boolean manualDrain = false;
+
+    /**
+     * Creates a {@link CoalescingGlazedListsEventLayer} that coalesces the
+     * updates per bean instance and property with the default buffer capacity
+     * and frame interval.
+     *
+     * @param underlyingLayer
+     *            The underlying layer.
+     * @param eventList
+     *            The {@link EventList} to listen on.
+     */
+    public CoalescingGlazedListsEventLayer(IUniqueIndexLayer underlyingLayer, EventList<T> eventList) {
+        this(underlyingLayer, eventList, null, DEFAULT_CAPACITY, DEFAULT_FRAME_INTERVAL);
+    }
+
+    /**
+     * Creates a {@link CoalescingGlazedListsEventLayer} that coalesces the
+     * updates per row id and property with the default buffer capacity and
+     * frame interval.
+     *
+     * @param underlyingLayer
+     *            The underlying layer.
+     * @param eventList
+     *            The {@link EventList} to listen on.
+     * @param rowIdAccessor
+     *            The {@link IRowIdAccessor} to get the row id of an updated
+     *            bean.
+     */
+    public CoalescingGlazedListsEventLayer(IUniqueIndexLayer underlyingLayer, EventList<T> eventList, IRowIdAccessor<T> rowIdAccessor) {
+        this(underlyingLayer, eventList, rowIdAccessor, DEFAULT_CAPACITY, DEFAULT_FRAME_INTERVAL);
+    }
+
+    /**
+     *
+     * @param underlyingLayer
+     *            The underlying layer.
+     * @param eventList
+     *            The {@link EventList} to listen on.
+     * @param rowIdAccessor
+     *            The {@link IRowIdAccessor} to get the row id of an updated
+     *            bean. Can be <code>null</code> to coalesce the updates per
+     *            bean instance.
+     * @param capacity
+     *            The number of updates the buffer can hold between two frames.
+     *            Rounded up to the next power of two.
+     * @param frameInterval
+     *            The interval in milliseconds in which the buffer is drained.
+     */
+    public CoalescingGlazedListsEventLayer(
+            IUniqueIndexLayer underlyingLayer,
+            EventList<T> eventList,
+            IRowIdAccessor<T> rowIdAccessor,
+            int capacity,
+            long frameInterval) {
+
+        super(underlyingLayer, eventList);
+        this.rowIdAccessor = rowIdAccessor;
+        this.buffer = new UpdateRingBuffer<>(capacity);
+        this.frameFuture = scheduler.scheduleAtFixedRate(getFrameNotifier(), frameInterval, frameInterval);
+    }
+
+    /**
+     *
+     * @return The {@link Runnable} that is triggered once per frame to drain
+     *         the update buffer in the UI thread.
+     */
+    protected Runnable getFrameNotifier() {
+        return () -> {
+            if (!this.manualDrain
+                    && this.buffer.size() > 0
+                    && this.drainPending.compareAndSet(false, true)) {
+                // only one drain is queued in the UI thread at a time, updates
+                // that arrive in the meantime are processed with that drain
+                Display.getDefault().asyncExec(() -> {
+                    this.drainPending.set(false);
+                    flushPropertyUpdates();
+                });
+            }
+        };
+    }
+
+    // PropertyChangeListener
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void propertyChange(PropertyChangeEvent event) {
+        // We can cast since we know that the EventList is of type T
+        PropertyUpdateEvent<T> updateEvent = new PropertyUpdateEvent<>(
+                this,
+                (T) event.getSource(),
+                event.getPropertyName(),
+                event.getOldValue(),
+                event.getNewValue());
+        this.receivedCount.incrementAndGet();
+        if (!this.buffer.offer(updateEvent)) {
+            this.droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Drains the update buffer and fires a single
+     * {@link PropertyUpdateBatchEvent} for the coalesced updates. Called
+     * automatically once per frame, but can also be called manually to
+     * process the pending updates immediately. Needs to be called in the UI
+     * thread.
+     *
+     * @return The number of updates contained in the fired batch event.
+     */
+    public int flushPropertyUpdates() {
+        Map<Object, PropertyUpdateEvent<T>> coalesced = new LinkedHashMap<>();
+        int drained;
+        synchronized (this.drainLock) {
+            drained = this.buffer.drain(update -> {
+                CellKey key = new CellKey(getRowKey(update.getSourceBean()), update.getPropertyName());
+                PropertyUpdateEvent<T> previous = coalesced.remove(key);
+                if (previous != null) {
+                    // last value wins, but keep the old value of the first
+                    // update as this is the value that is currently shown
+                    update = new PropertyUpdateEvent<>(
+                            this,
+                            update.getSourceBean(),
+                            update.getPropertyName(),
+                            previous.getOldValue(),
+                            update.getNewValue());
+                }
+                coalesced.put(key, update);
+            });
+        }
+
+        if (drained == 0) {
+            return 0;
+        }
+        this.coalescedCount.addAndGet(drained - coalesced.size());
+
+        List<PropertyUpdateEvent<T>> updates = new ArrayList<>(coalesced.values());
+        fireLayerEvent(new PropertyUpdateBatchEvent<>(this, updates));
+        return updates.size();
+    }
+
+    private Object getRowKey(T bean) {
+        if (this.rowIdAccessor != null) {
+            return this.rowIdAccessor.getRowId(bean);
+        }
+        return new IdentityKey(bean);
+    }
+
+    @Override
+    public boolean doCommand(ILayerCommand command) {
+        if (command instanceof DisposeResourcesCommand && this.frameTerminated.compareAndSet(false, true)) {
+            scheduler.unschedule(this.frameFuture);
+        }
+        return super.doCommand(command);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * In test mode the update buffer is not drained automatically, the
+     * updates are only processed by calling {@link #flushPropertyUpdates()}.
+     * </p>
+     */
+    @Override
+    public void setTestMode(boolean testMode) {
+        super.setTestMode(testMode);
+        this.manualDrain = testMode;
+    }
+
+    /**
+     *
+     * @return The number of property updates received since the creation of
+     *         this layer.
+     */
+    public long getReceivedUpdateCount() {
+        return this.receivedCount.get();
+    }
+
+    /**
+     *
+     * @return The number of property updates that were dropped because the
+     *         update buffer was full.
+     */
+    public long getDroppedUpdateCount() {
+        return this.droppedCount.get();
+    }
+
+    /**
+     *
+     * @return The number of property updates that were superseded by a later
+     *         update of the same cell within the same frame.
+     */
+    public long getCoalescedUpdateCount() {
+        return this.coalescedCount.get();
+    }
+
+    /**
+     *
+     * @return The approximate number of property updates that are currently
+     *         waiting in the update buffer. A value close to
+     *         {@link #getCapacity()} indicates that the updates are received
+     *         faster than they can be processed.
+     */
+    public int getPendingUpdateCount() {
+        return this.buffer.size();
+    }
+
+    /**
+     *
+     * @return The number of property updates the buffer can hold between two
+     *         frames.
+     */
+    public int getCapacity() {
+        return this.buffer.capacity();
+    }
+
+    /**
+     * Key for the coalescing of updates, consisting of the row key and the
+     * property name.
+     */
+    private static final class CellKey {
+
+        private final Object rowKey;
+        private final String propertyName;
+
+        CellKey(Object rowKey, String propertyName) {
+            this.rowKey = rowKey;
+            this.propertyName = propertyName;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(this.rowKey) + Objects.hashCode(this.propertyName);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CellKey)) {
+                return false;
+            }
+            CellKey other = (CellKey) obj;
+            return Objects.equals(this.rowKey, other.rowKey)
+                    && Objects.equals(this.propertyName, other.propertyName);
+        }
+    }
+
+    /**
+     * Row key that compares beans by identity, used if no
+     * {@link IRowIdAccessor} is configured.
+     */
+    private static final class IdentityKey {
+
+        private final Object bean;
+
+        IdentityKey(Object bean) {
+            this.bean = bean;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this.bean);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof IdentityKey && ((IdentityKey) obj).bean == this.bean;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.extension.glazedlists;
+
+import java.util.Arrays;
+
+import org.eclipse.nebula.widgets.nattable.data.IRowDataProvider;
+import org.eclipse.nebula.widgets.nattable.data.IRowIdAccessor;
+import org.eclipse.nebula.widgets.nattable.data.RowIdIndex;
+
+import ca.odell.glazedlists.EventList;
+import ca.odell.glazedlists.event.ListEvent;
+import ca.odell.glazedlists.event.ListEventListener;
+
+/**
+ * {@link RowIdIndex} that is kept up to date incrementally via the
+ * {@link ListEvent}s of the {@link EventList} that backs the
+ * {@link IRowDataProvider}. Inserted, deleted and updated rows are applied
+ * directly to the index, reorderings, e.g. caused by sorting, clear the index
+ * so it is built again on the next access. All blocks of a {@link ListEvent}
+ * are applied at once, so a change with many blocks, e.g. caused by
+ * filtering, only processes the index once.
+ * <p>
+ * The index registers itself as {@link ListEventListener} on the given
+ * {@link EventList}. Call {@link #dispose()} to unregister the listener if the
+ * index is not needed anymore.
+ * </p>
+ *
+ * @param <T>
+ *            The type of the row objects.
+ *
+ * @since 2.7
+ */
+public class GlazedListsRowIdIndex<T> extends RowIdIndex<T> implements ListEventListener<T> {
+
+    private final EventList<T> eventList;
+
+    /**
+     *
+     * @param eventList
+     *            The {@link EventList} that backs the given
+     *            {@link IRowDataProvider}, e.g. the FilterList that is used to
+     *            create the body data provider.
+     * @param rowDataProvider
+     *            The {@link IRowDataProvider} whose row indexes should be
+     *            indexed.
+     * @param rowIdAccessor
+     *            The {@link IRowIdAccessor} to retrieve the row ids.
+     */
+    public GlazedListsRowIdIndex(EventList<T> eventList, IRowDataProvider<T> rowDataProvider, IRowIdAccessor<T> rowIdAccessor) {
+        this(eventList, rowDataProvider, rowIdAccessor, null);
+    }
+
+    /**
+     *
+     * @param eventList
+     *            The {@link EventList} that backs the given
+     *            {@link IRowDataProvider}, e.g. the FilterList that is used to
+     *            create the body data provider.
+     * @param rowDataProvider
+     *            The {@link IRowDataProvider} whose row indexes should be
+     *            indexed.
+     * @param rowIdAccessor
+     *            The {@link IRowIdAccessor} to retrieve the row ids.
+     * @param type
+     *            The type of the row objects that should be indexed. Row
+     *            objects of other types are skipped, e.g. GroupByObjects. Can
+     *            be <code>null</code> to index all row objects.
+     */
+    public GlazedListsRowIdIndex(EventList<T> eventList, IRowDataProvider<T> rowDataProvider, IRowIdAccessor<T> rowIdAccessor, Class<T> type) {
+        super(rowDataProvider, rowIdAccessor, type);
+        this.eventList = eventList;
+        this.eventList.addListEventListener(this);
+    }
+
+    @Override
+    public void listChanged(ListEvent<T> listChanges) {
+        if (listChanges.isReordering()) {
+            clear();
+            return;
+        }
+
+        // the blocks are reported in ascending order and are based on the
+        // state after the previous blocks are applied, so the index of an
+        // inserted or updated row is already the index after the whole
+        // change, while the index of a deleted row needs to be translated to
+        // the state before the change
+        int[] deleted = new int[0];
+        int deletedCount = 0;
+        int[] inserted = new int[0];
+        int insertedCount = 0;
+        int[] updated = new int[0];
+        int updatedCount = 0;
+        int lastIndex = 0;
+        while (listChanges.nextBlock()) {
+            int start = listChanges.getBlockStartIndex();
+            int end = listChanges.getBlockEndIndex() + 1;
+            if (start < lastIndex) {
+                // not in sequential order, rebuild on the next access
+                clear();
+                return;
+            }
+            switch (listChanges.getType()) {
+                case ListEvent.INSERT:
+                    inserted = ensureCapacity(inserted, insertedCount + end - start);
+                    for (int i = start; i < end; i++) {
+                        inserted[insertedCount++] = i;
+                    }
+                    lastIndex = end;
+                    break;
+                case ListEvent.DELETE:
+                    deleted = ensureCapacity(deleted, deletedCount + end - start);
+                    int offset = deletedCount - insertedCount;
+                    for (int i = start; i < end; i++) {
+                        deleted[deletedCount++] = i + offset;
+                    }
+                    lastIndex = start;
+                    break;
+                case ListEvent.UPDATE:
+                    updated = ensureCapacity(updated, updatedCount + end - start);
+                    for (int i = start; i < end; i++) {
+                        updated[updatedCount++] = i;
+                    }
+                    lastIndex = end;
+                    break;
+                default:
+                    clear();
+                    return;
+            }
+        }
+
+        rowsChanged(Arrays.copyOf(deleted, deletedCount), Arrays.copyOf(inserted, insertedCount));
+        for (int i = 0; i < updatedCount; i++) {
+            rowsUpdated(updated[i], 1);
+        }
+    }
+
+    private static int[] ensureCapacity(int[] array, int size) {
+        if (size <= array.length) {
+            return array;
+        }
+        return Arrays.copyOf(array, Math.max(size, array.length * 2));
+    }
+
+    /**
+     * Unregisters the index from the {@link EventList} and removes all
+     * entries.
+     */
+    public void dispose() {
+        this.eventList.removeListEventListener(this);
+        clear();
+    }
+}
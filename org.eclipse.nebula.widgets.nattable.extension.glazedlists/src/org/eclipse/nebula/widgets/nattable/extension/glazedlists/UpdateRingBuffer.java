@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.extension.glazedlists;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free ring buffer for multiple producers and a single consumer.
+ * Producers claim a slot by incrementing the tail via compare-and-set, the
+ * per slot sequence number signals the consumer that the element in the slot
+ * is published, and signals the producers that the slot was consumed and can
+ * be reused.
+ * <p>
+ * {@link #offer(Object)} never blocks. If the buffer is full the element is
+ * rejected, so the producer can decide how to handle the back-pressure.
+ * </p>
+ *
+ * @param <E>
+ *            The type of the elements.
+ *
+ * @since 2.7
+ */
+final class UpdateRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     *
+     * @param capacity
+     *            The minimum capacity of the buffer. Rounded up to the next
+     *            power of two.
+     */
+    UpdateRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity); //$NON-NLS-1$
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            this.sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds the given element to the buffer. Can be called from any thread.
+     *
+     * @param element
+     *            The element to add.
+     * @return <code>true</code> if the element was added, <code>false</code>
+     *         if the buffer is full.
+     */
+    boolean offer(E element) {
+        long position = this.tail.get();
+        int index;
+        while (true) {
+            index = (int) position & this.mask;
+            long difference = this.sequences.get(index) - position;
+            if (difference == 0) {
+                if (this.tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = this.tail.get();
+            } else if (difference < 0) {
+                // the slot still contains an element of the previous round
+                return false;
+            } else {
+                // another producer claimed the slot
+                position = this.tail.get();
+            }
+        }
+        this.elements.set(index, element);
+        this.sequences.set(index, position + 1);
+        return true;
+    }
+
+    /**
+     * Removes all published elements from the buffer and passes them to the
+     * given consumer in the order they were added. Must only be called by one
+     * thread at a time.
+     *
+     * @param consumer
+     *            The consumer of the removed elements.
+     * @return The number of removed elements.
+     */
+    int drain(Consumer<E> consumer) {
+        long position = this.head.get();
+        int count = 0;
+        while (true) {
+            int index = (int) position & this.mask;
+            if (this.sequences.get(index) != position + 1) {
+                // not yet published
+                break;
+            }
+            E element = this.elements.get(index);
+            this.elements.set(index, null);
+            this.sequences.set(index, position + this.mask + 1);
+            position++;
+            count++;
+            consumer.accept(element);
+        }
+        this.head.set(position);
+        return count;
+    }
+
+    /**
+     *
+     * @return The approximate number of elements in the buffer.
+     */
+    int size() {
+        long size = this.tail.get() - this.head.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    /**
+     *
+     * @return The capacity of the buffer.
+     */
+    int capacity() {
+        return this.mask + 1;
+    }
+}
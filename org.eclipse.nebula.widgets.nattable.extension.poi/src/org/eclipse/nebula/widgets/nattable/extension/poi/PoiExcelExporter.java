@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2023 Original authors and others.
+ * Copyright (c) 2012, 2026 Original authors and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import org.apache.poi.ss.usermodel.BorderStyle;
@@ -72,6 +73,9 @@ public abstract class PoiExcelExporter implements ILayerExporter {
     private final IOutputStreamProvider outputStreamProvider;
 
     private Map<ExcelCellStyleAttributes, CellStyle> xlCellStyles;
+    private Map<FontAttributes, Font> xlFonts;
+    private Map<org.eclipse.swt.graphics.Font, FontData> fontDataCache;
+    private boolean maxCellStylesReached = false;
 
     protected Workbook xlWorkbook;
     protected int sheetNumber;
@@ -110,6 +114,9 @@ public OutputStream getOutputStream(Shell shell) {
     @Override
     public void exportBegin(OutputStream outputStream) throws IOException {
         this.xlCellStyles = new HashMap<>();
+        this.xlFonts = new HashMap<>();
+        this.fontDataCache = new HashMap<>();
+        this.maxCellStylesReached = false;
         this.xlWorkbook = createWorkbook();
         // the hidden column positions are determined by inspection so
         // it needs to be cleared at the beginning
@@ -121,6 +128,8 @@ public void exportEnd(OutputStream outputStream) throws IOException {
         this.xlWorkbook.write(outputStream);
 
         this.xlCellStyles = null;
+        this.xlFonts = null;
+        this.fontDataCache = null;
         this.xlWorkbook = null;
         this.sheetNumber = 0;
         this.xlSheet = null;
@@ -211,7 +220,9 @@ public void exportCell(
         Color fg = cellStyle.getAttributeValue(CellStyleAttributes.FOREGROUND_COLOR);
         Color bg = cellStyle.getAttributeValue(CellStyleAttributes.BACKGROUND_COLOR);
         org.eclipse.swt.graphics.Font font = cellStyle.getAttributeValue(CellStyleAttributes.FONT);
-        FontData fontData = font.getFontData()[0];
+        // the FontData is cached per Font as Font#getFontData() creates new
+        // instances on every call
+        FontData fontData = this.fontDataCache.computeIfAbsent(font, f -> f.getFontData()[0]);
         String dataFormat = getDataFormatString(exportDisplayValue, cell, configRegistry);
 
         int hAlign = HorizontalAlignmentEnum.getSWTStyle(cellStyle);
@@ -332,10 +343,23 @@ private CellStyle getExcelCellStyle(
             String dataFormat, int hAlign, int vAlign,
             boolean vertical, boolean wrap, boolean border) {
 
-        CellStyle xlCellStyle = this.xlCellStyles.get(
-                new ExcelCellStyleAttributes(fg, bg, fontData, dataFormat, hAlign, vAlign, vertical, wrap, border));
+        ExcelCellStyleAttributes styleAttributes =
+                new ExcelCellStyleAttributes(fg, bg, fontData, dataFormat, hAlign, vAlign, vertical, wrap, border);
+        CellStyle xlCellStyle = this.xlCellStyles.get(styleAttributes);
 
         if (xlCellStyle == null) {
+            if (this.xlWorkbook.getNumCellStyles() >= this.xlWorkbook.getSpreadsheetVersion().getMaxCellStyles()) {
+                // the workbook does not support more cell styles, use the
+                // default cell style for all further style combinations
+                if (!this.maxCellStylesReached) {
+                    LOG.warn("Maximum number of cell styles reached, the default cell style is used for further styles"); //$NON-NLS-1$
+                    this.maxCellStylesReached = true;
+                }
+                xlCellStyle = this.xlWorkbook.getCellStyleAt(0);
+                this.xlCellStyles.put(styleAttributes, xlCellStyle);
+                return xlCellStyle;
+            }
+
             xlCellStyle = this.xlWorkbook.createCellStyle();
 
             if (this.applyBackgroundColor) {
@@ -344,10 +368,15 @@ private CellStyle getExcelCellStyle(
                 xlCellStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
             }
 
-            Font xlFont = this.xlWorkbook.createFont();
-            setFontColor(xlFont, fg);
-            xlFont.setFontName(fontData.getName());
-            xlFont.setFontHeightInPoints((short) fontData.getHeight());
+            // cell styles with the same font and font color share the Excel
+            // font
+            Font xlFont = this.xlFonts.computeIfAbsent(new FontAttributes(fg, fontData), key -> {
+                Font f = this.xlWorkbook.createFont();
+                setFontColor(f, fg);
+                f.setFontName(fontData.getName());
+                f.setFontHeightInPoints((short) fontData.getHeight());
+                return f;
+            });
             xlCellStyle.setFont(xlFont);
 
             if (vertical)
@@ -391,8 +420,7 @@ private CellStyle getExcelCellStyle(
                 xlCellStyle.setDataFormat(createHelper.createDataFormat().getFormat(dataFormat));
             }
 
-            this.xlCellStyles.put(
-                    new ExcelCellStyleAttributes(fg, bg, fontData, dataFormat, hAlign, vAlign, vertical, wrap, border), xlCellStyle);
+            this.xlCellStyles.put(styleAttributes, xlCellStyle);
         }
         return xlCellStyle;
     }
@@ -687,4 +715,39 @@ private short getPoiRowHeight(int pixel) {
         points *= 21;
         return (short) (points + 32);
     }
+
+    /**
+     * The attributes that are used to create an Excel {@link Font}.
+     */
+    private static final class FontAttributes {
+
+        private final Color fg;
+        private final String name;
+        private final int height;
+
+        FontAttributes(Color fg, FontData fontData) {
+            this.fg = fg;
+            this.name = fontData.getName();
+            this.height = fontData.getHeight();
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.fg, this.name, this.height);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof FontAttributes)) {
+                return false;
+            }
+            FontAttributes other = (FontAttributes) obj;
+            return Objects.equals(this.fg, other.fg)
+                    && Objects.equals(this.name, other.name)
+                    && this.height == other.height;
+        }
+    }
 }
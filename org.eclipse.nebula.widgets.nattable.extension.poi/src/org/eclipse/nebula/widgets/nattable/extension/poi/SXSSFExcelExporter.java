@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.extension.poi;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.eclipse.nebula.widgets.nattable.export.FileOutputStreamProvider;
+import org.eclipse.nebula.widgets.nattable.export.IOutputStreamProvider;
+
+/**
+ * Exporter that uses SXSSF, which is the POI Project's streaming version of
+ * XSSF to create Excel 2007 OOXML (.xlsx) files.
+ * <p>
+ * In contrast to the {@link XSSFExcelExporter} the rows are not kept in
+ * memory until the export is finished. Once a row is exported it is written
+ * to a temporary file, so the memory consumption does not grow with the
+ * number of exported rows. Only the configured number of already exported
+ * rows and the rows that are created in advance because of row spanning are
+ * kept in memory. This makes this exporter the preferred choice for exporting
+ * very large tables.
+ * </p>
+ * <p>
+ * <b>Note:</b> Rows that are written to the temporary file can not be
+ * accessed anymore. Subclasses that need to modify already exported rows
+ * need to increase the row access window via
+ * {@link #setRowAccessWindowSize(int)}.
+ * </p>
+ *
+ * @since 2.7
+ */
+public class SXSSFExcelExporter extends XSSFExcelExporter {
+
+    private int rowAccessWindowSize = SXSSFWorkbook.DEFAULT_WINDOW_SIZE;
+    private boolean compressTempFiles = false;
+
+    public SXSSFExcelExporter() {
+        super(new FileOutputStreamProvider("table_export.xlsx", new String[] { "Excel Workbook (*.xlsx)" }, new String[] { "*.xlsx" })); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
+    public SXSSFExcelExporter(IOutputStreamProvider outputStreamProvider) {
+        super(outputStreamProvider);
+    }
+
+    @Override
+    protected Workbook createWorkbook() {
+        // create the XSSFWorkbook via super to reset the color index
+        XSSFWorkbook xssfWorkbook = (XSSFWorkbook) super.createWorkbook();
+        // disable the automatic flushing, as rows that are created in advance
+        // because of spanning would cause the flushing of the current row
+        SXSSFWorkbook workbook = new SXSSFWorkbook(xssfWorkbook, -1, this.compressTempFiles);
+        return workbook;
+    }
+
+    @Override
+    public void exportRowEnd(OutputStream outputStream, int rowPosition) throws IOException {
+        super.exportRowEnd(outputStream, rowPosition);
+
+        // all rows up to the current row are exported completely, rows after
+        // the current row were created in advance because of spanning and
+        // need to stay in memory
+        SXSSFSheet sheet = (SXSSFSheet) this.xlSheet;
+        int rowsInAdvance = Math.max(sheet.getLastRowNum() - this.xlRow.getRowNum(), 0);
+        sheet.flushRows(rowsInAdvance + this.rowAccessWindowSize);
+    }
+
+    @Override
+    public void exportEnd(OutputStream outputStream) throws IOException {
+        SXSSFWorkbook workbook = (SXSSFWorkbook) this.xlWorkbook;
+        try {
+            super.exportEnd(outputStream);
+        } finally {
+            // delete the temporary files
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    /**
+     *
+     * @return The number of already exported rows that are kept in memory.
+     */
+    public int getRowAccessWindowSize() {
+        return this.rowAccessWindowSize;
+    }
+
+    /**
+     * Configure the number of already exported rows that are kept in memory.
+     * Rows that are created in advance because of row spanning are kept in
+     * memory additionally. The default value is
+     * {@link SXSSFWorkbook#DEFAULT_WINDOW_SIZE}.
+     *
+     * @param rowAccessWindowSize
+     *            The number of already exported rows that are kept in memory.
+     *            Needs to be greater or equal to 0.
+     * @throws IllegalArgumentException
+     *             if the given value is negative.
+     */
+    public void setRowAccessWindowSize(int rowAccessWindowSize) {
+        if (rowAccessWindowSize < 0) {
+            throw new IllegalArgumentException("The row access window size can not be negative"); //$NON-NLS-1$
+        }
+        this.rowAccessWindowSize = rowAccessWindowSize;
+    }
+
+    /**
+     *
+     * @return <code>true</code> if the temporary files that contain the
+     *         exported rows are compressed.
+     */
+    public boolean isCompressTempFiles() {
+        return this.compressTempFiles;
+    }
+
+    /**
+     * Configure whether the temporary files that contain the exported rows
+     * should be compressed. Compressing the temporary files reduces the disk
+     * usage for very large exports, but increases the export time. Default is
+     * <code>false</code>.
+     *
+     * @param compressTempFiles
+     *            <code>true</code> if the temporary files should be
+     *            compressed.
+     */
+    public void setCompressTempFiles(boolean compressTempFiles) {
+        this.compressTempFiles = compressTempFiles;
+    }
+}
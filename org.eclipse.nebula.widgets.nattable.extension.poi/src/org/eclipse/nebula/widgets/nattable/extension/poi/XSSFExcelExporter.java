@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Dirk Fauth.
+ * Copyright (c) 2024, 2026 Dirk Fauth.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,10 @@
 /**
  * Exporter that uses XSSF, which is the POI Project's pure Java implementation
  * of the Excel 2007 OOXML (.xlsx) file format.
+ * <p>
+ * The whole workbook is kept in memory until the export is finished. For very
+ * large tables the {@link SXSSFExcelExporter} should be used instead.
+ * </p>
  *
  * @since 2.5
  */
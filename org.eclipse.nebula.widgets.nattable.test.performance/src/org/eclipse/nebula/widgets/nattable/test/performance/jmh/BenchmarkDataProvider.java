@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.test.performance.jmh;
+
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.nebula.widgets.nattable.data.IDataProvider;
+import org.eclipse.nebula.widgets.nattable.data.ReflectiveColumnPropertyAccessor;
+import org.eclipse.nebula.widgets.nattable.dataset.fixture.data.RowDataFixture;
+import org.eclipse.nebula.widgets.nattable.dataset.fixture.data.RowDataListFixture;
+
+/**
+ * {@link IDataProvider} used by the JMH benchmarks to simulate very large
+ * tables without materializing millions of row objects. A pool of rows is
+ * generated via {@link RowDataListFixture} and the values are extracted once.
+ * Requests for row and column indexes outside the pool are mapped back into
+ * the pool via modulo, so the reported dimensions can be as large as needed
+ * while the memory consumption stays constant.
+ */
+public class BenchmarkDataProvider implements IDataProvider {
+
+    /**
+     * The number of generated rows that are used as value pool.
+     */
+    public static final int POOL_SIZE = 1_000;
+
+    private final Object[][] pool;
+    private final int columnCount;
+    private final int rowCount;
+
+    /**
+     * @param columnCount
+     *            The number of columns this data provider should report.
+     * @param rowCount
+     *            The number of rows this data provider should report.
+     */
+    public BenchmarkDataProvider(int columnCount, int rowCount) {
+        this.columnCount = columnCount;
+        this.rowCount = rowCount;
+
+        String[] propertyNames = RowDataListFixture.getPropertyNames();
+        ReflectiveColumnPropertyAccessor<RowDataFixture> accessor =
+                new ReflectiveColumnPropertyAccessor<>(propertyNames);
+        List<RowDataFixture> rows = RowDataListFixture.getList(POOL_SIZE);
+
+        this.pool = new Object[propertyNames.length][rows.size()];
+        for (int column = 0; column < propertyNames.length; column++) {
+            for (int row = 0; row < rows.size(); row++) {
+                this.pool[column][row] = accessor.getDataValue(rows.get(row), column);
+            }
+        }
+    }
+
+    @Override
+    public Object getDataValue(int columnIndex, int rowIndex) {
+        Object[] column = this.pool[columnIndex % this.pool.length];
+        return column[rowIndex % column.length];
+    }
+
+    @Override
+    public void setDataValue(int columnIndex, int rowIndex, Object newValue) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return this.columnCount;
+    }
+
+    @Override
+    public int getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * Creates an array of random positions in the range of <code>0</code> to
+     * <code>bound</code> (exclusive). Used by the benchmarks to avoid that the
+     * random number generation is part of the measurement.
+     *
+     * @param size
+     *            The number of positions to create. Needs to be a power of two
+     *            so the benchmarks can use a bit mask to iterate.
+     * @param bound
+     *            The upper bound (exclusive) of the generated positions.
+     * @param seed
+     *            The seed for the random number generator, to get
+     *            reproducible results.
+     * @return The generated positions.
+     */
+    public static int[] randomPositions(int size, int bound, long seed) {
+        Random random = new Random(seed);
+        int[] positions = new int[size];
+        for (int i = 0; i < size; i++) {
+            positions[i] = random.nextInt(bound);
+        }
+        return positions;
+    }
+}
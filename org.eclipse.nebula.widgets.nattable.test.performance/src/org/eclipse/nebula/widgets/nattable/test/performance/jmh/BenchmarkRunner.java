@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.test.performance.jmh;
+
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point to execute the JMH benchmarks of the NatTable layer stack,
+ * painting and data access hot paths. By default all benchmarks in this
+ * package are executed. The standard JMH command line options can be used to
+ * restrict the execution, e.g. to run only the {@link DataLayerBenchmark} with
+ * 1 million rows:
+ *
+ * <pre>
+ * DataLayerBenchmark -p rowCount=1000000
+ * </pre>
+ *
+ * <p>
+ * The JMH annotation processor generates the benchmark classes and the
+ * <code>META-INF/BenchmarkList</code> the runner needs. In the IDE it is
+ * enabled via the project settings, the factory path references the JMH
+ * jars that are resolved to the local Maven repository by the target
+ * platform. Outside the IDE the processor runs if
+ * <code>jmh-generator-annprocess</code> and <code>jmh-core</code> are on the
+ * processor path of the compiler, e.g.:
+ * </p>
+ *
+ * <pre>
+ * javac -processorpath jmh-generator-annprocess-1.37.jar:jmh-core-1.37.jar ...
+ * </pre>
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+
+        OptionsBuilder builder = new OptionsBuilder();
+        if (commandLineOptions.getIncludes().isEmpty()) {
+            builder.include(BenchmarkRunner.class.getPackage().getName() + ".*"); //$NON-NLS-1$
+        }
+        Options options = builder.parent(commandLineOptions).build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.test.performance.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.nebula.widgets.nattable.config.ConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.config.DefaultNatTableStyleConfiguration;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.eclipse.nebula.widgets.nattable.painter.layer.CellLayerPainter;
+import org.eclipse.nebula.widgets.nattable.viewport.ViewportLayer;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.widgets.Display;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a full repaint of a viewport sized area via
+ * {@link CellLayerPainter#paintLayer(org.eclipse.nebula.widgets.nattable.layer.ILayer, GC, int, int, Rectangle, org.eclipse.nebula.widgets.nattable.config.IConfigRegistry)}
+ * on an offscreen {@link GC}. The painted {@link ViewportLayer} is scrolled to
+ * the middle of the table, so the position calculations for large tables are
+ * included.
+ * <p>
+ * As SWT requires the {@link Display} to be accessed from the thread that
+ * created it, this benchmark needs to be executed in a single thread. On
+ * macOS the JVM needs to be started with <i>-XstartOnFirstThread</i>.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CellLayerPainterBenchmark {
+
+    private static final int WIDTH = 1920;
+    private static final int HEIGHT = 1080;
+
+    @Param({ "20", "1000" })
+    public int columnCount;
+
+    @Param({ "1000", "100000", "1000000", "10000000" })
+    public int rowCount;
+
+    private Display display;
+    private Image image;
+    private GC gc;
+
+    private ViewportLayer viewportLayer;
+    private ConfigRegistry configRegistry;
+    private CellLayerPainter layerPainter;
+    private Rectangle paintArea;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.display = Display.getDefault();
+        this.image = new Image(this.display, WIDTH, HEIGHT);
+        this.gc = new GC(this.image);
+
+        DataLayer dataLayer = new DataLayer(new BenchmarkDataProvider(this.columnCount, this.rowCount));
+        this.paintArea = new Rectangle(0, 0, WIDTH, HEIGHT);
+        this.viewportLayer = new ViewportLayer(dataLayer);
+        this.viewportLayer.setClientAreaProvider(() -> this.paintArea);
+        this.viewportLayer.setOriginY(dataLayer.getStartYOfRowPosition(this.rowCount / 2));
+
+        this.configRegistry = new ConfigRegistry();
+        new DefaultNatTableStyleConfiguration().configureRegistry(this.configRegistry);
+
+        this.layerPainter = new CellLayerPainter();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.gc.dispose();
+        this.image.dispose();
+    }
+
+    @Benchmark
+    public void paintLayer() {
+        this.layerPainter.paintLayer(
+                this.viewportLayer,
+                this.gc,
+                0,
+                0,
+                this.paintArea,
+                this.configRegistry);
+    }
+}
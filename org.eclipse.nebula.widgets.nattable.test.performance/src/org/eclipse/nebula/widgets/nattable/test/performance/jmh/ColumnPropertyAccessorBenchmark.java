@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.test.performance.jmh;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.nebula.widgets.nattable.data.ExtendedReflectiveColumnPropertyAccessor;
+import org.eclipse.nebula.widgets.nattable.data.IColumnPropertyAccessor;
+import org.eclipse.nebula.widgets.nattable.data.MethodHandleColumnPropertyAccessor;
+import org.eclipse.nebula.widgets.nattable.dataset.person.Address;
+import org.eclipse.nebula.widgets.nattable.dataset.person.Person.Gender;
+import org.eclipse.nebula.widgets.nattable.dataset.person.PersonWithAddress;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the access to row object properties via
+ * {@link IColumnPropertyAccessor}. The reflection based
+ * {@link ExtendedReflectiveColumnPropertyAccessor} is compared with the
+ * {@link MethodHandleColumnPropertyAccessor}. Every benchmark invocation reads
+ * all columns of one row object, cycling over a pool of row objects.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnPropertyAccessorBenchmark {
+
+    private static final int MASK = 1023;
+
+    private static final String[] FLAT_PROPERTIES = {
+            "id", //$NON-NLS-1$
+            "firstName", //$NON-NLS-1$
+            "lastName", //$NON-NLS-1$
+            "gender", //$NON-NLS-1$
+            "married", //$NON-NLS-1$
+            "birthday" }; //$NON-NLS-1$
+
+    private static final String[] NESTED_PROPERTIES = {
+            "address.street", //$NON-NLS-1$
+            "address.housenumber", //$NON-NLS-1$
+            "address.postalCode", //$NON-NLS-1$
+            "address.city" }; //$NON-NLS-1$
+
+    @Param({ "ExtendedReflectiveColumnPropertyAccessor", "MethodHandleColumnPropertyAccessor" })
+    public String accessorType;
+
+    private IColumnPropertyAccessor<PersonWithAddress> flatAccessor;
+    private IColumnPropertyAccessor<PersonWithAddress> nestedAccessor;
+
+    private PersonWithAddress[] rows;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        this.flatAccessor = createAccessor(FLAT_PROPERTIES);
+        this.nestedAccessor = createAccessor(NESTED_PROPERTIES);
+
+        this.rows = new PersonWithAddress[MASK + 1];
+        for (int i = 0; i < this.rows.length; i++) {
+            Address address = new Address();
+            address.setStreet("Street " + i); //$NON-NLS-1$
+            address.setHousenumber(i);
+            address.setPostalCode(10000 + i);
+            address.setCity("City " + i); //$NON-NLS-1$
+            this.rows[i] = new PersonWithAddress(
+                    i, "First " + i, "Last " + i, //$NON-NLS-1$ //$NON-NLS-2$
+                    (i % 2 == 0) ? Gender.MALE : Gender.FEMALE,
+                    i % 3 == 0,
+                    new Date(i),
+                    address);
+        }
+    }
+
+    private IColumnPropertyAccessor<PersonWithAddress> createAccessor(String[] propertyNames) {
+        return "MethodHandleColumnPropertyAccessor".equals(this.accessorType) //$NON-NLS-1$
+                ? new MethodHandleColumnPropertyAccessor<>(propertyNames)
+                : new ExtendedReflectiveColumnPropertyAccessor<>(propertyNames);
+    }
+
+    @Benchmark
+    public void getFlatProperties(Blackhole blackhole) {
+        PersonWithAddress row = this.rows[this.cursor++ & MASK];
+        for (int column = 0; column < FLAT_PROPERTIES.length; column++) {
+            blackhole.consume(this.flatAccessor.getDataValue(row, column));
+        }
+    }
+
+    @Benchmark
+    public void getNestedProperties(Blackhole blackhole) {
+        PersonWithAddress row = this.rows[this.cursor++ & MASK];
+        for (int column = 0; column < NESTED_PROPERTIES.length; column++) {
+            blackhole.consume(this.nestedAccessor.getDataValue(row, column));
+        }
+    }
+
+    @Benchmark
+    public void setFlatProperty() {
+        PersonWithAddress row = this.rows[this.cursor++ & MASK];
+        this.flatAccessor.setDataValue(row, 1, row.getLastName());
+    }
+}
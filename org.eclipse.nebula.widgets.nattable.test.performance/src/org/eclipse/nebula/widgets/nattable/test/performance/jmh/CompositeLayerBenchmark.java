@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.test.performance.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.nebula.widgets.nattable.grid.data.DefaultColumnHeaderDataProvider;
+import org.eclipse.nebula.widgets.nattable.grid.data.DefaultCornerDataProvider;
+import org.eclipse.nebula.widgets.nattable.grid.data.DefaultRowHeaderDataProvider;
+import org.eclipse.nebula.widgets.nattable.grid.layer.ColumnHeaderLayer;
+import org.eclipse.nebula.widgets.nattable.grid.layer.CornerLayer;
+import org.eclipse.nebula.widgets.nattable.grid.layer.GridLayer;
+import org.eclipse.nebula.widgets.nattable.grid.layer.RowHeaderLayer;
+import org.eclipse.nebula.widgets.nattable.layer.CompositeLayer;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.eclipse.nebula.widgets.nattable.layer.ILayer;
+import org.eclipse.nebula.widgets.nattable.selection.SelectionLayer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link CompositeLayer#getCellByPosition(int, int)} on a
+ * {@link GridLayer} that is built up of plain {@link DataLayer}s in the body
+ * and the headers. This way the measurement is focused on the child layout
+ * lookup and the cell translation of the {@link CompositeLayer}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompositeLayerBenchmark {
+
+    private static final int MASK = 1023;
+
+    @Param({ "20", "1000" })
+    public int columnCount;
+
+    @Param({ "1000", "100000", "1000000", "10000000" })
+    public int rowCount;
+
+    private GridLayer gridLayer;
+
+    private int[] columnPositions;
+    private int[] rowPositions;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        BenchmarkDataProvider bodyDataProvider = new BenchmarkDataProvider(this.columnCount, this.rowCount);
+        DefaultColumnHeaderDataProvider columnHeaderDataProvider = new DefaultColumnHeaderDataProvider(new String[0]) {
+            @Override
+            public int getColumnCount() {
+                return CompositeLayerBenchmark.this.columnCount;
+            }
+
+            @Override
+            public Object getDataValue(int columnIndex, int rowIndex) {
+                return "Column " + columnIndex; //$NON-NLS-1$
+            }
+        };
+        DefaultRowHeaderDataProvider rowHeaderDataProvider = new DefaultRowHeaderDataProvider(bodyDataProvider);
+
+        DataLayer bodyLayer = new DataLayer(bodyDataProvider);
+        ILayer columnHeaderLayer = new ColumnHeaderLayer(new DataLayer(columnHeaderDataProvider), bodyLayer, new SelectionLayer[0], false);
+        ILayer rowHeaderLayer = new RowHeaderLayer(new DataLayer(rowHeaderDataProvider), bodyLayer, new SelectionLayer[0], false);
+        ILayer cornerLayer = new CornerLayer(
+                new DataLayer(new DefaultCornerDataProvider(columnHeaderDataProvider, rowHeaderDataProvider)),
+                rowHeaderLayer,
+                columnHeaderLayer);
+
+        this.gridLayer = new GridLayer(bodyLayer, columnHeaderLayer, rowHeaderLayer, cornerLayer, false);
+
+        this.columnPositions = BenchmarkDataProvider.randomPositions(MASK + 1, this.gridLayer.getColumnCount(), 1);
+        this.rowPositions = BenchmarkDataProvider.randomPositions(MASK + 1, this.gridLayer.getRowCount(), 2);
+    }
+
+    @Benchmark
+    public Object getCellByPosition() {
+        int i = this.cursor++ & MASK;
+        return this.gridLayer.getCellByPosition(this.columnPositions[i], this.rowPositions[i]);
+    }
+
+    @Benchmark
+    public Object getDataValueByPosition() {
+        int i = this.cursor++ & MASK;
+        return this.gridLayer.getDataValueByPosition(this.columnPositions[i], this.rowPositions[i]);
+    }
+}
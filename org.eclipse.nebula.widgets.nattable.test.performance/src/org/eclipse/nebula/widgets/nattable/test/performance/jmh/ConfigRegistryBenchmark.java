@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.test.performance.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.nebula.widgets.nattable.config.CellConfigAttributes;
+import org.eclipse.nebula.widgets.nattable.config.ConfigRegistry;
+import org.eclipse.nebula.widgets.nattable.style.DisplayMode;
+import org.eclipse.nebula.widgets.nattable.style.IStyle;
+import org.eclipse.nebula.widgets.nattable.style.Style;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the lookup of configuration attributes in the
+ * {@link ConfigRegistry}. The registry contains a cell style for every label
+ * in {@link DisplayMode#NORMAL}. The lookup is performed in
+ * {@link DisplayMode#SELECT} with a label stack where only the last label has
+ * a registered style, which is the worst case for the lookup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigRegistryBenchmark {
+
+    @Param({ "1", "10", "30" })
+    public int labelCount;
+
+    private ConfigRegistry configRegistry;
+
+    private List<String> labels;
+
+    @Setup
+    public void setup() {
+        this.configRegistry = new ConfigRegistry();
+        this.labels = new ArrayList<>();
+        for (int i = 0; i < this.labelCount; i++) {
+            this.labels.add("LABEL_" + i); //$NON-NLS-1$
+        }
+
+        this.configRegistry.registerConfigAttribute(
+                CellConfigAttributes.CELL_STYLE,
+                new Style(),
+                DisplayMode.NORMAL,
+                this.labels.get(this.labelCount - 1));
+        this.configRegistry.registerConfigAttribute(
+                CellConfigAttributes.CELL_STYLE,
+                new Style());
+    }
+
+    @Benchmark
+    public IStyle getConfigAttribute() {
+        return this.configRegistry.getConfigAttribute(
+                CellConfigAttributes.CELL_STYLE,
+                DisplayMode.SELECT,
+                this.labels);
+    }
+
+    @Benchmark
+    public IStyle getConfigAttributeDefault() {
+        return this.configRegistry.getConfigAttribute(
+                CellConfigAttributes.CELL_STYLE,
+                DisplayMode.SELECT,
+                this.labels.subList(0, this.labelCount - 1));
+    }
+
+    @Benchmark
+    public IStyle getSpecificConfigAttribute() {
+        return this.configRegistry.getSpecificConfigAttribute(
+                CellConfigAttributes.CELL_STYLE,
+                DisplayMode.NORMAL,
+                this.labels.get(this.labelCount - 1));
+    }
+}
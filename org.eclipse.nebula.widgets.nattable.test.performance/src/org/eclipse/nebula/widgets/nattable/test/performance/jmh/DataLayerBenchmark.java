@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.test.performance.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the random access to data values via
+ * {@link DataLayer#getDataValueByPosition(int, int)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataLayerBenchmark {
+
+    private static final int MASK = 1023;
+
+    @Param({ "20", "1000" })
+    public int columnCount;
+
+    @Param({ "1000", "100000", "1000000", "10000000" })
+    public int rowCount;
+
+    private DataLayer dataLayer;
+
+    private int[] columnPositions;
+    private int[] rowPositions;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        this.dataLayer = new DataLayer(new BenchmarkDataProvider(this.columnCount, this.rowCount));
+        this.columnPositions = BenchmarkDataProvider.randomPositions(MASK + 1, this.columnCount, 1);
+        this.rowPositions = BenchmarkDataProvider.randomPositions(MASK + 1, this.rowCount, 2);
+    }
+
+    @Benchmark
+    public Object getDataValueByPosition() {
+        int i = this.cursor++ & MASK;
+        return this.dataLayer.getDataValueByPosition(this.columnPositions[i], this.rowPositions[i]);
+    }
+
+    @Benchmark
+    public Object getCellByPosition() {
+        int i = this.cursor++ & MASK;
+        return this.dataLayer.getCellByPosition(this.columnPositions[i], this.rowPositions[i]);
+    }
+}
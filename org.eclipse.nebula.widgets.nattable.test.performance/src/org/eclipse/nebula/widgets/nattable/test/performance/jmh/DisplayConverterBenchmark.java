@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.test.performance.jmh;
+
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.nebula.widgets.nattable.data.convert.DateTimeDisplayConverter;
+import org.eclipse.nebula.widgets.nattable.data.convert.DefaultDateDisplayConverter;
+import org.eclipse.nebula.widgets.nattable.data.convert.DefaultDoubleDisplayConverter;
+import org.eclipse.nebula.widgets.nattable.data.convert.FastDecimalDisplayConverter;
+import org.eclipse.nebula.widgets.nattable.data.convert.IDisplayConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the throughput of the display converters based on
+ * {@link java.text.NumberFormat} and {@link java.text.SimpleDateFormat} with
+ * the thread-safe {@link FastDecimalDisplayConverter} and
+ * {@link DateTimeDisplayConverter}, with a single converter instance shared by
+ * 4 threads. The default converters are not thread-safe and therefore need to
+ * be synchronized on sharing them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class DisplayConverterBenchmark {
+
+    private static final int MASK = 1023;
+
+    private final double[] doubles = new double[MASK + 1];
+    private final Date[] dates = new Date[MASK + 1];
+
+    private IDisplayConverter defaultDoubleConverter;
+    private IDisplayConverter fastDecimalConverter;
+    private IDisplayConverter defaultDateConverter;
+    private IDisplayConverter dateTimeConverter;
+
+    /**
+     * The position in the test values per thread.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int value;
+
+        int next() {
+            return this.value++ & MASK;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i <= MASK; i++) {
+            this.doubles[i] = (i - 512) * 1234.5678 / 7;
+            this.dates[i] = new Date(i * 86_400_123L);
+        }
+
+        this.defaultDoubleConverter = new DefaultDoubleDisplayConverter();
+        this.fastDecimalConverter = new FastDecimalDisplayConverter(1, 2, true, Locale.getDefault(), Double.class);
+        this.defaultDateConverter = new DefaultDateDisplayConverter("yyyy-MM-dd HH:mm:ss", TimeZone.getTimeZone("UTC")); //$NON-NLS-1$ //$NON-NLS-2$
+        this.dateTimeConverter = new DateTimeDisplayConverter("yyyy-MM-dd HH:mm:ss", ZoneOffset.UTC); //$NON-NLS-1$
+    }
+
+    @Benchmark
+    public Object defaultDoubleDisplayConverter(Cursor cursor) {
+        double value = this.doubles[cursor.next()];
+        synchronized (this.defaultDoubleConverter) {
+            return this.defaultDoubleConverter.canonicalToDisplayValue(value);
+        }
+    }
+
+    @Benchmark
+    public Object fastDecimalDisplayConverter(Cursor cursor) {
+        return this.fastDecimalConverter.canonicalToDisplayValue(this.doubles[cursor.next()]);
+    }
+
+    @Benchmark
+    public Object defaultDateDisplayConverter(Cursor cursor) {
+        Date value = this.dates[cursor.next()];
+        synchronized (this.defaultDateConverter) {
+            return this.defaultDateConverter.canonicalToDisplayValue(value);
+        }
+    }
+
+    @Benchmark
+    public Object dateTimeDisplayConverter(Cursor cursor) {
+        return this.dateTimeConverter.canonicalToDisplayValue(this.dates[cursor.next()]);
+    }
+}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.test.performance.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.nebula.widgets.nattable.hideshow.RowHideShowLayer;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.eclipse.nebula.widgets.nattable.reorder.ColumnReorderLayer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the position transformations of a {@link ColumnReorderLayer} and a
+ * {@link RowHideShowLayer} that are stacked on top of a {@link DataLayer}. The
+ * columns are reordered in reverse order and every 100th row is hidden, so the
+ * transformations can not be short-cut.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexTransformBenchmark {
+
+    private static final int MASK = 1023;
+
+    @Param({ "20", "1000" })
+    public int columnCount;
+
+    @Param({ "1000", "100000", "1000000", "10000000" })
+    public int rowCount;
+
+    private ColumnReorderLayer columnReorderLayer;
+    private RowHideShowLayer rowHideShowLayer;
+
+    private int[] columnPositions;
+    private int[] rowPositions;
+    private int[] rowIndexes;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        DataLayer dataLayer = new DataLayer(new BenchmarkDataProvider(this.columnCount, this.rowCount));
+
+        this.columnReorderLayer = new ColumnReorderLayer(dataLayer, false);
+        for (int i = 0; i < this.columnCount - 1; i++) {
+            this.columnReorderLayer.reorderColumnPosition(this.columnCount - 1, i);
+        }
+
+        this.rowHideShowLayer = new RowHideShowLayer(this.columnReorderLayer);
+        int[] hidden = new int[this.rowCount / 100];
+        for (int i = 0; i < hidden.length; i++) {
+            hidden[i] = i * 100;
+        }
+        this.rowHideShowLayer.hideRowIndexes(hidden);
+
+        this.columnPositions = BenchmarkDataProvider.randomPositions(MASK + 1, this.columnCount, 1);
+        this.rowPositions = BenchmarkDataProvider.randomPositions(MASK + 1, this.rowHideShowLayer.getRowCount(), 2);
+        this.rowIndexes = BenchmarkDataProvider.randomPositions(MASK + 1, this.rowCount, 3);
+
+        // trigger the initial caching outside the measurement
+        this.rowHideShowLayer.getRowIndexByPosition(0);
+    }
+
+    @Benchmark
+    public int columnReorderLocalToUnderlying() {
+        return this.columnReorderLayer.localToUnderlyingColumnPosition(this.columnPositions[this.cursor++ & MASK]);
+    }
+
+    @Benchmark
+    public int columnReorderPositionByIndex() {
+        return this.columnReorderLayer.getColumnPositionByIndex(this.columnPositions[this.cursor++ & MASK]);
+    }
+
+    @Benchmark
+    public int rowHideShowIndexByPosition() {
+        return this.rowHideShowLayer.getRowIndexByPosition(this.rowPositions[this.cursor++ & MASK]);
+    }
+
+    @Benchmark
+    public int rowHideShowPositionByIndex() {
+        return this.rowHideShowLayer.getRowPositionByIndex(this.rowIndexes[this.cursor++ & MASK]);
+    }
+
+    @Benchmark
+    public Object stackedGetDataValueByPosition() {
+        int i = this.cursor++ & MASK;
+        return this.rowHideShowLayer.getDataValueByPosition(this.columnPositions[i], this.rowPositions[i]);
+    }
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Original authors and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Original authors and others - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.nattable.test.performance.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
+import org.eclipse.nebula.widgets.nattable.selection.ISelectionModel;
+import org.eclipse.nebula.widgets.nattable.selection.IntervalTreeSelectionModel;
+import org.eclipse.nebula.widgets.nattable.selection.SelectionLayer;
+import org.eclipse.nebula.widgets.nattable.selection.SelectionModel;
+import org.eclipse.swt.graphics.Rectangle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the hit testing of the {@link SelectionModel}. The model is filled
+ * with a configurable number of disjoint selection rectangles, which simulates
+ * a selection that was created via multiple ctrl+click operations. The
+ * {@link SelectionModel} is compared with the
+ * {@link IntervalTreeSelectionModel}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelectionModelBenchmark {
+
+    private static final int MASK = 1023;
+    private static final int COLUMN_COUNT = 50;
+
+    @Param({ "1000", "100000", "1000000", "10000000" })
+    public int rowCount;
+
+    @Param({ "1", "100", "1000" })
+    public int selectionCount;
+
+    @Param({ "SelectionModel", "IntervalTreeSelectionModel" })
+    public String selectionModelType;
+
+    private ISelectionModel selectionModel;
+
+    private int[] columnPositions;
+    private int[] rowPositions;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        SelectionLayer selectionLayer = new SelectionLayer(
+                new DataLayer(new BenchmarkDataProvider(COLUMN_COUNT, this.rowCount)),
+                false);
+        this.selectionModel = "IntervalTreeSelectionModel".equals(this.selectionModelType) //$NON-NLS-1$
+                ? new IntervalTreeSelectionModel(selectionLayer)
+                : new SelectionModel(selectionLayer);
+        selectionLayer.setSelectionModel(this.selectionModel);
+
+        Random random = new Random(0);
+        for (int i = 0; i < this.selectionCount; i++) {
+            this.selectionModel.addSelection(new Rectangle(
+                    random.nextInt(COLUMN_COUNT - 5),
+                    random.nextInt(this.rowCount - 5),
+                    1 + random.nextInt(5),
+                    1 + random.nextInt(5)));
+        }
+
+        this.columnPositions = BenchmarkDataProvider.randomPositions(MASK + 1, COLUMN_COUNT, 1);
+        this.rowPositions = BenchmarkDataProvider.randomPositions(MASK + 1, this.rowCount, 2);
+    }
+
+    @Benchmark
+    public boolean isCellPositionSelected() {
+        int i = this.cursor++ & MASK;
+        return this.selectionModel.isCellPositionSelected(this.columnPositions[i], this.rowPositions[i]);
+    }
+
+    @Benchmark
+    public boolean isRowPositionSelected() {
+        return this.selectionModel.isRowPositionSelected(this.rowPositions[this.cursor++ & MASK]);
+    }
+
+    @Benchmark
+    public int getSelectedRowCount() {
+        return this.selectionModel.getSelectedRowCount();
+    }
+}